@@ -0,0 +1,494 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.processor.CodecModel.Property;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An annotation processor that generates a codec for each type annotated with {@code org.bson.codecs.pojo.annotations.BsonCodec}, and a
+ * {@code GeneratedCodecProvider} for the codecs of each package.
+ *
+ * <p>The generated codecs find the properties of a type the way the {@code PojoCodecProvider} does with the annotation convention: from
+ * its public getters and setters and its public fields, or from the components of a record.  Unlike the {@code PojoCodecProvider},
+ * they use no reflection at all, neither to find the properties nor to get and set them.</p>
+ *
+ * <p>The following are not supported, and are reported as errors: abstract and generic types, type variables in the types of the
+ * properties, and the {@code BsonRepresentation} and {@code BsonExtraElements} annotations.  Type arguments are passed to the codec
+ * registry to get the codecs of parameterized properties, but only one level deep, so that a {@code List<List<Person>>} property is
+ * decoded as a list of lists of documents.</p>
+ *
+ * @since 5.7
+ */
+@SupportedAnnotationTypes(BsonCodecProcessor.BSON_CODEC)
+public final class BsonCodecProcessor extends AbstractProcessor {
+    static final String BSON_CODEC = "org.bson.codecs.pojo.annotations.BsonCodec";
+    private static final String BSON_CREATOR = "org.bson.codecs.pojo.annotations.BsonCreator";
+    private static final String BSON_DISCRIMINATOR = "org.bson.codecs.pojo.annotations.BsonDiscriminator";
+    private static final String BSON_EXTRA_ELEMENTS = "org.bson.codecs.pojo.annotations.BsonExtraElements";
+    private static final String BSON_ID = "org.bson.codecs.pojo.annotations.BsonId";
+    private static final String BSON_IGNORE = "org.bson.codecs.pojo.annotations.BsonIgnore";
+    private static final String BSON_PROPERTY = "org.bson.codecs.pojo.annotations.BsonProperty";
+    private static final String BSON_REPRESENTATION = "org.bson.codecs.pojo.annotations.BsonRepresentation";
+    private static final String ID_PROPERTY_NAME = "_id";
+
+    private final Set<String> packagesWithProvider = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        TypeElement bsonCodec = processingEnv.getElementUtils().getTypeElement(BSON_CODEC);
+        if (bsonCodec == null) {
+            return false;
+        }
+        Map<String, List<CodecModel>> modelsByPackage = new TreeMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(bsonCodec)) {
+            CodecModel model = createModel(element);
+            if (model != null) {
+                modelsByPackage.computeIfAbsent(model.getPackageName(), packageName -> new ArrayList<>()).add(model);
+            }
+        }
+        for (Map.Entry<String, List<CodecModel>> entry : modelsByPackage.entrySet()) {
+            if (!packagesWithProvider.add(entry.getKey())) {
+                error(entry.getValue().get(0).getType(), "@BsonCodec types of the same package must be compiled in the same round");
+                continue;
+            }
+            try {
+                CodecWriter writer = new CodecWriter(processingEnv);
+                for (CodecModel model : entry.getValue()) {
+                    writer.writeCodec(model);
+                }
+                writer.writeProvider(entry.getKey(), entry.getValue());
+            } catch (IOException e) {
+                error(entry.getValue().get(0).getType(), "Unable to write the generated codecs: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private CodecModel createModel(final Element element) {
+        if (element.getKind() != ElementKind.CLASS && !isRecord(element)) {
+            return error(element, "@BsonCodec is only supported on classes and records");
+        }
+        TypeElement type = (TypeElement) element;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return error(type, "@BsonCodec is not supported on abstract classes");
+        } else if (!type.getTypeParameters().isEmpty()) {
+            return error(type, "@BsonCodec is not supported on generic types");
+        }
+        StringBuilder codecName = new StringBuilder("Codec");
+        Element current = type;
+        for (; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return error(type, "@BsonCodec is not supported on private types");
+            } else if (current.getEnclosingElement().getKind() != ElementKind.PACKAGE && !current.getModifiers().contains(Modifier.STATIC)
+                    && !isRecord(current)) {
+                return error(type, "@BsonCodec is not supported on inner classes");
+            }
+            codecName.insert(0, (current == type ? "" : "_")).insert(0, current.getSimpleName());
+        }
+        if (!checkSupportedAnnotations(type)) {
+            return null;
+        }
+
+        Map<String, PropertyBuilder> builders = isRecord(type) ? getRecordComponents(type) : getBeanProperties(type);
+        if (builders == null) {
+            return null;
+        }
+
+        String creatorMethod = null;
+        List<PropertyBuilder> creatorParameters = new ArrayList<>();
+        List<ExecutableElement> creators = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (hasAnnotation(member, BSON_CREATOR)) {
+                creators.add((ExecutableElement) member);
+            }
+        }
+        if (creators.size() > 1) {
+            return error(type, "Found multiple constructors or methods annotated with @BsonCreator");
+        } else if (creators.size() == 1) {
+            ExecutableElement creator = creators.get(0);
+            if (creator.getModifiers().contains(Modifier.PRIVATE)) {
+                return error(creator, "The @BsonCreator must not be private");
+            } else if (creator.getKind() == ElementKind.METHOD) {
+                if (!creator.getModifiers().contains(Modifier.STATIC)
+                        || !processingEnv.getTypeUtils().isSameType(creator.getReturnType(), type.asType())) {
+                    return error(creator, "A @BsonCreator method must be static and return the annotated type");
+                }
+                creatorMethod = creator.getSimpleName().toString();
+            }
+            for (VariableElement parameter : creator.getParameters()) {
+                PropertyBuilder builder = getCreatorProperty(builders, parameter);
+                if (builder == null) {
+                    return error(parameter, "All the parameters of a @BsonCreator must be annotated with @BsonProperty or @BsonId");
+                }
+                builder.creatorParameter = parameter;
+                creatorParameters.add(builder);
+            }
+        } else if (isRecord(type)) {
+            creatorParameters.addAll(builders.values());
+        } else if (!hasNoArgsConstructor(type)) {
+            return error(type, "@BsonCodec requires a non-private constructor with no arguments, or a @BsonCreator");
+        }
+
+        Map<PropertyBuilder, Property> properties = new LinkedHashMap<>();
+        Set<String> bsonNames = new HashSet<>();
+        String discriminatorKey = null;
+        String discriminator = null;
+        AnnotationMirror bsonDiscriminator = getInheritedAnnotation(type, BSON_DISCRIMINATOR);
+        if (bsonDiscriminator != null) {
+            discriminatorKey = getStringValue(bsonDiscriminator, "key");
+            discriminator = getStringValue(bsonDiscriminator, "value");
+            if (discriminator.isEmpty()) {
+                discriminator = processingEnv.getElementUtils().getBinaryName(type).toString();
+            }
+            bsonNames.add(discriminatorKey);
+        }
+        for (PropertyBuilder builder : builders.values()) {
+            Property property = builder.build();
+            if (property == null) {
+                continue;
+            } else if (containsTypeVariable(property.getType()) || containsTypeVariable(property.getReadType())) {
+                return error(type, "The type of property '" + property.getName() + "' must not contain type variables");
+            } else if (!bsonNames.add(property.getBsonName())) {
+                return error(type, "Found multiple properties named '" + property.getBsonName() + "'");
+            }
+            if (property.getBsonName().equals(ID_PROPERTY_NAME)) {
+                LinkedHashMap<PropertyBuilder, Property> reordered = new LinkedHashMap<>();
+                reordered.put(builder, property);
+                reordered.putAll(properties);
+                properties = reordered;
+            } else {
+                properties.put(builder, property);
+            }
+        }
+        List<Property> parameters = new ArrayList<>();
+        for (PropertyBuilder builder : creatorParameters) {
+            Property property = properties.get(builder);
+            if (property == null) {
+                return error(type, "The @BsonCreator parameter '" + builder.name + "' must not be ignored");
+            }
+            parameters.add(property);
+        }
+        PackageElement packageElement = (PackageElement) current;
+        return new CodecModel(type, packageElement.getQualifiedName().toString(), codecName.toString(), discriminatorKey,
+                discriminator, creatorMethod, parameters, new ArrayList<>(properties.values()));
+    }
+
+    private Map<String, PropertyBuilder> getRecordComponents(final TypeElement type) {
+        Map<String, PropertyBuilder> builders = new LinkedHashMap<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind().name().equals("RECORD_COMPONENT")) {
+                PropertyBuilder builder = new PropertyBuilder(member.getSimpleName().toString());
+                builders.put(builder.name, builder);
+            }
+        }
+        for (Element member : type.getEnclosedElements()) {
+            PropertyBuilder builder = builders.get(member.getSimpleName().toString());
+            if (builder == null || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (member.getKind() == ElementKind.METHOD && ((ExecutableElement) member).getParameters().isEmpty()) {
+                builder.getter = (ExecutableElement) member;
+            } else if (member.getKind() == ElementKind.FIELD) {
+                builder.field = (VariableElement) member;
+            }
+        }
+        return builders;
+    }
+
+    private Map<String, PropertyBuilder> getBeanProperties(final TypeElement type) {
+        Map<String, PropertyBuilder> builders = new LinkedHashMap<>();
+        // the subclasses come first, so that their members are used rather than the ones that they override or hide
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            if (current != type && !checkSupportedAnnotations(current)) {
+                return null;
+            }
+            for (Element member : current.getEnclosedElements()) {
+                Set<Modifier> modifiers = member.getModifiers();
+                if (member.getKind() == ElementKind.FIELD) {
+                    if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                        PropertyBuilder builder = builders.computeIfAbsent(member.getSimpleName().toString(), PropertyBuilder::new);
+                        if (builder.field == null) {
+                            builder.field = (VariableElement) member;
+                        }
+                    }
+                } else if (member.getKind() == ElementKind.METHOD && modifiers.contains(Modifier.PUBLIC)
+                        && !modifiers.contains(Modifier.STATIC)) {
+                    ExecutableElement method = (ExecutableElement) member;
+                    String name = method.getSimpleName().toString();
+                    if (isGetter(method)) {
+                        PropertyBuilder builder = builders.computeIfAbsent(toPropertyName(name), PropertyBuilder::new);
+                        if (builder.getter == null) {
+                            builder.getter = method;
+                        }
+                    } else if (isSetter(method)) {
+                        PropertyBuilder builder = builders.computeIfAbsent(toPropertyName(name), PropertyBuilder::new);
+                        if (builder.setter == null) {
+                            builder.setter = method;
+                        }
+                    }
+                }
+            }
+        }
+        return builders;
+    }
+
+    private PropertyBuilder getCreatorProperty(final Map<String, PropertyBuilder> builders, final VariableElement parameter) {
+        if (hasAnnotation(parameter, BSON_ID)) {
+            for (PropertyBuilder builder : builders.values()) {
+                if (builder.hasAnnotation(BSON_ID)) {
+                    return builder;
+                }
+            }
+            return builders.computeIfAbsent("id", PropertyBuilder::new);
+        }
+        AnnotationMirror bsonProperty = getAnnotation(parameter, BSON_PROPERTY);
+        if (bsonProperty == null) {
+            return null;
+        }
+        String name = getStringValue(bsonProperty, "value");
+        if (builders.containsKey(name)) {
+            return builders.get(name);
+        }
+        for (PropertyBuilder builder : builders.values()) {
+            if (name.equals(builder.getPropertyName())) {
+                return builder;
+            }
+        }
+        return builders.computeIfAbsent(name, PropertyBuilder::new);
+    }
+
+    private boolean hasNoArgsConstructor(final TypeElement type) {
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.CONSTRUCTOR && ((ExecutableElement) member).getParameters().isEmpty()
+                    && !member.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean checkSupportedAnnotations(final TypeElement type) {
+        List<Element> elements = new ArrayList<>(type.getEnclosedElements());
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof ExecutableElement) {
+                elements.addAll(((ExecutableElement) member).getParameters());
+            }
+        }
+        for (Element member : elements) {
+            for (String unsupported : new String[]{BSON_REPRESENTATION, BSON_EXTRA_ELEMENTS}) {
+                if (hasAnnotation(member, unsupported)) {
+                    error(member, "@" + unsupported.substring(unsupported.lastIndexOf('.') + 1) + " is not supported by generated codecs");
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private AnnotationMirror getInheritedAnnotation(final TypeElement type, final String annotation) {
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            AnnotationMirror mirror = getAnnotation(current, annotation);
+            if (mirror != null) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private String getStringValue(final AnnotationMirror annotation, final String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private <T> T error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return null;
+    }
+
+    private static boolean isRecord(final Element element) {
+        // ElementKind.RECORD is not available in Java 8, which the processor supports
+        return element.getKind().name().equals("RECORD");
+    }
+
+    private static boolean isGetter(final ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID
+                && (hasPrefix(name, "get") || hasPrefix(name, "is"));
+    }
+
+    private static boolean isSetter(final ExecutableElement method) {
+        return method.getParameters().size() == 1 && hasPrefix(method.getSimpleName().toString(), "set");
+    }
+
+    private static boolean hasPrefix(final String name, final String prefix) {
+        return name.startsWith(prefix) && name.length() > prefix.length() && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+    private static String toPropertyName(final String methodName) {
+        String propertyName = methodName.substring(methodName.startsWith("is") ? 2 : 3);
+        return Character.toLowerCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    private static boolean containsTypeVariable(final TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return containsTypeVariable(((ArrayType) type).getComponentType());
+            case DECLARED:
+                for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+                    if (containsTypeVariable(typeArgument)) {
+                        return true;
+                    }
+                }
+                return false;
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() != null && containsTypeVariable(wildcard.getExtendsBound()))
+                        || (wildcard.getSuperBound() != null && containsTypeVariable(wildcard.getSuperBound()));
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasAnnotation(final Element element, final String annotation) {
+        return getAnnotation(element, annotation) != null;
+    }
+
+    private static AnnotationMirror getAnnotation(final Element element, final String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gathers the members of a property, before it is known whether it is ignored, and how it is read and written.
+     */
+    private final class PropertyBuilder {
+        private final String name;
+        private ExecutableElement getter;
+        private ExecutableElement setter;
+        private VariableElement field;
+        private VariableElement creatorParameter;
+
+        PropertyBuilder(final String name) {
+            this.name = name;
+        }
+
+        boolean hasAnnotation(final String annotation) {
+            return getAnnotation(annotation) != null;
+        }
+
+        AnnotationMirror getAnnotation(final String annotation) {
+            for (Element element : new Element[]{getter, setter, field, creatorParameter}) {
+                AnnotationMirror mirror = element == null ? null : BsonCodecProcessor.getAnnotation(element, annotation);
+                if (mirror != null) {
+                    return mirror;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return the value of the {@code BsonProperty} annotation of the property, or null if it has none
+         */
+        String getPropertyName() {
+            AnnotationMirror bsonProperty = getAnnotation(BSON_PROPERTY);
+            String value = bsonProperty == null ? "" : getStringValue(bsonProperty, "value");
+            return value.isEmpty() ? null : value;
+        }
+
+        Property build() {
+            if (hasAnnotation(BSON_IGNORE)) {
+                return null;
+            }
+            boolean fieldReadable = field != null && field.getModifiers().contains(Modifier.PUBLIC);
+            boolean fieldWritable = fieldReadable && !field.getModifiers().contains(Modifier.FINAL);
+            boolean readable = getter != null || fieldReadable;
+            boolean writable = setter != null || fieldWritable || creatorParameter != null;
+            if (!readable && !writable) {
+                return null;
+            }
+            TypeMirror type;
+            if (setter != null) {
+                type = setter.getParameters().get(0).asType();
+            } else if (creatorParameter != null) {
+                type = creatorParameter.asType();
+            } else if (field != null) {
+                type = field.asType();
+            } else {
+                type = getter.getReturnType();
+            }
+            TypeMirror readType = getter != null ? getter.getReturnType() : fieldReadable ? field.asType() : type;
+            String bsonName = hasAnnotation(BSON_ID) ? ID_PROPERTY_NAME : getPropertyName();
+            return new Property(name, bsonName == null ? name : bsonName, type, readType,
+                    getter == null ? null : getter.getSimpleName().toString(),
+                    setter == null ? null : setter.getSimpleName().toString(),
+                    field == null ? null : field.getSimpleName().toString(), fieldReadable, fieldWritable);
+        }
+    }
+}
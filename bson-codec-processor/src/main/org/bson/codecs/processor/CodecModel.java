@@ -0,0 +1,161 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+
+/**
+ * The model of a type to generate a codec for: how to create instances of it, and how to get and set each of its properties.
+ */
+final class CodecModel {
+    private final TypeElement type;
+    private final String packageName;
+    private final String codecName;
+    private final String discriminatorKey;
+    private final String discriminator;
+    private final String creatorMethod;
+    private final List<Property> creatorParameters;
+    private final List<Property> properties;
+
+    /**
+     * @param creatorMethod the name of the static factory method that creates instances, or null if instances are created with a
+     *                      constructor
+     * @param creatorParameters the properties passed to the creator, in order
+     * @param properties all the properties, the id property first
+     */
+    CodecModel(final TypeElement type, final String packageName, final String codecName, final String discriminatorKey,
+            final String discriminator, final String creatorMethod, final List<Property> creatorParameters,
+            final List<Property> properties) {
+        this.type = type;
+        this.packageName = packageName;
+        this.codecName = codecName;
+        this.discriminatorKey = discriminatorKey;
+        this.discriminator = discriminator;
+        this.creatorMethod = creatorMethod;
+        this.creatorParameters = creatorParameters;
+        this.properties = properties;
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getCodecName() {
+        return codecName;
+    }
+
+    /**
+     * @return the discriminator key, or null if no discriminator is written
+     */
+    String getDiscriminatorKey() {
+        return discriminatorKey;
+    }
+
+    String getDiscriminator() {
+        return discriminator;
+    }
+
+    String getCreatorMethod() {
+        return creatorMethod;
+    }
+
+    List<Property> getCreatorParameters() {
+        return creatorParameters;
+    }
+
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    static final class Property {
+        private final String name;
+        private final String bsonName;
+        private final TypeMirror type;
+        private final TypeMirror readType;
+        private final String getter;
+        private final String setter;
+        private final String field;
+        private final boolean fieldReadable;
+        private final boolean fieldWritable;
+
+        /**
+         * @param type the type that the property is decoded as
+         * @param readType the type that reading the property returns
+         * @param getter the name of the getter, or null if there is none
+         * @param setter the name of the setter, or null if there is none
+         * @param field the name of the field, or null if there is none
+         */
+        Property(final String name, final String bsonName, final TypeMirror type, final TypeMirror readType, final String getter,
+                final String setter, final String field, final boolean fieldReadable, final boolean fieldWritable) {
+            this.name = name;
+            this.bsonName = bsonName;
+            this.type = type;
+            this.readType = readType;
+            this.getter = getter;
+            this.setter = setter;
+            this.field = field;
+            this.fieldReadable = fieldReadable;
+            this.fieldWritable = fieldWritable;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getBsonName() {
+            return bsonName;
+        }
+
+        TypeMirror getType() {
+            return type;
+        }
+
+        TypeMirror getReadType() {
+            return readType;
+        }
+
+        /**
+         * @return the expression that reads the property of the given instance, or null if the property is not readable
+         */
+        String readExpression(final String instance) {
+            if (getter != null) {
+                return instance + "." + getter + "()";
+            } else if (fieldReadable) {
+                return instance + "." + field;
+            }
+            return null;
+        }
+
+        /**
+         * @return the statement that writes the property of the given instance, or null if the property is not writable
+         */
+        String writeStatement(final String instance, final String value) {
+            if (setter != null) {
+                return instance + "." + setter + "(" + value + ");";
+            } else if (fieldWritable) {
+                return instance + "." + field + " = " + value + ";";
+            }
+            return null;
+        }
+    }
+}
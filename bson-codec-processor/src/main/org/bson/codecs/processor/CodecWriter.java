@@ -0,0 +1,348 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.processor.CodecModel.Property;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the source of the codecs, and of the codec providers, generated by the {@link BsonCodecProcessor}.
+ */
+final class CodecWriter {
+    private static final String PROVIDER_NAME = "GeneratedCodecProvider";
+
+    private final ProcessingEnvironment processingEnv;
+    private StringBuilder source;
+    private int indentation;
+
+    CodecWriter(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    void writeCodec(final CodecModel model) throws IOException {
+        String typeName = model.getType().getQualifiedName().toString();
+        source = new StringBuilder();
+        indentation = 0;
+        writeHeader(model.getPackageName(), "import org.bson.BsonReader;", "import org.bson.BsonType;", "import org.bson.BsonWriter;",
+                "import org.bson.codecs.Codec;", "import org.bson.codecs.DecoderContext;", "import org.bson.codecs.EncoderContext;",
+                "import org.bson.codecs.configuration.CodecRegistry;");
+        line("/**");
+        line(" * A codec for {@link " + typeName + "}, generated by the BSON codec annotation processor.");
+        line(" */");
+        open("public final class " + model.getCodecName() + " implements Codec<" + typeName + ">");
+        for (Property property : model.getProperties()) {
+            line("private final Codec<" + boxedTypeName(property.getType()) + "> " + property.getName() + "Codec;");
+        }
+        line("");
+
+        line("/**");
+        line(" * Construct an instance.");
+        line(" *");
+        line(" * @param registry the registry of the codecs of the properties");
+        line(" */");
+        line("@SuppressWarnings(\"unchecked\")");
+        open("public " + model.getCodecName() + "(final CodecRegistry registry)");
+        for (Property property : model.getProperties()) {
+            line("this." + property.getName() + "Codec = " + codecLookup(property.getType()) + ";");
+        }
+        close();
+        line("");
+
+        writeEncode(model, typeName);
+        line("");
+        writeDecode(model, typeName);
+        line("");
+
+        line("@Override");
+        open("public Class<" + typeName + "> getEncoderClass()");
+        line("return " + typeName + ".class;");
+        close();
+        close();
+        write(model.getPackageName(), model.getCodecName(), model.getType());
+    }
+
+    void writeProvider(final String packageName, final List<CodecModel> models) throws IOException {
+        source = new StringBuilder();
+        indentation = 0;
+        writeHeader(packageName, "import org.bson.codecs.Codec;", "import org.bson.codecs.configuration.CodecProvider;",
+                "import org.bson.codecs.configuration.CodecRegistry;");
+        line("/**");
+        line(" * A provider of the codecs generated by the BSON codec annotation processor for the types of this package.");
+        line(" */");
+        open("public final class " + PROVIDER_NAME + " implements CodecProvider");
+        line("@Override");
+        line("@SuppressWarnings(\"unchecked\")");
+        open("public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry)");
+        for (CodecModel model : models) {
+            open("if (clazz == " + model.getType().getQualifiedName() + ".class)");
+            line("return (Codec<T>) new " + model.getCodecName() + "(registry);");
+            close();
+        }
+        line("return null;");
+        close();
+        line("");
+        line("@Override");
+        open("public String toString()");
+        line("return \"" + PROVIDER_NAME + "{package=" + packageName + "}\";");
+        close();
+        close();
+        List<TypeElement> originatingElements = new ArrayList<>();
+        for (CodecModel model : models) {
+            originatingElements.add(model.getType());
+        }
+        write(packageName, PROVIDER_NAME, originatingElements.toArray(new TypeElement[0]));
+    }
+
+    private void writeEncode(final CodecModel model, final String typeName) {
+        line("@Override");
+        open("public void encode(final BsonWriter writer, final " + typeName + " value, final EncoderContext encoderContext)");
+        line("writer.writeStartDocument();");
+        if (model.getDiscriminatorKey() != null) {
+            line("writer.writeString(" + literal(model.getDiscriminatorKey()) + ", " + literal(model.getDiscriminator()) + ");");
+        }
+        for (Property property : model.getProperties()) {
+            String read = property.readExpression("value");
+            if (read == null) {
+                continue;
+            }
+            String bsonName = literal(property.getBsonName());
+            TypeKind kind = property.getReadType().getKind();
+            String local = property.getName() + "Value";
+            if (kind == TypeKind.INT) {
+                line("writer.writeInt32(" + bsonName + ", " + read + ");");
+            } else if (kind == TypeKind.LONG) {
+                line("writer.writeInt64(" + bsonName + ", " + read + ");");
+            } else if (kind == TypeKind.DOUBLE) {
+                line("writer.writeDouble(" + bsonName + ", " + read + ");");
+            } else if (kind == TypeKind.BOOLEAN) {
+                line("writer.writeBoolean(" + bsonName + ", " + read + ");");
+            } else if (kind.isPrimitive()) {
+                line("writer.writeName(" + bsonName + ");");
+                line("encoderContext.encodeWithChildContext(" + property.getName() + "Codec, writer, " + read + ");");
+            } else {
+                line(typeName(property.getReadType()) + " " + local + " = " + read + ";");
+                open("if (" + local + " != null)");
+                line("writer.writeName(" + bsonName + ");");
+                line("encoderContext.encodeWithChildContext(" + property.getName() + "Codec, writer, " + local + ");");
+                close();
+            }
+        }
+        line("writer.writeEndDocument();");
+        close();
+    }
+
+    private void writeDecode(final CodecModel model, final String typeName) {
+        line("@Override");
+        open("public " + typeName + " decode(final BsonReader reader, final DecoderContext decoderContext)");
+        List<Property> decodedProperties = new ArrayList<>();
+        for (Property property : model.getProperties()) {
+            if (model.getCreatorParameters().contains(property) || property.writeStatement("instance", "value") != null) {
+                decodedProperties.add(property);
+                line(typeName(property.getType()) + " " + property.getName() + "Value = " + defaultValue(property.getType()) + ";");
+                if (!model.getCreatorParameters().contains(property)) {
+                    line("boolean " + property.getName() + "Found = false;");
+                }
+            }
+        }
+        line("reader.readStartDocument();");
+        open("while (reader.readBsonType() != BsonType.END_OF_DOCUMENT)");
+        open("switch (reader.readName())");
+        for (Property property : decodedProperties) {
+            line("case " + literal(property.getBsonName()) + ":");
+            indentation++;
+            if (!model.getCreatorParameters().contains(property)) {
+                line(property.getName() + "Found = true;");
+            }
+            open("if (reader.getCurrentBsonType() == BsonType.NULL)");
+            line("reader.readNull();");
+            if (!property.getType().getKind().isPrimitive()) {
+                line(property.getName() + "Value = null;");
+            }
+            indentation--;
+            open("} else");
+            line(property.getName() + "Value = decoderContext.decodeWithChildContext(" + property.getName() + "Codec, reader);");
+            close();
+            line("break;");
+            indentation--;
+        }
+        line("default:");
+        indentation++;
+        line("reader.skipValue();");
+        line("break;");
+        indentation--;
+        close();
+        close();
+        line("reader.readEndDocument();");
+
+        StringBuilder arguments = new StringBuilder();
+        for (Property property : model.getCreatorParameters()) {
+            arguments.append(arguments.length() == 0 ? "" : ", ").append(property.getName()).append("Value");
+        }
+        line(typeName + " instance = " + (model.getCreatorMethod() == null ? "new " + typeName
+                : typeName + "." + model.getCreatorMethod()) + "(" + arguments + ");");
+        for (Property property : decodedProperties) {
+            if (!model.getCreatorParameters().contains(property)) {
+                open("if (" + property.getName() + "Found)");
+                line(property.writeStatement("instance", property.getName() + "Value"));
+                close();
+            }
+        }
+        line("return instance;");
+        close();
+    }
+
+    /**
+     * Type arguments are passed to the registry one level deep, as the registry only takes the erasure of each of them.
+     */
+    private String codecLookup(final TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        String classLiteral = boxedTypeName(erasure) + ".class";
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return "registry.get(" + classLiteral + ")";
+        }
+        StringBuilder typeArguments = new StringBuilder();
+        for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+            TypeMirror bound = typeArgument;
+            if (typeArgument.getKind() == TypeKind.WILDCARD) {
+                bound = ((WildcardType) typeArgument).getExtendsBound();
+            }
+            typeArguments.append(typeArguments.length() == 0 ? "" : ", ")
+                    .append(bound == null ? "java.lang.Object" : boxedTypeName(processingEnv.getTypeUtils().erasure(bound)))
+                    .append(".class");
+        }
+        return "(Codec<" + boxedTypeName(type) + ">) (Codec<?>) registry.get(" + classLiteral
+                + ", java.util.Arrays.<java.lang.reflect.Type>asList(" + typeArguments + "))";
+    }
+
+    private String boxedTypeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return typeName(type);
+    }
+
+    private static String typeName(final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+                if (!declaredType.getTypeArguments().isEmpty()) {
+                    name.append('<');
+                    for (int i = 0; i < declaredType.getTypeArguments().size(); i++) {
+                        name.append(i == 0 ? "" : ", ").append(typeName(declaredType.getTypeArguments().get(i)));
+                    }
+                    name.append('>');
+                }
+                return name.toString();
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcardType.getExtendsBound());
+                } else if (wildcardType.getSuperBound() != null) {
+                    return "? super " + typeName(wildcardType.getSuperBound());
+                }
+                return "?";
+            default:
+                // primitive types
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static String defaultValue(final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\0'";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return "0";
+            default:
+                return "null";
+        }
+    }
+
+    private static String literal(final String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void writeHeader(final String packageName, final String... imports) {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        for (String importDeclaration : imports) {
+            line(importDeclaration);
+        }
+        line("");
+    }
+
+    private void open(final String declaration) {
+        line(declaration + " {");
+        indentation++;
+    }
+
+    private void close() {
+        indentation--;
+        line("}");
+    }
+
+    private void line(final String line) {
+        if (!line.isEmpty()) {
+            for (int i = 0; i < indentation; i++) {
+                source.append("    ");
+            }
+        }
+        source.append(line).append('\n');
+    }
+
+    private void write(final String packageName, final String simpleName, final TypeElement... originatingElements) throws IOException {
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, originatingElements).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+}
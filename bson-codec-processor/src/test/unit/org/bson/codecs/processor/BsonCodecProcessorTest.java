@@ -0,0 +1,255 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.processor;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class BsonCodecProcessorTest {
+    private static final String PERSON = lines(
+            "package samples;",
+            "import org.bson.codecs.pojo.annotations.*;",
+            "import org.bson.types.ObjectId;",
+            "import java.util.List;",
+            "@BsonCodec",
+            "public class Person {",
+            "    @BsonId private ObjectId id;",
+            "    private String name;",
+            "    private int age;",
+            "    @BsonIgnore private String nickname;",
+            "    @BsonProperty(\"e\") private List<String> emails;",
+            "    public ObjectId getId() { return id; }",
+            "    public void setId(ObjectId id) { this.id = id; }",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public int getAge() { return age; }",
+            "    public void setAge(int age) { this.age = age; }",
+            "    public String getNickname() { return nickname; }",
+            "    public void setNickname(String nickname) { this.nickname = nickname; }",
+            "    public List<String> getEmails() { return emails; }",
+            "    public void setEmails(List<String> emails) { this.emails = emails; }",
+            "}");
+
+    private static final String POINT = lines(
+            "package samples;",
+            "import org.bson.codecs.pojo.annotations.*;",
+            "@BsonCodec",
+            "public final class Point {",
+            "    private final int x;",
+            "    private final int y;",
+            "    @BsonCreator",
+            "    public Point(@BsonProperty(\"x\") int x, @BsonProperty(\"y\") int y) { this.x = x; this.y = y; }",
+            "    public int getX() { return x; }",
+            "    public int getY() { return y; }",
+            "}");
+
+    private static final String CIRCLE = lines(
+            "package samples;",
+            "import org.bson.codecs.pojo.annotations.*;",
+            "@BsonCodec",
+            "@BsonDiscriminator(key = \"kind\", value = \"circle\")",
+            "public class Circle {",
+            "    public double radius;",
+            "    public Point center;",
+            "}");
+
+    @Test
+    public void testBeanProperties() throws Exception {
+        Compiled compiled = compile(PERSON);
+        BsonDocument document = BsonDocument.parse("{_id: {$oid: '5f0c4b5e8b7c1a2b3c4d5e6f'}, name: 'Ada', age: 36, e: ['a@b.c'],"
+                + " nickname: 'ignored', unknown: 1}");
+
+        Object person = decode(compiled, "samples.Person", document);
+        assertEquals("Ada", person.getClass().getMethod("getName").invoke(person));
+        assertEquals(36, person.getClass().getMethod("getAge").invoke(person));
+        assertNull(person.getClass().getMethod("getNickname").invoke(person));
+        assertEquals(BsonDocument.parse("{_id: {$oid: '5f0c4b5e8b7c1a2b3c4d5e6f'}, name: 'Ada', age: 36, e: ['a@b.c']}"),
+                encode(compiled, person));
+    }
+
+    @Test
+    public void testNullsAndMissingProperties() throws Exception {
+        Compiled compiled = compile(PERSON);
+
+        Object person = decode(compiled, "samples.Person", BsonDocument.parse("{name: null}"));
+        assertNull(person.getClass().getMethod("getName").invoke(person));
+        assertEquals(BsonDocument.parse("{age: 0}"), encode(compiled, person));
+    }
+
+    @Test
+    public void testCreatorAndDiscriminator() throws Exception {
+        Compiled compiled = compile(POINT, CIRCLE);
+        BsonDocument document = BsonDocument.parse("{kind: 'circle', radius: 1.5, center: {x: 1, y: 2}}");
+
+        Object circle = decode(compiled, "samples.Circle", document);
+        Object center = circle.getClass().getField("center").get(circle);
+        assertEquals(1, center.getClass().getMethod("getX").invoke(center));
+        assertEquals(2, center.getClass().getMethod("getY").invoke(center));
+        assertEquals(document, encode(compiled, circle));
+    }
+
+    @Test
+    public void testRecord() throws Exception {
+        assumeTrue(isRecordSupported());
+        Compiled compiled = compile(lines(
+                "package samples;",
+                "import org.bson.codecs.pojo.annotations.*;",
+                "@BsonCodec",
+                "public record Book(@BsonId String isbn, @BsonProperty(\"t\") String title, int pages) {}"));
+        BsonDocument document = BsonDocument.parse("{_id: '978-0', t: 'Dune', pages: 412}");
+
+        Object book = decode(compiled, "samples.Book", document);
+        assertEquals("Dune", book.getClass().getMethod("title").invoke(book));
+        assertEquals(document, encode(compiled, book));
+    }
+
+    @Test
+    public void testUnsupportedAnnotations() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = compileWithErrors(lines(
+                "package samples;",
+                "import org.bson.BsonType;",
+                "import org.bson.codecs.pojo.annotations.*;",
+                "@BsonCodec",
+                "public class Represented {",
+                "    @BsonRepresentation(BsonType.OBJECT_ID) public String id;",
+                "}"));
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage(null).contains("BsonRepresentation"));
+    }
+
+    private static Object decode(final Compiled compiled, final String className, final BsonDocument document) throws Exception {
+        Codec<?> codec = compiled.registry.get(Class.forName(className, true, compiled.loader));
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BsonDocument encode(final Compiled compiled, final Object value) {
+        BsonDocument document = new BsonDocument();
+        Codec<Object> codec = (Codec<Object>) compiled.registry.get(value.getClass());
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private static Compiled compile(final String... sources) throws Exception {
+        Path output = Files.createTempDirectory("bson-codec-processor");
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(output, sources);
+        assertTrue(errors.isEmpty(), errors.toString());
+        ClassLoader loader = new URLClassLoader(new URL[] {output.toUri().toURL()}, BsonCodecProcessorTest.class.getClassLoader());
+        CodecProvider provider = (CodecProvider) Class.forName("samples.GeneratedCodecProvider", true, loader).getConstructor()
+                .newInstance();
+        assertNull(provider.get(BsonDocument.class, Bson.DEFAULT_CODEC_REGISTRY));
+        return new Compiled(loader, fromRegistries(fromProviders(provider), Bson.DEFAULT_CODEC_REGISTRY));
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compileWithErrors(final String... sources) throws Exception {
+        return compile(Files.createTempDirectory("bson-codec-processor"), sources);
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(final Path output, final String... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        for (String source : sources) {
+            compilationUnits.add(new SourceFile(className(source), source));
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    asList("-d", output.toString(), "-classpath", System.getProperty("java.class.path")), null, compilationUnits);
+            task.setProcessors(Arrays.asList(new BsonCodecProcessor()));
+            task.call();
+        }
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private static String className(final String source) {
+        String declaration = source.substring(source.indexOf("public "));
+        String[] words = declaration.substring(0, declaration.indexOf(declaration.contains("record ") ? '(' : '{')).trim().split("\\s+");
+        return words[words.length - 1];
+    }
+
+    private static boolean isRecordSupported() {
+        String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 16;
+    }
+
+    private static String lines(final String... lines) {
+        return String.join("\n", lines);
+    }
+
+    private static final class Compiled {
+        private final ClassLoader loader;
+        private final CodecRegistry registry;
+
+        Compiled(final ClassLoader loader, final CodecRegistry registry) {
+            this.loader = loader;
+            this.registry = registry;
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(final String className, final String source) {
+            super(URI.create("string:///samples/" + className + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
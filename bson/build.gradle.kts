@@ -25,6 +25,41 @@ plugins {
 
 base.archivesName.set("bson")
 
+// Classes that replace those of the main source set on Java 17 or later, packaged in META-INF/versions/17 of a multi-release jar
+val java17: SourceSet by
+    sourceSets.creating {
+        java.srcDir("src/main-java17")
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    }
+
+// javac warns "using incubating module(s): jdk.incubator.vector" on every compilation of these classes.  The warning is expected, and
+// as no -Xlint key controls it, it can not be silenced.
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+// The test task runs the classes of the main source set only, so the vector tests are run again with the Java 17 classes ahead of them
+// on the class path, as in the multi-release jar, and with the Vector API module added
+val java17Test by
+    tasks.registering(Test::class) {
+        description = "Runs the vector tests with the Java 17 classes and the Vector API."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = java17.output + sourceSets.test.get().runtimeClasspath
+        filter { includeTestsMatching("org.bson.vector.*") }
+        jvmArgs("--add-modules", "jdk.incubator.vector")
+        systemProperty("org.bson.test.vectorApi", "true")
+        onlyIf { javaLauncher.get().metadata.languageVersion.canCompileOrRun(17) }
+        shouldRunAfter(tasks.test)
+    }
+
+tasks.check { dependsOn(java17Test) }
+
+tasks.jar {
+    into("META-INF/versions/17") { from(java17.output) }
+}
+
 tasks.processTestResources {
     from("${rootProject.projectDir}/testing/resources")
     into("${layout.buildDirectory.get()}/resources/test")
@@ -41,4 +76,5 @@ configureMavenPublication {
 configureJarManifest {
     attributes["Automatic-Module-Name"] = "org.mongodb.bson"
     attributes["Import-Package"] = "org.slf4j.*;resolution:=optional"
+    attributes["Multi-Release"] = "true"
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.internal.vector;
+
+import org.bson.diagnostics.Logger;
+import org.bson.diagnostics.Loggers;
+
+import javax.annotation.Nullable;
+
+/**
+ * Provides the accelerated {@link FloatArrayOperations}, if any.
+ *
+ * <p>This is the Java 17 version of this class, which provides operations using the incubating Vector API if the
+ * {@code jdk.incubator.vector} module has been added to the module graph, for example with
+ * {@code --add-modules jdk.incubator.vector}.  Otherwise it provides none, and the scalar operations are used.</p>
+ */
+final class FloatArrayOperationsProvider {
+    private static final Logger LOGGER = Loggers.getLogger("BinaryVector");
+
+    @Nullable
+    static FloatArrayOperations get() {
+        if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return null;
+        }
+        try {
+            return new VectorApiFloatArrayOperations();
+        } catch (LinkageError | RuntimeException e) {
+            LOGGER.debug("The Vector API is not usable, falling back to scalar vector operations", e);
+            return null;
+        }
+    }
+
+    private FloatArrayOperationsProvider() {
+    }
+}
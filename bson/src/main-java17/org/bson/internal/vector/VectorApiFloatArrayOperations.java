@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.internal.vector;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Float array operations using the incubating Vector API, which sum the products of the elements lane by lane in the widest vectors
+ * that the platform supports, and the remaining elements with scalar code.
+ *
+ * <p>The elements of buffers, which for vectors read from a document are views of little-endian bytes, are bulk copied into arrays
+ * a chunk at a time, rather than loaded with {@code FloatVector.fromByteBuffer}, which later Java versions no longer have.</p>
+ */
+final class VectorApiFloatArrayOperations implements FloatArrayOperations {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    // a multiple of the length of any species, so that only the last chunk has remaining elements for scalar code
+    private static final int CHUNK_LENGTH = 1024;
+
+    @Override
+    public float dotProduct(final float[] a, final float[] b) {
+        FloatVector sums = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length()) {
+            sums = FloatVector.fromArray(SPECIES, a, i).fma(FloatVector.fromArray(SPECIES, b, i), sums);
+        }
+        float sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public float cosineSimilarity(final float[] a, final float[] b) {
+        FloatVector dotProducts = FloatVector.zero(SPECIES);
+        FloatVector aNorms = FloatVector.zero(SPECIES);
+        FloatVector bNorms = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length()) {
+            FloatVector aVector = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector bVector = FloatVector.fromArray(SPECIES, b, i);
+            dotProducts = aVector.fma(bVector, dotProducts);
+            aNorms = aVector.fma(aVector, aNorms);
+            bNorms = bVector.fma(bVector, bNorms);
+        }
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float aNorm = aNorms.reduceLanes(VectorOperators.ADD);
+        float bNorm = bNorms.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dotProduct += a[i] * b[i];
+            aNorm += a[i] * a[i];
+            bNorm += b[i] * b[i];
+        }
+        return VectorMath.cosineSimilarity(dotProduct, aNorm, bNorm);
+    }
+
+    @Override
+    public float dotProduct(final FloatBuffer a, final FloatBuffer b) {
+        int length = a.remaining();
+        float[] aChunk = new float[Math.min(length, CHUNK_LENGTH)];
+        float[] bChunk = new float[aChunk.length];
+        FloatVector sums = FloatVector.zero(SPECIES);
+        float sum = 0;
+        for (int offset = 0; offset < length; offset += aChunk.length) {
+            int chunkLength = Math.min(aChunk.length, length - offset);
+            a.get(a.position() + offset, aChunk, 0, chunkLength);
+            b.get(b.position() + offset, bChunk, 0, chunkLength);
+            int i = 0;
+            for (int bound = SPECIES.loopBound(chunkLength); i < bound; i += SPECIES.length()) {
+                sums = FloatVector.fromArray(SPECIES, aChunk, i).fma(FloatVector.fromArray(SPECIES, bChunk, i), sums);
+            }
+            for (; i < chunkLength; i++) {
+                sum += aChunk[i] * bChunk[i];
+            }
+        }
+        return sums.reduceLanes(VectorOperators.ADD) + sum;
+    }
+
+    @Override
+    public float cosineSimilarity(final FloatBuffer a, final FloatBuffer b) {
+        int length = a.remaining();
+        float[] aChunk = new float[Math.min(length, CHUNK_LENGTH)];
+        float[] bChunk = new float[aChunk.length];
+        FloatVector dotProducts = FloatVector.zero(SPECIES);
+        FloatVector aNorms = FloatVector.zero(SPECIES);
+        FloatVector bNorms = FloatVector.zero(SPECIES);
+        float dotProduct = 0;
+        float aNorm = 0;
+        float bNorm = 0;
+        for (int offset = 0; offset < length; offset += aChunk.length) {
+            int chunkLength = Math.min(aChunk.length, length - offset);
+            a.get(a.position() + offset, aChunk, 0, chunkLength);
+            b.get(b.position() + offset, bChunk, 0, chunkLength);
+            int i = 0;
+            for (int bound = SPECIES.loopBound(chunkLength); i < bound; i += SPECIES.length()) {
+                FloatVector aVector = FloatVector.fromArray(SPECIES, aChunk, i);
+                FloatVector bVector = FloatVector.fromArray(SPECIES, bChunk, i);
+                dotProducts = aVector.fma(bVector, dotProducts);
+                aNorms = aVector.fma(aVector, aNorms);
+                bNorms = bVector.fma(bVector, bNorms);
+            }
+            for (; i < chunkLength; i++) {
+                dotProduct += aChunk[i] * bChunk[i];
+                aNorm += aChunk[i] * aChunk[i];
+                bNorm += bChunk[i] * bChunk[i];
+            }
+        }
+        return VectorMath.cosineSimilarity(dotProducts.reduceLanes(VectorOperators.ADD) + dotProduct,
+                aNorms.reduceLanes(VectorOperators.ADD) + aNorm, bNorms.reduceLanes(VectorOperators.ADD) + bNorm);
+    }
+}
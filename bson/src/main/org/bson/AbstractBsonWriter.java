@@ -147,6 +147,16 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
      */
     protected abstract void doWriteBinaryData(BsonBinary value);
 
+    /**
+     * Handles the logic of writing a {@code BinaryVector} value.  The default implementation writes it as a {@code BsonBinary}.
+     *
+     * @param vector the {@code BinaryVector} value to write
+     * @since 5.7
+     */
+    protected void doWriteBinaryVector(final BinaryVector vector) {
+        doWriteBinaryData(new BsonBinary(vector));
+    }
+
 
     /**
      * Handles the logic of writing a boolean value
@@ -370,6 +380,14 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         setState(getNextState());
     }
 
+    @Override
+    public void writeBinaryVector(final BinaryVector vector) {
+        notNull("value", vector);
+        checkPreconditions("writeBinaryVector", State.VALUE, State.INITIAL);
+        doWriteBinaryVector(vector);
+        setState(getNextState());
+    }
+
     @Override
     public void writeBoolean(final String name, final boolean value) {
         writeName(name);
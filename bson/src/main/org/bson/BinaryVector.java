@@ -21,6 +21,8 @@ import org.bson.annotations.Reason;
 import org.bson.diagnostics.Logger;
 import org.bson.diagnostics.Loggers;
 
+import java.nio.FloatBuffer;
+
 /**
  * Binary Vectors are densely packed arrays of numbers, all the same type, which are stored and retrieved efficiently using the BSON Binary
  * Subtype 9 format. This class supports multiple vector {@link DataType}'s and provides static methods to create vectors.
@@ -98,6 +100,21 @@ public abstract class BinaryVector {
         return new Float32BinaryVector(data);
     }
 
+    /**
+     * Creates a vector with the {@link DataType#FLOAT32} data type over the remaining elements of the given float buffer.
+     * <p>
+     * NOTE: The elements are not copied; changes to the provided buffer will be reflected in the created {@link Float32BinaryVector}
+     * instance, until its {@linkplain Float32BinaryVector#getData() data} is first retrieved as a float array.  The position and limit
+     * of the provided buffer are not changed.
+     *
+     * @param data The float buffer representing the {@link DataType#FLOAT32} vector data.
+     * @return A {@link Float32BinaryVector} instance with the {@link DataType#FLOAT32} data type.
+     * @since 5.7
+     */
+    public static Float32BinaryVector floatVector(final FloatBuffer data) {
+        return new Float32BinaryVector(data);
+    }
+
     /**
      * Returns the {@link PackedBitBinaryVector}.
      *
@@ -19,9 +19,11 @@ package org.bson;
 import org.bson.io.BsonInput;
 import org.bson.io.BsonInputMark;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 
 import static java.lang.String.format;
@@ -35,6 +37,8 @@ import static org.bson.assertions.Assertions.notNull;
 public class BsonBinaryReader extends AbstractBsonReader {
 
     private final BsonInput bsonInput;
+    @Nullable
+    private FieldNameCache fieldNameCache;
 
     /**
      * Construct an instance.
@@ -51,10 +55,22 @@ public class BsonBinaryReader extends AbstractBsonReader {
      * @param bsonInput the input for this reader
      */
     public BsonBinaryReader(final BsonInput bsonInput) {
+        this(bsonInput, null);
+    }
+
+    /**
+     * Construct an instance that gets the field names it reads from the given cache.
+     *
+     * @param bsonInput the input for this reader
+     * @param fieldNameCache the field name cache, which may be null
+     * @since 5.7
+     */
+    public BsonBinaryReader(final BsonInput bsonInput, @Nullable final FieldNameCache fieldNameCache) {
         if (bsonInput == null) {
             throw new IllegalArgumentException("bsonInput is null");
         }
         this.bsonInput = bsonInput;
+        this.fieldNameCache = fieldNameCache;
         setContext(new Context(null, BsonContextType.TOP_LEVEL, 0, 0));
     }
 
@@ -72,6 +88,27 @@ public class BsonBinaryReader extends AbstractBsonReader {
         return bsonInput;
     }
 
+    /**
+     * Gets the cache of the field names that this reader reads.
+     *
+     * @return the field name cache, which may be null
+     * @since 5.7
+     */
+    @Nullable
+    public FieldNameCache getFieldNameCache() {
+        return fieldNameCache;
+    }
+
+    /**
+     * Sets the cache of the field names that this reader reads, from the next field name on.
+     *
+     * @param fieldNameCache the field name cache, which may be null
+     * @since 5.7
+     */
+    public void setFieldNameCache(@Nullable final FieldNameCache fieldNameCache) {
+        this.fieldNameCache = fieldNameCache;
+    }
+
     @Override
     public BsonType readBsonType() {
         if (isClosed()) {
@@ -119,7 +156,7 @@ public class BsonBinaryReader extends AbstractBsonReader {
                     break;
                 case DOCUMENT:
                 case SCOPE_DOCUMENT:
-                    setCurrentName(bsonInput.readCString());
+                    setCurrentName(fieldNameCache == null ? bsonInput.readCString() : bsonInput.readCString(fieldNameCache));
                     setState(State.NAME);
                     break;
                 default:
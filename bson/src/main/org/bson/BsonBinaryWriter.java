@@ -28,6 +28,8 @@ import java.util.List;
 import static java.lang.Math.max;
 import static java.lang.String.format;
 import static org.bson.assertions.Assertions.notNull;
+import static org.bson.internal.vector.BinaryVectorHelper.encodeVectorToOutput;
+import static org.bson.internal.vector.BinaryVectorHelper.getEncodedLength;
 
 /**
  * A BsonWriter implementation that writes to a binary stream of data.  This is the most commonly used implementation.
@@ -200,6 +202,16 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         bsonOutput.writeBytes(value.getData());
     }
 
+    @Override
+    protected void doWriteBinaryVector(final BinaryVector vector) {
+        bsonOutput.writeByte(BsonType.BINARY.getValue());
+        writeCurrentName();
+
+        bsonOutput.writeInt32(getEncodedLength(vector));
+        bsonOutput.writeByte(BsonBinarySubType.VECTOR.getValue());
+        encodeVectorToOutput(vector, bsonOutput);
+    }
+
     @Override
     public void doWriteBoolean(final boolean value) {
         bsonOutput.writeByte(BsonType.BOOLEAN.getValue());
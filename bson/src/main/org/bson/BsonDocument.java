@@ -21,6 +21,7 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.internal.CompactLinkedMap;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
@@ -34,7 +35,6 @@ import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -97,14 +97,14 @@ public class BsonDocument extends BsonValue implements Map<String, BsonValue>, C
      * @since 4.3
      */
     public BsonDocument(final int initialCapacity) {
-        map = new LinkedHashMap<>(initialCapacity);
+        map = new CompactLinkedMap<>(initialCapacity);
     }
 
     /**
      * Construct an empty document.
      */
     public BsonDocument() {
-         map = new LinkedHashMap<>();
+        map = new CompactLinkedMap<>();
     }
 
     @Override
@@ -45,6 +45,19 @@ public interface BsonWriter {
      */
     void writeBinaryData(String name, BsonBinary binary);
 
+    /**
+     * Writes a BSON Binary data element of {@linkplain BsonBinarySubType#VECTOR subtype 9} holding the given vector to the writer.
+     *
+     * <p>The default implementation writes {@code new BsonBinary(vector)}.  {@link BsonBinaryWriter} overrides it to encode the vector
+     * straight to its output, without first copying it into a byte array.</p>
+     *
+     * @param vector The vector.
+     * @since 5.7
+     */
+    default void writeBinaryVector(BinaryVector vector) {
+        writeBinaryData(new BsonBinary(vector));
+    }
+
     /**
      * Writes a BSON Boolean to the writer.
      *
@@ -30,12 +30,17 @@ import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
+import org.bson.internal.CompactLinkedMap;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonReader;
 import org.bson.json.JsonWriter;
 import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.Collection;
@@ -69,16 +74,24 @@ public class Document implements Map<String, Object>, Serializable, Bson {
 
     private static final long serialVersionUID = 6297731997167536582L;
 
+    /**
+     * Serialize the map as a {@code LinkedHashMap}, which it was declared as before it became a {@link CompactLinkedMap}, so that the
+     * serialized form is unchanged.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("documentAsMap", LinkedHashMap.class)
+    };
+
     /**
      * The map of keys to values.
      */
-    private final LinkedHashMap<String, Object> documentAsMap;
+    private Map<String, Object> documentAsMap;
 
     /**
      * Creates an empty Document instance.
      */
     public Document() {
-        documentAsMap = new LinkedHashMap<>();
+        documentAsMap = new CompactLinkedMap<>();
     }
 
     /**
@@ -88,7 +101,7 @@ public class Document implements Map<String, Object>, Serializable, Bson {
      * @param value value
      */
     public Document(final String key, final Object value) {
-        documentAsMap = new LinkedHashMap<>();
+        documentAsMap = new CompactLinkedMap<>();
         documentAsMap.put(key, value);
     }
 
@@ -98,7 +111,7 @@ public class Document implements Map<String, Object>, Serializable, Bson {
      * @param map initial map
      */
     public Document(final Map<String, ?> map) {
-        documentAsMap = new LinkedHashMap<>(map);
+        documentAsMap = new CompactLinkedMap<>(map);
     }
 
 
@@ -549,4 +562,16 @@ public class Document implements Map<String, Object>, Serializable, Bson {
                + documentAsMap
                + '}';
     }
+
+    private void writeObject(final ObjectOutputStream stream) throws IOException {
+        ObjectOutputStream.PutField fields = stream.putFields();
+        fields.put("documentAsMap", new LinkedHashMap<>(documentAsMap));
+        stream.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        documentAsMap = new CompactLinkedMap<>((Map<String, Object>) fields.get("documentAsMap", null));
+    }
 }
@@ -16,8 +16,13 @@
 
 package org.bson;
 
+import org.bson.internal.vector.VectorMath;
+
+import javax.annotation.Nullable;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 
+import static org.bson.assertions.Assertions.isTrueArgument;
 import static org.bson.assertions.Assertions.notNull;
 
 /**
@@ -27,17 +32,27 @@ import static org.bson.assertions.Assertions.notNull;
  *
  * @mongodb.server.release 6.0
  * @see BinaryVector#floatVector(float[])
+ * @see BinaryVector#floatVector(FloatBuffer)
  * @see BsonBinary#BsonBinary(BinaryVector)
  * @see BsonBinary#asVector()
  * @since 5.3
  */
 public final class Float32BinaryVector extends BinaryVector {
 
-    private final float[] data;
+    @Nullable
+    private volatile float[] data;
+    @Nullable
+    private final FloatBuffer buffer;
 
     Float32BinaryVector(final float[] data) {
         super(DataType.FLOAT32);
         this.data = notNull("data", data);
+        this.buffer = null;
+    }
+
+    Float32BinaryVector(final FloatBuffer buffer) {
+        super(DataType.FLOAT32);
+        this.buffer = notNull("buffer", buffer).slice();
     }
 
     /**
@@ -45,11 +60,90 @@ public final class Float32BinaryVector extends BinaryVector {
      * represents an element of a vector.
      * <p>
      * NOTE: The underlying float array is not copied; changes to the returned array will be reflected in this instance.
+     * <p>
+     * If this vector was created over a {@link FloatBuffer}, like a vector read from a {@link RawBsonDocument}, the elements are
+     * copied into an array the first time this method is called, and that array is returned from then on.
      *
      * @return the underlying float array representing this {@link Float32BinaryVector} vector.
+     * @see #asFloatBuffer()
      */
     public float[] getData() {
-        return data;
+        float[] localData = data;
+        if (localData == null) {
+            synchronized (this) {
+                localData = data;
+                if (localData == null) {
+                    localData = new float[buffer.remaining()];
+                    buffer.duplicate().get(localData);
+                    data = localData;
+                }
+            }
+        }
+        return localData;
+    }
+
+    /**
+     * Returns a read-only view of the elements of this vector, without copying them.
+     * <p>
+     * If this vector was created over a {@link FloatBuffer} and {@link #getData()} has not been called, the view reads the elements
+     * straight from that buffer, which for a vector read from a {@link RawBsonDocument} are the little-endian encoded bytes of the
+     * document.  Otherwise it reads them from the underlying float array.
+     *
+     * @return a read-only float buffer of the elements of this vector
+     * @since 5.7
+     */
+    public FloatBuffer asFloatBuffer() {
+        float[] localData = data;
+        return localData != null ? FloatBuffer.wrap(localData).asReadOnlyBuffer() : buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the dot product of this vector and the given vector, which are typically normalized embeddings, for example to re-rank the
+     * results of a {@code $vectorSearch} on the client.
+     * <p>
+     * When running on Java 17 or later with the {@code jdk.incubator.vector} module added, the products are summed with the Vector API,
+     * which may differ from the scalar sum in the least significant bits.
+     *
+     * @param other the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if the vectors do not have the same number of elements
+     * @since 5.7
+     */
+    public float dotProduct(final Float32BinaryVector other) {
+        notNull("other", other);
+        float[] localData = data;
+        float[] otherData = other.data;
+        if (localData != null && otherData != null) {
+            isTrueArgument("vectors have the same number of elements", localData.length == otherData.length);
+            return VectorMath.dotProduct(localData, otherData);
+        }
+        FloatBuffer elements = asFloatBuffer();
+        FloatBuffer otherElements = other.asFloatBuffer();
+        isTrueArgument("vectors have the same number of elements", elements.remaining() == otherElements.remaining());
+        return VectorMath.dotProduct(elements, otherElements);
+    }
+
+    /**
+     * Returns the cosine similarity of this vector and the given vector, between -1 and 1, or NaN if either vector has only zero elements.
+     *
+     * @param other the other vector
+     * @return the cosine similarity
+     * @throws IllegalArgumentException if the vectors do not have the same number of elements
+     * @see #dotProduct(Float32BinaryVector)
+     * @since 5.7
+     */
+    public float cosineSimilarity(final Float32BinaryVector other) {
+        notNull("other", other);
+        float[] localData = data;
+        float[] otherData = other.data;
+        if (localData != null && otherData != null) {
+            isTrueArgument("vectors have the same number of elements", localData.length == otherData.length);
+            return VectorMath.cosineSimilarity(localData, otherData);
+        }
+        FloatBuffer elements = asFloatBuffer();
+        FloatBuffer otherElements = other.asFloatBuffer();
+        isTrueArgument("vectors have the same number of elements", elements.remaining() == otherElements.remaining());
+        return VectorMath.cosineSimilarity(elements, otherElements);
     }
 
     @Override
@@ -61,18 +155,18 @@ public final class Float32BinaryVector extends BinaryVector {
             return false;
         }
         Float32BinaryVector that = (Float32BinaryVector) o;
-        return Arrays.equals(data, that.data);
+        return Arrays.equals(getData(), that.getData());
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(data);
+        return Arrays.hashCode(getData());
     }
 
     @Override
     public String toString() {
         return "Float32Vector{"
-                + "data=" + Arrays.toString(data)
+                + "data=" + Arrays.toString(getData())
                 + ", dataType=" + getDataType()
                 + '}';
     }
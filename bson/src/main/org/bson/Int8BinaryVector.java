@@ -16,9 +16,12 @@
 
 package org.bson;
 
+import org.bson.internal.vector.VectorMath;
+
 import java.util.Arrays;
 import java.util.Objects;
 
+import static org.bson.assertions.Assertions.isTrueArgument;
 import static org.bson.assertions.Assertions.notNull;
 
 /**
@@ -53,6 +56,34 @@ public final class Int8BinaryVector extends BinaryVector {
         return data;
     }
 
+    /**
+     * Returns the dot product of this vector and the given vector.
+     *
+     * @param other the other vector
+     * @return the dot product
+     * @throws IllegalArgumentException if the vectors do not have the same number of elements
+     * @since 5.7
+     */
+    public long dotProduct(final Int8BinaryVector other) {
+        notNull("other", other);
+        isTrueArgument("vectors have the same number of elements", data.length == other.data.length);
+        return VectorMath.dotProduct(data, other.data);
+    }
+
+    /**
+     * Returns the cosine similarity of this vector and the given vector, between -1 and 1, or NaN if either vector has only zero elements.
+     *
+     * @param other the other vector
+     * @return the cosine similarity
+     * @throws IllegalArgumentException if the vectors do not have the same number of elements
+     * @since 5.7
+     */
+    public float cosineSimilarity(final Int8BinaryVector other) {
+        notNull("other", other);
+        isTrueArgument("vectors have the same number of elements", data.length == other.data.length);
+        return VectorMath.cosineSimilarity(data, other.data);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -18,6 +18,7 @@ package org.bson;
 
 import org.bson.annotations.Beta;
 import org.bson.annotations.Reason;
+import org.bson.internal.vector.VectorMath;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -88,6 +89,20 @@ public final class PackedBitBinaryVector extends BinaryVector {
         return this.padding;
     }
 
+    /**
+     * Returns the Hamming distance between this vector and the given vector, which is the number of elements that differ between them.
+     *
+     * @param other the other vector
+     * @return the Hamming distance
+     * @throws IllegalArgumentException if the vectors do not have the same number of elements
+     * @since 5.7
+     */
+    public int hammingDistance(final PackedBitBinaryVector other) {
+        notNull("other", other);
+        isTrueArgument("vectors have the same number of elements", data.length == other.data.length && padding == other.padding);
+        return VectorMath.hammingDistance(data, other.data, padding);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
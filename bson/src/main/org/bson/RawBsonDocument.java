@@ -22,6 +22,8 @@ import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.internal.BsonDocumentFieldIndex;
+import org.bson.internal.vector.BinaryVectorHelper;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonMode;
@@ -40,6 +42,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import static java.lang.String.format;
 import static org.bson.assertions.Assertions.isTrueArgument;
 import static org.bson.assertions.Assertions.notNull;
 
@@ -67,6 +70,17 @@ public final class RawBsonDocument extends BsonDocument {
      */
     private final int length;
 
+    /**
+     * The index from field names to element offsets, built lazily on the second keyed access, as a single access is cheaper with a
+     * linear scan.  Racy publication is benign since the index is immutable and building it is idempotent.
+     */
+    private transient BsonDocumentFieldIndex fieldIndex;
+
+    /**
+     * Whether there was a keyed access, racily updated, which at worst delays building the index.
+     */
+    private transient boolean keyedAccessed;
+
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code RawBsonDocument}
      *
@@ -255,19 +269,11 @@ public final class RawBsonDocument extends BsonDocument {
         if (key == null) {
             throw new IllegalArgumentException("key can not be null");
         }
-
-        try (BsonBinaryReader bsonReader = createReader()) {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
+        if (!(key instanceof String)) {
+            return false;
         }
 
-        return false;
+        return findElementOffset((String) key) != -1;
     }
 
     @Override
@@ -289,19 +295,50 @@ public final class RawBsonDocument extends BsonDocument {
     @Override
     public BsonValue get(final Object key) {
         notNull("key", key);
+        if (!(key instanceof String)) {
+            return null;
+        }
 
-        try (BsonBinaryReader bsonReader = createReader()) {
-            bsonReader.readStartDocument();
-            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                if (bsonReader.readName().equals(key)) {
-                    return RawBsonValueHelper.decode(bytes, bsonReader);
-                }
-                bsonReader.skipValue();
-            }
-            bsonReader.readEndDocument();
+        int elementOffset = findElementOffset((String) key);
+        if (elementOffset == -1) {
+            return null;
         }
+        try (BsonBinaryReader bsonReader = createReaderAtElement(elementOffset)) {
+            return RawBsonValueHelper.decode(bytes, bsonReader);
+        }
+    }
 
-        return null;
+    /**
+     * Gets the value of the key as a {@link BinaryVector} if it is a BsonBinary of {@linkplain BsonBinarySubType#VECTOR subtype 9}, or
+     * throws if not.
+     *
+     * <p>Unlike {@code getBinary(key).asVector()}, this does not copy the value: a {@link BinaryVector.DataType#FLOAT32} vector is
+     * returned as a {@link Float32BinaryVector} whose {@linkplain Float32BinaryVector#asFloatBuffer() float buffer} reads the elements
+     * straight from the byte array owned by this instance.</p>
+     *
+     * @param key the key
+     * @return the value of the key as a BinaryVector
+     * @throws BsonInvalidOperationException if the document does not contain the key or the value is not a vector
+     * @since 5.7
+     */
+    public BinaryVector getBinaryVector(final Object key) {
+        notNull("key", key);
+        int elementOffset = key instanceof String ? findElementOffset((String) key) : -1;
+        if (elementOffset == -1) {
+            throw new BsonInvalidOperationException("Document does not contain key " + key);
+        }
+        try (BsonBinaryReader bsonReader = createReaderAtElement(elementOffset)) {
+            if (bsonReader.getCurrentBsonType() != BsonType.BINARY) {
+                throw new BsonInvalidOperationException(format("Value expected to be of type %s is of unexpected type %s",
+                        BsonType.BINARY, bsonReader.getCurrentBsonType()));
+            }
+            if (bsonReader.peekBinarySubType() != BsonBinarySubType.VECTOR.getValue()) {
+                throw new BsonInvalidOperationException("type must be a Vector subtype.");
+            }
+            // skip the size and subtype that precede the data
+            int dataOffset = bsonReader.getBsonInput().getPosition() + 5;
+            return BinaryVectorHelper.decodeBinaryToVector(ByteBuffer.wrap(bytes, dataOffset, bsonReader.peekBinarySize()));
+        }
     }
 
     @Override
@@ -335,6 +372,30 @@ public final class RawBsonDocument extends BsonDocument {
         return new BsonBinaryReader(new ByteBufferBsonInput(getByteBuffer()));
     }
 
+    // Create a reader positioned at the value of the element starting at the given offset
+    private BsonBinaryReader createReaderAtElement(final int elementOffset) {
+        ByteBuf buffer = getByteBuffer();
+        BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(buffer));
+        bsonReader.readStartDocument();
+        buffer.position(elementOffset);
+        bsonReader.readBsonType();
+        bsonReader.skipName();
+        return bsonReader;
+    }
+
+    private int findElementOffset(final String key) {
+        BsonDocumentFieldIndex localFieldIndex = fieldIndex;
+        if (localFieldIndex == null) {
+            if (!keyedAccessed) {
+                keyedAccessed = true;
+                return BsonDocumentFieldIndex.findElementOffset(getByteBuffer(), key);
+            }
+            localFieldIndex = BsonDocumentFieldIndex.build(getByteBuffer());
+            fieldIndex = localFieldIndex;
+        }
+        return localFieldIndex.findElementOffset(key);
+    }
+
     // Transform to an org.bson.BsonDocument instance
     private BsonDocument toBaseBsonDocument() {
         try (BsonBinaryReader bsonReader = createReader()) {
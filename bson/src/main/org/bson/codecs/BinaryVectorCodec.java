@@ -16,13 +16,16 @@
 
 package org.bson.codecs;
 
-import org.bson.BsonBinary;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.BinaryVector;
 
+import java.nio.ByteBuffer;
+
+import static org.bson.internal.vector.BinaryVectorHelper.decodeBinaryToVector;
+
 /**
  * Encodes and decodes {@link BinaryVector} objects.
  *
@@ -31,7 +34,7 @@ import org.bson.BinaryVector;
 
     @Override
     public void encode(final BsonWriter writer, final BinaryVector vectorToEncode, final EncoderContext encoderContext) {
-        writer.writeBinaryData(new BsonBinary(vectorToEncode));
+        writer.writeBinaryVector(vectorToEncode);
     }
 
     @Override
@@ -42,9 +45,8 @@ import org.bson.BinaryVector;
             throw new BsonInvalidOperationException("Expected vector binary subtype " + BsonBinarySubType.VECTOR.getValue() + " but found " + subType);
         }
 
-        return reader.readBinaryData()
-                .asBinary()
-                .asVector();
+        // the binary is not shared, so a FLOAT32 vector can be a view of it rather than a copy
+        return decodeBinaryToVector(ByteBuffer.wrap(reader.readBinaryData().getData()));
     }
 
     @Override
@@ -80,7 +80,12 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String fieldName = reader.readName();
-            bsonDocument.append(fieldName, readValue(reader, decoderContext));
+            if (decoderContext.isFieldIncluded(fieldName)) {
+                bsonDocument.append(fieldName, readValue(reader, decoderContext.getFieldPaths() == null ? decoderContext
+                        : decoderContext.getChildContext(fieldName)));
+            } else {
+                reader.skipValue();
+            }
         }
 
         reader.readEndDocument();
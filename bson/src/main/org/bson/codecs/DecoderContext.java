@@ -18,6 +18,15 @@ package org.bson.codecs;
 
 import org.bson.BsonReader;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.bson.assertions.Assertions.isTrueArgument;
 import static org.bson.assertions.Assertions.notNull;
 
 /**
@@ -28,7 +37,12 @@ import static org.bson.assertions.Assertions.notNull;
  */
 public final class DecoderContext {
     private static final DecoderContext DEFAULT_CONTEXT = DecoderContext.builder().build();
+    private static final DecoderContext CHECKED_DISCRIMINATOR_CONTEXT = DecoderContext.builder().checkedDiscriminator(true).build();
     private final boolean checkedDiscriminator;
+    @Nullable
+    private final Set<String> fieldPaths;
+    @Nullable
+    private final Map<String, DecoderContext> fieldContexts;
 
     /**
      * @return true if the discriminator has been checked
@@ -37,6 +51,60 @@ public final class DecoderContext {
         return checkedDiscriminator;
     }
 
+    /**
+     * Gets the paths of the fields to decode, relative to the document being decoded, or null if all fields are decoded.
+     *
+     * @return the field paths, which may be null
+     * @see Builder#fieldPaths(Collection)
+     * @since 5.7
+     */
+    @Nullable
+    public Set<String> getFieldPaths() {
+        return fieldPaths;
+    }
+
+    /**
+     * Returns whether the field with the given name, of the document being decoded, should be decoded.  Decoders that support field
+     * paths skip the values of the fields that should not be decoded with {@link BsonReader#skipValue()}.
+     *
+     * @param fieldName the field name
+     * @return true if the field should be decoded
+     * @since 5.7
+     */
+    public boolean isFieldIncluded(final String fieldName) {
+        return fieldContexts == null || fieldContexts.containsKey(fieldName);
+    }
+
+    /**
+     * Gets the context to decode the value of the given field, of the document being decoded, with.  Its field paths are those of this
+     * context below the given field, and its discriminator is not checked.
+     *
+     * @param fieldName the field name
+     * @return the context to decode the value of the field with
+     * @since 5.7
+     */
+    public DecoderContext getChildContext(final String fieldName) {
+        if (fieldContexts == null) {
+            return DEFAULT_CONTEXT;
+        }
+        DecoderContext fieldContext = fieldContexts.get(fieldName);
+        return fieldContext == null ? DEFAULT_CONTEXT : fieldContext;
+    }
+
+    /**
+     * Returns a context like this one whose discriminator has been checked.  Unlike building a new context with the field paths of
+     * this one, this does not group the field paths again.
+     *
+     * @return the context with the discriminator checked
+     * @since 5.7
+     */
+    public DecoderContext withCheckedDiscriminator() {
+        if (checkedDiscriminator) {
+            return this;
+        }
+        return fieldPaths == null ? CHECKED_DISCRIMINATOR_CONTEXT : new DecoderContext(true, fieldPaths, fieldContexts);
+    }
+
     /**
      * Create a builder.
      *
@@ -54,6 +122,7 @@ public final class DecoderContext {
         }
 
         private boolean checkedDiscriminator;
+        private Set<String> fieldPaths;
 
         /**
          * @return true if the discriminator has been checked
@@ -73,6 +142,33 @@ public final class DecoderContext {
             return this;
         }
 
+        /**
+         * Sets the paths of the fields to decode, in dot notation and relative to the document being decoded.  The default is null,
+         * which decodes all fields.
+         *
+         * <p>Decoders that support field paths, like the {@code Document}, {@code BsonDocument} and POJO codecs, skip the values of all
+         * other fields with {@link BsonReader#skipValue()} instead of decoding them, so that reading a few fields of a large document
+         * costs time in proportion to the fields that are read.  A path to a field includes all the fields below it, and paths apply
+         * to each document of an array, as in a projection.  Fields that are skipped are left unset, so a decoded instance only has
+         * the values of the included fields.</p>
+         *
+         * @param fieldPaths the field paths, which may be null
+         * @return this
+         * @since 5.7
+         */
+        public Builder fieldPaths(@Nullable final Collection<String> fieldPaths) {
+            if (fieldPaths == null) {
+                this.fieldPaths = null;
+            } else {
+                for (String fieldPath : fieldPaths) {
+                    notNull("fieldPath", fieldPath);
+                    isTrueArgument("fieldPath is not empty", !fieldPath.isEmpty());
+                }
+                this.fieldPaths = unmodifiableSet(new HashSet<>(fieldPaths));
+            }
+            return this;
+        }
+
         /**
          * Build an instance of {@code DecoderContext}.
          * @return the decoder context
@@ -97,6 +193,47 @@ public final class DecoderContext {
     }
 
     private DecoderContext(final Builder builder) {
-        this.checkedDiscriminator = builder.hasCheckedDiscriminator();
+        this(builder.hasCheckedDiscriminator(), builder.fieldPaths);
+    }
+
+    private DecoderContext(final boolean checkedDiscriminator, @Nullable final Set<String> fieldPaths) {
+        this(checkedDiscriminator, fieldPaths, fieldPaths == null ? null : createFieldContexts(fieldPaths));
+    }
+
+    private DecoderContext(final boolean checkedDiscriminator, @Nullable final Set<String> fieldPaths,
+                           @Nullable final Map<String, DecoderContext> fieldContexts) {
+        this.checkedDiscriminator = checkedDiscriminator;
+        this.fieldPaths = fieldPaths;
+        this.fieldContexts = fieldContexts;
+    }
+
+    /**
+     * Groups the field paths by their first field, mapping each first field to the context that decodes its value: the default one
+     * when the whole value is included, or one with the paths below the field.
+     */
+    private static Map<String, DecoderContext> createFieldContexts(final Set<String> fieldPaths) {
+        Map<String, Set<String>> pathsByField = new HashMap<>();
+        for (String fieldPath : fieldPaths) {
+            int index = fieldPath.indexOf('.');
+            if (index < 0) {
+                pathsByField.put(fieldPath, null);
+            } else {
+                String fieldName = fieldPath.substring(0, index);
+                if (!pathsByField.containsKey(fieldName)) {
+                    pathsByField.put(fieldName, new HashSet<>());
+                }
+                Set<String> childPaths = pathsByField.get(fieldName);
+                if (childPaths != null && index + 1 < fieldPath.length()) {
+                    childPaths.add(fieldPath.substring(index + 1));
+                }
+            }
+        }
+        Map<String, DecoderContext> fieldContexts = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : pathsByField.entrySet()) {
+            Set<String> childPaths = entry.getValue();
+            fieldContexts.put(entry.getKey(), childPaths == null || childPaths.isEmpty()
+                    ? DEFAULT_CONTEXT : new DecoderContext(false, unmodifiableSet(childPaths)));
+        }
+        return fieldContexts;
     }
 }
@@ -173,7 +173,12 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String fieldName = reader.readName();
-            document.put(fieldName, readValue(reader, decoderContext, bsonTypeCodecMap, uuidRepresentation, registry, valueTransformer));
+            if (decoderContext.isFieldIncluded(fieldName)) {
+                document.put(fieldName, readValue(reader, decoderContext.getFieldPaths() == null ? decoderContext
+                        : decoderContext.getChildContext(fieldName), bsonTypeCodecMap, uuidRepresentation, registry, valueTransformer));
+            } else {
+                reader.skipValue();
+            }
         }
 
         reader.readEndDocument();
@@ -16,7 +16,6 @@
 
 package org.bson.codecs;
 
-import org.bson.BsonBinary;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
@@ -32,7 +31,7 @@ final class Int8VectorCodec implements Codec<Int8BinaryVector> {
 
     @Override
     public void encode(final BsonWriter writer, final Int8BinaryVector vectorToEncode, final EncoderContext encoderContext) {
-        writer.writeBinaryData(new BsonBinary(vectorToEncode));
+        writer.writeBinaryVector(vectorToEncode);
     }
 
     @Override
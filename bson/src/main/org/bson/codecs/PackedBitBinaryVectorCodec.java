@@ -16,7 +16,6 @@
 
 package org.bson.codecs;
 
-import org.bson.BsonBinary;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
@@ -31,7 +30,7 @@ final class PackedBitBinaryVectorCodec implements Codec<PackedBitBinaryVector> {
 
     @Override
     public void encode(final BsonWriter writer, final PackedBitBinaryVector vectorToEncode, final EncoderContext encoderContext) {
-        writer.writeBinaryData(new BsonBinary(vectorToEncode));
+        writer.writeBinaryVector(vectorToEncode);
     }
 
     @Override
@@ -19,6 +19,7 @@ package org.bson.codecs.configuration;
 import org.bson.UuidRepresentation;
 import org.bson.codecs.Codec;
 import org.bson.internal.ProvidersCodecRegistry;
+import org.bson.io.FieldNameCache;
 
 import java.util.List;
 
@@ -43,6 +44,21 @@ public final class CodecRegistries {
         return fromProviders(new OverridableUuidRepresentationCodecProvider(codecRegistry, uuidRepresentation));
     }
 
+    /**
+     * Apply the given {@link FieldNameCache} to the given {@link CodecRegistry}, so that its codecs get the field names that they decode
+     * with a {@link org.bson.BsonBinaryReader} from the cache, instead of allocating a new {@code String} for each of them.
+     *
+     * <p>This is worthwhile when decoding many documents with the same field names.</p>
+     *
+     * @param codecRegistry the code registry
+     * @param fieldNameCache the field name cache
+     * @return a {@code CodecRegistry} with the given {@code FieldNameCache} applied to the given {@code CodecRegistry}
+     * @since 5.7
+     */
+    public static CodecRegistry withFieldNameCache(final CodecRegistry codecRegistry, final FieldNameCache fieldNameCache) {
+        return fromProviders(new FieldNameCachingCodecProvider(codecRegistry, fieldNameCache));
+    }
+
     /**
      * Creates a {@code CodecRegistry} from the provided list of {@code Codec} instances.
      *
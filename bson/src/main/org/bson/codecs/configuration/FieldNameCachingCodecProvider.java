@@ -0,0 +1,192 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.configuration;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.OverridableUuidRepresentationCodec;
+import org.bson.io.FieldNameCache;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * Wraps the codecs of a provider so that they decode from a {@link BsonBinaryReader} with the given {@link FieldNameCache}.
+ *
+ * <p>The wrapping codecs implement {@link CollectibleCodec} and {@link OverridableUuidRepresentationCodec} exactly when the wrapped
+ * codecs do, so that wrapping does not change how the codecs are used.</p>
+ */
+final class FieldNameCachingCodecProvider implements CodecProvider {
+
+    private final CodecProvider wrapped;
+    private final FieldNameCache fieldNameCache;
+
+    FieldNameCachingCodecProvider(final CodecProvider wrapped, final FieldNameCache fieldNameCache) {
+        this.wrapped = notNull("wrapped", wrapped);
+        this.fieldNameCache = notNull("fieldNameCache", fieldNameCache);
+    }
+
+    @Override
+    public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+        return get(clazz, Collections.emptyList(), registry);
+    }
+
+    @Override
+    public <T> Codec<T> get(final Class<T> clazz, final List<Type> typeArguments, final CodecRegistry registry) {
+        Codec<T> codec = wrapped.get(clazz, typeArguments, registry);
+        return codec == null ? null : wrap(codec, fieldNameCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Codec<T> wrap(final Codec<T> codec, final FieldNameCache fieldNameCache) {
+        if (codec instanceof FieldNameCachingCodec) {
+            return codec;
+        }
+        boolean collectible = codec instanceof CollectibleCodec;
+        boolean overridable = codec instanceof OverridableUuidRepresentationCodec;
+        if (collectible && overridable) {
+            return new CollectibleOverridableFieldNameCachingCodec<>((CollectibleCodec<T>) codec, fieldNameCache);
+        } else if (collectible) {
+            return new CollectibleFieldNameCachingCodec<>((CollectibleCodec<T>) codec, fieldNameCache);
+        } else if (overridable) {
+            return new OverridableFieldNameCachingCodec<>(codec, fieldNameCache);
+        }
+        return new FieldNameCachingCodec<>(codec, fieldNameCache);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        FieldNameCachingCodecProvider that = (FieldNameCachingCodecProvider) o;
+
+        if (!wrapped.equals(that.wrapped)) {
+            return false;
+        }
+        return fieldNameCache.equals(that.fieldNameCache);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = wrapped.hashCode();
+        result = 31 * result + fieldNameCache.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldNameCachingCodecProvider{"
+                + "wrapped=" + wrapped
+                + '}';
+    }
+
+    private static class FieldNameCachingCodec<T> implements Codec<T> {
+        final Codec<T> wrapped;
+        final FieldNameCache fieldNameCache;
+
+        FieldNameCachingCodec(final Codec<T> wrapped, final FieldNameCache fieldNameCache) {
+            this.wrapped = wrapped;
+            this.fieldNameCache = fieldNameCache;
+        }
+
+        @Override
+        public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+            if (!(reader instanceof BsonBinaryReader) || ((BsonBinaryReader) reader).getFieldNameCache() != null) {
+                return wrapped.decode(reader, decoderContext);
+            }
+            BsonBinaryReader binaryReader = (BsonBinaryReader) reader;
+            binaryReader.setFieldNameCache(fieldNameCache);
+            try {
+                return wrapped.decode(reader, decoderContext);
+            } finally {
+                binaryReader.setFieldNameCache(null);
+            }
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+            wrapped.encode(writer, value, encoderContext);
+        }
+
+        @Override
+        public Class<T> getEncoderClass() {
+            return wrapped.getEncoderClass();
+        }
+    }
+
+    private static class CollectibleFieldNameCachingCodec<T> extends FieldNameCachingCodec<T> implements CollectibleCodec<T> {
+        CollectibleFieldNameCachingCodec(final CollectibleCodec<T> wrapped, final FieldNameCache fieldNameCache) {
+            super(wrapped, fieldNameCache);
+        }
+
+        @Override
+        public T generateIdIfAbsentFromDocument(final T document) {
+            return ((CollectibleCodec<T>) wrapped).generateIdIfAbsentFromDocument(document);
+        }
+
+        @Override
+        public boolean documentHasId(final T document) {
+            return ((CollectibleCodec<T>) wrapped).documentHasId(document);
+        }
+
+        @Override
+        public BsonValue getDocumentId(final T document) {
+            return ((CollectibleCodec<T>) wrapped).getDocumentId(document);
+        }
+    }
+
+    private static final class OverridableFieldNameCachingCodec<T> extends FieldNameCachingCodec<T>
+            implements OverridableUuidRepresentationCodec<T> {
+        OverridableFieldNameCachingCodec(final Codec<T> wrapped, final FieldNameCache fieldNameCache) {
+            super(wrapped, fieldNameCache);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Codec<T> withUuidRepresentation(final UuidRepresentation uuidRepresentation) {
+            return wrap(((OverridableUuidRepresentationCodec<T>) wrapped).withUuidRepresentation(uuidRepresentation), fieldNameCache);
+        }
+    }
+
+    private static final class CollectibleOverridableFieldNameCachingCodec<T> extends CollectibleFieldNameCachingCodec<T>
+            implements OverridableUuidRepresentationCodec<T> {
+        CollectibleOverridableFieldNameCachingCodec(final CollectibleCodec<T> wrapped, final FieldNameCache fieldNameCache) {
+            super(wrapped, fieldNameCache);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Codec<T> withUuidRepresentation(final UuidRepresentation uuidRepresentation) {
+            return wrap(((OverridableUuidRepresentationCodec<T>) wrapped).withUuidRepresentation(uuidRepresentation), fieldNameCache);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
@@ -34,6 +35,8 @@ final class CreatorExecutable<T> {
     private final Class<T> clazz;
     private final Constructor<T> constructor;
     private final Method method;
+    // Generated once for a public no-args constructor, or null if reflection must be used instead
+    private final Supplier<Object> noArgsConstructor;
     private final List<BsonProperty> properties = new ArrayList<>();
     private final Integer idPropertyIndex;
     private final List<Class<?>> parameterTypes = new ArrayList<>();
@@ -80,6 +83,7 @@ final class CreatorExecutable<T> {
         }
 
         this.idPropertyIndex = idPropertyIndex;
+        this.noArgsConstructor = constructor != null ? GeneratedAccessors.constructor(constructor) : null;
     }
 
     Class<T> getType() {
@@ -106,7 +110,9 @@ final class CreatorExecutable<T> {
     T getInstance() {
         checkHasAnExecutable();
         try {
-            if (constructor != null) {
+            if (noArgsConstructor != null) {
+                return (T) noArgsConstructor.get();
+            } else if (constructor != null) {
                 return constructor.newInstance();
             } else {
                 return (T) method.invoke(clazz);
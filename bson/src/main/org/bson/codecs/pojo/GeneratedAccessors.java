@@ -0,0 +1,108 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.reflect.Modifier.isPublic;
+
+/**
+ * Generates accessors for getters, setters and constructors with {@link LambdaMetafactory}, which, unlike reflective calls, are not
+ * access checked on each call and can be inlined by the JIT.
+ *
+ * <p>The generated classes are defined in the class loader of this class, so accessors are only generated for public members of public
+ * classes that are visible from it.  Otherwise {@code null} is returned, and reflection must be used instead.</p>
+ */
+final class GeneratedAccessors {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(final Method getter) {
+        if (!isAccessible(getter.getDeclaringClass()) || !isPublic(getter.getModifiers()) || getter.getParameterCount() != 0) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(getter);
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    GETTER_TYPE, handle, handle.type().wrap()).getTarget().invokeExact();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(final Method setter) {
+        if (!isAccessible(setter.getDeclaringClass()) || !isPublic(setter.getModifiers()) || setter.getParameterCount() != 1) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(setter);
+            return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    SETTER_TYPE, handle, handle.type().wrap().changeReturnType(void.class)).getTarget().invokeExact();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> constructor(final Constructor<?> constructor) {
+        if (!isAccessible(constructor.getDeclaringClass()) || !isPublic(constructor.getModifiers())
+                || constructor.getParameterCount() != 0) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            return (Supplier<Object>) LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                    SUPPLIER_TYPE, handle, handle.type()).getTarget().invokeExact();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static boolean isAccessible(final Class<?> clazz) {
+        for (Class<?> current = clazz; current != null; current = current.getEnclosingClass()) {
+            if (!isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(clazz.getName(), false, GeneratedAccessors.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private GeneratedAccessors() {
+    }
+}
@@ -99,7 +99,7 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
         } else {
             return getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(), registry,
                     discriminatorLookup, this, classModel.getName())
-                    .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                    .decode(reader, decoderContext.withCheckedDiscriminator());
         }
     }
 
@@ -195,6 +195,8 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
             String name = reader.readName();
             if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
                 reader.readString();
+            } else if (!decoderContext.isFieldIncluded(name)) {
+                reader.skipValue();
             } else {
                 decodePropertyModel(reader, decoderContext, instanceCreator, name, getPropertyModelByWriteName(classModel, name), extraElements);
             }
@@ -217,7 +219,7 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
                         throw new CodecConfigurationException(format("Missing codec in '%s' for '%s'",
                                 classModel.getName(), propertyModel.getName()));
                     }
-                    value = decoderContext.decodeWithChildContext(codec, reader);
+                    value = codec.decode(reader, decoderContext.getChildContext(name));
                 }
                 return value;
             }, propertyModel);
@@ -18,14 +18,24 @@ package org.bson.codecs.pojo;
 
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import static java.lang.String.format;
 
 final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
 
     private final PropertyMetadata<T> propertyMetadata;
+    // Generated once, or null if reflection must be used instead
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
 
     PropertyAccessorImpl(final PropertyMetadata<T> propertyMetadata) {
         this.propertyMetadata = propertyMetadata;
+        this.getter = propertyMetadata.isSerializable() && propertyMetadata.getGetter() != null
+                ? GeneratedAccessors.getter(propertyMetadata.getGetter()) : null;
+        this.setter = propertyMetadata.isDeserializable() && propertyMetadata.getSetter() != null
+                ? GeneratedAccessors.setter(propertyMetadata.getSetter()) : null;
     }
 
     @Override
@@ -33,7 +43,9 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
     public <S> T get(final S instance) {
         try {
             if (propertyMetadata.isSerializable()) {
-                if (propertyMetadata.getGetter() != null) {
+                if (getter != null) {
+                    return (T) getter.apply(instance);
+                } else if (propertyMetadata.getGetter() != null) {
                     return (T) propertyMetadata.getGetter().invoke(instance);
                 } else {
                     return (T) propertyMetadata.getField().get(instance);
@@ -50,7 +62,9 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
     public <S> void set(final S instance, final T value) {
         try {
             if (propertyMetadata.isDeserializable()) {
-                if (propertyMetadata.getSetter() != null) {
+                if (setter != null) {
+                    setter.accept(instance, value);
+                } else if (propertyMetadata.getSetter() != null) {
                     propertyMetadata.getSetter().invoke(instance, value);
                 } else {
                     propertyMetadata.getField().set(instance, value);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that marks a POJO or a Java record for which the {@code bson-codec-processor} annotation processor generates a codec at
+ * compile time.
+ *
+ * <p>For a type {@code Person}, the processor generates a {@code PersonCodec} in the same package, which encodes and decodes the
+ * properties of the type without any reflection, and a {@code GeneratedCodecProvider} in the same package, which provides the codecs of
+ * all the annotated types of the package.  The {@link BsonId}, {@link BsonProperty}, {@link BsonIgnore}, {@link BsonCreator} and
+ * {@link BsonDiscriminator} annotations are honoured.</p>
+ *
+ * @since 5.7
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface BsonCodec {
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
+import org.bson.ByteBuf;
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * An immutable index from the field names of a BSON document to the offsets of their elements in the document bytes.
+ *
+ * <p>The index is keyed by the raw UTF-8 bytes of the field names, using an open-addressing hash table, so a lookup for an ASCII
+ * field name neither allocates nor decodes any bytes. Building the index, and scanning a document without one, walk the elements in
+ * place, from the sizes of their values, so neither decodes a field name either. If a document contains duplicate field names, the
+ * first element wins, which is consistent with a linear scan of the document.</p>
+ *
+ * <p>Instances are safe to publish via a data race, as all state is reachable only through final fields.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BsonDocumentFieldIndex {
+    private static final int NOT_FOUND = -1;
+    private static final int INITIAL_ELEMENT_CAPACITY = 16;
+    private static final int MIN_DOCUMENT_SIZE = 5;
+    private static final byte END_OF_DOCUMENT = 0;
+
+    /**
+     * The UTF-8 bytes of all indexed field names, concatenated.
+     */
+    private final byte[] names;
+    /**
+     * The start of the name of element {@code i} in {@link #names} is {@code nameOffsets[i]} and its end is {@code nameOffsets[i + 1]}.
+     */
+    private final int[] nameOffsets;
+    private final int[] nameHashes;
+    /**
+     * The offset of each element, i.e., of its type byte, in the buffer the index was built from.
+     */
+    private final int[] elementOffsets;
+    /**
+     * The open-addressing table, holding {@code elementIndex + 1} in each occupied slot and {@code 0} in each empty slot.
+     */
+    private final int[] table;
+
+    /**
+     * Builds an index of the document in the given buffer, which must be positioned at the start of the document.  The position of
+     * the buffer is advanced past the end of the document, and ownership of the buffer remains with the caller.
+     *
+     * @param buffer the buffer containing the document
+     * @return the index
+     */
+    public static BsonDocumentFieldIndex build(final ByteBuf buffer) {
+        Builder builder = new Builder();
+        int elementOffset = buffer.position() + 4;
+        int documentEnd = getDocumentEnd(buffer);
+        buffer.position(documentEnd);
+        while (buffer.get(elementOffset) != END_OF_DOCUMENT) {
+            int nameEnd = findNameEnd(buffer, elementOffset + 1, documentEnd);
+            builder.add(buffer, elementOffset, elementOffset + 1, nameEnd);
+            elementOffset = skipValue(buffer, elementOffset, nameEnd + 1, documentEnd);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Finds the offset of the element with the given field name by scanning the document in the given buffer, which must be positioned
+     * at the start of the document, without building an index.  This is cheaper than {@link #build(ByteBuf)} for a single lookup.  The
+     * position of the buffer is advanced past the end of the document, and ownership of the buffer remains with the caller.
+     *
+     * @param buffer the buffer containing the document
+     * @param key the field name
+     * @return the offset of the element's type byte in the buffer, or -1 if there is no such element
+     */
+    public static int findElementOffset(final ByteBuf buffer, final String key) {
+        byte[] keyBytes = null;
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) >= 0x80) {
+                keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                break;
+            }
+        }
+        int elementOffset = buffer.position() + 4;
+        int documentEnd = getDocumentEnd(buffer);
+        buffer.position(documentEnd);
+        while (buffer.get(elementOffset) != END_OF_DOCUMENT) {
+            int nameStart = elementOffset + 1;
+            int nameEnd = findNameEnd(buffer, nameStart, documentEnd);
+            boolean found = keyBytes == null
+                    ? asciiNameEquals(buffer, nameStart, nameEnd, key) : nameEquals(buffer, nameStart, nameEnd, keyBytes);
+            if (found) {
+                return elementOffset;
+            }
+            elementOffset = skipValue(buffer, elementOffset, nameEnd + 1, documentEnd);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Gets the end of the document starting at the position of the buffer, after checking that the document fits in the buffer and is
+     * terminated.  The elements of the document are read in place, so the buffer is switched to little-endian byte order, as a
+     * {@link org.bson.io.ByteBufferBsonInput} would.
+     */
+    private static int getDocumentEnd(final ByteBuf buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int documentStart = buffer.position();
+        if (buffer.limit() - documentStart < MIN_DOCUMENT_SIZE) {
+            throw new BsonSerializationException("The document is too short to be a BSON document");
+        }
+        int documentSize = buffer.getInt(documentStart);
+        if (documentSize < MIN_DOCUMENT_SIZE || documentSize > buffer.limit() - documentStart) {
+            throw new BsonSerializationException(format("The document size %d is invalid", documentSize));
+        }
+        int documentEnd = documentStart + documentSize;
+        if (buffer.get(documentEnd - 1) != END_OF_DOCUMENT) {
+            throw new BsonSerializationException("The document is not null-terminated");
+        }
+        return documentEnd;
+    }
+
+    /**
+     * Finds the null terminator of the name that starts at the given offset, without decoding it.
+     */
+    private static int findNameEnd(final ByteBuf buffer, final int nameStart, final int documentEnd) {
+        for (int i = nameStart; i < documentEnd; i++) {
+            if (buffer.get(i) == 0) {
+                return i;
+            }
+        }
+        throw new BsonSerializationException("Found a BSON field name that is not null-terminated");
+    }
+
+    /**
+     * Gets the offset of the element after the one whose value starts at the given offset, from the size of the value, without reading
+     * the value.
+     */
+    private static int skipValue(final ByteBuf buffer, final int elementOffset, final int valueOffset, final int documentEnd) {
+        byte type = buffer.get(elementOffset);
+        BsonType bsonType = BsonType.findByValue(type);
+        if (bsonType == null) {
+            throw new BsonSerializationException(format("Detected unknown BSON type \"\\x%x\"", type));
+        }
+        int valueSize;
+        switch (bsonType) {
+            case UNDEFINED:
+            case NULL:
+            case MIN_KEY:
+            case MAX_KEY:
+                valueSize = 0;
+                break;
+            case BOOLEAN:
+                valueSize = 1;
+                break;
+            case INT32:
+                valueSize = 4;
+                break;
+            case DOUBLE:
+            case DATE_TIME:
+            case TIMESTAMP:
+            case INT64:
+                valueSize = 8;
+                break;
+            case OBJECT_ID:
+                valueSize = 12;
+                break;
+            case DECIMAL128:
+                valueSize = 16;
+                break;
+            case STRING:
+            case JAVASCRIPT:
+            case SYMBOL:
+                valueSize = 4 + getInt(buffer, valueOffset, documentEnd);
+                break;
+            case DB_POINTER:
+                valueSize = 4 + getInt(buffer, valueOffset, documentEnd) + 12;
+                break;
+            case BINARY:
+                valueSize = 4 + 1 + getInt(buffer, valueOffset, documentEnd);
+                break;
+            case DOCUMENT:
+            case ARRAY:
+            case JAVASCRIPT_WITH_SCOPE:
+                valueSize = getInt(buffer, valueOffset, documentEnd);
+                break;
+            case REGULAR_EXPRESSION:
+                int patternEnd = findNameEnd(buffer, valueOffset, documentEnd);
+                valueSize = findNameEnd(buffer, patternEnd + 1, documentEnd) + 1 - valueOffset;
+                break;
+            default:
+                throw new BsonSerializationException(format("Detected unknown BSON type \"\\x%x\"", type));
+        }
+        // the next element must start before the terminator of the document
+        if (valueSize < 0 || valueSize > documentEnd - 1 - valueOffset) {
+            throw new BsonSerializationException(format("The size of the BSON value at offset %d is invalid", valueOffset));
+        }
+        return valueOffset + valueSize;
+    }
+
+    private static int getInt(final ByteBuf buffer, final int offset, final int documentEnd) {
+        if (offset > documentEnd - 4) {
+            throw new BsonSerializationException(format("The size of the BSON value at offset %d is invalid", offset));
+        }
+        return buffer.getInt(offset);
+    }
+
+    private BsonDocumentFieldIndex(final byte[] names, final int[] nameOffsets, final int[] nameHashes, final int[] elementOffsets,
+                                   final int[] table) {
+        this.names = names;
+        this.nameOffsets = nameOffsets;
+        this.nameHashes = nameHashes;
+        this.elementOffsets = elementOffsets;
+        this.table = table;
+    }
+
+    /**
+     * Gets the number of distinct field names in the index.
+     *
+     * @return the number of distinct field names
+     */
+    public int size() {
+        return elementOffsets.length;
+    }
+
+    /**
+     * Finds the offset of the element with the given field name.
+     *
+     * @param key the field name
+     * @return the offset of the element's type byte in the buffer the index was built from, or -1 if there is no such element
+     */
+    public int findElementOffset(final String key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                return findElementOffset(key.getBytes(StandardCharsets.UTF_8));
+            }
+            hash = 31 * hash + c;
+        }
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int elementIndex = table[slot] - 1;
+            if (nameHashes[elementIndex] == hash && asciiNameEquals(elementIndex, key)) {
+                return elementOffsets[elementIndex];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int findElementOffset(final byte[] key) {
+        int hash = hash(key, 0, key.length);
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int elementIndex = table[slot] - 1;
+            if (nameHashes[elementIndex] == hash && nameEquals(elementIndex, key)) {
+                return elementOffsets[elementIndex];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private boolean asciiNameEquals(final int elementIndex, final String key) {
+        int start = nameOffsets[elementIndex];
+        if (nameOffsets[elementIndex + 1] - start != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (names[start + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean nameEquals(final int elementIndex, final byte[] key) {
+        int start = nameOffsets[elementIndex];
+        int end = nameOffsets[elementIndex + 1];
+        return end - start == key.length && rangeEquals(names, start, key, 0, key.length);
+    }
+
+    private static boolean asciiNameEquals(final ByteBuf buffer, final int nameStart, final int nameEnd, final String key) {
+        if (nameEnd - nameStart != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (buffer.get(nameStart + i) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean nameEquals(final ByteBuf buffer, final int nameStart, final int nameEnd, final byte[] key) {
+        if (nameEnd - nameStart != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(nameStart + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(final byte[] bytes, final int start, final int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + (bytes[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static boolean rangeEquals(final byte[] first, final int firstStart, final byte[] second, final int secondStart,
+                                       final int length) {
+        for (int i = 0; i < length; i++) {
+            if (first[firstStart + i] != second[secondStart + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Builder {
+        private byte[] names = new byte[INITIAL_ELEMENT_CAPACITY * 8];
+        private int namesSize;
+        private int[] nameOffsets = new int[INITIAL_ELEMENT_CAPACITY + 1];
+        private int[] elementOffsets = new int[INITIAL_ELEMENT_CAPACITY];
+        private int size;
+
+        void add(final ByteBuf buffer, final int elementOffset, final int nameStart, final int nameEnd) {
+            int nameLength = nameEnd - nameStart;
+            if (namesSize + nameLength > names.length) {
+                names = Arrays.copyOf(names, Math.max(names.length * 2, namesSize + nameLength));
+            }
+            if (size == elementOffsets.length) {
+                elementOffsets = Arrays.copyOf(elementOffsets, size * 2);
+                nameOffsets = Arrays.copyOf(nameOffsets, size * 2 + 1);
+            }
+            buffer.get(nameStart, names, namesSize, nameLength);
+            elementOffsets[size] = elementOffset;
+            nameOffsets[size] = namesSize;
+            namesSize += nameLength;
+            size++;
+            nameOffsets[size] = namesSize;
+        }
+
+        BsonDocumentFieldIndex build() {
+            // keep the load factor at or below one half
+            int[] table = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size)) << 2)];
+            int mask = table.length - 1;
+            int[] nameHashes = new int[size];
+            int[] distinctElementIndexes = new int[size];
+            int distinctSize = 0;
+            for (int elementIndex = 0; elementIndex < size; elementIndex++) {
+                int start = nameOffsets[elementIndex];
+                int end = nameOffsets[elementIndex + 1];
+                int hash = hash(names, start, end);
+                int slot = spread(hash) & mask;
+                boolean duplicate = false;
+                for (; table[slot] != 0; slot = (slot + 1) & mask) {
+                    int otherIndex = distinctElementIndexes[table[slot] - 1];
+                    if (nameHashes[table[slot] - 1] == hash && end - start == nameOffsets[otherIndex + 1] - nameOffsets[otherIndex]
+                            && rangeEquals(names, start, names, nameOffsets[otherIndex], end - start)) {
+                        duplicate = true;
+                        break;
+                    }
+                }
+                if (!duplicate) {
+                    nameHashes[distinctSize] = hash;
+                    distinctElementIndexes[distinctSize] = elementIndex;
+                    distinctSize++;
+                    table[slot] = distinctSize;
+                }
+            }
+            return compact(table, nameHashes, distinctElementIndexes, distinctSize);
+        }
+
+        private BsonDocumentFieldIndex compact(final int[] table, final int[] nameHashes, final int[] distinctElementIndexes,
+                                               final int distinctSize) {
+            byte[] compactNames = new byte[namesSize];
+            int[] compactNameOffsets = new int[distinctSize + 1];
+            int[] compactElementOffsets = new int[distinctSize];
+            int compactNamesSize = 0;
+            for (int i = 0; i < distinctSize; i++) {
+                int elementIndex = distinctElementIndexes[i];
+                int start = nameOffsets[elementIndex];
+                int nameLength = nameOffsets[elementIndex + 1] - start;
+                System.arraycopy(names, start, compactNames, compactNamesSize, nameLength);
+                compactNameOffsets[i] = compactNamesSize;
+                compactElementOffsets[i] = elementOffsets[elementIndex];
+                compactNamesSize += nameLength;
+            }
+            compactNameOffsets[distinctSize] = compactNamesSize;
+            return new BsonDocumentFieldIndex(Arrays.copyOf(compactNames, compactNamesSize), compactNameOffsets,
+                    Arrays.copyOf(nameHashes, distinctSize), compactElementOffsets, table);
+        }
+    }
+}
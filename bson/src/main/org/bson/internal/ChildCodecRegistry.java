@@ -62,7 +62,11 @@ class ChildCodecRegistry<T> implements CodecRegistry {
 
     // Gets a Codec, but if it detects a cyclic dependency, return a LazyCodec which breaks the chain.
     public <U> Codec<U> get(final Class<U> clazz) {
-        if (hasCycles(clazz)) {
+        // A cached codec has been fully created, so it can be returned even if the class is part of a cycle
+        Codec<U> codec = registry.getCachedCodec(clazz);
+        if (codec != null) {
+            return codec;
+        } else if (hasCycles(clazz)) {
             return new LazyCodec<>(registry, clazz, null);
         } else {
             return registry.get(new ChildCodecRegistry<>(this, clazz, null));
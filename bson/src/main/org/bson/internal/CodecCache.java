@@ -18,6 +18,7 @@ package org.bson.internal;
 
 import org.bson.codecs.Codec;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
@@ -65,12 +66,18 @@ final class CodecCache {
     }
 
     private final ConcurrentMap<CodecCacheKey, Codec<?>> codecCache = new ConcurrentHashMap<>();
+    // The codecs of classes looked up without type arguments, keyed by class so that they can be found without allocating a key
+    private final ConcurrentMap<Class<?>, Codec<?>> classCodecCache = new ConcurrentHashMap<>();
 
     public <T> Codec<T> putIfAbsent(final CodecCacheKey codecCacheKey, final Codec<T> codec) {
         assertNotNull(codec);
         @SuppressWarnings("unchecked")
         Codec<T> prevCodec = (Codec<T>) codecCache.putIfAbsent(codecCacheKey, codec);
-        return prevCodec == null ? codec : prevCodec;
+        Codec<T> cachedCodec = prevCodec == null ? codec : prevCodec;
+        if (codecCacheKey.types == null) {
+            classCodecCache.putIfAbsent(codecCacheKey.clazz, cachedCodec);
+        }
+        return cachedCodec;
     }
 
     public <T> Optional<Codec<T>> get(final CodecCacheKey codecCacheKey) {
@@ -78,4 +85,11 @@ final class CodecCache {
         Codec<T> codec = (Codec<T>) codecCache.get(codecCacheKey);
         return Optional.ofNullable(codec);
     }
+
+    @Nullable
+    public <T> Codec<T> get(final Class<T> clazz) {
+        @SuppressWarnings("unchecked")
+        Codec<T> codec = (Codec<T>) classCodecCache.get(clazz);
+        return codec;
+    }
 }
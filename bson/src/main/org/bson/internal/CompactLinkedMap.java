@@ -0,0 +1,406 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A map that iterates in insertion order, like {@code LinkedHashMap}, but stores its entries in parallel arrays of keys and values
+ * rather than in a node per entry.
+ *
+ * <p>Keys are found with a linear scan of the keys array while the map has at most {@value #INDEX_THRESHOLD} entries, and with an
+ * open-addressing hash table of entry positions above that.  Putting a new key appends it to the arrays, and removing a key shifts
+ * the entries after it, so removal costs time proportional to the size of the map.  As with {@code LinkedHashMap}, putting a key
+ * that is already present does not change its position, and null keys and values are permitted.</p>
+ *
+ * <p>Like the other general-purpose maps, it is not thread-safe, and its iterators are fail-fast.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class CompactLinkedMap<K, V> extends AbstractMap<K, V> {
+    static final int INDEX_THRESHOLD = 8;
+    private static final int MIN_CAPACITY = 8;
+    private static final int NOT_FOUND = -1;
+    private static final Object[] EMPTY = {};
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    /**
+     * The open-addressing table, holding {@code position + 1} in each occupied slot and {@code 0} in each empty slot, or null while the
+     * map has at most {@link #INDEX_THRESHOLD} entries.
+     */
+    @Nullable
+    private int[] index;
+    private int modCount;
+    @Nullable
+    private Set<Entry<K, V>> entrySet;
+
+    /**
+     * Construct an empty map.
+     */
+    public CompactLinkedMap() {
+        keys = EMPTY;
+        values = EMPTY;
+    }
+
+    /**
+     * Construct an empty map with room for the given number of entries.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CompactLinkedMap(final int initialCapacity) {
+        isTrueArgument("initialCapacity >= 0", initialCapacity >= 0);
+        keys = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+        values = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+    }
+
+    /**
+     * Construct a map with the entries of the given map, in its iteration order.
+     *
+     * @param map the map
+     */
+    public CompactLinkedMap(final Map<? extends K, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final Object key) {
+        int position = indexOf(key);
+        return position == NOT_FOUND ? null : (V) values[position];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final K key, final V value) {
+        int position = indexOf(key);
+        if (position != NOT_FOUND) {
+            V oldValue = (V) values[position];
+            values[position] = value;
+            return oldValue;
+        }
+        append(key, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        int position = indexOf(key);
+        if (position == NOT_FOUND) {
+            return null;
+        }
+        V oldValue = (V) values[position];
+        removeAt(position);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> localEntrySet = entrySet;
+        if (localEntrySet == null) {
+            localEntrySet = new EntrySet();
+            entrySet = localEntrySet;
+        }
+        return localEntrySet;
+    }
+
+    private int indexOf(@Nullable final Object key) {
+        int[] localIndex = index;
+        if (localIndex == null) {
+            for (int i = 0; i < size; i++) {
+                Object candidate = keys[i];
+                if (candidate == key || (key != null && key.equals(candidate))) {
+                    return i;
+                }
+            }
+            return NOT_FOUND;
+        }
+        int mask = localIndex.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int position = localIndex[slot] - 1;
+            if (position == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            Object candidate = keys[position];
+            if (candidate == key || (key != null && key.equals(candidate))) {
+                return position;
+            }
+        }
+    }
+
+    private void append(@Nullable final K key, @Nullable final V value) {
+        if (size == keys.length) {
+            int capacity = Math.max(MIN_CAPACITY, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        int[] localIndex = index;
+        if (localIndex != null && size * 2 <= localIndex.length) {
+            addToIndex(localIndex, size - 1);
+        } else if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+    }
+
+    private void removeAt(final int position) {
+        int moved = size - position - 1;
+        System.arraycopy(keys, position + 1, keys, position, moved);
+        System.arraycopy(values, position + 1, values, position, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        // the positions of the entries after the removed one have all changed
+        if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        } else {
+            index = null;
+        }
+    }
+
+    private void rebuildIndex() {
+        // a power of two that keeps the load factor at most one half
+        int[] localIndex = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+        for (int i = 0; i < size; i++) {
+            addToIndex(localIndex, i);
+        }
+        index = localIndex;
+    }
+
+    private void addToIndex(final int[] localIndex, final int position) {
+        int mask = localIndex.length - 1;
+        int slot = hash(keys[position]) & mask;
+        while (localIndex[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        localIndex[slot] = position + 1;
+    }
+
+    private static int hash(@Nullable final Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactLinkedMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int position = indexOf(entry.getKey());
+            return position != NOT_FOUND && Objects.equals(values[position], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            removeAt(indexOf(((Entry<?, ?>) o).getKey()));
+            return true;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private int next;
+        private int lastReturned = NOT_FOUND;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next++;
+            return new MapEntry(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NOT_FOUND) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(lastReturned);
+            next = lastReturned;
+            lastReturned = NOT_FOUND;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * An entry that reads and writes the arrays at the position of its key.  The position is found again after the map is structurally
+     * modified, and the entry fails with an {@code IllegalStateException} once its key has been removed from the map.
+     */
+    private final class MapEntry implements Entry<K, V> {
+        private final K key;
+        private int position;
+        private int expectedModCount;
+
+        @SuppressWarnings("unchecked")
+        MapEntry(final int position) {
+            this.key = (K) keys[position];
+            this.position = position;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[getPosition()];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(final V value) {
+            int currentPosition = getPosition();
+            V oldValue = (V) values[currentPosition];
+            values[currentPosition] = value;
+            return oldValue;
+        }
+
+        private int getPosition() {
+            if (expectedModCount != modCount) {
+                position = indexOf(key);
+                expectedModCount = modCount;
+            }
+            if (position == NOT_FOUND) {
+                throw new IllegalStateException("The key of the entry has been removed from the map: " + key);
+            }
+            return position;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -19,10 +19,10 @@ package org.bson.internal.vector;
 import org.bson.BsonBinary;
 import org.bson.BsonInvalidOperationException;
 import org.bson.Float32BinaryVector;
-import org.bson.Int8BinaryVector;
 import org.bson.PackedBitBinaryVector;
 import org.bson.BinaryVector;
 import org.bson.assertions.Assertions;
+import org.bson.io.BsonOutput;
 import org.bson.types.Binary;
 
 import java.nio.ByteBuffer;
@@ -44,6 +44,7 @@ public final class BinaryVectorHelper {
     private static final ByteOrder STORED_BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
     private static final String ERROR_MESSAGE_UNKNOWN_VECTOR_DATA_TYPE = "Unknown vector data type: ";
     private static final byte ZERO_PADDING = 0;
+    private static final int FLOAT_CHUNK_SIZE = 256;
 
     private BinaryVectorHelper() {
         //NOP
@@ -60,56 +61,125 @@ public final class BinaryVectorHelper {
                 PackedBitBinaryVector packedBitVector = vector.asPackedBitVector();
                 return encodeVector(dataType.getValue(), packedBitVector.getPadding(), packedBitVector.getData());
             case FLOAT32:
-                return encodeVector(dataType.getValue(), vector.asFloat32Vector().getData());
+                return encodeVector(dataType.getValue(), vector.asFloat32Vector().asFloatBuffer());
             default:
                 throw Assertions.fail(ERROR_MESSAGE_UNKNOWN_VECTOR_DATA_TYPE + dataType);
         }
     }
 
     /**
-     * Decodes a vector from a binary representation.
-     * <p>
-     * encodedVector is not mutated nor stored in the returned {@link BinaryVector}.
+     * Returns the length of the binary representation of a vector, as {@link #encodeVectorToBinary(BinaryVector)} would encode it.
      */
-    public static BinaryVector decodeBinaryToVector(final byte[] encodedVector) {
-        isTrue("Vector encoded array length must be at least 2, but found: " + encodedVector.length, encodedVector.length >= METADATA_SIZE);
-        BinaryVector.DataType dataType = determineVectorDType(encodedVector[0]);
-        byte padding = encodedVector[1];
+    public static int getEncodedLength(final BinaryVector vector) {
+        BinaryVector.DataType dataType = vector.getDataType();
         switch (dataType) {
             case INT8:
-                return decodeInt8Vector(encodedVector, padding);
+                return vector.asInt8Vector().getData().length + METADATA_SIZE;
             case PACKED_BIT:
-                return decodePackedBitVector(encodedVector, padding);
+                return vector.asPackedBitVector().getData().length + METADATA_SIZE;
             case FLOAT32:
-                return decodeFloat32Vector(encodedVector, padding);
+                return vector.asFloat32Vector().asFloatBuffer().remaining() * Float.BYTES + METADATA_SIZE;
             default:
                 throw Assertions.fail(ERROR_MESSAGE_UNKNOWN_VECTOR_DATA_TYPE + dataType);
         }
     }
 
-    private static Float32BinaryVector decodeFloat32Vector(final byte[] encodedVector, final byte padding) {
-        isTrue("Padding must be 0 for FLOAT32 data type, but found: " + padding, padding == 0);
-        return BinaryVector.floatVector(decodeLittleEndianFloats(encodedVector));
+    /**
+     * Writes the binary representation of a vector, as {@link #encodeVectorToBinary(BinaryVector)} would encode it, straight to the
+     * output, without first copying it into a byte array.
+     */
+    public static void encodeVectorToOutput(final BinaryVector vector, final BsonOutput bsonOutput) {
+        BinaryVector.DataType dataType = vector.getDataType();
+        bsonOutput.writeByte(dataType.getValue());
+        switch (dataType) {
+            case INT8:
+                bsonOutput.writeByte(ZERO_PADDING);
+                bsonOutput.writeBytes(vector.asInt8Vector().getData());
+                break;
+            case PACKED_BIT:
+                PackedBitBinaryVector packedBitVector = vector.asPackedBitVector();
+                bsonOutput.writeByte(packedBitVector.getPadding());
+                bsonOutput.writeBytes(packedBitVector.getData());
+                break;
+            case FLOAT32:
+                bsonOutput.writeByte(ZERO_PADDING);
+                encodeFloatsToOutput(vector.asFloat32Vector().asFloatBuffer(), bsonOutput);
+                break;
+            default:
+                throw Assertions.fail(ERROR_MESSAGE_UNKNOWN_VECTOR_DATA_TYPE + dataType);
+        }
     }
 
-    private static PackedBitBinaryVector decodePackedBitVector(final byte[] encodedVector, final byte padding) {
-        byte[] packedBitVector = extractVectorData(encodedVector);
-        isTrue("Padding must be 0 if vector is empty, but found: " + padding, padding == 0 || packedBitVector.length > 0);
-        isTrue("Padding must be between 0 and 7 bits, but found: " + padding, padding >= 0 && padding <= 7);
-        return BinaryVector.packedBitVector(packedBitVector, padding);
+    /**
+     * Writes the floats in chunks, so that they are bulk copied like in {@link #encodeVector(byte, FloatBuffer)} while only a chunk
+     * rather than the whole vector is buffered.
+     */
+    private static void encodeFloatsToOutput(final FloatBuffer floats, final BsonOutput bsonOutput) {
+        byte[] chunk = new byte[Math.min(floats.remaining(), FLOAT_CHUNK_SIZE) * Float.BYTES];
+        FloatBuffer chunkFloats = ByteBuffer.wrap(chunk).order(STORED_BYTE_ORDER).asFloatBuffer();
+        while (floats.hasRemaining()) {
+            int count = Math.min(floats.remaining(), FLOAT_CHUNK_SIZE);
+            FloatBuffer source = floats.duplicate();
+            source.limit(source.position() + count);
+            chunkFloats.clear();
+            chunkFloats.put(source);
+            floats.position(floats.position() + count);
+            bsonOutput.writeBytes(chunk, 0, count * Float.BYTES);
+        }
     }
 
-    private static Int8BinaryVector decodeInt8Vector(final byte[] encodedVector, final byte padding) {
-        isTrue("Padding must be 0 for INT8 data type, but found: " + padding, padding == 0);
-        byte[] int8Vector = extractVectorData(encodedVector);
-        return BinaryVector.int8Vector(int8Vector);
+    /**
+     * Decodes a vector from a binary representation.
+     * <p>
+     * encodedVector is not mutated nor stored in the returned {@link BinaryVector}.
+     */
+    public static BinaryVector decodeBinaryToVector(final byte[] encodedVector) {
+        BinaryVector vector = decodeBinaryToVector(ByteBuffer.wrap(encodedVector));
+        if (vector.getDataType() == BinaryVector.DataType.FLOAT32) {
+            // copy the view, so that encodedVector is not stored in the returned vector
+            return BinaryVector.floatVector(vector.asFloat32Vector().getData());
+        }
+        return vector;
+    }
+
+    /**
+     * Decodes a vector from the remaining bytes of a binary representation.
+     * <p>
+     * Unlike {@link #decodeBinaryToVector(byte[])}, a {@link BinaryVector.DataType#FLOAT32} vector is not copied: the returned
+     * {@link Float32BinaryVector} is a view that reads its elements from encodedVector until its data is retrieved as a float array.
+     * The position and limit of encodedVector are not changed.
+     */
+    public static BinaryVector decodeBinaryToVector(final ByteBuffer encodedVector) {
+        int length = encodedVector.remaining();
+        isTrue("Vector encoded array length must be at least 2, but found: " + length, length >= METADATA_SIZE);
+        int position = encodedVector.position();
+        BinaryVector.DataType dataType = determineVectorDType(encodedVector.get(position));
+        byte padding = encodedVector.get(position + 1);
+        ByteBuffer vectorData = encodedVector.duplicate();
+        vectorData.position(position + METADATA_SIZE);
+        switch (dataType) {
+            case INT8:
+                isTrue("Padding must be 0 for INT8 data type, but found: " + padding, padding == 0);
+                return BinaryVector.int8Vector(extractVectorData(vectorData));
+            case PACKED_BIT:
+                byte[] packedBitVector = extractVectorData(vectorData);
+                isTrue("Padding must be 0 if vector is empty, but found: " + padding, padding == 0 || packedBitVector.length > 0);
+                isTrue("Padding must be between 0 and 7 bits, but found: " + padding, padding >= 0 && padding <= 7);
+                return BinaryVector.packedBitVector(packedBitVector, padding);
+            case FLOAT32:
+                isTrue("Padding must be 0 for FLOAT32 data type, but found: " + padding, padding == 0);
+                isTrue("Byte array length must be a multiple of 4 for FLOAT32 data type, but found: " + length,
+                        (length - METADATA_SIZE) % Float.BYTES == 0);
+                return BinaryVector.floatVector(vectorData.slice().order(STORED_BYTE_ORDER).asFloatBuffer());
+            default:
+                throw Assertions.fail(ERROR_MESSAGE_UNKNOWN_VECTOR_DATA_TYPE + dataType);
+        }
     }
 
-    private static byte[] extractVectorData(final byte[] encodedVector) {
-        int vectorDataLength = encodedVector.length - METADATA_SIZE;
-        byte[] vectorData = new byte[vectorDataLength];
-        System.arraycopy(encodedVector, METADATA_SIZE, vectorData, 0, vectorDataLength);
-        return vectorData;
+    private static byte[] extractVectorData(final ByteBuffer vectorData) {
+        byte[] bytes = new byte[vectorData.remaining()];
+        vectorData.get(bytes);
+        return bytes;
     }
 
     private static byte[] encodeVector(final byte dType, final byte padding, final byte[] vectorData) {
@@ -120,8 +190,8 @@ public final class BinaryVectorHelper {
         return bytes;
     }
 
-    private static byte[] encodeVector(final byte dType, final float[] vectorData) {
-        final byte[] bytes = new byte[vectorData.length * Float.BYTES + METADATA_SIZE];
+    private static byte[] encodeVector(final byte dType, final FloatBuffer vectorData) {
+        final byte[] bytes = new byte[vectorData.remaining() * Float.BYTES + METADATA_SIZE];
 
         bytes[0] = dType;
         bytes[1] = ZERO_PADDING;
@@ -140,25 +210,6 @@ public final class BinaryVectorHelper {
         return bytes;
     }
 
-    private static float[] decodeLittleEndianFloats(final byte[] encodedVector) {
-        isTrue("Byte array length must be a multiple of 4 for FLOAT32 data type, but found: " + encodedVector.length,
-                (encodedVector.length - METADATA_SIZE) % Float.BYTES == 0);
-
-        int vectorSize = encodedVector.length - METADATA_SIZE;
-
-        int numFloats = vectorSize / Float.BYTES;
-        float[] floatArray = new float[numFloats];
-
-        ByteBuffer buffer = ByteBuffer.wrap(encodedVector, METADATA_SIZE, vectorSize);
-        buffer.order(STORED_BYTE_ORDER);
-
-        // The JVM may optimize this operation internally, potentially using intrinsics
-        // or platform-specific optimizations (such as SIMD). If the byte order matches the underlying system's
-        // native order, the operation may involve a direct memory copy.
-        buffer.asFloatBuffer().get(floatArray);
-        return floatArray;
-    }
-
     public static BinaryVector.DataType determineVectorDType(final byte dType) {
         BinaryVector.DataType[] values = BinaryVector.DataType.values();
         for (BinaryVector.DataType value : values) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.internal.vector;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Operations on float arrays and buffers that a Java version specific implementation may accelerate.
+ */
+interface FloatArrayOperations {
+
+    /**
+     * Returns the dot product of two arrays of the same length.
+     */
+    float dotProduct(float[] a, float[] b);
+
+    /**
+     * Returns the cosine similarity of two arrays of the same length.
+     */
+    float cosineSimilarity(float[] a, float[] b);
+
+    /**
+     * Returns the dot product of the remaining elements of two buffers with the same number of remaining elements.
+     */
+    float dotProduct(FloatBuffer a, FloatBuffer b);
+
+    /**
+     * Returns the cosine similarity of the remaining elements of two buffers with the same number of remaining elements.
+     */
+    float cosineSimilarity(FloatBuffer a, FloatBuffer b);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.internal.vector;
+
+import javax.annotation.Nullable;
+
+/**
+ * Provides the accelerated {@link FloatArrayOperations}, if any.
+ *
+ * <p>This is the Java 8 version of this class, which provides none.  The multi-release jar contains a Java 17 version that provides
+ * operations using the incubating Vector API, if the {@code jdk.incubator.vector} module has been added to the module graph.</p>
+ */
+final class FloatArrayOperationsProvider {
+
+    @Nullable
+    static FloatArrayOperations get() {
+        return null;
+    }
+
+    private FloatArrayOperationsProvider() {
+    }
+}
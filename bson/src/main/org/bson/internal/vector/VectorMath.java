@@ -0,0 +1,150 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bson.internal.vector;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Similarity measures between the elements of vectors of the same length.
+ *
+ * <p>The float array and buffer operations use the incubating Vector API when running on Java 17 or later with the
+ * {@code jdk.incubator.vector} module added, and scalar loops otherwise.  As the Vector API sums the products in a different order, the
+ * results of the two may differ in their least significant bits.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class VectorMath {
+
+    @Nullable
+    private static final FloatArrayOperations FLOAT_ARRAY_OPERATIONS = FloatArrayOperationsProvider.get();
+
+    /**
+     * Returns whether the float array and buffer operations use the Vector API.
+     */
+    public static boolean isAccelerated() {
+        return FLOAT_ARRAY_OPERATIONS != null;
+    }
+
+    public static float dotProduct(final float[] a, final float[] b) {
+        if (FLOAT_ARRAY_OPERATIONS != null) {
+            return FLOAT_ARRAY_OPERATIONS.dotProduct(a, b);
+        }
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    public static float dotProduct(final FloatBuffer a, final FloatBuffer b) {
+        if (FLOAT_ARRAY_OPERATIONS != null) {
+            return FLOAT_ARRAY_OPERATIONS.dotProduct(a, b);
+        }
+        int aPosition = a.position();
+        int bPosition = b.position();
+        float sum = 0;
+        for (int i = 0; i < a.remaining(); i++) {
+            sum += a.get(aPosition + i) * b.get(bPosition + i);
+        }
+        return sum;
+    }
+
+    public static float cosineSimilarity(final float[] a, final float[] b) {
+        if (FLOAT_ARRAY_OPERATIONS != null) {
+            return FLOAT_ARRAY_OPERATIONS.cosineSimilarity(a, b);
+        }
+        float dotProduct = 0;
+        float aNorm = 0;
+        float bNorm = 0;
+        for (int i = 0; i < a.length; i++) {
+            dotProduct += a[i] * b[i];
+            aNorm += a[i] * a[i];
+            bNorm += b[i] * b[i];
+        }
+        return cosineSimilarity(dotProduct, aNorm, bNorm);
+    }
+
+    public static float cosineSimilarity(final FloatBuffer a, final FloatBuffer b) {
+        if (FLOAT_ARRAY_OPERATIONS != null) {
+            return FLOAT_ARRAY_OPERATIONS.cosineSimilarity(a, b);
+        }
+        int aPosition = a.position();
+        int bPosition = b.position();
+        float dotProduct = 0;
+        float aNorm = 0;
+        float bNorm = 0;
+        for (int i = 0; i < a.remaining(); i++) {
+            float aElement = a.get(aPosition + i);
+            float bElement = b.get(bPosition + i);
+            dotProduct += aElement * bElement;
+            aNorm += aElement * aElement;
+            bNorm += bElement * bElement;
+        }
+        return cosineSimilarity(dotProduct, aNorm, bNorm);
+    }
+
+    public static long dotProduct(final byte[] a, final byte[] b) {
+        long sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    public static float cosineSimilarity(final byte[] a, final byte[] b) {
+        long dotProduct = 0;
+        long aNorm = 0;
+        long bNorm = 0;
+        for (int i = 0; i < a.length; i++) {
+            dotProduct += a[i] * b[i];
+            aNorm += a[i] * a[i];
+            bNorm += b[i] * b[i];
+        }
+        return (float) (dotProduct / Math.sqrt((double) aNorm * bNorm));
+    }
+
+    /**
+     * Returns the number of bits that differ between two packed bit arrays, ignoring the given number of least significant bits of the
+     * last byte.
+     */
+    public static int hammingDistance(final byte[] a, final byte[] b, final int padding) {
+        ByteBuffer aBuffer = ByteBuffer.wrap(a);
+        ByteBuffer bBuffer = ByteBuffer.wrap(b);
+        int distance = 0;
+        int i = 0;
+        // the byte order does not matter when counting bits
+        for (; i + Long.BYTES <= a.length; i += Long.BYTES) {
+            distance += Long.bitCount(aBuffer.getLong(i) ^ bBuffer.getLong(i));
+        }
+        for (; i < a.length; i++) {
+            distance += Integer.bitCount((a[i] ^ b[i]) & 0xff);
+        }
+        if (padding > 0) {
+            int last = a.length - 1;
+            distance -= Integer.bitCount((a[last] ^ b[last]) & ((1 << padding) - 1));
+        }
+        return distance;
+    }
+
+    static float cosineSimilarity(final float dotProduct, final float aNorm, final float bNorm) {
+        return (float) (dotProduct / Math.sqrt((double) aNorm * bNorm));
+    }
+
+    private VectorMath() {
+    }
+}
@@ -98,6 +98,19 @@ public interface BsonInput extends Closeable {
      */
     String readCString();
 
+    /**
+     * Reads a BSON CString value that is a field name from the stream, getting it from the given cache if it is there.
+     *
+     * <p>The default implementation ignores the cache and delegates to {@link #readCString()}.</p>
+     *
+     * @param fieldNameCache the field name cache
+     * @return the CString
+     * @since 5.7
+     */
+    default String readCString(FieldNameCache fieldNameCache) {
+        return readCString();
+    }
+
     /**
      * Skips a BSON CString value from the stream.
      *
@@ -139,6 +139,33 @@ public class ByteBufferBsonInput implements BsonInput {
         return readString(size);
     }
 
+    @Override
+    public String readCString(final FieldNameCache fieldNameCache) {
+        ensureOpen();
+        int size = computeCStringLength(buffer.position());
+        if (size == 2) {
+            return readString(size);
+        }
+        byte[] bytes;
+        int offset;
+        if (buffer.isBackedByArray()) {
+            bytes = buffer.array();
+            offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + size);
+        } else {
+            if (scratchBuffer == null || size > scratchBuffer.length) {
+                scratchBuffer = new byte[size + (size >>> 1)];
+            }
+            buffer.get(scratchBuffer, 0, size);
+            bytes = scratchBuffer;
+            offset = 0;
+        }
+        if (bytes[offset + size - 1] != 0) {
+            throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+        }
+        return fieldNameCache.get(bytes, offset, size - 1);
+    }
+
     private String readString(final int bsonStringSize) {
         if (bsonStringSize == 2) {
             byte asciiByte = buffer.get();               // if only one byte in the string, it must be ascii.
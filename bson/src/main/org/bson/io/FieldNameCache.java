@@ -0,0 +1,129 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A bounded cache of field names, keyed by their UTF-8 encoded bytes, so that decoding many documents with the same field names does not
+ * allocate a new {@code String} for each field name of each document.
+ *
+ * <p>The cache is a fixed-size table in which a field name replaces any other field name with the same slot, so that it never holds
+ * more than its capacity, and field names that are not repeated only cost a lookup.  Field names longer than
+ * {@link #MAX_FIELD_NAME_LENGTH} bytes are never cached.</p>
+ *
+ * <p>Instances are safe for use by multiple threads, and are intended to be shared by all the readers that decode documents with the
+ * same schemas.</p>
+ *
+ * @see ByteBufferBsonInput#readCString(FieldNameCache)
+ * @see org.bson.BsonBinaryReader#BsonBinaryReader(BsonInput, FieldNameCache)
+ * @since 5.7
+ */
+public final class FieldNameCache {
+    /**
+     * The maximum length, in UTF-8 encoded bytes, of the field names that are cached.
+     */
+    public static final int MAX_FIELD_NAME_LENGTH = 128;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    // entries are immutable, so they are safely published to other threads by the reference to them alone
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * Construct an instance with the default capacity of 1024 field names.
+     */
+    public FieldNameCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param capacity the maximum number of field names to cache, which is rounded up to the next power of two
+     */
+    public FieldNameCache(final int capacity) {
+        isTrueArgument("capacity > 0", capacity > 0);
+        isTrueArgument("capacity <= 2^30", capacity <= 1 << 30);
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the field name with the given UTF-8 encoded bytes, from the cache if it is there, or else decoding it and caching it.
+     *
+     * @param bytes the array holding the encoded field name
+     * @param offset the offset of the encoded field name in the array
+     * @param length the length of the encoded field name, excluding the null terminator
+     * @return the field name
+     */
+    String get(final byte[] bytes, final int offset, final int length) {
+        if (length > MAX_FIELD_NAME_LENGTH) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        int hash = hash(bytes, offset, length);
+        int index = hash & mask;
+        Entry entry = entries[index];
+        if (entry != null && entry.hash == hash && entry.matches(bytes, offset, length)) {
+            return entry.fieldName;
+        }
+        String fieldName = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        entries[index] = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), fieldName);
+        return fieldName;
+    }
+
+    private static int hash(final byte[] bytes, final int offset, final int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        // spread the high bits, as the table is indexed by the low bits only
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String fieldName;
+
+        Entry(final int hash, final byte[] bytes, final String fieldName) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.fieldName = fieldName;
+        }
+
+        boolean matches(final byte[] other, final int offset, final int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != other[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
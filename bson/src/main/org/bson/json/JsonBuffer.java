@@ -29,4 +29,15 @@ interface JsonBuffer {
     void reset(int markPos);
 
     void discard(int markPos);
+
+    /**
+     * Appends the ASCII characters up to the next quote character, backslash or non-ASCII character to the given builder, leaving that
+     * character to be read next.  Buffers that can find such a run faster than by reading it one character at a time override this,
+     * while others may append nothing.
+     *
+     * @param builder the builder to append the characters to
+     * @param quoteCharacter the quote character of the string being read
+     */
+    default void readAsciiRun(final StringBuilder builder, final int quoteCharacter) {
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A JSON buffer over UTF-8 encoded bytes, which are decoded as they are read rather than all at once.  Positions are byte offsets from
+ * the position of the byte buffer when this was created.
+ *
+ * <p>The bytes are read with absolute gets, so the byte buffer may be a memory-mapped file of any size that fits in a byte buffer.
+ * Malformed input is decoded as U+FFFD, and supplementary characters as two surrogates.</p>
+ */
+class JsonByteBuffer implements JsonBuffer {
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int limit;
+    private int position;
+    private char lowSurrogate;
+    private int unreadPosition;
+    private char unreadLowSurrogate;
+    private boolean eof;
+
+    JsonByteBuffer(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+        this.limit = buffer.limit();
+        this.position = start;
+    }
+
+    @Override
+    public int getPosition() {
+        return position - start;
+    }
+
+    @Override
+    public int read() {
+        if (eof) {
+            throw new JsonParseException("Trying to read past EOF.");
+        }
+        unreadPosition = position;
+        unreadLowSurrogate = lowSurrogate;
+        if (lowSurrogate != 0) {
+            char c = lowSurrogate;
+            lowSurrogate = 0;
+            return c;
+        }
+        if (position >= limit) {
+            eof = true;
+            return -1;
+        }
+        int b = buffer.get(position++);
+        return b >= 0 ? b : decode(b & 0xff);
+    }
+
+    @Override
+    public void unread(final int c) {
+        eof = false;
+        if (c != -1) {
+            position = unreadPosition;
+            lowSurrogate = unreadLowSurrogate;
+        }
+    }
+
+    @Override
+    public int mark() {
+        return getPosition();
+    }
+
+    @Override
+    public void reset(final int markPos) {
+        if (markPos > getPosition()) {
+            throw new IllegalStateException("mark cannot reset ahead of position, only back");
+        }
+        position = start + markPos;
+        lowSurrogate = 0;
+    }
+
+    @Override
+    public void discard(final int markPos) {
+    }
+
+    @Override
+    public void readAsciiRun(final StringBuilder builder, final int quoteCharacter) {
+        if (lowSurrogate != 0) {
+            return;
+        }
+        int end = position;
+        while (end < limit) {
+            byte b = buffer.get(end);
+            if (b < 0 || b == quoteCharacter || b == '\\') {
+                break;
+            }
+            builder.append((char) b);
+            end++;
+        }
+        position = end;
+    }
+
+    private int decode(final int b) {
+        if (b < 0xc2) {
+            // a continuation byte, or the first byte of an overlong encoding
+            return REPLACEMENT_CHARACTER;
+        } else if (b < 0xe0) {
+            int b1 = continuationByte(0x80, 0xbf);
+            return b1 < 0 ? REPLACEMENT_CHARACTER : ((b & 0x1f) << 6) | b1;
+        } else if (b < 0xf0) {
+            // exclude overlong encodings and surrogates
+            int b1 = continuationByte(b == 0xe0 ? 0xa0 : 0x80, b == 0xed ? 0x9f : 0xbf);
+            int b2 = b1 < 0 ? -1 : continuationByte(0x80, 0xbf);
+            return b2 < 0 ? REPLACEMENT_CHARACTER : ((b & 0x0f) << 12) | (b1 << 6) | b2;
+        } else if (b < 0xf5) {
+            // exclude overlong encodings and code points above U+10FFFF
+            int b1 = continuationByte(b == 0xf0 ? 0x90 : 0x80, b == 0xf4 ? 0x8f : 0xbf);
+            int b2 = b1 < 0 ? -1 : continuationByte(0x80, 0xbf);
+            int b3 = b2 < 0 ? -1 : continuationByte(0x80, 0xbf);
+            if (b3 < 0) {
+                return REPLACEMENT_CHARACTER;
+            }
+            int codePoint = ((b & 0x07) << 18) | (b1 << 12) | (b2 << 6) | b3;
+            lowSurrogate = Character.lowSurrogate(codePoint);
+            return Character.highSurrogate(codePoint);
+        } else {
+            return REPLACEMENT_CHARACTER;
+        }
+    }
+
+    /**
+     * Reads the next byte if it is in the given range, returning its low six bits, or returns -1 without reading it.
+     */
+    private int continuationByte(final int min, final int max) {
+        if (position >= limit) {
+            return -1;
+        }
+        int b = buffer.get(position) & 0xff;
+        if (b < min || b > max) {
+            return -1;
+        }
+        position++;
+        return b & 0x3f;
+    }
+}
@@ -34,6 +34,7 @@ import org.bson.types.MinKey;
 import org.bson.types.ObjectId;
 
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.DateFormat;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
@@ -46,6 +47,7 @@ import java.util.TimeZone;
 import java.util.UUID;
 
 import static java.lang.String.format;
+import static org.bson.assertions.Assertions.notNull;
 
 
 /**
@@ -92,6 +94,20 @@ public class JsonReader extends AbstractBsonReader {
         this(new JsonScanner(reader));
     }
 
+    /**
+     * Constructs a new instance with the given UTF-8 encoded JSON text, from the position to the limit of the given buffer.
+     *
+     * <p>The bytes are decoded as they are read, with fast paths for runs of ASCII characters in strings and for integers, so this is
+     * faster than reading the same text with a {@code Reader}.  The buffer may be a memory-mapped file.  Its position and limit are not
+     * changed, and it must not be changed while it is read.</p>
+     *
+     * @param json the buffer of UTF-8 encoded JSON text
+     * @since 5.7
+     */
+    public JsonReader(final ByteBuffer json) {
+        this(new JsonScanner(new JsonByteBuffer(notNull("json", json))));
+    }
+
     private JsonReader(final JsonScanner scanner) {
         this.scanner = scanner;
         setContext(new Context(null, BsonContextType.TOP_LEVEL));
@@ -26,6 +26,7 @@ import java.io.Reader;
  * @since 3.0
  */
 class JsonScanner {
+    private static final int MAX_FAST_PATH_DIGITS = 18;
 
     private final JsonBuffer buffer;
 
@@ -228,27 +229,48 @@ class JsonScanner {
      * @return The number token.
      * @throws JsonParseException if number representation is invalid.
      */
-    //CHECKSTYLE:OFF
     private JsonToken scanNumber(final char firstChar) {
+        if (firstChar != '-' && (firstChar < '0' || firstChar > '9')) {
+            return scanNumber(new StringBuilder().append(firstChar), NumberState.SAW_INTEGER_DIGITS);
+        }
 
-        int c = firstChar;
-        StringBuilder sb = new StringBuilder();
-        sb.append(firstChar);
-
-        NumberState state;
+        // The fast path for integers of up to MAX_FAST_PATH_DIGITS digits, the most common numbers, which neither builds nor parses a
+        // lexeme.  Any other number is scanned by the state machine, starting with the digits read so far.
+        boolean negative = firstChar == '-';
+        long value = negative ? 0 : firstChar - '0';
+        int digitCount = negative ? 0 : 1;
+        int c = buffer.read();
+        while (c >= '0' && c <= '9' && digitCount < MAX_FAST_PATH_DIGITS && !(digitCount == 1 && value == 0)) {
+            value = value * 10 + (c - '0');
+            digitCount++;
+            c = buffer.read();
+        }
+        buffer.unread(c);
+        if (digitCount > 0 && (c == ',' || c == '}' || c == ']' || c == ')' || c == -1 || Character.isWhitespace(c))) {
+            value = negative ? -value : value;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                return new JsonToken(JsonTokenType.INT64, value);
+            } else {
+                return new JsonToken(JsonTokenType.INT32, (int) value);
+            }
+        }
 
-        switch (c) {
-            case '-':
-                state = NumberState.SAW_LEADING_MINUS;
-                break;
-            case '0':
-                state = NumberState.SAW_LEADING_ZERO;
-                break;
-            default:
-                state = NumberState.SAW_INTEGER_DIGITS;
-                break;
+        StringBuilder sb = new StringBuilder();
+        if (negative) {
+            sb.append('-');
         }
+        if (digitCount == 0) {
+            return scanNumber(sb, NumberState.SAW_LEADING_MINUS);
+        }
+        sb.append(value);
+        return scanNumber(sb, digitCount == 1 && value == 0 ? NumberState.SAW_LEADING_ZERO : NumberState.SAW_INTEGER_DIGITS);
+    }
+
+    //CHECKSTYLE:OFF
+    private JsonToken scanNumber(final StringBuilder sb, final NumberState initialState) {
 
+        int c;
+        NumberState state = initialState;
         JsonTokenType type = JsonTokenType.INT64;
 
 
@@ -471,6 +493,7 @@ class JsonScanner {
         StringBuilder sb = new StringBuilder();
 
         while (true) {
+            buffer.readAsciiRun(sb, quoteCharacter);
             int c = buffer.read();
             if (c == '\\') {
                 c = buffer.read();
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BSONException;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonType;
+import org.bson.io.BasicOutputBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * Transcodes between BSON and JSON without building documents.
+ *
+ * <p>BSON is written as JSON by walking the bytes of the document, copying the UTF-8 bytes of field names and string values straight
+ * into the output stream and escaping only the characters that JSON requires, and JSON is read with a {@link JsonReader} and piped to a
+ * {@link BsonBinaryWriter}.  Neither direction creates a {@code BsonDocument}, nor the JSON text of a document as a {@code String}.
+ * When the JSON writer settings have a maximum length, BSON is instead read with a {@link BsonBinaryReader} and piped to a
+ * {@link JsonWriter}.</p>
+ *
+ * @since 5.7
+ */
+public final class JsonTranscoder {
+    private static final int MIN_BUFFER_SIZE = 256;
+    private static final int MAX_BUFFER_SIZE = 8192;
+
+    /**
+     * Writes the BSON document that starts at the position of the given buffer as JSON, encoded as UTF-8, to the given output stream.
+     *
+     * <p>The position of the buffer is advanced past the document, so a buffer of consecutive documents, like a batch of query
+     * results, can be transcoded by calling this method until the buffer has no bytes remaining.  The output stream is flushed, but
+     * not closed.</p>
+     *
+     * @param bson the buffer positioned at a BSON document
+     * @param json the output stream to write the JSON text to
+     * @param settings the JSON writer settings
+     * @throws BSONException wrapping the {@code IOException} thrown by the output stream, if any
+     */
+    public static void bsonToJson(final ByteBuffer bson, final OutputStream json, final JsonWriterSettings settings) {
+        notNull("bson", bson);
+        notNull("json", json);
+        notNull("settings", settings);
+        ByteBuffer input = bson.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int documentSize = input.remaining() >= 4 ? input.getInt(input.position()) : 0;
+        Utf8OutputStreamWriter writer = new Utf8OutputStreamWriter(json,
+                Math.min(MAX_BUFFER_SIZE, Math.max(MIN_BUFFER_SIZE, documentSize * 2)));
+        try {
+            if (settings.getMaxLength() == 0) {
+                new Utf8JsonBsonPipe(input, writer, settings).pipe();
+            } else {
+                try (BsonBinaryReader reader = new BsonBinaryReader(input)) {
+                    new JsonWriter(writer, settings).pipe(reader);
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new BSONException("Wrapping IOException", e);
+        }
+        bson.position(input.position());
+    }
+
+    /**
+     * Reads JSON documents, encoded as UTF-8, from the given input stream until its end, and writes each of them as a BSON document
+     * to the given output stream.
+     *
+     * <p>The documents may be separated by white space, as in the output of {@code mongoexport}.  The input stream is not closed, and
+     * the output stream is not flushed or closed.</p>
+     *
+     * @param json the input stream to read the JSON text from
+     * @param bson the output stream to write the BSON documents to
+     * @return the number of documents transcoded
+     * @throws JsonParseException if the JSON text is not a sequence of documents
+     * @throws BSONException wrapping the {@code IOException} thrown by the output stream, if any
+     */
+    public static int jsonToBson(final InputStream json, final OutputStream bson) {
+        notNull("json", json);
+        notNull("bson", bson);
+        JsonReader reader = new JsonReader(new InputStreamReader(json, UTF_8));
+        return jsonToBson(reader, bson);
+    }
+
+    /**
+     * Reads JSON documents, encoded as UTF-8, from the position to the limit of the given buffer, and writes each of them as a BSON
+     * document to the given output stream.
+     *
+     * <p>The documents may be separated by white space, as in the output of {@code mongoexport}.  The buffer may be a memory-mapped
+     * file, which is decoded as it is read.  Its position and limit are not changed.  The output stream is not flushed or closed.</p>
+     *
+     * @param json the buffer of UTF-8 encoded JSON text
+     * @param bson the output stream to write the BSON documents to
+     * @return the number of documents transcoded
+     * @throws JsonParseException if the JSON text is not a sequence of documents
+     * @throws BSONException wrapping the {@code IOException} thrown by the output stream, if any
+     * @see JsonReader#JsonReader(ByteBuffer)
+     */
+    public static int jsonToBson(final ByteBuffer json, final OutputStream bson) {
+        notNull("json", json);
+        notNull("bson", bson);
+        return jsonToBson(new JsonReader(json), bson);
+    }
+
+    private static int jsonToBson(final JsonReader reader, final OutputStream bson) {
+        int count = 0;
+        try (BasicOutputBuffer buffer = new BasicOutputBuffer()) {
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (reader.getCurrentBsonType() != BsonType.DOCUMENT) {
+                    throw new JsonParseException("JSON reader was expecting a document but found a value of type %s.",
+                            reader.getCurrentBsonType());
+                }
+                buffer.truncateToPosition(0);
+                new BsonBinaryWriter(buffer).pipe(reader);
+                buffer.pipe(bson);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new BSONException("Wrapping IOException", e);
+        }
+        return count;
+    }
+
+    private JsonTranscoder() {
+    }
+}
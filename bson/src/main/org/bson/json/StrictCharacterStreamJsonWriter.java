@@ -21,7 +21,10 @@ import org.bson.BsonInvalidOperationException;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
+import static org.bson.assertions.Assertions.isTrue;
 import static org.bson.assertions.Assertions.notNull;
 
 /**
@@ -135,6 +138,24 @@ public final class StrictCharacterStreamJsonWriter implements StrictJsonWriter {
     @Override
     public void writeName(final String name) {
         notNull("name", name);
+        preWriteName();
+        writeStringHelper(name);
+        postWriteName();
+    }
+
+    /**
+     * Writes a name given as the UTF-8 bytes from {@code start} to {@code end} of the buffer, escaping the same characters as
+     * {@link #writeName(String)}.
+     *
+     * @see #writeUtf8StringHelper(ByteBuffer, int, int)
+     */
+    void writeName(final ByteBuffer utf8, final int start, final int end) {
+        preWriteName();
+        writeUtf8StringHelper(utf8, start, end);
+        postWriteName();
+    }
+
+    private void preWriteName() {
         checkState(State.NAME);
 
         if (context.hasElements) {
@@ -146,7 +167,9 @@ public final class StrictCharacterStreamJsonWriter implements StrictJsonWriter {
         } else if (context.hasElements){
             write(" ");
         }
-        writeStringHelper(name);
+    }
+
+    private void postWriteName() {
         write(": ");
 
         state = State.VALUE;
@@ -178,6 +201,19 @@ public final class StrictCharacterStreamJsonWriter implements StrictJsonWriter {
         setNextState();
     }
 
+    /**
+     * Writes a string value given as the UTF-8 bytes from {@code start} to {@code end} of the buffer, escaping the same characters as
+     * {@link #writeString(String)}.
+     *
+     * @see #writeUtf8StringHelper(ByteBuffer, int, int)
+     */
+    void writeString(final ByteBuffer utf8, final int start, final int end) {
+        checkState(State.VALUE);
+        preWriteValue();
+        writeUtf8StringHelper(utf8, start, end);
+        setNextState();
+    }
+
     @Override
     public void writeRaw(final String value) {
         notNull("value", value);
@@ -303,65 +339,198 @@ public final class StrictCharacterStreamJsonWriter implements StrictJsonWriter {
         write('"');
         for (int i = 0; i < str.length(); i++) {
             char c = str.charAt(i);
-            switch (c) {
-                case '"':
-                    write("\\\"");
-                    break;
-                case '\\':
-                    write("\\\\");
-                    break;
-                case '\b':
-                    write("\\b");
-                    break;
-                case '\f':
-                    write("\\f");
-                    break;
-                case '\n':
-                    write("\\n");
-                    break;
-                case '\r':
-                    write("\\r");
-                    break;
-                case '\t':
-                    write("\\t");
-                    break;
-                default:
-                    switch (Character.getType(c)) {
-                        case Character.UPPERCASE_LETTER:
-                        case Character.LOWERCASE_LETTER:
-                        case Character.TITLECASE_LETTER:
-                        case Character.OTHER_LETTER:
-                        case Character.DECIMAL_DIGIT_NUMBER:
-                        case Character.LETTER_NUMBER:
-                        case Character.OTHER_NUMBER:
-                        case Character.SPACE_SEPARATOR:
-                        case Character.CONNECTOR_PUNCTUATION:
-                        case Character.DASH_PUNCTUATION:
-                        case Character.START_PUNCTUATION:
-                        case Character.END_PUNCTUATION:
-                        case Character.INITIAL_QUOTE_PUNCTUATION:
-                        case Character.FINAL_QUOTE_PUNCTUATION:
-                        case Character.OTHER_PUNCTUATION:
-                        case Character.MATH_SYMBOL:
-                        case Character.CURRENCY_SYMBOL:
-                        case Character.MODIFIER_SYMBOL:
-                        case Character.OTHER_SYMBOL:
-                            write(c);
-                            break;
-                        default:
-                            write("\\u");
-                            write(Integer.toHexString((c & 0xf000) >> 12));
-                            write(Integer.toHexString((c & 0x0f00) >> 8));
-                            write(Integer.toHexString((c & 0x00f0) >> 4));
-                            write(Integer.toHexString(c & 0x000f));
-                            break;
-                    }
-                    break;
+            if (c != '"' && c != '\\' && isWrittenUnescaped(c)) {
+                write(c);
+            } else {
+                writeEscaped(c);
+            }
+        }
+        write('"');
+    }
+
+    /**
+     * Writes well-formed UTF-8 bytes as a JSON string, copying the runs of bytes whose characters need no escaping straight to the
+     * writer, which must be a {@link Utf8OutputStreamWriter}, so that they are neither decoded nor encoded again.  Malformed bytes are
+     * decoded, with replacement characters, and written as a {@code String} would be.  As the copied bytes are not checked against the
+     * maximum length, there must not be one.
+     */
+    private void writeUtf8StringHelper(final ByteBuffer utf8, final int start, final int end) {
+        isTrue("no maximum length", settings.getMaxLength() == 0);
+        if (!isWellFormedUtf8(utf8, start, end)) {
+            byte[] bytes = new byte[end - start];
+            for (int i = start; i < end; i++) {
+                bytes[i - start] = utf8.get(i);
+            }
+            writeStringHelper(new String(bytes, StandardCharsets.UTF_8));
+            return;
+        }
+        write('"');
+        int unescapedStart = start;
+        int unescapedLength = 0;
+        int i = start;
+        while (i < end) {
+            int b = utf8.get(i);
+            if (b >= 0x20 && b < 0x7F && b != '"' && b != '\\') {
+                i++;
+                unescapedLength++;
+                continue;
+            }
+            int sequenceLength = getUtf8SequenceLength(b);
+            int codePoint = decodeUtf8(utf8, i, sequenceLength);
+            if (codePoint >= 0x80 && codePoint <= 0xFFFF && isWrittenUnescaped(codePoint)) {
+                i += sequenceLength;
+                unescapedLength++;
+                continue;
             }
+            writeUtf8(utf8, unescapedStart, i, unescapedLength);
+            if (Character.isBmpCodePoint(codePoint)) {
+                writeEscaped((char) codePoint);
+            } else {
+                // as in a String, each of the surrogates of a supplementary character is escaped
+                writeEscaped(Character.highSurrogate(codePoint));
+                writeEscaped(Character.lowSurrogate(codePoint));
+            }
+            i += sequenceLength;
+            unescapedStart = i;
+            unescapedLength = 0;
         }
+        writeUtf8(utf8, unescapedStart, end, unescapedLength);
         write('"');
     }
 
+    private void writeEscaped(final char c) {
+        switch (c) {
+            case '"':
+                write("\\\"");
+                break;
+            case '\\':
+                write("\\\\");
+                break;
+            case '\b':
+                write("\\b");
+                break;
+            case '\f':
+                write("\\f");
+                break;
+            case '\n':
+                write("\\n");
+                break;
+            case '\r':
+                write("\\r");
+                break;
+            case '\t':
+                write("\\t");
+                break;
+            default:
+                write("\\u");
+                write(Integer.toHexString((c & 0xf000) >> 12));
+                write(Integer.toHexString((c & 0x0f00) >> 8));
+                write(Integer.toHexString((c & 0x00f0) >> 4));
+                write(Integer.toHexString(c & 0x000f));
+                break;
+        }
+    }
+
+    private static boolean isWrittenUnescaped(final int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.UPPERCASE_LETTER:
+            case Character.LOWERCASE_LETTER:
+            case Character.TITLECASE_LETTER:
+            case Character.OTHER_LETTER:
+            case Character.DECIMAL_DIGIT_NUMBER:
+            case Character.LETTER_NUMBER:
+            case Character.OTHER_NUMBER:
+            case Character.SPACE_SEPARATOR:
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.CURRENCY_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+            case Character.OTHER_SYMBOL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isWellFormedUtf8(final ByteBuffer utf8, final int start, final int end) {
+        int i = start;
+        while (i < end) {
+            int b = utf8.get(i);
+            if (b >= 0) {
+                i++;
+                continue;
+            }
+            int sequenceLength = getUtf8SequenceLength(b);
+            if (sequenceLength == 0 || sequenceLength > end - i) {
+                return false;
+            }
+            for (int j = i + 1; j < i + sequenceLength; j++) {
+                if ((utf8.get(j) & 0xc0) != 0x80) {
+                    return false;
+                }
+            }
+            int codePoint = decodeUtf8(utf8, i, sequenceLength);
+            // reject overlong encodings, surrogates and code points beyond the Unicode range
+            if ((sequenceLength == 2 && codePoint < 0x80) || (sequenceLength == 3 && codePoint < 0x800)
+                    || (sequenceLength == 4 && codePoint < 0x10000) || (codePoint >= 0xd800 && codePoint <= 0xdfff)
+                    || codePoint > Character.MAX_CODE_POINT) {
+                return false;
+            }
+            i += sequenceLength;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the length of the UTF-8 sequence from its first byte, or 0 if the byte can not start a sequence.
+     */
+    private static int getUtf8SequenceLength(final int b) {
+        if (b >= 0) {
+            return 1;
+        } else if ((b & 0xe0) == 0xc0) {
+            return 2;
+        } else if ((b & 0xf0) == 0xe0) {
+            return 3;
+        } else if ((b & 0xf8) == 0xf0) {
+            return 4;
+        } else {
+            return 0;
+        }
+    }
+
+    private static int decodeUtf8(final ByteBuffer utf8, final int start, final int sequenceLength) {
+        int first = utf8.get(start);
+        switch (sequenceLength) {
+            case 1:
+                return first;
+            case 2:
+                return ((first & 0x1f) << 6) | (utf8.get(start + 1) & 0x3f);
+            case 3:
+                return ((first & 0x0f) << 12) | ((utf8.get(start + 1) & 0x3f) << 6) | (utf8.get(start + 2) & 0x3f);
+            default:
+                return ((first & 0x07) << 18) | ((utf8.get(start + 1) & 0x3f) << 12) | ((utf8.get(start + 2) & 0x3f) << 6)
+                        | (utf8.get(start + 3) & 0x3f);
+        }
+    }
+
+    private void writeUtf8(final ByteBuffer utf8, final int start, final int end, final int length) {
+        if (start == end) {
+            return;
+        }
+        try {
+            ((Utf8OutputStreamWriter) writer).writeUtf8(utf8, start, end);
+            curLength += length;
+        } catch (IOException e) {
+            throwBSONException(e);
+        }
+    }
+
     private void write(final String str) {
         try {
             if (settings.getMaxLength() == 0 || str.length() + curLength < settings.getMaxLength()) {
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonSerializationException;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.String.format;
+
+/**
+ * Writes a BSON document as JSON by walking its bytes, rather than by piping a {@code BsonBinaryReader} to a {@link JsonWriter}.
+ *
+ * <p>Field names, and string values written by the default string converter, are written from their UTF-8 bytes in the document
+ * straight to a {@link Utf8OutputStreamWriter}, so they are never decoded to Java strings.  All other values are read from the bytes and
+ * written with the converters of the {@link JsonWriterSettings}, in the same way as {@link JsonWriter} writes them, so the JSON text is
+ * the same as that of a {@code JsonWriter}.  As the copied bytes are not counted towards a maximum length, the settings must not have
+ * one.</p>
+ */
+final class Utf8JsonBsonPipe {
+    private static final int MIN_DOCUMENT_SIZE = 5;
+
+    private final ByteBuffer bson;
+    private final JsonWriterSettings settings;
+    private final StrictCharacterStreamJsonWriter strictJsonWriter;
+    private final boolean defaultStringConverter;
+
+    /**
+     * @param bson the buffer positioned at a BSON document, which is read with absolute gets
+     * @param writer the writer to write the JSON text to
+     * @param settings the JSON writer settings, without a maximum length
+     */
+    Utf8JsonBsonPipe(final ByteBuffer bson, final Utf8OutputStreamWriter writer, final JsonWriterSettings settings) {
+        this.bson = bson.order(ByteOrder.LITTLE_ENDIAN);
+        this.settings = settings;
+        this.strictJsonWriter = new StrictCharacterStreamJsonWriter(writer, StrictCharacterStreamJsonWriterSettings.builder()
+                .indent(settings.isIndent())
+                .newLineCharacters(settings.getNewLineCharacters())
+                .indentCharacters(settings.getIndentCharacters())
+                .build());
+        this.defaultStringConverter = settings.getStringConverter() instanceof JsonStringConverter;
+    }
+
+    /**
+     * Writes the document at the position of the buffer, and advances the position past it.
+     */
+    void pipe() {
+        bson.position(pipeDocument(bson.position(), bson.limit()));
+    }
+
+    private int pipeDocument(final int documentStart, final int limit) {
+        int documentEnd = getDocumentEnd(documentStart, limit);
+        strictJsonWriter.writeStartObject();
+        int elementOffset = documentStart + 4;
+        while (bson.get(elementOffset) != 0) {
+            int nameEnd = findNullTerminator(elementOffset + 1, documentEnd);
+            strictJsonWriter.writeName(bson, elementOffset + 1, nameEnd);
+            elementOffset = pipeValue(bson.get(elementOffset), nameEnd + 1, documentEnd);
+        }
+        checkDocumentEnd(elementOffset, documentEnd);
+        strictJsonWriter.writeEndObject();
+        return documentEnd;
+    }
+
+    private int pipeArray(final int arrayStart, final int limit) {
+        int arrayEnd = getDocumentEnd(arrayStart, limit);
+        strictJsonWriter.writeStartArray();
+        int elementOffset = arrayStart + 4;
+        while (bson.get(elementOffset) != 0) {
+            int nameEnd = findNullTerminator(elementOffset + 1, arrayEnd);
+            elementOffset = pipeValue(bson.get(elementOffset), nameEnd + 1, arrayEnd);
+        }
+        checkDocumentEnd(elementOffset, arrayEnd);
+        strictJsonWriter.writeEndArray();
+        return arrayEnd;
+    }
+
+    /**
+     * Writes the value of the given type at the given offset, and returns the offset of the next element.
+     */
+    private int pipeValue(final byte type, final int offset, final int documentEnd) {
+        BsonType bsonType = BsonType.findByValue(type);
+        if (bsonType == null) {
+            throw new BsonSerializationException(format("Detected unknown BSON type \"\\x%x\"", type));
+        }
+        // the value must end before the terminator of its document
+        int limit = documentEnd - 1;
+        checkSize(offset, 0, limit);
+        switch (bsonType) {
+            case DOUBLE:
+                settings.getDoubleConverter().convert(bson.getDouble(checkSize(offset, 8, limit)), strictJsonWriter);
+                return offset + 8;
+            case STRING:
+                int stringEnd = getStringEnd(offset, limit);
+                if (defaultStringConverter) {
+                    strictJsonWriter.writeString(bson, offset + 4, stringEnd - 1);
+                } else {
+                    settings.getStringConverter().convert(decode(offset + 4, stringEnd - 1), strictJsonWriter);
+                }
+                return stringEnd;
+            case DOCUMENT:
+                return pipeDocument(offset, limit);
+            case ARRAY:
+                return pipeArray(offset, limit);
+            case BINARY:
+                return pipeBinary(offset, limit);
+            case UNDEFINED:
+                settings.getUndefinedConverter().convert(null, strictJsonWriter);
+                return offset;
+            case OBJECT_ID:
+                settings.getObjectIdConverter().convert(readObjectId(offset, limit), strictJsonWriter);
+                return offset + 12;
+            case BOOLEAN:
+                byte booleanByte = bson.get(checkSize(offset, 1, limit));
+                if (booleanByte != 0 && booleanByte != 1) {
+                    throw new BsonSerializationException(format("Expected a boolean value but found %d", booleanByte));
+                }
+                settings.getBooleanConverter().convert(booleanByte == 1, strictJsonWriter);
+                return offset + 1;
+            case DATE_TIME:
+                settings.getDateTimeConverter().convert(bson.getLong(checkSize(offset, 8, limit)), strictJsonWriter);
+                return offset + 8;
+            case NULL:
+                settings.getNullConverter().convert(null, strictJsonWriter);
+                return offset;
+            case REGULAR_EXPRESSION:
+                int patternEnd = findNullTerminator(offset, limit);
+                int optionsEnd = findNullTerminator(patternEnd + 1, limit);
+                settings.getRegularExpressionConverter().convert(new BsonRegularExpression(decode(offset, patternEnd),
+                        decode(patternEnd + 1, optionsEnd)), strictJsonWriter);
+                return optionsEnd + 1;
+            case DB_POINTER:
+                return pipeDbPointer(offset, limit);
+            case JAVASCRIPT:
+                int javaScriptEnd = getStringEnd(offset, limit);
+                settings.getJavaScriptConverter().convert(decode(offset + 4, javaScriptEnd - 1), strictJsonWriter);
+                return javaScriptEnd;
+            case SYMBOL:
+                int symbolEnd = getStringEnd(offset, limit);
+                settings.getSymbolConverter().convert(decode(offset + 4, symbolEnd - 1), strictJsonWriter);
+                return symbolEnd;
+            case JAVASCRIPT_WITH_SCOPE:
+                return pipeJavaScriptWithScope(offset, limit);
+            case INT32:
+                settings.getInt32Converter().convert(bson.getInt(checkSize(offset, 4, limit)), strictJsonWriter);
+                return offset + 4;
+            case TIMESTAMP:
+                settings.getTimestampConverter().convert(new BsonTimestamp(bson.getLong(checkSize(offset, 8, limit))), strictJsonWriter);
+                return offset + 8;
+            case INT64:
+                settings.getInt64Converter().convert(bson.getLong(checkSize(offset, 8, limit)), strictJsonWriter);
+                return offset + 8;
+            case DECIMAL128:
+                long low = bson.getLong(checkSize(offset, 16, limit));
+                long high = bson.getLong(offset + 8);
+                settings.getDecimal128Converter().convert(Decimal128.fromIEEE754BIDEncoding(high, low), strictJsonWriter);
+                return offset + 16;
+            case MIN_KEY:
+                settings.getMinKeyConverter().convert(null, strictJsonWriter);
+                return offset;
+            case MAX_KEY:
+                settings.getMaxKeyConverter().convert(null, strictJsonWriter);
+                return offset;
+            default:
+                throw new BsonSerializationException(format("Detected unexpected BSON type \"\\x%x\"", type));
+        }
+    }
+
+    private int pipeBinary(final int offset, final int limit) {
+        int size = bson.getInt(checkSize(offset, 5, limit));
+        byte subType = bson.get(offset + 4);
+        int dataStart = offset + 5;
+        int end = checkSize(dataStart, size, limit) + size;
+        if (subType == BsonBinarySubType.OLD_BINARY.getValue()) {
+            int oldBinarySize = bson.getInt(checkSize(dataStart, 4, end));
+            if (oldBinarySize != size - 4) {
+                throw new BsonSerializationException("Binary sub type OldBinary has inconsistent sizes");
+            }
+            dataStart += 4;
+        }
+        settings.getBinaryConverter().convert(new BsonBinary(subType, getBytes(dataStart, end)), strictJsonWriter);
+        return end;
+    }
+
+    /**
+     * Writes a DBPointer as {@link JsonWriter} does.
+     */
+    private int pipeDbPointer(final int offset, final int limit) {
+        int namespaceEnd = getStringEnd(offset, limit);
+        String namespace = decode(offset + 4, namespaceEnd - 1);
+        ObjectId id = readObjectId(namespaceEnd, limit);
+        strictJsonWriter.writeStartObject();
+        if (settings.getOutputMode() == JsonMode.EXTENDED) {
+            strictJsonWriter.writeStartObject("$dbPointer");
+        }
+        strictJsonWriter.writeString("$ref", namespace);
+        strictJsonWriter.writeName("$id");
+        settings.getObjectIdConverter().convert(id, strictJsonWriter);
+        if (settings.getOutputMode() == JsonMode.EXTENDED) {
+            strictJsonWriter.writeEndObject();
+        }
+        strictJsonWriter.writeEndObject();
+        return namespaceEnd + 12;
+    }
+
+    /**
+     * Writes JavaScript with scope as {@link JsonWriter} does, as a document of the code and of the scope.
+     */
+    private int pipeJavaScriptWithScope(final int offset, final int limit) {
+        int size = bson.getInt(checkSize(offset, 4, limit));
+        int end = checkSize(offset, size, limit) + size;
+        int codeEnd = getStringEnd(offset + 4, end);
+        strictJsonWriter.writeStartObject();
+        strictJsonWriter.writeName("$code");
+        settings.getStringConverter().convert(decode(offset + 8, codeEnd - 1), strictJsonWriter);
+        strictJsonWriter.writeName("$scope");
+        if (pipeDocument(codeEnd, end) != end) {
+            throw new BsonSerializationException("The size of the JavaScript with scope does not match the size of its parts");
+        }
+        strictJsonWriter.writeEndObject();
+        return end;
+    }
+
+    private int getDocumentEnd(final int documentStart, final int limit) {
+        int size = bson.getInt(checkSize(documentStart, 4, limit));
+        if (size < MIN_DOCUMENT_SIZE) {
+            throw new BsonSerializationException(format("The document size %d is invalid", size));
+        }
+        return checkSize(documentStart, size, limit) + size;
+    }
+
+    private void checkDocumentEnd(final int terminatorOffset, final int documentEnd) {
+        if (terminatorOffset != documentEnd - 1) {
+            throw new BsonSerializationException("The size of the document does not match the size of its elements");
+        }
+    }
+
+    /**
+     * Gets the end of the length-prefixed, null-terminated string at the given offset.
+     */
+    private int getStringEnd(final int offset, final int limit) {
+        int size = bson.getInt(checkSize(offset, 4, limit));
+        if (size <= 0) {
+            throw new BsonSerializationException(format("While decoding a BSON string found a size that is not a positive number: %d",
+                    size));
+        }
+        int end = checkSize(offset + 4, size, limit) + size;
+        if (bson.get(end - 1) != 0) {
+            throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+        }
+        return end;
+    }
+
+    private int findNullTerminator(final int offset, final int limit) {
+        for (int i = offset; i < limit; i++) {
+            if (bson.get(i) == 0) {
+                return i;
+            }
+        }
+        throw new BsonSerializationException("Found a BSON string that is not null-terminated");
+    }
+
+    /**
+     * Checks that the given number of bytes at the offset end at or before the limit, and returns the offset.
+     */
+    private static int checkSize(final int offset, final int size, final int limit) {
+        if (size < 0 || size > limit - offset) {
+            throw new BsonSerializationException(format("The size of the BSON value at offset %d is invalid", offset));
+        }
+        return offset;
+    }
+
+    private ObjectId readObjectId(final int offset, final int limit) {
+        checkSize(offset, 12, limit);
+        return new ObjectId(getBytes(offset, offset + 12));
+    }
+
+    private String decode(final int start, final int end) {
+        return new String(getBytes(start, end), StandardCharsets.UTF_8);
+    }
+
+    private byte[] getBytes(final int start, final int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = start; i < end; i++) {
+            bytes[i - start] = bson.get(i);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+/**
+ * A writer that encodes characters as UTF-8 into a buffer that it flushes to an output stream.
+ *
+ * <p>Unlike {@link java.io.OutputStreamWriter}, it is not synchronized and encodes single characters without going through a
+ * {@link java.nio.charset.CharsetEncoder}, which makes it cheaper for the single character writes of the JSON writers.  As with
+ * {@code OutputStreamWriter}, unpaired surrogates are encoded as {@code '?'}.</p>
+ */
+final class Utf8OutputStreamWriter extends Writer {
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int count;
+    private char highSurrogate;
+
+    Utf8OutputStreamWriter(final OutputStream outputStream, final int bufferSize) {
+        this.outputStream = outputStream;
+        // room for the at most four bytes of a single code point
+        this.buffer = new byte[Math.max(bufferSize, 4)];
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        if (count > buffer.length - 4) {
+            flushBuffer();
+        }
+        encode((char) c);
+    }
+
+    @Override
+    public void write(final char[] chars, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            if (count > buffer.length - 4) {
+                flushBuffer();
+            }
+            char c = chars[i];
+            if (c < 0x80 && highSurrogate == 0) {
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(final String str, final int offset, final int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            if (count > buffer.length - 4) {
+                flushBuffer();
+            }
+            char c = str.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    /**
+     * Writes bytes that are already encoded as UTF-8, from {@code start} to {@code end} of the given buffer, without decoding them.
+     */
+    void writeUtf8(final ByteBuffer utf8, final int start, final int end) throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            if (count > buffer.length - 4) {
+                flushBuffer();
+            }
+            buffer[count++] = '?';
+        }
+        int position = start;
+        while (position < end) {
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            int length = Math.min(buffer.length - count, end - position);
+            if (utf8.hasArray()) {
+                System.arraycopy(utf8.array(), utf8.arrayOffset() + position, buffer, count, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    buffer[count + i] = utf8.get(position + i);
+                }
+            }
+            count += length;
+            position += length;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        outputStream.flush();
+    }
+
+    /**
+     * Flushes the buffer, but not the output stream, which is left open for its owner to close.
+     */
+    @Override
+    public void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            if (count > buffer.length - 4) {
+                flushBuffer();
+            }
+            buffer[count++] = '?';
+        }
+        flushBuffer();
+    }
+
+    private void encode(final char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[count++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3f));
+                return;
+            }
+            // there is room for this and for the three bytes of c, as a high surrogate was not written to the buffer
+            buffer[count++] = '?';
+        }
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xc0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xe0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buffer[count++] = (byte) (0x80 | (c & 0x3f));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            outputStream.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
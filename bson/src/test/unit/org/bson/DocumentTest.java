@@ -30,7 +30,15 @@ import org.bson.conversions.Bson;
 import org.bson.json.JsonReader;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 
@@ -173,6 +181,22 @@ public class DocumentTest {
         }
     }
 
+    @Test
+    public void shouldSerializeAsBefore() throws IOException, ClassNotFoundException {
+        // the serialized form declares the map as a LinkedHashMap, whatever map now backs the document
+        assertEquals(LinkedHashMap.class, ObjectStreamClass.lookup(Document.class).getField("documentAsMap").getType());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+            stream.writeObject(document);
+        }
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Document deserialized = (Document) stream.readObject();
+            assertEquals(document, deserialized);
+            assertEquals(asList("a", "b", "c", "d"), new ArrayList<>(deserialized.keySet()));
+        }
+    }
+
     class NameCodec implements CollectibleCodec<Name> {
 
         @Override
@@ -40,6 +40,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.util.stream.Stream;
 
 import static org.bson.BsonHelper.toBson;
@@ -55,6 +56,8 @@ class BinaryBinaryVectorCodecTest extends CodecTestCase {
     private static Stream<Arguments> provideVectorsAndCodecs() {
         return Stream.of(
                 arguments(BinaryVector.floatVector(new float[]{1.1f, 2.2f, 3.3f}), new Float32BinaryVectorCodec(), Float32BinaryVector.class),
+                arguments(BinaryVector.floatVector(FloatBuffer.wrap(new float[]{1.1f, 2.2f, 3.3f})), new Float32BinaryVectorCodec(), Float32BinaryVector.class),
+                arguments(BinaryVector.floatVector(FloatBuffer.wrap(new float[]{1.1f, 2.2f, 3.3f})), new BinaryVectorCodec(), BinaryVector.class),
                 arguments(BinaryVector.int8Vector(new byte[]{10, 20, 30, 40}), new Int8VectorCodec(), Int8BinaryVector.class),
                 arguments(BinaryVector.packedBitVector(new byte[]{(byte) 0b10101010, (byte) 0b01010101}, (byte) 3), new PackedBitBinaryVectorCodec(), PackedBitBinaryVector.class),
                 arguments(BinaryVector.packedBitVector(new byte[]{(byte) 0b10101010, (byte) 0b01010101}, (byte) 3), new BinaryVectorCodec(), BinaryVector.class),
@@ -19,6 +19,8 @@ package org.bson.codecs;
 import org.bson.BsonBinaryReader;
 import org.bson.BsonBinarySubType;
 import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.ByteBufNIO;
@@ -48,6 +50,7 @@ import java.util.List;
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DocumentCodecTest {
@@ -189,4 +192,32 @@ public class DocumentCodecTest {
         buffer.pipe(baos);
         return new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(baos.toByteArray())));
     }
+
+    @Test
+    public void testDecodeWithFieldPaths() {
+        BsonDocument document = BsonDocument.parse("{a: 1, b: {c: 2, d: 3}, e: [{c: 4, d: 5}, {d: 6}], f: {g: 7}}");
+        DecoderContext decoderContext = DecoderContext.builder().fieldPaths(asList("b.c", "e.d", "f.g", "f")).build();
+
+        Document decoded = new DocumentCodec().decode(new BsonDocumentReader(document), decoderContext);
+        assertEquals(Document.parse("{b: {c: 2}, e: [{d: 5}, {d: 6}], f: {g: 7}}"), decoded);
+        assertEquals(BsonDocument.parse("{b: {c: 2}, e: [{d: 5}, {d: 6}], f: {g: 7}}"),
+                new BsonDocumentCodec().decode(new BsonDocumentReader(document), decoderContext));
+    }
+
+    @Test
+    public void testDecodeWithFieldPathsAndCheckedDiscriminator() {
+        BsonDocument document = BsonDocument.parse("{a: 1, b: {c: 2, d: 3}}");
+        DecoderContext decoderContext = DecoderContext.builder().fieldPaths(asList("b.c")).build();
+        DecoderContext checkedDiscriminatorContext = decoderContext.withCheckedDiscriminator();
+
+        assertTrue(checkedDiscriminatorContext.hasCheckedDiscriminator());
+        assertFalse(decoderContext.hasCheckedDiscriminator());
+        assertSame(decoderContext.getFieldPaths(), checkedDiscriminatorContext.getFieldPaths());
+        assertSame(decoderContext.getChildContext("b"), checkedDiscriminatorContext.getChildContext("b"));
+        assertSame(checkedDiscriminatorContext, checkedDiscriminatorContext.withCheckedDiscriminator());
+        assertEquals(Document.parse("{b: {c: 2}}"),
+                new DocumentCodec().decode(new BsonDocumentReader(document), checkedDiscriminatorContext));
+        assertTrue(DecoderContext.builder().build().withCheckedDiscriminator().hasCheckedDiscriminator());
+    }
+
 }
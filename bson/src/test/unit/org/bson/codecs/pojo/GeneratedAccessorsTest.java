@@ -0,0 +1,94 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs.pojo;
+
+import org.bson.codecs.pojo.entities.SimpleModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class GeneratedAccessorsTest {
+
+    @Test
+    public void testGeneratedAccessors() throws NoSuchMethodException {
+        Supplier<Object> constructor = GeneratedAccessors.constructor(SimpleModel.class.getConstructor());
+        Function<Object, Object> getter = GeneratedAccessors.getter(SimpleModel.class.getMethod("getIntegerField"));
+        BiConsumer<Object, Object> setter = GeneratedAccessors.setter(SimpleModel.class.getMethod("setIntegerField", Integer.class));
+        assertNotNull(constructor);
+        assertNotNull(getter);
+        assertNotNull(setter);
+
+        Object model = constructor.get();
+        assertTrue(model instanceof SimpleModel);
+        setter.accept(model, 42);
+        assertEquals(42, getter.apply(model));
+    }
+
+    @Test
+    public void testPrimitiveProperties() throws NoSuchMethodException {
+        Function<Object, Object> getter = GeneratedAccessors.getter(PrimitiveModel.class.getMethod("getValue"));
+        BiConsumer<Object, Object> setter = GeneratedAccessors.setter(PrimitiveModel.class.getMethod("setValue", int.class));
+        assertNotNull(getter);
+        assertNotNull(setter);
+
+        PrimitiveModel model = new PrimitiveModel();
+        setter.accept(model, 42);
+        assertEquals(42, getter.apply(model));
+    }
+
+    @Test
+    public void testNoAccessorsForNonPublicClasses() throws NoSuchMethodException {
+        assertNull(GeneratedAccessors.constructor(NonPublicModel.class.getConstructor()));
+        assertNull(GeneratedAccessors.getter(NonPublicModel.class.getMethod("getValue")));
+        assertNull(GeneratedAccessors.setter(NonPublicModel.class.getMethod("setValue", int.class)));
+    }
+
+    public static final class PrimitiveModel {
+        private int value;
+
+        public int getValue() {
+            return value;
+        }
+
+        public PrimitiveModel setValue(final int value) {
+            this.value = value;
+            return this;
+        }
+    }
+
+    static final class NonPublicModel {
+        private int value;
+
+        public NonPublicModel() {
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(final int value) {
+            this.value = value;
+        }
+    }
+}
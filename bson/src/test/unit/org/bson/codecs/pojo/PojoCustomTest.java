@@ -16,6 +16,8 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -266,6 +268,18 @@ public final class PojoCustomTest extends PojoTestCase {
                 "{'someMethod': 'some method', 'integerField': 1, 'stringField': '2', listField: ['a', 'b']}");
     }
 
+    @Test
+    public void testDecodingWithFieldPaths() {
+        PojoCodec<SimpleNestedPojoModel> codec = getCodec(getPojoCodecProviderBuilder(SimpleNestedPojoModel.class, SimpleModel.class),
+                SimpleNestedPojoModel.class);
+        BsonDocumentReader reader = new BsonDocumentReader(
+                BsonDocument.parse("{simple: {integerField: 42, stringField: 'myString'}, unknown: [1, 2, 3]}"));
+
+        SimpleNestedPojoModel model = codec.decode(reader,
+                DecoderContext.builder().fieldPaths(singletonList("simple.integerField")).build());
+        assertEquals(new SimpleNestedPojoModel(new SimpleModel(42, null)), model);
+    }
+
     @Test
     public void testUseGettersForSettersConvention() {
         PojoCodecProvider.Builder builder = getPojoCodecProviderBuilder(CollectionsGetterMutableModel.class, MapGetterMutableModel.class)
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonSerializationException;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BsonDocumentFieldIndexTest {
+
+    @Test
+    void shouldFindEveryFieldOfAWideDocument() {
+        BsonDocument document = new BsonDocument();
+        for (int i = 0; i < 200; i++) {
+            document.append("field" + i, new BsonInt32(i));
+        }
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+
+        BsonDocumentFieldIndex index = BsonDocumentFieldIndex.build(rawDocument.getByteBuffer());
+
+        assertEquals(200, index.size());
+        for (String key : document.keySet()) {
+            assertTrue(index.findElementOffset(key) > 0);
+            assertEquals(document.get(key), rawDocument.get(key));
+        }
+        assertEquals(-1, index.findElementOffset("field200"));
+        assertFalse(rawDocument.containsKey("field200"));
+    }
+
+    @Test
+    void shouldFindNonAsciiAndEmptyFieldNames() {
+        BsonDocument document = new BsonDocument("café", new BsonString("a"))
+                .append("日本", new BsonString("b"))
+                .append("", new BsonString("c"));
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+
+        assertEquals(new BsonString("a"), rawDocument.get("café"));
+        assertEquals(new BsonString("b"), rawDocument.get("日本"));
+        assertEquals(new BsonString("c"), rawDocument.get(""));
+        assertNull(rawDocument.get("cafe"));
+    }
+
+    @Test
+    void shouldReturnFirstElementForDuplicateFieldNames() {
+        RawBsonDocument rawDocument = RawBsonDocument.parse("{a: 1, b: 2, a: 3}");
+
+        assertEquals(2, BsonDocumentFieldIndex.build(rawDocument.getByteBuffer()).size());
+        assertEquals(new BsonInt32(1), rawDocument.get("a"));
+        assertEquals(new BsonInt32(2), rawDocument.get("b"));
+    }
+
+    @Test
+    void shouldIndexDocumentAtNonZeroOffset() {
+        ByteBuf documentBuffer = RawBsonDocument.parse("{a: {b: 1}, c: [1, 2]}").getByteBuffer();
+        int length = documentBuffer.remaining();
+        byte[] bytes = new byte[length + 10];
+        documentBuffer.get(bytes, 5, length);
+        RawBsonDocument rawDocument = new RawBsonDocument(bytes, 5, length);
+
+        assertEquals(BsonDocument.parse("{b: 1}"), rawDocument.get("a"));
+        assertEquals(BsonDocument.parse("{c: [1, 2]}").get("c"), rawDocument.get("c"));
+        assertEquals(new BsonInt32(1), rawDocument.getDocument("a").get("b"));
+    }
+
+    @Test
+    void shouldFindTheSameElementsByScanningAsByIndexing() {
+        RawBsonDocument rawDocument = RawBsonDocument.parse("{a: 1, 'café': 2, '': 3, b: {a: 4}, a: 5}");
+        BsonDocumentFieldIndex index = BsonDocumentFieldIndex.build(rawDocument.getByteBuffer());
+
+        for (String key : new String[] {"a", "café", "", "b", "cafe", "c", "ab"}) {
+            assertEquals(index.findElementOffset(key), BsonDocumentFieldIndex.findElementOffset(rawDocument.getByteBuffer(), key));
+        }
+        assertEquals(-1, BsonDocumentFieldIndex.findElementOffset(rawDocument.getByteBuffer(), "c"));
+    }
+
+    @Test
+    void shouldFindFieldsBeforeAndAfterTheIndexIsBuilt() {
+        RawBsonDocument rawDocument = RawBsonDocument.parse("{a: 1, b: 2}");
+
+        assertEquals(new BsonInt32(2), rawDocument.get("b"));
+        assertTrue(rawDocument.containsKey("a"));
+        assertEquals(new BsonInt32(1), rawDocument.get("a"));
+        assertNull(rawDocument.get("c"));
+    }
+
+    @Test
+    void shouldIndexEmptyDocument() {
+        RawBsonDocument rawDocument = RawBsonDocument.parse("{}");
+
+        assertEquals(0, BsonDocumentFieldIndex.build(rawDocument.getByteBuffer()).size());
+        assertNull(rawDocument.get("a"));
+        assertFalse(rawDocument.containsKey("a"));
+    }
+
+    @Test
+    void shouldSkipValuesOfEveryType() {
+        BsonDocument document = new BsonDocument("double", new BsonDouble(1.5))
+                .append("string", new BsonString("s"))
+                .append("document", new BsonDocument("a", new BsonInt32(1)))
+                .append("array", new BsonArray(asList(new BsonInt32(1), new BsonString("two"))))
+                .append("binary", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("undefined", new BsonUndefined())
+                .append("objectId", new BsonObjectId(new ObjectId()))
+                .append("boolean", BsonBoolean.TRUE)
+                .append("dateTime", new BsonDateTime(1))
+                .append("null", BsonNull.VALUE)
+                .append("regex", new BsonRegularExpression("^a", "i"))
+                .append("dbPointer", new BsonDbPointer("db.coll", new ObjectId()))
+                .append("javaScript", new BsonJavaScript("f()"))
+                .append("symbol", new BsonSymbol("sym"))
+                .append("javaScriptWithScope", new BsonJavaScriptWithScope("g()", new BsonDocument("x", new BsonInt32(1))))
+                .append("int32", new BsonInt32(1))
+                .append("timestamp", new BsonTimestamp(1, 2))
+                .append("int64", new BsonInt64(1))
+                .append("decimal128", new BsonDecimal128(Decimal128.parse("1.5")))
+                .append("minKey", new BsonMinKey())
+                .append("maxKey", new BsonMaxKey())
+                .append("last", new BsonString("end"));
+        RawBsonDocument rawDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+        BsonDocumentFieldIndex index = BsonDocumentFieldIndex.build(rawDocument.getByteBuffer());
+
+        assertEquals(document.size(), index.size());
+        for (String key : document.keySet()) {
+            assertEquals(index.findElementOffset(key), BsonDocumentFieldIndex.findElementOffset(rawDocument.getByteBuffer(), key));
+            assertEquals(document.get(key), rawDocument.get(key));
+        }
+    }
+
+    @Test
+    void shouldRejectCorruptDocuments() {
+        ByteBuf documentBuffer = RawBsonDocument.parse("{a: 'b'}").getByteBuffer();
+        byte[] bytes = new byte[documentBuffer.remaining()];
+        documentBuffer.get(bytes);
+
+        byte[] unterminated = bytes.clone();
+        unterminated[unterminated.length - 1] = 1;
+        assertThrows(BsonSerializationException.class, () -> BsonDocumentFieldIndex.build(wrap(unterminated)));
+
+        byte[] oversizedString = bytes.clone();
+        oversizedString[7] = 100;
+        assertThrows(BsonSerializationException.class, () -> BsonDocumentFieldIndex.build(wrap(oversizedString)));
+        assertThrows(BsonSerializationException.class, () -> BsonDocumentFieldIndex.findElementOffset(wrap(oversizedString), "c"));
+
+        byte[] unknownType = bytes.clone();
+        unknownType[4] = 0x20;
+        assertThrows(BsonSerializationException.class, () -> BsonDocumentFieldIndex.build(wrap(unknownType)));
+    }
+
+    private static ByteBuf wrap(final byte[] bytes) {
+        return new ByteBufNIO(ByteBuffer.wrap(bytes));
+    }
+}
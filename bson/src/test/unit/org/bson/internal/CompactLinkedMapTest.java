@@ -0,0 +1,193 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class CompactLinkedMapTest {
+
+    @Test
+    void shouldKeepInsertionOrder() {
+        Map<String, Integer> map = new CompactLinkedMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.put("a", 4);
+
+        assertEquals("{c=1, a=4, b=3}", map.toString());
+        assertEquals(4, map.remove("a"));
+        map.put("a", 5);
+        assertEquals("{c=1, b=3, a=5}", map.toString());
+    }
+
+    @Test
+    void shouldPermitNullKeysAndValues() {
+        Map<String, Integer> map = new CompactLinkedMap<>();
+        map.put(null, 1);
+        map.put("a", null);
+
+        assertEquals(1, map.get(null));
+        assertTrue(map.containsKey("a"));
+        assertNull(map.get("a"));
+        assertTrue(map.containsValue(null));
+        assertEquals(1, map.remove(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    void shouldBehaveLikeLinkedHashMapAcrossTheIndexThreshold() {
+        Random random = new Random(42);
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        Map<String, Integer> actual = new CompactLinkedMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // a range of keys that moves the size back and forth across the threshold
+            String key = "key" + random.nextInt(CompactLinkedMap.INDEX_THRESHOLD * 4);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(key), actual.remove(key));
+                    break;
+                case 1:
+                    assertEquals(expected.get(key), actual.get(key));
+                    assertEquals(expected.containsKey(key), actual.containsKey(key));
+                    break;
+                default:
+                    assertEquals(expected.put(key, i), actual.put(key, i));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+    }
+
+    @Test
+    void shouldFindKeysWithCollidingHashCodes() {
+        // "Aa" and "BB" have the same hash code, as do all strings made up of them
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int bit = 0; bit < 5; bit++) {
+                key.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            keys.add(key.toString());
+        }
+        Map<String, Integer> map = new CompactLinkedMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            map.put(keys.get(i), i);
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, map.get(keys.get(i)));
+        }
+        assertEquals(keys, new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void shouldRemoveAndSetValuesThroughIterator() {
+        Map<String, Integer> map = new CompactLinkedMap<>();
+        for (int i = 0; i < 12; i++) {
+            map.put("key" + i, i);
+        }
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            if (entry.getValue() % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(-entry.getValue());
+            }
+        }
+
+        assertEquals(6, map.size());
+        assertEquals(-9, map.get("key9"));
+        assertNull(map.get("key10"));
+
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(5, map.size());
+        assertFalse(map.containsKey("key11"));
+    }
+
+    @Test
+    void shouldKeepEntriesBoundToTheirKeysAcrossStructuralModifications() {
+        Map<String, Integer> map = new CompactLinkedMap<>();
+        for (int i = 0; i < 12; i++) {
+            map.put("key" + i, i);
+        }
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        Map.Entry<String, Integer> first = iterator.next();
+        Map.Entry<String, Integer> second = iterator.next();
+        Map.Entry<String, Integer> third = iterator.next();
+
+        iterator.remove();
+        map.remove("key0");
+
+        assertEquals("key1", second.getKey());
+        assertEquals(1, second.getValue());
+        assertEquals(1, second.setValue(-1));
+        assertEquals(-1, map.get("key1"));
+        assertEquals(3, map.get("key3"));
+        assertEquals(10, map.size());
+        assertThrows(IllegalStateException.class, first::getValue);
+        assertThrows(IllegalStateException.class, () -> third.setValue(-2));
+        assertEquals("key2", third.getKey());
+    }
+
+    @Test
+    void shouldFailFastOnConcurrentModification() {
+        Map<String, Integer> map = new CompactLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("c", 3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((key, value) -> map.remove("c")));
+    }
+
+    @Test
+    void shouldCopyAndClear() {
+        Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            source.put("key" + i, i);
+        }
+        Map<String, Integer> map = new CompactLinkedMap<>(source);
+        assertEquals(source, map);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("key9"));
+        map.put("key9", 9);
+        assertEquals(9, map.get("key9"));
+        assertThrows(IllegalArgumentException.class, () -> new CompactLinkedMap<>(-1));
+    }
+}
@@ -137,6 +137,35 @@ class ProvidersCodecRegistrySpecification extends Specification {
         codecFromRegistry == codec
     }
 
+    def 'get from a child registry should use the codecCache'() {
+        given:
+        def codec = Mock(Codec)
+        def provider = new CodecProvider() {
+            private int counter = 0
+
+            @Override
+            Codec get(final Class clazz, final CodecRegistry registry) {
+                if (clazz == Simple) {
+                    return new SimpleCodec(registry)
+                }
+                if (counter == 0) {
+                    counter++
+                    return codec
+                }
+                throw new AssertionError((Object)'Must not be called more than once.')
+            }
+        }
+
+        when:
+        def registry = new ProvidersCodecRegistry([provider])
+        def codecFromRegistry = registry.get(MinKey)
+        def childRegistry = (registry.get(Simple) as SimpleCodec).getRegistry()
+
+        then:
+        childRegistry.get(MinKey).is(codecFromRegistry)
+        childRegistry.get(Simple).is(registry.get(Simple))
+    }
+
     def 'get with codec registry should return the codec from the first source that has one'() {
         given:
         def provider = new ProvidersCodecRegistry([new ClassModelCodecProvider([Simple])])
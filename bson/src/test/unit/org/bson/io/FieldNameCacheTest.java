@@ -0,0 +1,128 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.ByteBufNIO;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodecProvider;
+import org.bson.codecs.OverridableUuidRepresentationCodec;
+import org.bson.codecs.ValueCodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.withFieldNameCache;
+import static org.bson.codecs.configuration.CodecRegistries.withUuidRepresentation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldNameCacheTest {
+
+    @Test
+    public void shouldReturnSameStringForSameBytes() {
+        FieldNameCache cache = new FieldNameCache();
+        byte[] bytes = "xxfieldName".getBytes(StandardCharsets.UTF_8);
+
+        String fieldName = cache.get(bytes, 2, 9);
+
+        assertEquals("fieldName", fieldName);
+        assertSame(fieldName, cache.get("fieldName".getBytes(StandardCharsets.UTF_8), 0, 9));
+    }
+
+    @Test
+    public void shouldNotCacheLongFieldNames() {
+        FieldNameCache cache = new FieldNameCache();
+        byte[] bytes = new byte[FieldNameCache.MAX_FIELD_NAME_LENGTH + 1];
+        Arrays.fill(bytes, (byte) 'a');
+
+        assertNotSame(cache.get(bytes, 0, bytes.length), cache.get(bytes, 0, bytes.length));
+    }
+
+    @Test
+    public void shouldReplaceFieldNamesInTheSameSlot() {
+        FieldNameCache cache = new FieldNameCache(1);
+
+        String first = cache.get("first".getBytes(StandardCharsets.UTF_8), 0, 5);
+        assertEquals("second", cache.get("second".getBytes(StandardCharsets.UTF_8), 0, 6));
+
+        String firstAgain = cache.get("first".getBytes(StandardCharsets.UTF_8), 0, 5);
+        assertEquals(first, firstAgain);
+        assertNotSame(first, firstAgain);
+    }
+
+    @Test
+    public void shouldReadCachedFieldNames() {
+        FieldNameCache cache = new FieldNameCache();
+        BsonDocument document = new BsonDocument("first", new BsonInt32(1))
+                .append("second", new BsonInt32(2))
+                .append("é", new BsonInt32(3));
+
+        BsonDocument decoded = decode(document, ByteBuffer.allocate(0), cache);
+        BsonDocument decodedFromDirectBuffer = decode(document, ByteBuffer.allocateDirect(0), cache);
+
+        assertEquals(document, decoded);
+        assertEquals(document, decodedFromDirectBuffer);
+        assertSame(decoded.getFirstKey(), decodedFromDirectBuffer.getFirstKey());
+        assertSame(decoded.keySet().toArray()[1], decodedFromDirectBuffer.keySet().toArray()[1]);
+    }
+
+    @Test
+    public void shouldApplyCacheToCodecRegistry() {
+        FieldNameCache cache = new FieldNameCache();
+        CodecRegistry registry = withFieldNameCache(fromProviders(new DocumentCodecProvider(), new BsonValueCodecProvider(),
+                new ValueCodecProvider()), cache);
+        Codec<Document> codec = registry.get(Document.class);
+        RawBsonDocument raw = RawBsonDocument.parse("{fieldName: 1, nested: {fieldName: 2}}");
+
+        BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(raw.getByteBuffer()));
+        Document decoded = codec.decode(reader, DecoderContext.builder().build());
+
+        assertNull(reader.getFieldNameCache());
+        assertSame(decoded.keySet().iterator().next(), decoded.get("nested", Document.class).keySet().iterator().next());
+        assertTrue(codec instanceof CollectibleCodec);
+        assertTrue(codec instanceof OverridableUuidRepresentationCodec);
+        assertTrue(withUuidRepresentation(registry, UuidRepresentation.STANDARD).get(Document.class)
+                instanceof CollectibleCodec);
+    }
+
+    private static BsonDocument decode(final BsonDocument document, final ByteBuffer template, final FieldNameCache cache) {
+        ByteBuffer encoded = new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().asNIO();
+        ByteBuffer buffer = template.isDirect() ? ByteBuffer.allocateDirect(encoded.remaining()) : ByteBuffer.allocate(encoded.remaining());
+        buffer.put(encoded);
+        buffer.flip();
+        try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(buffer)), cache)) {
+            return new BsonDocumentCodec().decode(reader, DecoderContext.builder().build());
+        }
+    }
+}
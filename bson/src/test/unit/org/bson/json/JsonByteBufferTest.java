@@ -0,0 +1,137 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonByteBufferTest {
+
+    @Test
+    public void testRead() {
+        JsonBuffer buffer = buffer("ABC");
+        assertEquals('A', buffer.read());
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testReadMultiByteCharacters() {
+        String text = "\u00e9\u20ac\ud83d\ude00";
+        JsonBuffer buffer = buffer(text);
+        for (int i = 0; i < text.length(); i++) {
+            assertEquals(text.charAt(i), buffer.read());
+        }
+        assertEquals(-1, buffer.read());
+        assertEquals(9, buffer.getPosition());
+    }
+
+    @Test
+    public void testReadMalformedBytes() {
+        byte[] bytes = {'A', (byte) 0x80, (byte) 0xc3, 'B', (byte) 0xe0, (byte) 0x80, (byte) 0x80, (byte) 0xed, (byte) 0xa0, (byte) 0x80};
+        JsonBuffer buffer = new JsonByteBuffer(ByteBuffer.wrap(bytes));
+        StringBuilder builder = new StringBuilder();
+        for (int c = buffer.read(); c != -1; c = buffer.read()) {
+            builder.append((char) c);
+        }
+        assertEquals("A\uFFFDB\uFFFD", builder.toString().replaceAll("\uFFFD+", "\uFFFD"));
+    }
+
+    @Test
+    public void testUnRead() {
+        JsonBuffer buffer = buffer("\ud83d\ude00A");
+        int high = buffer.read();
+        buffer.unread(high);
+        assertEquals(high, buffer.read());
+        int low = buffer.read();
+        buffer.unread(low);
+        assertEquals(low, buffer.read());
+        buffer.unread(buffer.read());
+        assertEquals('A', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    public void testPosition() {
+        ByteBuffer bytes = ByteBuffer.wrap("xABC".getBytes(UTF_8));
+        bytes.position(1);
+        JsonBuffer buffer = new JsonByteBuffer(bytes);
+
+        buffer.read();
+        buffer.read();
+        assertEquals(2, buffer.getPosition());
+        assertEquals(1, bytes.position());
+    }
+
+    @Test
+    public void testMarkAndReset() {
+        JsonBuffer buffer = buffer("ABCD");
+        buffer.read();
+        int mark = buffer.mark();
+        assertEquals('B', buffer.read());
+        assertEquals('C', buffer.read());
+        buffer.reset(mark);
+        assertEquals('B', buffer.read());
+        assertThrows(IllegalStateException.class, () -> buffer.reset(3));
+    }
+
+    @Test
+    public void testReadAsciiRun() {
+        JsonBuffer buffer = buffer("abc\\\"d\u00e9\"");
+        StringBuilder builder = new StringBuilder();
+        buffer.readAsciiRun(builder, '"');
+        assertEquals("abc", builder.toString());
+        assertEquals('\\', buffer.read());
+        buffer.read();
+        buffer.readAsciiRun(builder, '"');
+        assertEquals("abcd", builder.toString());
+        assertEquals('\u00e9', buffer.read());
+    }
+
+    @Test
+    public void testEOFCheck() {
+        JsonBuffer buffer = buffer("");
+
+        buffer.read();
+        assertThrows(JsonParseException.class, () -> buffer.read());
+    }
+
+    @Test
+    public void testReaderOverByteBuffer() {
+        String json = "{\"_id\": {\"$oid\": \"5f0c4b5e8b7c1a2b3c4d5e6f\"}, 'name': \"caf\u00e9 \\u20ac \ud83d\ude00 \\\"q\\\"\", count: 42,"
+                + " negative: -7, zero: 0, big: 1234567890123456789, bigger: -12345678901234567890.5, double: 1.5e3, nan: NaN,"
+                + " minusInfinity: -Infinity, when: {$date: '2020-01-01T00:00:00Z'}, tags: ['a', {b: null}, true, 007],"
+                + " regex: /a.*b/i, long: NumberLong(5), nested: {escaped: \"\\n\\t\"}}";
+        BsonDocument expected = new BsonDocumentCodec().decode(new JsonReader(json), DecoderContext.builder().build());
+
+        JsonReader reader = new JsonReader(ByteBuffer.wrap(json.getBytes(UTF_8)));
+        assertEquals(expected, new BsonDocumentCodec().decode(reader, DecoderContext.builder().build()));
+    }
+
+    private static JsonBuffer buffer(final String text) {
+        return new JsonByteBuffer(ByteBuffer.wrap(text.getBytes(UTF_8)));
+    }
+}
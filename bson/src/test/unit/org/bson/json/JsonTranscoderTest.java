@@ -0,0 +1,228 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.json;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonSerializationException;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonTranscoderTest {
+    private static final String JSON = "{\"_id\": {\"$oid\": \"5f0c4b5e8b7c1a2b3c4d5e6f\"}, \"name\": \"caf\u00e9 \u20ac \ud83d\ude00\","
+            + " \"count\": 42, \"big\": {\"$numberLong\": \"9007199254740993\"}, \"when\": {\"$date\": \"2020-01-01T00:00:00Z\"},"
+            + " \"tags\": [\"a\", {\"b\": null}, 1.5], \"nested\": {\"escaped\": \"\\\"quoted\\\"\\n\"}}";
+
+    @Test
+    public void testBsonToJson() {
+        RawBsonDocument document = RawBsonDocument.parse(JSON);
+        for (JsonMode mode : JsonMode.values()) {
+            JsonWriterSettings settings = JsonWriterSettings.builder().outputMode(mode).build();
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            JsonTranscoder.bsonToJson(document.getByteBuffer().asNIO(), json, settings);
+            assertEquals(document.toJson(settings), new String(json.toByteArray(), UTF_8));
+        }
+    }
+
+    @Test
+    public void testBsonToJsonOfAllTypes() {
+        BsonDocument document = new BsonDocument("double", new BsonDouble(1.5))
+                .append("string", new BsonString("caf\u00e9 \ud83d\ude00 \"\\ \b\f\n\r\t \u0000\u0001\u007f\u00ad\u2028 \ud800"))
+                .append("document", new BsonDocument("a", new BsonArray(asList(new BsonInt32(1), new BsonDocument()))))
+                .append("binary", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("oldBinary", new BsonBinary(BsonBinarySubType.OLD_BINARY, new byte[] {4, 5}))
+                .append("uuid", new BsonBinary(BsonBinarySubType.UUID_STANDARD, new byte[16]))
+                .append("undefined", new BsonUndefined())
+                .append("objectId", new BsonObjectId(new ObjectId("5f0c4b5e8b7c1a2b3c4d5e6f")))
+                .append("boolean", BsonBoolean.TRUE)
+                .append("dateTime", new BsonDateTime(1577836800000L))
+                .append("null", BsonNull.VALUE)
+                .append("regex", new BsonRegularExpression("^a\"b", "im"))
+                .append("dbPointer", new BsonDbPointer("db.coll", new ObjectId("5f0c4b5e8b7c1a2b3c4d5e6f")))
+                .append("javaScript", new BsonJavaScript("var a = \"\u00e9\";"))
+                .append("symbol", new BsonSymbol("symbol"))
+                .append("javaScriptWithScope", new BsonJavaScriptWithScope("a", new BsonDocument("a", new BsonString("\u00e9"))))
+                .append("int32", new BsonInt32(-1))
+                .append("timestamp", new BsonTimestamp(1, 2))
+                .append("int64", new BsonInt64(Long.MIN_VALUE))
+                .append("decimal128", new BsonDecimal128(Decimal128.parse("1.10")))
+                .append("minKey", new BsonMinKey())
+                .append("maxKey", new BsonMaxKey())
+                .append("na\u00efve \"name\"\n", new BsonString(""));
+        byte[] bson = toBytes(new RawBsonDocument(document, new BsonDocumentCodec()));
+
+        for (JsonMode mode : JsonMode.values()) {
+            for (boolean indent : new boolean[] {false, true}) {
+                JsonWriterSettings settings = JsonWriterSettings.builder().outputMode(mode).indent(indent).build();
+                assertEquals(pipe(bson, settings), bsonToJson(bson, settings));
+            }
+        }
+    }
+
+    @Test
+    public void testBsonToJsonOfMalformedUtf8() {
+        byte[] bson = toBytes(RawBsonDocument.parse("{a: 'xxxx', bb: 1}"));
+        // an overlong encoding of '/', and a lone continuation byte in the name
+        bson[11] = (byte) 0xc0;
+        bson[12] = (byte) 0xaf;
+        bson[17] = (byte) 0x80;
+        JsonWriterSettings settings = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+        assertEquals(pipe(bson, settings), bsonToJson(bson, settings));
+    }
+
+    @Test
+    public void testBsonToJsonWithCustomConverterAndMaxLength() {
+        byte[] bson = toBytes(RawBsonDocument.parse(JSON));
+        JsonWriterSettings converted = JsonWriterSettings.builder()
+                .stringConverter((value, writer) -> writer.writeString(value.toUpperCase()))
+                .build();
+        assertEquals(pipe(bson, converted), bsonToJson(bson, converted));
+
+        JsonWriterSettings truncated = JsonWriterSettings.builder().maxLength(20).build();
+        assertEquals(pipe(bson, truncated), bsonToJson(bson, truncated));
+    }
+
+    @Test
+    public void testBsonToJsonRejectsCorruptDocuments() {
+        byte[] bson = toBytes(RawBsonDocument.parse("{a: 'xxxx', b: true}"));
+        JsonWriterSettings settings = JsonWriterSettings.builder().build();
+
+        byte[] badSize = bson.clone();
+        badSize[0] = (byte) (bson.length + 1);
+        assertThrows(BsonSerializationException.class, () -> bsonToJson(badSize, settings));
+
+        byte[] badStringSize = bson.clone();
+        badStringSize[7] = 100;
+        assertThrows(BsonSerializationException.class, () -> bsonToJson(badStringSize, settings));
+
+        byte[] badBoolean = bson.clone();
+        badBoolean[bson.length - 2] = 2;
+        assertThrows(BsonSerializationException.class, () -> bsonToJson(badBoolean, settings));
+
+        byte[] badType = bson.clone();
+        badType[4] = 0x7e;
+        assertThrows(BsonSerializationException.class, () -> bsonToJson(badType, settings));
+    }
+
+    @Test
+    public void testBsonToJsonAdvancesPosition() {
+        byte[] first = toBytes(RawBsonDocument.parse("{a: 1}"));
+        byte[] second = toBytes(RawBsonDocument.parse("{b: 'two'}"));
+        ByteBuffer bson = ByteBuffer.allocate(first.length + second.length).put(first).put(second);
+        bson.flip();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonWriterSettings settings = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+        while (bson.hasRemaining()) {
+            JsonTranscoder.bsonToJson(bson, json, settings);
+            json.write('\n');
+        }
+        assertEquals("{\"a\": 1}\n{\"b\": \"two\"}\n", new String(json.toByteArray(), UTF_8));
+    }
+
+    @Test
+    public void testJsonToBson() {
+        byte[] first = toBytes(RawBsonDocument.parse(JSON));
+        byte[] second = toBytes(RawBsonDocument.parse("{b: 'two'}"));
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(first, 0, first.length);
+        expected.write(second, 0, second.length);
+
+        ByteArrayOutputStream bson = new ByteArrayOutputStream();
+        int count = JsonTranscoder.jsonToBson(new ByteArrayInputStream((JSON + "\n{b: 'two'}\n").getBytes(UTF_8)), bson);
+        assertEquals(2, count);
+        assertArrayEquals(expected.toByteArray(), bson.toByteArray());
+    }
+
+    @Test
+    public void testJsonToBsonFromByteBuffer() {
+        byte[] expected = toBytes(RawBsonDocument.parse(JSON));
+        ByteBuffer json = ByteBuffer.wrap(JSON.getBytes(UTF_8));
+
+        ByteArrayOutputStream bson = new ByteArrayOutputStream();
+        assertEquals(1, JsonTranscoder.jsonToBson(json, bson));
+        assertArrayEquals(expected, bson.toByteArray());
+        assertEquals(0, json.position());
+    }
+
+    @Test
+    public void testJsonToBsonOfNoDocuments() {
+        ByteArrayOutputStream bson = new ByteArrayOutputStream();
+        assertEquals(0, JsonTranscoder.jsonToBson(new ByteArrayInputStream(" \n".getBytes(UTF_8)), bson));
+        assertEquals(0, bson.size());
+    }
+
+    @Test
+    public void testJsonToBsonRejectsValuesThatAreNotDocuments() {
+        assertThrows(JsonParseException.class, () ->
+                JsonTranscoder.jsonToBson(new ByteArrayInputStream("{a: 1} 2".getBytes(UTF_8)), new ByteArrayOutputStream()));
+    }
+
+    private static String bsonToJson(final byte[] bson, final JsonWriterSettings settings) {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonTranscoder.bsonToJson(ByteBuffer.wrap(bson), json, settings);
+        return new String(json.toByteArray(), UTF_8);
+    }
+
+    private static String pipe(final byte[] bson, final JsonWriterSettings settings) {
+        StringWriter json = new StringWriter();
+        new JsonWriter(json, settings).pipe(new BsonBinaryReader(ByteBuffer.wrap(bson)));
+        return json.toString();
+    }
+
+    private static byte[] toBytes(final RawBsonDocument document) {
+        ByteBuffer buffer = document.getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.vector;
+
+import org.bson.BinaryVector;
+import org.bson.Float32BinaryVector;
+import org.bson.Int8BinaryVector;
+import org.bson.PackedBitBinaryVector;
+import org.bson.internal.vector.VectorMath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryVectorSimilarityTest {
+
+    // set by the java17Test task, which runs these tests with the Java 17 classes and the Vector API
+    @Test
+    @EnabledIfSystemProperty(named = "org.bson.test.vectorApi", matches = "true")
+    void shouldUseTheVectorApi() {
+        assertTrue(VectorMath.isAccelerated());
+    }
+
+    @Test
+    void shouldCalculateFloat32Similarity() {
+        Float32BinaryVector a = BinaryVector.floatVector(new float[] {1, 2, 3});
+        Float32BinaryVector b = BinaryVector.floatVector(new float[] {4, -5, 6});
+
+        assertEquals(12f, a.dotProduct(b));
+        assertEquals(12 / Math.sqrt(14 * 77), a.cosineSimilarity(b), 1e-6);
+        assertEquals(1f, a.cosineSimilarity(a), 1e-6);
+        assertEquals(-1f, a.cosineSimilarity(BinaryVector.floatVector(new float[] {-2, -4, -6})), 1e-6);
+        assertTrue(Float.isNaN(a.cosineSimilarity(BinaryVector.floatVector(new float[3]))));
+    }
+
+    @Test
+    void shouldCalculateFloat32SimilarityOfViews() {
+        Random random = new Random(42);
+        float[] a = new float[1537];
+        float[] b = new float[a.length];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextFloat() * 2 - 1;
+            b[i] = random.nextFloat() * 2 - 1;
+        }
+        double expectedDotProduct = 0;
+        double aNorm = 0;
+        double bNorm = 0;
+        for (int i = 0; i < a.length; i++) {
+            expectedDotProduct += (double) a[i] * b[i];
+            aNorm += (double) a[i] * a[i];
+            bNorm += (double) b[i] * b[i];
+        }
+        double expectedCosineSimilarity = expectedDotProduct / Math.sqrt(aNorm * bNorm);
+
+        Float32BinaryVector[] aVectors = {BinaryVector.floatVector(a), BinaryVector.floatVector(FloatBuffer.wrap(a)),
+                BinaryVector.floatVector(littleEndianView(a))};
+        Float32BinaryVector[] bVectors = {BinaryVector.floatVector(b), BinaryVector.floatVector(FloatBuffer.wrap(b)),
+                BinaryVector.floatVector(littleEndianView(b))};
+        for (Float32BinaryVector aVector : aVectors) {
+            for (Float32BinaryVector bVector : bVectors) {
+                assertEquals(expectedDotProduct, aVector.dotProduct(bVector), 1e-3);
+                assertEquals(expectedCosineSimilarity, aVector.cosineSimilarity(bVector), 1e-5);
+            }
+        }
+    }
+
+    // like the vectors read from a RawBsonDocument
+    private static FloatBuffer littleEndianView(final float[] elements) {
+        ByteBuffer bytes = ByteBuffer.allocate(elements.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asFloatBuffer().put(elements);
+        return bytes.asFloatBuffer();
+    }
+
+    @Test
+    void shouldCalculateInt8Similarity() {
+        Int8BinaryVector a = BinaryVector.int8Vector(new byte[] {127, -128, 3});
+        Int8BinaryVector b = BinaryVector.int8Vector(new byte[] {127, -128, -3});
+
+        assertEquals(127 * 127 + 128 * 128 - 9, a.dotProduct(b));
+        assertEquals((127 * 127 + 128 * 128 - 9) / (127 * 127 + 128 * 128 + 9.0), a.cosineSimilarity(b), 1e-6);
+    }
+
+    @Test
+    void shouldCalculateHammingDistance() {
+        PackedBitBinaryVector a = BinaryVector.packedBitVector(new byte[] {(byte) 0xff, 0, 0x0f, 0, 0, 0, 0, 0, (byte) 0xf0}, (byte) 4);
+        PackedBitBinaryVector b = BinaryVector.packedBitVector(new byte[] {0, 0, (byte) 0xff, 0, 0, 0, 0, 0, (byte) 0x80}, (byte) 4);
+
+        assertEquals(8 + 4 + 3, a.hammingDistance(b));
+        assertEquals(0, a.hammingDistance(a));
+    }
+
+    @Test
+    void shouldThrowIfNumberOfElementsDiffers() {
+        assertThrows(IllegalArgumentException.class, () ->
+                BinaryVector.floatVector(new float[2]).dotProduct(BinaryVector.floatVector(new float[3])));
+        assertThrows(IllegalArgumentException.class, () ->
+                BinaryVector.floatVector(new float[2]).cosineSimilarity(BinaryVector.floatVector(FloatBuffer.wrap(new float[3]))));
+        assertThrows(IllegalArgumentException.class, () ->
+                BinaryVector.int8Vector(new byte[2]).dotProduct(BinaryVector.int8Vector(new byte[3])));
+        assertThrows(IllegalArgumentException.class, () ->
+                BinaryVector.packedBitVector(new byte[1], (byte) 0).hammingDistance(BinaryVector.packedBitVector(new byte[1], (byte) 1)));
+    }
+}
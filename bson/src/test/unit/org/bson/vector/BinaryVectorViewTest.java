@@ -0,0 +1,146 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.vector;
+
+import org.bson.BinaryVector;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonInvalidOperationException;
+import org.bson.Float32BinaryVector;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryVectorViewTest {
+    private static final float[] DATA = {1.5f, -2.25f, Float.MAX_VALUE, Float.MIN_VALUE, -0.0f, Float.NaN};
+
+    @Test
+    void shouldCreateFloatVectorOverBuffer() {
+        float[] data = DATA.clone();
+        FloatBuffer buffer = FloatBuffer.wrap(data);
+        buffer.position(1);
+        Float32BinaryVector vector = BinaryVector.floatVector(buffer);
+
+        assertEquals(1, buffer.position());
+        data[1] = 42f;
+        assertEquals(42f, vector.asFloatBuffer().get(0));
+        assertThrows(ReadOnlyBufferException.class, () -> vector.asFloatBuffer().put(0, 1f));
+
+        float[] vectorData = vector.getData();
+        assertEquals(DATA.length - 1, vectorData.length);
+        assertSame(vectorData, vector.getData());
+        data[1] = 43f;
+        assertEquals(42f, vector.asFloatBuffer().get(0));
+        vectorData[0] = 44f;
+        assertEquals(44f, vector.asFloatBuffer().get(0));
+    }
+
+    @Test
+    void shouldBeEqualToVectorOverArray() {
+        Float32BinaryVector view = BinaryVector.floatVector(FloatBuffer.wrap(DATA.clone()));
+        Float32BinaryVector array = BinaryVector.floatVector(DATA.clone());
+
+        assertEquals(array, view);
+        assertEquals(array.hashCode(), view.hashCode());
+        assertEquals(array.toString(), view.toString());
+        assertEquals(new BsonBinary(array), new BsonBinary(view));
+    }
+
+    @Test
+    void shouldGetBinaryVectorFromRawBsonDocumentWithoutCopying() {
+        Float32BinaryVector expected = BinaryVector.floatVector(DATA.clone());
+        RawBsonDocument document = toRawDocument(new BsonDocument("a", new BsonInt32(1)).append("v", new BsonBinary(expected)));
+
+        Float32BinaryVector vector = document.getBinaryVector("v").asFloat32Vector();
+        assertEquals(expected, vector);
+        assertEquals(document.getBinary("v").asVector(), vector);
+
+        ByteBuffer bytes = document.getByteBuffer().asNIO();
+        int firstElement = bytes.limit() - 1 - DATA.length * Float.BYTES;
+        bytes.putFloat(firstElement, 7f);
+        assertEquals(7f, document.getBinaryVector("v").asFloat32Vector().asFloatBuffer().get(0));
+    }
+
+    @Test
+    void shouldThrowIfRawBsonDocumentValueIsNotVector() {
+        RawBsonDocument document = toRawDocument(new BsonDocument("a", new BsonInt32(1)).append("b", new BsonBinary(new byte[] {1})));
+
+        assertThrows(BsonInvalidOperationException.class, () -> document.getBinaryVector("a"));
+        assertThrows(BsonInvalidOperationException.class, () -> document.getBinaryVector("b"));
+        assertThrows(BsonInvalidOperationException.class, () -> document.getBinaryVector("c"));
+    }
+
+    @Test
+    void shouldWriteBinaryVectorAsBinary() {
+        BinaryVector[] vectors = {
+                BinaryVector.floatVector(DATA.clone()),
+                BinaryVector.floatVector(FloatBuffer.wrap(DATA.clone())),
+                BinaryVector.floatVector(largeData()),
+                BinaryVector.int8Vector(new byte[] {1, -2, 3}),
+                BinaryVector.packedBitVector(new byte[] {(byte) 0b10101010, (byte) 0b01010000}, (byte) 4)
+        };
+        for (BinaryVector vector : vectors) {
+            BasicOutputBuffer expected = new BasicOutputBuffer();
+            try (BsonBinaryWriter writer = new BsonBinaryWriter(expected)) {
+                writer.writeStartDocument();
+                writer.writeBinaryData("v", new BsonBinary(vector));
+                writer.writeEndDocument();
+            }
+            BasicOutputBuffer actual = new BasicOutputBuffer();
+            try (BsonBinaryWriter writer = new BsonBinaryWriter(actual)) {
+                writer.writeStartDocument();
+                writer.writeName("v");
+                writer.writeBinaryVector(vector);
+                writer.writeEndDocument();
+            }
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+
+            BsonDocument document = new BsonDocument();
+            BsonDocumentWriter documentWriter = new BsonDocumentWriter(document);
+            documentWriter.writeStartDocument();
+            documentWriter.writeName("v");
+            documentWriter.writeBinaryVector(vector);
+            documentWriter.writeEndDocument();
+            assertEquals(new BsonBinary(vector), document.getBinary("v"));
+        }
+    }
+
+    private static float[] largeData() {
+        float[] data = new float[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i / 3f;
+        }
+        return data;
+    }
+
+    private static RawBsonDocument toRawDocument(final BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BinaryVector;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.Float32BinaryVector;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.benchmark.jmh.codec.BsonUtils.getDocumentAsBuffer;
+
+/**
+ * Compares decoding a {@link BinaryVector.DataType#FLOAT32} vector from a {@link RawBsonDocument} by copying it into a float array with
+ * reading it through a view of the document bytes, and encoding it through a {@link BsonBinary} with encoding it straight to the output.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class BinaryVectorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"384", "768", "1536"})
+        protected int dimensions;
+
+        protected final BasicOutputBuffer outputBuffer = new BasicOutputBuffer();
+        protected Float32BinaryVector vector;
+        protected RawBsonDocument document;
+
+        @Setup
+        public void setup() throws IOException {
+            Random random = new Random(42);
+            float[] data = new float[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                data[i] = random.nextFloat() * 2 - 1;
+            }
+            vector = BinaryVector.floatVector(data);
+            document = new RawBsonDocument(getDocumentAsBuffer(new BsonDocument("vector", new BsonBinary(vector))));
+        }
+    }
+
+    @Benchmark
+    public void decodeWithCopy(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(sum(FloatBuffer.wrap(input.document.getBinary("vector").asVector().asFloat32Vector().getData())));
+    }
+
+    @Benchmark
+    public void decodeWithView(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(sum(input.document.getBinaryVector("vector").asFloat32Vector().asFloatBuffer()));
+    }
+
+    @Benchmark
+    public void encodeWithCopy(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        input.outputBuffer.truncateToPosition(0);
+        BsonBinaryWriter writer = new BsonBinaryWriter(input.outputBuffer);
+        writer.writeStartDocument();
+        writer.writeBinaryData("vector", new BsonBinary(input.vector));
+        writer.writeEndDocument();
+        blackhole.consume(input.outputBuffer);
+    }
+
+    @Benchmark
+    public void encodeDirect(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        input.outputBuffer.truncateToPosition(0);
+        BsonBinaryWriter writer = new BsonBinaryWriter(input.outputBuffer);
+        writer.writeStartDocument();
+        writer.writeName("vector");
+        writer.writeBinaryVector(input.vector);
+        writer.writeEndDocument();
+        blackhole.consume(input.outputBuffer);
+    }
+
+    private static float sum(final FloatBuffer elements) {
+        float sum = 0;
+        for (int i = elements.position(); i < elements.limit(); i++) {
+            sum += elements.get(i);
+        }
+        return sum;
+    }
+}
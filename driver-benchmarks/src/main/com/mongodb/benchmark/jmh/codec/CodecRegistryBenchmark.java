@@ -0,0 +1,122 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.lang.NonNull;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * Benchmark of looking up the codecs of classes that are already cached, as codecs do for the values they encode.
+ *
+ * <p>The lookups do not allocate, which can be checked by running with the GC profiler, {@code -prof gc}, and checking that
+ * {@code gc.alloc.rate.norm} is close to zero.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class CodecRegistryBenchmark {
+    private static final Class<?>[] CLASSES = {String.class, Integer.class, Long.class, Date.class, ObjectId.class, Document.class};
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        protected CodecRegistry registry;
+        protected CodecRegistry childRegistry;
+
+        @Setup
+        public void setup() {
+            registry = fromRegistries(fromProviders(new RegistryCapturingCodecProvider()), MongoClientSettings.getDefaultCodecRegistry());
+            // The registry passed to providers, and so to the codecs that they create
+            childRegistry = ((RegistryCapturingCodec) registry.get(RegistryCapturingCodec.class)).registry;
+            for (Class<?> clazz : CLASSES) {
+                registry.get(clazz);
+            }
+        }
+    }
+
+    @Benchmark
+    public void getFromRegistry(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        for (Class<?> clazz : CLASSES) {
+            blackhole.consume(input.registry.get(clazz));
+        }
+    }
+
+    @Benchmark
+    public void getFromChildRegistry(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        for (Class<?> clazz : CLASSES) {
+            blackhole.consume(input.childRegistry.get(clazz));
+        }
+    }
+
+    private static final class RegistryCapturingCodecProvider implements CodecProvider {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+            return clazz == RegistryCapturingCodec.class ? (Codec<T>) new RegistryCapturingCodec(registry) : null;
+        }
+    }
+
+    private static final class RegistryCapturingCodec implements Codec<RegistryCapturingCodec> {
+        private final CodecRegistry registry;
+
+        RegistryCapturingCodec(final CodecRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public RegistryCapturingCodec decode(final BsonReader reader, final DecoderContext decoderContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void encode(final BsonWriter writer, final RegistryCapturingCodec value, final EncoderContext encoderContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<RegistryCapturingCodec> getEncoderClass() {
+            return RegistryCapturingCodec.class;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.ClassModelBuilder;
+import org.bson.codecs.pojo.Convention;
+import org.bson.codecs.pojo.Conventions;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.codecs.pojo.PropertyAccessor;
+import org.bson.codecs.pojo.PropertyModelBuilder;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * Benchmark of encoding and decoding a POJO with the POJO codec.
+ *
+ * <p>The {@code reflection} accessor replaces the accessors of the POJO codec with ones that call the getters and setters reflectively on
+ * each call, as the POJO codec used to, so that the two can be compared in a single run.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class PojoCodecBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"default", "reflection"})
+        public String accessor;
+
+        protected Codec<Person> codec;
+        protected Person person;
+        protected byte[] personBytes;
+
+        @Setup
+        public void setup() {
+            List<Convention> conventions = new ArrayList<>(Conventions.DEFAULT_CONVENTIONS);
+            if (accessor.equals("reflection")) {
+                conventions.add(PojoCodecBenchmark::useReflectiveAccessors);
+            }
+            CodecRegistry registry = fromRegistries(MongoClientSettings.getDefaultCodecRegistry(),
+                    fromProviders(PojoCodecProvider.builder().conventions(conventions).register(Person.class).build()));
+            codec = registry.get(Person.class);
+
+            person = new Person();
+            person.setFirstName("Ada");
+            person.setLastName("Lovelace");
+            person.setAge(36);
+            person.setHeight(1.65);
+            person.setActive(true);
+            person.setEmail("ada@example.com");
+            person.setCity("London");
+            person.setCountry("United Kingdom");
+            person.setScore(1815L);
+            person.setRank(1);
+
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            codec.encode(new BsonBinaryWriter(buffer), person, EncoderContext.builder().build());
+            personBytes = buffer.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public void decode(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.codec.decode(new BsonBinaryReader(ByteBuffer.wrap(input.personBytes)), DecoderContext.builder().build()));
+    }
+
+    @Benchmark
+    public void encode(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        input.codec.encode(new BsonBinaryWriter(buffer), input.person, EncoderContext.builder().build());
+        blackhole.consume(buffer);
+    }
+
+    private static void useReflectiveAccessors(final ClassModelBuilder<?> classModelBuilder) {
+        for (PropertyModelBuilder<?> propertyModelBuilder : classModelBuilder.getPropertyModelBuilders()) {
+            useReflectiveAccessor(classModelBuilder.getType(), propertyModelBuilder);
+        }
+    }
+
+    private static <T> void useReflectiveAccessor(final Class<?> type, final PropertyModelBuilder<T> propertyModelBuilder) {
+        String name = propertyModelBuilder.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method getter = findMethod(type, "get" + suffix, "is" + suffix);
+        Method setter = findMethod(type, "set" + suffix, "set" + suffix);
+        propertyModelBuilder.propertyAccessor(new PropertyAccessor<T>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <S> T get(final S instance) {
+                try {
+                    return (T) getter.invoke(instance);
+                } catch (Exception e) {
+                    throw new CodecConfigurationException(e.getMessage(), e);
+                }
+            }
+
+            @Override
+            public <S> void set(final S instance, final T value) {
+                try {
+                    setter.invoke(instance, value);
+                } catch (Exception e) {
+                    throw new CodecConfigurationException(e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private static Method findMethod(final Class<?> type, final String name, final String alternativeName) {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) || method.getName().equals(alternativeName)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    public static class Person {
+        private String firstName;
+        private String lastName;
+        private int age;
+        private double height;
+        private boolean active;
+        private String email;
+        private String city;
+        private String country;
+        private long score;
+        private int rank;
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(final String firstName) {
+            this.firstName = firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(final String lastName) {
+            this.lastName = lastName;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(final int age) {
+            this.age = age;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        public void setHeight(final double height) {
+            this.height = height;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.active = active;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(final String email) {
+            this.email = email;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(final String city) {
+            this.city = city;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+
+        public void setCountry(final String country) {
+            this.country = country;
+        }
+
+        public long getScore() {
+            return score;
+        }
+
+        public void setScore(final long score) {
+            this.score = score;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+
+        public void setRank(final int rank) {
+            this.rank = rank;
+        }
+    }
+}
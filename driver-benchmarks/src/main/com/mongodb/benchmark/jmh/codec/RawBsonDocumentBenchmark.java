@@ -0,0 +1,113 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.benchmark.jmh.codec.BsonUtils.getDocumentAsBuffer;
+
+/**
+ * Compares keyed access to a wide {@link RawBsonDocument}, which builds a field-name index on the first keyed access, with the linear
+ * scan of the document bytes that every keyed access used to perform.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class RawBsonDocumentBenchmark {
+
+    private static final int LOOKUP_COUNT = 10;
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"20", "200", "1000"})
+        protected int fieldCount;
+
+        protected final BsonValueCodec bsonValueCodec = new BsonValueCodec();
+        protected byte[] documentBytes;
+        protected String[] keys;
+
+        @Setup
+        public void setup() throws IOException {
+            BsonDocument document = new BsonDocument();
+            for (int i = 0; i < fieldCount; i++) {
+                document.append("field" + i, new BsonInt32(i));
+            }
+            documentBytes = getDocumentAsBuffer(document);
+
+            keys = new String[LOOKUP_COUNT];
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                keys[i] = "field" + (fieldCount - 1 - i * (fieldCount / LOOKUP_COUNT));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getWithFieldIndex(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        RawBsonDocument document = new RawBsonDocument(input.documentBytes);
+        for (String key : input.keys) {
+            blackhole.consume(document.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getWithLinearScan(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        for (String key : input.keys) {
+            blackhole.consume(linearScan(input, key));
+        }
+    }
+
+    private static BsonValue linearScan(final Input input, final String key) {
+        try (BsonBinaryReader bsonReader = new BsonBinaryReader(ByteBuffer.wrap(input.documentBytes))) {
+            bsonReader.readStartDocument();
+            while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (bsonReader.readName().equals(key)) {
+                    return input.bsonValueCodec.decode(bsonReader, DecoderContext.builder().build());
+                }
+                bsonReader.skipValue();
+            }
+            bsonReader.readEndDocument();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.mongodb.benchmark.jmh.connection;
+
+import com.mongodb.internal.connection.ClusterClock;
+import com.mongodb.internal.connection.ClusterClockAdvancingSessionContext;
+import com.mongodb.internal.connection.NoOpSessionContext;
+import com.mongodb.internal.session.SessionContext;
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonTimestamp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the cluster time bookkeeping that each command dispatch does through a {@link ClusterClock} shared by many threads:
+ * getting the cluster time to send with the command, and advancing the clock with the cluster time of the reply.
+ *
+ * <p>Most replies carry a cluster time that is equal to or older than the one the clock already has, as they do when many commands
+ * run concurrently.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class ClusterClockBenchmark {
+    private static final int REPLIES = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        protected final ClusterClock clusterClock = new ClusterClock();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadInput {
+        protected final BsonDocument[] replyClusterTimes = new BsonDocument[REPLIES];
+        protected int next;
+
+        @Setup
+        public void setup() {
+            for (int i = 0; i < REPLIES; i++) {
+                replyClusterTimes[i] = new BsonDocument("clusterTime", new BsonTimestamp(i / 16 + 1, i % 16))
+                        .append("signature", new BsonDocument("hash", new BsonBinary(new byte[20]))
+                                .append("keyId", new BsonInt64(0)));
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void dispatch1Thread(@NonNull final Input input, @NonNull final ThreadInput threadInput, @NonNull final Blackhole blackhole) {
+        dispatch(input, threadInput, blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void dispatch8Threads(@NonNull final Input input, @NonNull final ThreadInput threadInput, @NonNull final Blackhole blackhole) {
+        dispatch(input, threadInput, blackhole);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void dispatch64Threads(@NonNull final Input input, @NonNull final ThreadInput threadInput, @NonNull final Blackhole blackhole) {
+        dispatch(input, threadInput, blackhole);
+    }
+
+    private static void dispatch(final Input input, final ThreadInput threadInput, final Blackhole blackhole) {
+        SessionContext sessionContext = new ClusterClockAdvancingSessionContext(NoOpSessionContext.INSTANCE, input.clusterClock);
+        blackhole.consume(sessionContext.getClusterTime());
+        sessionContext.advanceClusterTime(threadInput.replyClusterTimes[threadInput.next]);
+        threadInput.next = (threadInput.next + 1) % REPLIES;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.connection;
+
+import com.mongodb.internal.connection.ConcurrentPool;
+import com.mongodb.lang.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of checking items out of, and back in to, a {@link ConcurrentPool} shared by many threads, with items that cost nothing
+ * to create, so that the contention on the pool is all that is measured.
+ *
+ * <p>With a pool smaller than the number of threads, threads wait for items to be checked back in.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class ConcurrentPoolBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"10", "100", "1000"})
+        public int maxSize;
+
+        protected ConcurrentPool<Object> pool;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            pool = new ConcurrentPool<>(maxSize, new ConcurrentPool.ItemFactory<Object>() {
+                @Override
+                public Object create() {
+                    return new Object();
+                }
+
+                @Override
+                public void close(final Object o) {
+                }
+
+                @Override
+                public boolean shouldPrune(final Object o) {
+                    return false;
+                }
+            });
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void checkOutAndCheckIn8Threads(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        checkOutAndCheckIn(input, blackhole);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void checkOutAndCheckIn64Threads(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        checkOutAndCheckIn(input, blackhole);
+    }
+
+    @Benchmark
+    @Threads(512)
+    public void checkOutAndCheckIn512Threads(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        checkOutAndCheckIn(input, blackhole);
+    }
+
+    private static void checkOutAndCheckIn(final Input input, final Blackhole blackhole) {
+        Object item = input.pool.get();
+        blackhole.consume(item);
+        input.pool.release(item);
+    }
+}
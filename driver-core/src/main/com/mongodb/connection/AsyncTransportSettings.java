@@ -21,6 +21,7 @@ import com.mongodb.lang.Nullable;
 
 import java.util.concurrent.ExecutorService;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 /**
@@ -32,9 +33,11 @@ import static com.mongodb.assertions.Assertions.notNull;
 public final class AsyncTransportSettings extends TransportSettings {
 
     private final ExecutorService executorService;
+    private final long maxDirectBufferPoolSize;
 
     private AsyncTransportSettings(final Builder builder) {
         this.executorService = builder.executorService;
+        this.maxDirectBufferPoolSize = builder.maxDirectBufferPoolSize;
     }
 
     static Builder builder() {
@@ -47,6 +50,7 @@ public final class AsyncTransportSettings extends TransportSettings {
     public static final class Builder {
 
         private ExecutorService executorService;
+        private long maxDirectBufferPoolSize;
 
         private Builder() {
         }
@@ -69,6 +73,27 @@ public final class AsyncTransportSettings extends TransportSettings {
             return this;
         }
 
+        /**
+         * Sets the maximum total capacity, in bytes, of the direct (off-heap) buffers that the client pools for reading from and
+         * writing to sockets.
+         *
+         * <p>By default, or when set to zero, the client pools heap buffers, which the JDK copies into a temporary direct buffer on each
+         * socket read and write.  When set to a positive value, the client pools direct buffers instead, up to the given total capacity.
+         * Once that capacity is reached, further buffers are allocated on the heap and are not pooled.</p>
+         *
+         * <p>This setting applies only when {@linkplain SslSettings#isEnabled() TLS is not enabled}.</p>
+         *
+         * @param maxDirectBufferPoolSize the maximum total capacity of the pooled direct buffers, in bytes, which must be >= 0
+         * @return this
+         * @see #getMaxDirectBufferPoolSize()
+         * @since 5.7
+         */
+        public Builder maxDirectBufferPoolSize(final long maxDirectBufferPoolSize) {
+            isTrueArgument("maxDirectBufferPoolSize >= 0", maxDirectBufferPoolSize >= 0);
+            this.maxDirectBufferPoolSize = maxDirectBufferPoolSize;
+            return this;
+        }
+
         /**
          * Build an instance of {@link AsyncTransportSettings}
          * @return an instance of {@link AsyncTransportSettings}
@@ -89,10 +114,22 @@ public final class AsyncTransportSettings extends TransportSettings {
         return executorService;
     }
 
+    /**
+     * Gets the maximum total capacity, in bytes, of the pooled direct buffers, or zero if heap buffers are pooled.
+     *
+     * @return the maximum total capacity of the pooled direct buffers
+     * @see Builder#maxDirectBufferPoolSize(long)
+     * @since 5.7
+     */
+    public long getMaxDirectBufferPoolSize() {
+        return maxDirectBufferPoolSize;
+    }
+
     @Override
     public String toString() {
         return "AsyncTransportSettings{"
                 + "executorService=" + executorService
+                + ", maxDirectBufferPoolSize=" + maxDirectBufferPoolSize
                 + '}';
     }
 }
@@ -23,6 +23,7 @@ import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.event.ClusterListener;
 import com.mongodb.internal.connection.ServerAddressHelper;
 import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerScorer;
 import com.mongodb.selector.ServerSelector;
 
 import java.util.ArrayList;
@@ -55,6 +56,7 @@ public final class ClusterSettings {
     private final ClusterType requiredClusterType;
     private final String requiredReplicaSetName;
     private final ServerSelector serverSelector;
+    private final ServerScorer serverScorer;
     private final long localThresholdMS;
     private final long serverSelectionTimeoutMS;
     private final List<ClusterListener> clusterListeners;
@@ -93,6 +95,7 @@ public final class ClusterSettings {
         private ClusterType requiredClusterType = ClusterType.UNKNOWN;
         private String requiredReplicaSetName;
         private ServerSelector serverSelector;
+        private ServerScorer serverScorer;
         private long serverSelectionTimeoutMS = MILLISECONDS.convert(30, TimeUnit.SECONDS);
         private long localThresholdMS = MILLISECONDS.convert(15, MILLISECONDS);
         private List<ClusterListener> clusterListeners = new ArrayList<>();
@@ -122,6 +125,7 @@ public final class ClusterSettings {
             serverSelectionTimeoutMS = clusterSettings.serverSelectionTimeoutMS;
             clusterListeners = new ArrayList<>(clusterSettings.clusterListeners);
             serverSelector = clusterSettings.serverSelector;
+            serverScorer = clusterSettings.serverScorer;
             return this;
         }
 
@@ -272,6 +276,25 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * Sets the scorer used to choose between the two servers that are picked at random from those that are suitable for an
+         * operation.  The server with the lower score is selected.
+         *
+         * <p>When a scorer is set, the driver records the latencies of the commands that succeed on each server, so that the scorer can
+         * take them into account, for example to send fewer reads to a secondary that is slow to execute them even though its round
+         * trip time is fine.  By default, no scorer is set, and the server with fewer operations in flight is selected.</p>
+         *
+         * @param serverScorer the server scorer, which may be null
+         * @return this
+         * @see #getServerScorer()
+         * @see ServerScorer#latencyAndLoad()
+         * @since 5.7
+         */
+        public Builder serverScorer(@Nullable final ServerScorer serverScorer) {
+            this.serverScorer = serverScorer;
+            return this;
+        }
+
         /**
          * Sets the timeout to apply when selecting a server.  If the timeout expires before a server is found to handle a request, a
          * {@link com.mongodb.MongoTimeoutException} will be thrown.  The default value is 30 seconds.
@@ -478,7 +501,8 @@ public final class ClusterSettings {
      * <ul>
      * <li>select from within the latency window</li>
      * <li>select at most two random servers from those remaining</li>
-     * <li>select the one with fewer outstanding concurrent operations</li>
+     * <li>select the one with fewer outstanding concurrent operations, or the one with the lower score if a
+     * {@linkplain #getServerScorer() server scorer} is set</li>
      * </ul>
      * <p>To skip the latency window selector, an application can:</p>
      * <ul>
@@ -494,6 +518,18 @@ public final class ClusterSettings {
         return serverSelector;
     }
 
+    /**
+     * Gets the scorer used to choose between the two servers that are picked at random from those that are suitable for an operation.
+     *
+     * @return the server scorer, which may be null
+     * @see Builder#serverScorer(ServerScorer)
+     * @since 5.7
+     */
+    @Nullable
+    public ServerScorer getServerScorer() {
+        return serverScorer;
+    }
+
     /**
      * Gets the timeout to apply when selecting a server.  If the timeout expires before a server is found to
      * handle a request, a {@link com.mongodb.MongoTimeoutException} will be thrown.  The default value is 30 seconds.
@@ -559,13 +595,14 @@ public final class ClusterSettings {
                 && requiredClusterType == that.requiredClusterType
                 && Objects.equals(requiredReplicaSetName, that.requiredReplicaSetName)
                 && Objects.equals(serverSelector, that.serverSelector)
+                && Objects.equals(serverScorer, that.serverScorer)
                 && clusterListeners.equals(that.clusterListeners);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(srvHost, srvMaxHosts, srvServiceName, hosts, mode, requiredClusterType, requiredReplicaSetName, serverSelector,
-                localThresholdMS, serverSelectionTimeoutMS, clusterListeners);
+                serverScorer, localThresholdMS, serverSelectionTimeoutMS, clusterListeners);
     }
 
     @Override
@@ -579,6 +616,7 @@ public final class ClusterSettings {
                + ", requiredClusterType=" + requiredClusterType
                + ", requiredReplicaSetName='" + requiredReplicaSetName + '\''
                + ", serverSelector='" + serverSelector + '\''
+               + (serverScorer == null ? "" : ", serverScorer='" + serverScorer + '\'')
                + ", clusterListeners='" + clusterListeners + '\''
                + ", serverSelectionTimeout='" + serverSelectionTimeoutMS + " ms" + '\''
                + ", localThreshold='" + localThresholdMS + " ms" + '\''
@@ -657,6 +695,7 @@ public final class ClusterSettings {
         requiredClusterType = builder.requiredClusterType;
         localThresholdMS = builder.localThresholdMS;
         serverSelector = builder.serverSelector;
+        serverScorer = builder.serverScorer;
         serverSelectionTimeoutMS = builder.serverSelectionTimeoutMS;
         clusterListeners = unmodifiableList(builder.clusterListeners);
     }
@@ -52,6 +52,7 @@ public class ConnectionPoolSettings {
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
     private final int maxConnecting;
+    private final int maxConcurrentRequestsPerConnection;
 
     /**
      * Gets a Builder for creating a new ConnectionPoolSettings instance.
@@ -87,6 +88,7 @@ public class ConnectionPoolSettings {
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
         private int maxConnecting = 2;
+        private int maxConcurrentRequestsPerConnection = 1;
 
         Builder() {
         }
@@ -111,6 +113,7 @@ public class ConnectionPoolSettings {
             maintenanceInitialDelayMS = connectionPoolSettings.maintenanceInitialDelayMS;
             maintenanceFrequencyMS = connectionPoolSettings.maintenanceFrequencyMS;
             maxConnecting = connectionPoolSettings.maxConnecting;
+            maxConcurrentRequestsPerConnection = connectionPoolSettings.maxConcurrentRequestsPerConnection;
             return this;
         }
 
@@ -272,6 +275,19 @@ public class ConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * The maximum number of requests that may be in flight concurrently on a single connection.
+         *
+         * @param maxConcurrentRequestsPerConnection the maximum number of concurrent requests per connection. Must be positive.
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#getMaxConcurrentRequestsPerConnection()
+         * @since 5.7
+         */
+        public Builder maxConcurrentRequestsPerConnection(final int maxConcurrentRequestsPerConnection) {
+            this.maxConcurrentRequestsPerConnection = maxConcurrentRequestsPerConnection;
+            return this;
+        }
+
         /**
          * Creates a new ConnectionPoolSettings object with the settings initialised on this builder.
          *
@@ -456,6 +472,29 @@ public class ConnectionPoolSettings {
         return maxConnecting;
     }
 
+    /**
+     * The maximum number of requests that may be in flight concurrently on a single connection.
+     *
+     * <p>If greater than one, the connection is multiplexed: reads that are neither part of an explicit session nor of a transaction
+     * share a connection with other such reads, and their replies are matched to their requests by the {@code responseTo} field of the
+     * reply. Reads that may wait on the server, namely tailable cursors, change streams and commands run with {@code runCommand}, do
+     * not share connections. This reduces the number of connections needed to a server when there are many concurrent reads, at the cost of
+     * head-of-line blocking between the reads sharing a connection. A request that times out before its reply starts arriving gives up
+     * on it, and its reply is discarded once read. Any other failure to read from a shared connection closes the connection and fails
+     * the other requests in flight on it. All other operations use connections exclusively.
+     * Multiplexing applies only to the synchronous driver, and is disabled in load balanced mode and for
+     * {@link com.mongodb.AuthenticationMechanism#MONGODB_OIDC} credentials.</p>
+     *
+     * <p>Default is 1, which disables multiplexing.</p>
+     *
+     * @return the maximum number of concurrent requests per connection
+     * @see Builder#maxConcurrentRequestsPerConnection(int)
+     * @since 5.7
+     */
+    public int getMaxConcurrentRequestsPerConnection() {
+        return maxConcurrentRequestsPerConnection;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -494,6 +533,9 @@ public class ConnectionPoolSettings {
         if (maxConnecting != that.maxConnecting) {
             return false;
         }
+        if (maxConcurrentRequestsPerConnection != that.maxConcurrentRequestsPerConnection) {
+            return false;
+        }
         return true;
     }
 
@@ -508,6 +550,7 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
         result = 31 * result + connectionPoolListeners.hashCode();
         result = 31 * result + maxConnecting;
+        result = 31 * result + maxConcurrentRequestsPerConnection;
         return result;
     }
 
@@ -523,6 +566,7 @@ public class ConnectionPoolSettings {
                 + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
                 + ", connectionPoolListeners=" + connectionPoolListeners
                 + ", maxConnecting=" + maxConnecting
+                + ", maxConcurrentRequestsPerConnection=" + maxConcurrentRequestsPerConnection
                 + '}';
     }
 
@@ -535,6 +579,7 @@ public class ConnectionPoolSettings {
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
         isTrue("maxConnecting > 0", builder.maxConnecting > 0);
+        isTrue("maxConcurrentRequestsPerConnection > 0", builder.maxConcurrentRequestsPerConnection > 0);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -545,5 +590,6 @@ public class ConnectionPoolSettings {
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
         connectionPoolListeners = unmodifiableList(builder.connectionPoolListeners);
         maxConnecting = builder.maxConnecting;
+        maxConcurrentRequestsPerConnection = builder.maxConcurrentRequestsPerConnection;
     }
 }
@@ -29,6 +29,7 @@ import com.mongodb.internal.selector.ReadPreferenceServerSelector;
 import com.mongodb.internal.selector.ReadPreferenceWithFallbackServerSelector;
 import com.mongodb.internal.selector.ServerAddressSelector;
 import com.mongodb.internal.selector.WritableServerSelector;
+import com.mongodb.internal.session.SessionContext;
 
 import static com.mongodb.assertions.Assertions.notNull;
 
@@ -67,7 +68,7 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
     public ConnectionSource getReadConnectionSource(final OperationContext operationContext) {
         return new ClusterBindingConnectionSource(
                 cluster.selectServer(new ReadPreferenceServerSelector(readPreference), operationContext),
-                readPreference);
+                readPreference, true);
     }
 
     @Override
@@ -81,7 +82,7 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
                     = new ReadPreferenceWithFallbackServerSelector(readPreference, minWireVersion, fallbackReadPreference);
             ServerTuple serverTuple = cluster.selectServer(readPreferenceWithFallbackServerSelector, operationContext);
             return new ClusterBindingConnectionSource(serverTuple,
-                    readPreferenceWithFallbackServerSelector.getAppliedReadPreference());
+                    readPreferenceWithFallbackServerSelector.getAppliedReadPreference(), false);
         }
     }
 
@@ -89,25 +90,28 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
     public ConnectionSource getWriteConnectionSource(final OperationContext operationContext) {
         return new ClusterBindingConnectionSource(
                 cluster.selectServer(new WritableServerSelector(), operationContext),
-                readPreference);
+                readPreference, false);
     }
 
     @Override
     public ConnectionSource getConnectionSource(final ServerAddress serverAddress, final OperationContext operationContext) {
         return new ClusterBindingConnectionSource(
                 cluster.selectServer(new ServerAddressSelector(serverAddress), operationContext),
-                readPreference);
+                readPreference, false);
     }
 
     private final class ClusterBindingConnectionSource extends AbstractReferenceCounted implements ConnectionSource {
         private final Server server;
         private final ServerDescription serverDescription;
         private final ReadPreference appliedReadPreference;
+        private final boolean isRead;
 
-        private ClusterBindingConnectionSource(final ServerTuple serverTuple, final ReadPreference appliedReadPreference) {
+        private ClusterBindingConnectionSource(final ServerTuple serverTuple, final ReadPreference appliedReadPreference,
+                final boolean isRead) {
             this.server = serverTuple.getServer();
             this.serverDescription = serverTuple.getServerDescription();
             this.appliedReadPreference = appliedReadPreference;
+            this.isRead = isRead;
             ClusterBinding.this.retain();
         }
 
@@ -123,7 +127,17 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
 
         @Override
         public Connection getConnection(final OperationContext operationContext) {
-            return server.getConnection(operationContext.withConnectionEstablishmentSessionContext());
+            OperationContext connectionOperationContext = operationContext.withConnectionEstablishmentSessionContext();
+            if (isRead && canInterleave(operationContext)) {
+                return server.getMultiplexedReadConnection(connectionOperationContext);
+            }
+            return server.getConnection(connectionOperationContext);
+        }
+
+        private boolean canInterleave(final OperationContext operationContext) {
+            SessionContext sessionContext = operationContext.getSessionContext();
+            return !operationContext.requiresDedicatedConnection()
+                    && (!sessionContext.hasSession() || sessionContext.isImplicitSession()) && !sessionContext.hasActiveTransaction();
         }
 
         public ConnectionSource retain() {
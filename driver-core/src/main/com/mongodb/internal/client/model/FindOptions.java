@@ -57,6 +57,9 @@ public final class FindOptions {
     private boolean returnKey;
     private boolean showRecordId;
     private Boolean allowDiskUse;
+    private boolean exhaust;
+    private int prefetch;
+    private Bson decodeProjection;
     private TimeoutMode timeoutMode;
 
     /**
@@ -71,7 +74,7 @@ public final class FindOptions {
             final Bson sort, final CursorType cursorType, final boolean noCursorTimeout, final boolean partial,
             final Collation collation, final BsonValue comment, final Bson hint, final String hintString, final Bson variables,
             final Bson max, final Bson min, final boolean returnKey, final boolean showRecordId, final Boolean allowDiskUse,
-            final TimeoutMode timeoutMode) {
+            final boolean exhaust, final int prefetch, final Bson decodeProjection, final TimeoutMode timeoutMode) {
         this.batchSize = batchSize;
         this.limit = limit;
         this.projection = projection;
@@ -92,13 +95,17 @@ public final class FindOptions {
         this.returnKey = returnKey;
         this.showRecordId = showRecordId;
         this.allowDiskUse = allowDiskUse;
+        this.exhaust = exhaust;
+        this.prefetch = prefetch;
+        this.decodeProjection = decodeProjection;
         this.timeoutMode = timeoutMode;
     }
     //CHECKSTYLE:ON
 
     public FindOptions withBatchSize(final int batchSize) {
         return new FindOptions(batchSize, limit, projection, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
-                partial, collation, comment, hint, hintString, variables, max, min, returnKey, showRecordId, allowDiskUse, timeoutMode);
+                partial, collation, comment, hint, hintString, variables, max, min, returnKey, showRecordId, allowDiskUse, exhaust,
+                prefetch, decodeProjection, timeoutMode);
     }
 
     /**
@@ -602,4 +609,68 @@ public final class FindOptions {
         this.allowDiskUse = allowDiskUse;
         return this;
     }
+
+    /**
+     * Returns whether the server may stream the batches of the cursor.
+     *
+     * @return whether the server may stream the batches of the cursor
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply to
+     * a {@code getMore} command.
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     */
+    public FindOptions exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of batches to get ahead of the application.
+     *
+     * @return the maximum number of batches to get ahead of the application, or 0 if batches are only got when needed
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Sets the maximum number of batches to get in the background, ahead of the application.
+     *
+     * @param prefetch the maximum number of batches to get ahead of the application, or 0 to only get batches when needed
+     * @return this
+     */
+    public FindOptions prefetch(final int prefetch) {
+        isTrueArgument("prefetch >= 0", prefetch >= 0);
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    /**
+     * Gets the projection of the fields to decode from each returned document.
+     *
+     * @return the projection of the fields to decode, or null if all fields are decoded
+     */
+    @Nullable
+    public Bson getDecodeProjection() {
+        return decodeProjection;
+    }
+
+    /**
+     * Sets the projection of the fields to decode from each returned document, which are the field paths passed to the decoder with
+     * {@link org.bson.codecs.DecoderContext.Builder#fieldPaths(java.util.Collection)}.
+     *
+     * @param decodeProjection the projection of the fields to decode, or null to decode all fields
+     * @return this
+     */
+    public FindOptions decodeProjection(@Nullable final Bson decodeProjection) {
+        this.decodeProjection = decodeProjection;
+        return this;
+    }
 }
@@ -52,5 +52,22 @@ public interface AsyncConnection extends ReferenceCounted {
             @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder,
             OperationContext operationContext, boolean responseExpected, MessageSequences sequences, SingleResultCallback<T> callback);
 
+    /**
+     * See {@link Connection#exhaustCommand(String, BsonDocument, FieldNameValidator, ReadPreference, Decoder, OperationContext)}.
+     */
+    <T> void exhaustCommandAsync(String database, BsonDocument command, FieldNameValidator fieldNameValidator,
+            @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder, OperationContext operationContext,
+            SingleResultCallback<T> callback);
+
+    /**
+     * See {@link Connection#receiveMoreToCome(Decoder, OperationContext)}.
+     */
+    <T> void receiveMoreToComeAsync(Decoder<T> commandResultDecoder, OperationContext operationContext, SingleResultCallback<T> callback);
+
+    /**
+     * See {@link Connection#hasMoreToCome()}.
+     */
+    boolean hasMoreToCome();
+
     void markAsPinned(Connection.PinningMode pinningMode);
 }
@@ -31,7 +31,6 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.CompletionHandler;
 import java.nio.channels.InterruptedByTimeoutException;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
@@ -90,23 +89,11 @@ public abstract class AsynchronousChannelStream implements Stream {
     @Override
     public void writeAsync(final List<ByteBuf> buffers, final OperationContext operationContext,
                            final AsyncCompletionHandler<Void> handler) {
-        AsyncWritableByteChannelAdapter byteChannel = new AsyncWritableByteChannelAdapter();
-        Iterator<ByteBuf> iter = buffers.iterator();
-        pipeOneBuffer(byteChannel, iter.next(), operationContext, new AsyncCompletionHandler<Void>() {
-            @Override
-            public void completed(@Nullable final Void t) {
-                if (iter.hasNext()) {
-                    pipeOneBuffer(byteChannel, iter.next(), operationContext, this);
-                } else {
-                    handler.completed(null);
-                }
-            }
-
-            @Override
-            public void failed(final Throwable t) {
-                handler.failed(t);
-            }
-        });
+        ByteBuffer[] nioBuffers = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < nioBuffers.length; i++) {
+            nioBuffers[i] = buffers.get(i).asNIO();
+        }
+        pipeBuffers(new AsyncWritableByteChannelAdapter(), nioBuffers, 0, operationContext, handler);
     }
 
     @Override
@@ -169,16 +156,26 @@ public abstract class AsynchronousChannelStream implements Stream {
         return bufferProvider.getBuffer(size);
     }
 
-    private void pipeOneBuffer(final AsyncWritableByteChannelAdapter byteChannel, final ByteBuf byteBuffer,
+    /**
+     * Writes the buffers with gathering writes, so that a message split across many buffers is handed to the channel in a single call
+     * rather than in one call per buffer.  A gathering write may be partial, in which case the buffers that were fully written are
+     * skipped and the remainder is written with another gathering write.
+     */
+    private void pipeBuffers(final AsyncWritableByteChannelAdapter byteChannel, final ByteBuffer[] buffers, final int offset,
             final OperationContext operationContext, final AsyncCompletionHandler<Void> outerHandler) {
-        byteChannel.write(byteBuffer.asNIO(), operationContext, new AsyncCompletionHandler<Void>() {
+        int nextOffset = offset;
+        while (nextOffset < buffers.length && !buffers[nextOffset].hasRemaining()) {
+            nextOffset++;
+        }
+        if (nextOffset == buffers.length) {
+            outerHandler.completed(null);
+            return;
+        }
+        int currentOffset = nextOffset;
+        byteChannel.write(buffers, currentOffset, operationContext, new AsyncCompletionHandler<Void>() {
             @Override
             public void completed(@Nullable final Void t) {
-                if (byteBuffer.hasRemaining()) {
-                    byteChannel.write(byteBuffer.asNIO(), operationContext, this);
-                } else {
-                    outerHandler.completed(null);
-                }
+                pipeBuffers(byteChannel, buffers, currentOffset, operationContext, outerHandler);
             }
 
             @Override
@@ -189,22 +186,23 @@ public abstract class AsynchronousChannelStream implements Stream {
     }
 
     private class AsyncWritableByteChannelAdapter {
-        void write(final ByteBuffer src, final OperationContext operationContext, final AsyncCompletionHandler<Void> handler) {
+        void write(final ByteBuffer[] srcs, final int offset, final OperationContext operationContext,
+                   final AsyncCompletionHandler<Void> handler) {
             beginAsync().thenRun((c) -> {
                 long writeTimeoutMS = operationContext.getTimeoutContext().getWriteTimeoutMS();
-                getChannel().write(src, writeTimeoutMS, MILLISECONDS, null,
+                getChannel().write(srcs, offset, srcs.length - offset, writeTimeoutMS, MILLISECONDS, null,
                         new AsyncWritableByteChannelAdapter.WriteCompletionHandler(c.asHandler()));
             }).finish(handler.asCallback());
         }
 
-        private class WriteCompletionHandler extends BaseCompletionHandler<Void, Integer, Object> {
+        private class WriteCompletionHandler extends BaseCompletionHandler<Void, Long, Object> {
 
             WriteCompletionHandler(final AsyncCompletionHandler<Void> handler) {
                 super(handler);
             }
 
             @Override
-            public void completed(final Integer result, final Object attachment) {
+            public void completed(final Long result, final Object attachment) {
                 AsyncCompletionHandler<Void> localHandler = getHandlerAndClear();
                 localHandler.completed(null);
             }
@@ -31,7 +31,7 @@ import static com.mongodb.assertions.Assertions.notNull;
  * Factory to create a Stream that's an AsynchronousSocketChannelStream. Throws an exception if SSL is enabled.
  */
 public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
-    private final PowerOfTwoBufferPool bufferProvider = PowerOfTwoBufferPool.DEFAULT;
+    private final PowerOfTwoBufferPool bufferProvider;
     private final SocketSettings settings;
     private final InetAddressResolver inetAddressResolver;
     @Nullable
@@ -46,16 +46,18 @@ public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
     public AsynchronousSocketChannelStreamFactory(
             final InetAddressResolver inetAddressResolver, final SocketSettings settings,
             final SslSettings sslSettings) {
-        this(inetAddressResolver, settings, sslSettings, null);
+        this(inetAddressResolver, settings, sslSettings, null, PowerOfTwoBufferPool.DEFAULT);
     }
 
     AsynchronousSocketChannelStreamFactory(
             final InetAddressResolver inetAddressResolver, final SocketSettings settings,
-            final SslSettings sslSettings, @Nullable final AsynchronousChannelGroup group) {
+            final SslSettings sslSettings, @Nullable final AsynchronousChannelGroup group,
+            final PowerOfTwoBufferPool bufferProvider) {
         assertFalse(sslSettings.isEnabled());
         this.inetAddressResolver = inetAddressResolver;
         this.settings = notNull("settings", settings);
         this.group = group;
+        this.bufferProvider = notNull("bufferProvider", bufferProvider);
     }
 
     @Override
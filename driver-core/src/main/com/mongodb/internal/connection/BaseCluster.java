@@ -19,7 +19,6 @@ package com.mongodb.internal.connection;
 import com.mongodb.MongoClientException;
 import com.mongodb.MongoException;
 import com.mongodb.MongoIncompatibleDriverException;
-import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoOperationTimeoutException;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.ServerAddress;
@@ -41,20 +40,26 @@ import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.logging.LogMessage;
 import com.mongodb.internal.logging.LogMessage.Entry;
 import com.mongodb.internal.logging.StructuredLogger;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.internal.selector.AtMostTwoRandomServerSelector;
 import com.mongodb.internal.selector.LatencyMinimizingServerSelector;
 import com.mongodb.internal.selector.MinimumOperationCountServerSelector;
+import com.mongodb.internal.selector.ScoringServerSelector;
+import com.mongodb.internal.time.HashedWheelTimer;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.Nullable;
 import com.mongodb.selector.CompositeServerSelector;
+import com.mongodb.selector.ServerScorer;
 import com.mongodb.selector.ServerSelector;
 
-import java.util.Deque;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
@@ -104,10 +109,23 @@ abstract class BaseCluster implements Cluster {
     private final ClusterId clusterId;
     private final ClusterSettings settings;
     private final ClusterListener clusterListener;
-    private final Deque<ServerSelectionRequest> waitQueue = new ConcurrentLinkedDeque<>();
+    /**
+     * The asynchronous server selection requests that are waiting for a suitable server, grouped by selector so that a change to the
+     * cluster description only has to be matched against each distinct selector, rather than against each request.
+     */
+    private final ConcurrentMap<ServerSelector, Set<ServerSelectionRequest>> waiters = new ConcurrentHashMap<>();
+    private final AtomicBoolean waitersNotificationPending = new AtomicBoolean();
+    private final AtomicBoolean waitersConnectScheduled = new AtomicBoolean();
+    /**
+     * The timer of the server selection timeouts and of the handling of waiting requests, which replaces the dedicated wait queue
+     * thread.  A cluster with waiting requests has the timer thread, plus up to {@code max(2, available processors)} threads of the
+     * callback executor of the timer, on which the callbacks of the completed requests run.  All of them are daemon threads that are
+     * only started when needed, and the callback threads stop once they are idle.
+     */
+    private final HashedWheelTimer timer;
+    private final MetricsRecorder metricsRecorder;
     private final ClusterClock clusterClock = new ClusterClock();
     private final ClientMetadata clientMetadata;
-    private Thread waitQueueHandler;
 
     private volatile boolean isClosed;
     private volatile ClusterDescription description;
@@ -123,6 +141,8 @@ abstract class BaseCluster implements Cluster {
         this.description = new ClusterDescription(settings.getMode(), UNKNOWN, emptyList(),
                 settings, serverFactory.getSettings());
         this.clientMetadata = clientMetadata;
+        this.timer = createTimer(clusterId);
+        this.metricsRecorder = serverFactory.getMetricsRecorder();
         logTopologyMonitoringStarting(clusterId);
         ClusterOpeningEvent clusterOpeningEvent = new ClusterOpeningEvent(clusterId);
         clusterListener.clusterOpening(clusterOpeningEvent);
@@ -138,45 +158,58 @@ abstract class BaseCluster implements Cluster {
         return clientMetadata;
     }
 
+    @Override
+    public HashedWheelTimer getTimer() {
+        return timer;
+    }
+
     @Override
     public ServerTuple selectServer(final ServerSelector serverSelector, final OperationContext operationContext) {
         isTrue("open", !isClosed());
 
+        long startTimeNanos = System.nanoTime();
         ServerDeprioritization serverDeprioritization = operationContext.getServerDeprioritization();
         boolean selectionWaitingLogged = false;
         Timeout computedServerSelectionTimeout = operationContext.getTimeoutContext().computeServerSelectionTimeout();
         logServerSelectionStarted(operationContext, clusterId, serverSelector, description);
-        while (true) {
-            CountDownLatch currentPhaseLatch = phase.get();
-            ClusterDescription currentDescription = description;
-            ServerTuple serverTuple = createCompleteSelectorAndSelectServer(
-                    serverSelector, currentDescription, serverDeprioritization,
-                    computedServerSelectionTimeout, operationContext.getTimeoutContext());
-
-            if (!currentDescription.isCompatibleWithDriver()) {
-                logAndThrowIncompatibleException(operationContext, serverSelector, currentDescription);
-            }
-            if (serverTuple != null) {
-                ServerAddress serverAddress = serverTuple.getServerDescription().getAddress();
-                logServerSelectionSucceeded(operationContext, clusterId, serverAddress, serverSelector, currentDescription);
-                serverDeprioritization.updateCandidate(serverAddress);
-                return serverTuple;
-            }
-            computedServerSelectionTimeout.onExpired(() ->
-                    logAndThrowTimeoutException(operationContext, serverSelector, currentDescription));
+        try {
+            while (true) {
+                CountDownLatch currentPhaseLatch = phase.get();
+                ClusterDescription currentDescription = description;
+                ServerTuple serverTuple = createCompleteSelectorAndSelectServer(
+                        serverSelector, currentDescription, serverDeprioritization,
+                        computedServerSelectionTimeout, operationContext.getTimeoutContext());
 
-            if (!selectionWaitingLogged) {
-                logServerSelectionWaiting(operationContext, clusterId, computedServerSelectionTimeout, serverSelector, currentDescription);
-                selectionWaitingLogged = true;
-            }
-            connect();
+                if (!currentDescription.isCompatibleWithDriver()) {
+                    logAndThrowIncompatibleException(operationContext, serverSelector, currentDescription);
+                }
+                if (serverTuple != null) {
+                    ServerAddress serverAddress = serverTuple.getServerDescription().getAddress();
+                    logServerSelectionSucceeded(operationContext, clusterId, serverAddress, serverSelector, currentDescription);
+                    serverDeprioritization.updateCandidate(serverAddress);
+                    metricsRecorder.recordServerSelection(System.nanoTime() - startTimeNanos, true);
+                    return serverTuple;
+                }
+                computedServerSelectionTimeout.onExpired(() ->
+                        logAndThrowTimeoutException(operationContext, serverSelector, currentDescription));
+
+                if (!selectionWaitingLogged) {
+                    logServerSelectionWaiting(operationContext, clusterId, computedServerSelectionTimeout, serverSelector,
+                            currentDescription);
+                    selectionWaitingLogged = true;
+                }
+                connect();
 
-            Timeout heartbeatLimitedTimeout = Timeout.earliest(
-                    computedServerSelectionTimeout,
-                    startMinWaitHeartbeatTimeout());
+                Timeout heartbeatLimitedTimeout = Timeout.earliest(
+                        computedServerSelectionTimeout,
+                        startMinWaitHeartbeatTimeout());
 
-            heartbeatLimitedTimeout.awaitOn(currentPhaseLatch,
-                    () -> format("waiting for a server that matches %s", serverSelector));
+                heartbeatLimitedTimeout.awaitOn(currentPhaseLatch,
+                        () -> format("waiting for a server that matches %s", serverSelector));
+            }
+        } catch (RuntimeException e) {
+            metricsRecorder.recordServerSelection(System.nanoTime() - startTimeNanos, false);
+            throw e;
         }
     }
 
@@ -185,19 +218,19 @@ abstract class BaseCluster implements Cluster {
             final SingleResultCallback<ServerTuple> callback) {
         if (isClosed()) {
             callback.onResult(null, new MongoClientException("Cluster was closed during server selection."));
+            return;
         }
 
         Timeout computedServerSelectionTimeout = operationContext.getTimeoutContext().computeServerSelectionTimeout();
         ServerSelectionRequest request = new ServerSelectionRequest(
-                serverSelector, operationContext, computedServerSelectionTimeout, callback);
+                serverSelector, operationContext, computedServerSelectionTimeout, metricsRecorder, callback);
 
-        CountDownLatch currentPhase = phase.get();
         ClusterDescription currentDescription = description;
 
         logServerSelectionStarted(operationContext, clusterId, serverSelector, currentDescription);
 
-        if (!handleServerSelectionRequest(request, currentPhase, currentDescription)) {
-            notifyWaitQueueHandler(request);
+        if (!handleServerSelectionRequest(request, currentDescription, Runnable::run)) {
+            addWaiter(request, currentDescription);
         }
     }
 
@@ -225,7 +258,8 @@ abstract class BaseCluster implements Cluster {
             logTopologyMonitoringStopping(clusterId);
             ClusterClosedEvent clusterClosedEvent = new ClusterClosedEvent(clusterId);
             clusterListener.clusterClosed(clusterClosedEvent);
-            stopWaitQueueHandler();
+            failWaiters(new MongoClientException("Shutdown in progress"));
+            timer.close();
         }
     }
 
@@ -243,6 +277,7 @@ abstract class BaseCluster implements Cluster {
             description = newDescription;
             updatePhase();
         });
+        notifyWaiters();
     }
 
     /**
@@ -277,15 +312,22 @@ abstract class BaseCluster implements Cluster {
         return Timeout.expiresIn(minHeartbeatFrequency, NANOSECONDS, ZERO_DURATION_MEANS_EXPIRED);
     }
 
-    private boolean handleServerSelectionRequest(
-            final ServerSelectionRequest request, final CountDownLatch currentPhase,
-            final ClusterDescription description) {
-
+    /**
+     * Tries to complete the request with the given description, unless the request has already been tried with it.
+     *
+     * @param callbackExecutor the executor of the callback of the request, if it is completed by this call
+     * @return true if the request is complete
+     */
+    private boolean handleServerSelectionRequest(final ServerSelectionRequest request, final ClusterDescription description,
+            final Executor callbackExecutor) {
+        if (request.isComplete()) {
+            return true;
+        }
         try {
             OperationContext operationContext = request.getOperationContext();
-            if (currentPhase != request.phase) {
-                CountDownLatch prevPhase = request.phase;
-                request.phase = currentPhase;
+            if (description != request.lastDescription) {
+                ClusterDescription prevDescription = request.lastDescription;
+                request.lastDescription = description;
                 if (!description.isCompatibleWithDriver()) {
                     logAndThrowIncompatibleException(operationContext, request.originalSelector, description);
                 }
@@ -300,13 +342,15 @@ abstract class BaseCluster implements Cluster {
                         operationContext.getTimeoutContext());
 
                 if (serverTuple != null) {
-                    ServerAddress serverAddress = serverTuple.getServerDescription().getAddress();
-                    logServerSelectionSucceeded(operationContext, clusterId, serverAddress, request.originalSelector, description);
-                    serverDeprioritization.updateCandidate(serverAddress);
-                    request.onResult(serverTuple, null);
+                    if (request.tryComplete()) {
+                        ServerAddress serverAddress = serverTuple.getServerDescription().getAddress();
+                        logServerSelectionSucceeded(operationContext, clusterId, serverAddress, request.originalSelector, description);
+                        serverDeprioritization.updateCandidate(serverAddress);
+                        request.onResult(serverTuple, null, callbackExecutor);
+                    }
                     return true;
                 }
-                if (prevPhase == null) {
+                if (prevDescription == null) {
                     logServerSelectionWaiting(operationContext, clusterId, request.getTimeout(), request.originalSelector, description);
                 }
             }
@@ -316,11 +360,121 @@ abstract class BaseCluster implements Cluster {
             });
             return false;
         } catch (Exception e) {
-            request.onResult(null, e);
+            if (request.tryComplete()) {
+                request.onResult(null, e, callbackExecutor);
+            }
             return true;
         }
     }
 
+    /**
+     * Adds a request that could not be completed with the given description to the waiters.  From then on, the request is only
+     * handled on the timer thread: when the cluster description changes, when its timeout expires, or when the cluster is closed.
+     * The timer thread only completes the request, and its callback runs on the callback executor of the timer.
+     */
+    private void addWaiter(final ServerSelectionRequest request, final ClusterDescription triedDescription) {
+        request.getTimeout().run(NANOSECONDS, () -> {},
+                remainingNanos -> request.timeoutTask = timer.schedule(() -> handleTimeout(request), remainingNanos, NANOSECONDS),
+                () -> {});
+        waiters.compute(request.originalSelector, (selector, requests) -> {
+            Set<ServerSelectionRequest> result = requests == null ? ConcurrentHashMap.newKeySet() : requests;
+            result.add(request);
+            return result;
+        });
+        if (request.isComplete()) {
+            // the timeout expired before the request was added
+            removeWaiter(request);
+            return;
+        }
+        connect();
+        scheduleConnectWhileWaiting();
+        if (isClosed) {
+            failWaiters(new MongoClientException("Shutdown in progress"));
+        } else if (description != triedDescription) {
+            // the description changed before the request was added, so the notification may have missed it
+            notifyWaiters();
+        }
+    }
+
+    private void removeWaiter(final ServerSelectionRequest request) {
+        waiters.computeIfPresent(request.originalSelector, (selector, requests) -> {
+            requests.remove(request);
+            return requests.isEmpty() ? null : requests;
+        });
+    }
+
+    private void notifyWaiters() {
+        if (!waiters.isEmpty() && waitersNotificationPending.compareAndSet(false, true)) {
+            timer.execute(this::handleWaiters);
+        }
+    }
+
+    /**
+     * Hands the current description to the waiting requests whose selector selects at least one server from it.  Changes to the
+     * description that happen while a notification is pending are handled by that one notification.
+     */
+    private void handleWaiters() {
+        waitersNotificationPending.set(false);
+        ClusterDescription currentDescription = description;
+        boolean compatible = currentDescription.isCompatibleWithDriver();
+        waiters.forEach((selector, requests) -> {
+            if (compatible && !selectsAny(selector, currentDescription)) {
+                return;
+            }
+            for (ServerSelectionRequest request : requests) {
+                if (handleServerSelectionRequest(request, currentDescription, timer.getCallbackExecutor())) {
+                    removeWaiter(request);
+                }
+            }
+        });
+    }
+
+    private static boolean selectsAny(final ServerSelector selector, final ClusterDescription clusterDescription) {
+        try {
+            return !selector.select(clusterDescription).isEmpty();
+        } catch (RuntimeException e) {
+            // let each request fail with the exception
+            return true;
+        }
+    }
+
+    private void handleTimeout(final ServerSelectionRequest request) {
+        if (handleServerSelectionRequest(request, description, timer.getCallbackExecutor())) {
+            removeWaiter(request);
+        } else {
+            // the timer may run the task slightly before the timeout considers itself expired
+            request.timeoutTask = timer.schedule(() -> handleTimeout(request), 0, NANOSECONDS);
+        }
+    }
+
+    /**
+     * Keeps asking the servers to check their state every {@code minHeartbeatFrequency} for as long as there are waiters.
+     */
+    private void scheduleConnectWhileWaiting() {
+        if (waitersConnectScheduled.compareAndSet(false, true)) {
+            timer.schedule(this::connectWhileWaiting, serverFactory.getSettings().getMinHeartbeatFrequency(NANOSECONDS), NANOSECONDS);
+        }
+    }
+
+    private void connectWhileWaiting() {
+        waitersConnectScheduled.set(false);
+        if (!waiters.isEmpty() && !isClosed) {
+            connect();
+            scheduleConnectWhileWaiting();
+        }
+    }
+
+    private void failWaiters(final MongoException e) {
+        waiters.forEach((selector, requests) -> {
+            for (ServerSelectionRequest request : requests) {
+                if (request.tryComplete()) {
+                    request.onResult(null, e, Runnable::run);
+                }
+                removeWaiter(request);
+            }
+        });
+    }
+
     @Nullable
     private ServerTuple createCompleteSelectorAndSelectServer(
             final ServerSelector serverSelector,
@@ -366,11 +520,18 @@ abstract class BaseCluster implements Cluster {
                 settings.getServerSelector(), // may be null
                 new LatencyMinimizingServerSelector(settings.getLocalThreshold(MILLISECONDS), MILLISECONDS),
                 AtMostTwoRandomServerSelector.instance(),
-                new MinimumOperationCountServerSelector(serversSnapshot)
+                getLoadBalancingServerSelector(serversSnapshot, settings)
         ).filter(Objects::nonNull).collect(toList());
         return new CompositeServerSelector(selectors);
     }
 
+    private static ServerSelector getLoadBalancingServerSelector(final ServersSnapshot serversSnapshot, final ClusterSettings settings) {
+        ServerScorer serverScorer = settings.getServerScorer();
+        return serverScorer == null
+                ? new MinimumOperationCountServerSelector(serversSnapshot)
+                : new ScoringServerSelector(serversSnapshot, serverScorer);
+    }
+
     private static ServerSelector getRaceConditionPreFilteringSelector(final ServersSnapshot serversSnapshot) {
         // The set of `Server`s maintained by the `Cluster` is updated concurrently with `clusterDescription` being read.
         // Additionally, that set of servers continues to be concurrently updated while `serverSelector` selects.
@@ -387,6 +548,10 @@ abstract class BaseCluster implements Cluster {
                 .collect(toList());
     }
 
+    static HashedWheelTimer createTimer(final ClusterId clusterId) {
+        return new HashedWheelTimer("cluster-" + clusterId.getValue() + "-timer", 10, MILLISECONDS, 512);
+    }
+
     protected ClusterableServer createServer(final ServerAddress serverAddress) {
         return serverFactory.create(this, serverAddress);
     }
@@ -439,25 +604,55 @@ abstract class BaseCluster implements Cluster {
         private final SingleResultCallback<ServerTuple> callback;
         private final OperationContext operationContext;
         private final Timeout timeout;
-        private CountDownLatch phase;
+        private final MetricsRecorder metricsRecorder;
+        private final long startTimeNanos = System.nanoTime();
+        private final AtomicBoolean complete = new AtomicBoolean();
+        // the description that the request was last tried with, which is only accessed by one thread at a time
+        @Nullable
+        private ClusterDescription lastDescription;
+        @Nullable
+        private volatile HashedWheelTimer.Task timeoutTask;
 
         ServerSelectionRequest(
                 final ServerSelector serverSelector,
                 final OperationContext operationContext,
                 final Timeout timeout,
+                final MetricsRecorder metricsRecorder,
                 final SingleResultCallback<ServerTuple> callback) {
             this.originalSelector = serverSelector;
             this.operationContext = operationContext;
             this.timeout = timeout;
+            this.metricsRecorder = metricsRecorder;
             this.callback = callback;
         }
 
-        void onResult(@Nullable final ServerTuple serverTuple, @Nullable final Throwable t) {
-            try {
-                callback.onResult(serverTuple, t);
-            } catch (Throwable tr) {
-                // ignore
+        boolean isComplete() {
+            return complete.get();
+        }
+
+        /**
+         * @return true if the request was completed by this call, in which case the caller must call {@link #onResult}
+         */
+        boolean tryComplete() {
+            if (!complete.compareAndSet(false, true)) {
+                return false;
+            }
+            HashedWheelTimer.Task localTimeoutTask = timeoutTask;
+            if (localTimeoutTask != null) {
+                localTimeoutTask.cancel();
             }
+            return true;
+        }
+
+        void onResult(@Nullable final ServerTuple serverTuple, @Nullable final Throwable t, final Executor callbackExecutor) {
+            metricsRecorder.recordServerSelection(System.nanoTime() - startTimeNanos, t == null);
+            callbackExecutor.execute(() -> {
+                try {
+                    callback.onResult(serverTuple, t);
+                } catch (Throwable tr) {
+                    // ignore
+                }
+            });
         }
 
         Timeout getTimeout() {
@@ -469,80 +664,6 @@ abstract class BaseCluster implements Cluster {
         }
     }
 
-    private void notifyWaitQueueHandler(final ServerSelectionRequest request) {
-        withLock(() -> {
-            if (isClosed) {
-                return;
-            }
-
-            waitQueue.add(request);
-
-            if (waitQueueHandler == null) {
-                waitQueueHandler = new Thread(new WaitQueueHandler(), "cluster-" + clusterId.getValue());
-                waitQueueHandler.setDaemon(true);
-                waitQueueHandler.start();
-            } else {
-                updatePhase();
-            }
-        });
-    }
-
-    private void stopWaitQueueHandler() {
-        withLock(() -> {
-            if (waitQueueHandler != null) {
-                waitQueueHandler.interrupt();
-            }
-        });
-    }
-
-    private final class WaitQueueHandler implements Runnable {
-
-        WaitQueueHandler() {
-        }
-
-        public void run() {
-            try {
-                while (!isClosed) {
-                    CountDownLatch currentPhase = phase.get();
-                    ClusterDescription curDescription = description;
-
-                    Timeout timeout = Timeout.infinite();
-                    boolean someWaitersNotSatisfied = false;
-                    for (Iterator<ServerSelectionRequest> iter = waitQueue.iterator(); iter.hasNext();) {
-                        ServerSelectionRequest currentRequest = iter.next();
-                        if (handleServerSelectionRequest(currentRequest, currentPhase, curDescription)) {
-                            iter.remove();
-                        } else {
-                            someWaitersNotSatisfied = true;
-                            timeout = Timeout.earliest(
-                                    timeout,
-                                    currentRequest.getTimeout(),
-                                    startMinWaitHeartbeatTimeout());
-                        }
-                    }
-
-                    if (someWaitersNotSatisfied) {
-                        connect();
-                    }
-
-                    try {
-                        timeout.awaitOn(currentPhase, () -> "ignored");
-                    } catch (MongoInterruptedException closed) {
-                        // The cluster has been closed and the while loop will exit.
-                    }
-                }
-                // Notify all remaining waiters that a shutdown is in progress
-                for (Iterator<ServerSelectionRequest> iter = waitQueue.iterator(); iter.hasNext();) {
-                    iter.next().onResult(null, new MongoClientException("Shutdown in progress"));
-                    iter.remove();
-                }
-            } catch (Throwable t) {
-                LOGGER.error(this + " stopped working. You may want to recreate the MongoClient", t);
-                throw t;
-            }
-        }
-    }
-
     static void logServerSelectionStarted(
             final OperationContext operationContext,
             final ClusterId clusterId,
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import org.bson.BinaryVector;
 import org.bson.BsonBinary;
 import org.bson.BsonDbPointer;
 import org.bson.BsonReader;
@@ -81,6 +82,11 @@ public class BsonWriterDecorator implements BsonWriter {
         bsonWriter.writeBinaryData(binary);
     }
 
+    @Override
+    public void writeBinaryVector(final BinaryVector vector) {
+        bsonWriter.writeBinaryVector(vector);
+    }
+
     @Override
     public void writeBoolean(final String name, final boolean value) {
         bsonWriter.writeBoolean(name, value);
@@ -25,6 +25,7 @@ import org.bson.ByteBuf;
 import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.DecoderContext;
+import org.bson.internal.BsonDocumentFieldIndex;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonWriter;
@@ -53,6 +54,15 @@ final class ByteBufBsonDocument extends BsonDocument {
 
     private final transient ByteBuf byteBuf;
 
+    /**
+     * The index from field names to element offsets, built lazily on the second keyed access, as a single access is cheaper with a
+     * linear scan.
+     */
+    @Nullable
+    private transient BsonDocumentFieldIndex fieldIndex;
+
+    private transient boolean keyedAccessed;
+
     /**
      * Create a list of ByteBufBsonDocument from a buffer positioned at the start of the first document of an OP_MSG Section
      * of type Document Sequence (Kind 1).
@@ -131,6 +141,42 @@ final class ByteBufBsonDocument extends BsonDocument {
         return finder.notFound();
     }
 
+    @Nullable
+    private BsonValue findValueByKey(final String key) {
+        int elementOffset = findElementOffset(key);
+        if (elementOffset == -1) {
+            return null;
+        }
+        ByteBuf duplicateByteBuf = byteBuf.duplicate();
+        try (BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf))) {
+            bsonReader.readStartDocument();
+            duplicateByteBuf.position(elementOffset);
+            bsonReader.readBsonType();
+            bsonReader.skipName();
+            return readBsonValue(duplicateByteBuf, bsonReader);
+        } finally {
+            duplicateByteBuf.release();
+        }
+    }
+
+    private int findElementOffset(final String key) {
+        BsonDocumentFieldIndex localFieldIndex = fieldIndex;
+        if (localFieldIndex == null) {
+            ByteBuf duplicateByteBuf = byteBuf.duplicate();
+            try {
+                if (!keyedAccessed) {
+                    keyedAccessed = true;
+                    return BsonDocumentFieldIndex.findElementOffset(duplicateByteBuf, key);
+                }
+                localFieldIndex = BsonDocumentFieldIndex.build(duplicateByteBuf);
+            } finally {
+                duplicateByteBuf.release();
+            }
+            fieldIndex = localFieldIndex;
+        }
+        return localFieldIndex.findElementOffset(key);
+    }
+
     BsonDocument toBaseBsonDocument() {
         ByteBuf duplicateByteBuf = byteBuf.duplicate();
         try (BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf))) {
@@ -226,22 +272,7 @@ final class ByteBufBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
-        Boolean containsKey = findInDocument(new Finder<Boolean>() {
-            @Override
-            public Boolean find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
-                if (bsonReader.readName().equals(key)) {
-                    return true;
-                }
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Override
-            public Boolean notFound() {
-                return false;
-            }
-        });
-        return containsKey != null ? containsKey : false;
+        return key instanceof String && findElementOffset((String) key) != -1;
     }
 
     @Override
@@ -268,22 +299,7 @@ final class ByteBufBsonDocument extends BsonDocument {
     @Override
     public BsonValue get(final Object key) {
         notNull("key", key);
-        return findInDocument(new Finder<BsonValue>() {
-            @Override
-            public BsonValue find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
-                if (bsonReader.readName().equals(key)) {
-                    return readBsonValue(byteBuf, bsonReader);
-                }
-                bsonReader.skipValue();
-                return null;
-            }
-
-            @Nullable
-            @Override
-            public BsonValue notFound() {
-                return null;
-            }
-        });
+        return key instanceof String ? findValueByKey((String) key) : null;
     }
 
     /**
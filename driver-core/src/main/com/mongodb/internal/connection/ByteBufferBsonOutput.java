@@ -22,6 +22,7 @@ import org.bson.io.OutputBuffer;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
@@ -85,6 +86,45 @@ public class ByteBufferBsonOutput extends OutputBuffer {
         position += length;
     }
 
+    /**
+     * Writes bytes straight into the buffers of this output, without an intermediate copy.  The writer is handed the writable
+     * remainder of the current buffer, which has at least one byte remaining, and must advance its position by the number of bytes it
+     * writes.  A writer that fills the current buffer is expected to be called again, and is then handed the remainder of the next one.
+     *
+     * @param writer the writer
+     * @return the value returned by the writer
+     */
+    boolean writeBytes(final ByteBufferWriter writer) {
+        ensureOpen();
+
+        ByteBuf buf = getCurrentByteBuffer();
+        int bufPosition = buf.position();
+        ByteBuffer target = buf.asNIO();
+        int targetPosition = target.position();
+        boolean result = writer.write(target);
+        int bytesWritten = target.position() - targetPosition;
+        buf.position(bufPosition + bytesWritten);
+        position += bytesWritten;
+        return result;
+    }
+
+    /**
+     * Writes the remaining bytes of the given buffer, advancing its position to its limit.
+     *
+     * @param src the buffer to write
+     */
+    void writeBytes(final ByteBuffer src) {
+        while (src.hasRemaining()) {
+            writeBytes(target -> {
+                ByteBuffer chunk = src.duplicate();
+                chunk.limit(chunk.position() + Math.min(chunk.remaining(), target.remaining()));
+                target.put(chunk);
+                src.position(chunk.position());
+                return true;
+            });
+        }
+    }
+
     @Override
     public void writeInt32(final int value) {
         ensureOpen();
@@ -344,6 +384,10 @@ public class ByteBufferBsonOutput extends OutputBuffer {
         return !closed;
     }
 
+    BufferProvider getBufferProvider() {
+        return bufferProvider;
+    }
+
     /**
      * @see #branch()
      */
@@ -380,6 +424,15 @@ public class ByteBufferBsonOutput extends OutputBuffer {
         }
     }
 
+    /**
+     * Writes bytes into the writable remainder of a buffer of a {@link ByteBufferBsonOutput}.
+     *
+     * @see #writeBytes(ByteBufferWriter)
+     */
+    interface ByteBufferWriter {
+        boolean write(ByteBuffer target);
+    }
+
     private static final class BufferPositionPair {
         private final int bufferIndex;
         private int position;
@@ -25,6 +25,7 @@ import com.mongodb.connection.ClusterSettings;
 import com.mongodb.event.ServerDescriptionChangedEvent;
 import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.internal.time.HashedWheelTimer;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.Nullable;
 import com.mongodb.selector.ServerSelector;
@@ -59,6 +60,12 @@ public interface Cluster extends Closeable {
 
     ClientMetadata getClientMetadata();
 
+    /**
+     * Get the timer that the cluster and its servers share for the timeouts of asynchronous operations.  It is closed when the cluster
+     * is closed.
+     */
+    HashedWheelTimer getTimer();
+
     ServerTuple selectServer(ServerSelector serverSelector, OperationContext operationContext);
 
     void selectServerAsync(ServerSelector serverSelector, OperationContext operationContext,
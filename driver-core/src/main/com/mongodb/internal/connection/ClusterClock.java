@@ -20,39 +20,68 @@ import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 
-import java.util.concurrent.locks.ReentrantLock;
-
-import static com.mongodb.internal.Locks.withInterruptibleLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
+ * The highest cluster time seen by a cluster.
+ *
+ * <p>The clock holds an immutable snapshot of the cluster time document together with its already extracted timestamp, so that it is
+ * read without locking, and advanced with a compare-and-set that only has to extract the timestamp of the newly seen document.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class ClusterClock {
     private static final String CLUSTER_TIME_KEY = "clusterTime";
-    private final ReentrantLock lock = new ReentrantLock();
-    private BsonDocument clusterTime;
+    private final AtomicReference<ClusterTime> clusterTime = new AtomicReference<>();
 
+    @Nullable
     public BsonDocument getCurrent() {
-        return withInterruptibleLock(lock, () -> clusterTime);
+        ClusterTime current = clusterTime.get();
+        return current != null ? current.document : null;
     }
 
+    @Nullable
     public BsonTimestamp getClusterTime() {
-        return withInterruptibleLock(lock, () -> clusterTime != null ? clusterTime.getTimestamp(CLUSTER_TIME_KEY) : null);
+        ClusterTime current = clusterTime.get();
+        return current != null ? current.timestamp : null;
     }
 
     public void advance(@Nullable final BsonDocument other) {
-        withInterruptibleLock(lock, () -> this.clusterTime = greaterOf(other));
+        if (other == null) {
+            return;
+        }
+        ClusterTime current = clusterTime.get();
+        if (current != null && current.document == other) {
+            return;
+        }
+        ClusterTime candidate = new ClusterTime(other);
+        while (current == null || candidate.timestamp.compareTo(current.timestamp) > 0) {
+            if (clusterTime.compareAndSet(current, candidate)) {
+                return;
+            }
+            current = clusterTime.get();
+        }
     }
 
+    @Nullable
     public BsonDocument greaterOf(@Nullable final BsonDocument other) {
-        return withInterruptibleLock(lock, () -> {
-            if (other == null) {
-                return clusterTime;
-            } else if (clusterTime == null) {
-                return other;
-            } else {
-                return other.getTimestamp(CLUSTER_TIME_KEY).compareTo(clusterTime.getTimestamp(CLUSTER_TIME_KEY)) > 0 ? other : clusterTime;
-            }
-        });
+        ClusterTime current = clusterTime.get();
+        if (other == null) {
+            return current != null ? current.document : null;
+        } else if (current == null || current.document == other) {
+            return other;
+        } else {
+            return other.getTimestamp(CLUSTER_TIME_KEY).compareTo(current.timestamp) > 0 ? other : current.document;
+        }
+    }
+
+    private static final class ClusterTime {
+        private final BsonDocument document;
+        private final BsonTimestamp timestamp;
+
+        ClusterTime(final BsonDocument document) {
+            this.document = document;
+            this.timestamp = document.getTimestamp(CLUSTER_TIME_KEY);
+        }
     }
 }
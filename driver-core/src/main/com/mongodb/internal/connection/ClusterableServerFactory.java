@@ -18,6 +18,7 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.ServerAddress;
 import com.mongodb.connection.ServerSettings;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -26,4 +27,6 @@ public interface ClusterableServerFactory {
     ClusterableServer create(Cluster cluster, ServerAddress serverAddress);
 
     ServerSettings getSettings();
+
+    MetricsRecorder getMetricsRecorder();
 }
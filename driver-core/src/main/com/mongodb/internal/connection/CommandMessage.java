@@ -214,6 +214,10 @@ public final class CommandMessage extends RequestMessage {
         }
     }
 
+    boolean isExhaustAllowed() {
+        return exhaustAllowed;
+    }
+
     boolean isResponseExpected() {
         if (responseExpected) {
             return true;
@@ -423,6 +427,15 @@ public final class CommandMessage extends RequestMessage {
         return database;
     }
 
+    /**
+     * Gets the command name, without encoding the command
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return command.getFirstKey();
+    }
+
     private int writeCommand(final BsonOutput bsonOutput) {
         BsonBinaryWriter writer = createBsonBinaryWriter(bsonOutput, commandFieldNameValidator, getSettings());
         int documentStart = bsonOutput.getPosition();
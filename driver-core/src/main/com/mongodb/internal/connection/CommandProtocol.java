@@ -31,4 +31,14 @@ public interface CommandProtocol<T> {
     void executeAsync(InternalConnection connection, SingleResultCallback<T> callback);
 
     CommandProtocol<T> withSessionContext(SessionContext sessionContext);
+
+    /**
+     * Returns whether the server may hold the command until data arrives or a wait time elapses, so that the time it takes says nothing
+     * about the latency of the server.
+     *
+     * @return whether the server may hold the command
+     */
+    default boolean mayWaitOnServer() {
+        return false;
+    }
 }
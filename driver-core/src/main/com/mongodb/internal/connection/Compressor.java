@@ -18,15 +18,16 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
 import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.UnsupportedEncodingException;
 import java.util.List;
 
+/**
+ * A compressor for the OP_COMPRESSED wire protocol message.  An instance is created per connection, so it may hold state that is
+ * reused from one message to the next.  It is only ever used by one thread at a time to compress and by one thread at a time to
+ * uncompress, but may be {@linkplain #close() closed} concurrently with either.
+ */
 abstract class Compressor {
 
     static final int BUFFER_SIZE = 256;
@@ -35,24 +36,14 @@ abstract class Compressor {
 
     abstract byte getId();
 
-    void compress(final List<ByteBuf> source, final BsonOutput target) {
-        BufferExposingByteArrayOutputStream baos = new BufferExposingByteArrayOutputStream(1024);
-        try (OutputStream outputStream = getOutputStream(baos)) {
-            byte[] scratch = new byte[BUFFER_SIZE];
-            for (ByteBuf cur : source) {
-                while (cur.hasRemaining()) {
-                    int numBytes = Math.min(cur.remaining(), scratch.length);
-                    cur.get(scratch, 0, numBytes);
-                    outputStream.write(scratch, 0, numBytes);
-                }
-            }
-
-        } catch (IOException e) {
-            throw new MongoInternalException("Unexpected IOException", e);
-        }
-        // ignore
-        target.writeBytes(baos.getInternalBytes(), 0, baos.size());
-    }
+    /**
+     * Compresses the remaining bytes of the source buffers into the target.  Implementations write the compressed bytes directly into
+     * the pooled buffers of the target, rather than first accumulating them in an array of their own.
+     *
+     * @param source the buffers to compress
+     * @param target the target of the compressed bytes
+     */
+    abstract void compress(List<ByteBuf> source, ByteBufferBsonOutput target);
 
     void uncompress(final ByteBuf source, final ByteBuf target) {
 
@@ -69,16 +60,25 @@ abstract class Compressor {
         // ignore
     }
 
-    // override this if not overriding the compress method
-    OutputStream getOutputStream(final OutputStream source) throws IOException {
-        throw new UnsupportedEncodingException();
-    }
-
     // override this if not overriding the uncompress method
     InputStream getInputStream(final InputStream source) throws IOException {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Releases any state held by this compressor.  Called when the connection that owns it is closed.
+     */
+    void close() {
+    }
+
+    static int getUncompressedSize(final List<ByteBuf> source) {
+        int uncompressedSize = 0;
+        for (ByteBuf cur : source) {
+            uncompressedSize += cur.remaining();
+        }
+        return uncompressedSize;
+    }
+
     private static final class ByteBufInputStream extends InputStream {
         private final ByteBuf source;
 
@@ -102,15 +102,4 @@ abstract class Compressor {
             throw new UnsupportedOperationException();
         }
     }
-
-    // Just so we don't have to copy the buffer
-    private static final class BufferExposingByteArrayOutputStream extends ByteArrayOutputStream {
-        BufferExposingByteArrayOutputStream(final int size) {
-            super(size);
-        }
-
-        byte[] getInternalBytes() {
-            return buf;
-        }
-    }
 }
@@ -30,6 +30,7 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -308,45 +309,45 @@ public class ConcurrentPool<T> implements Pool<T> {
     /**
      * Package-access methods are thread-safe,
      * and only they should be called outside of the {@link StateAndPermits}'s code.
+     *
+     * <p>Permits are acquired and released without locking as long as no thread waits for a permit.  The {@link #lock} is only used
+     * to wait for a permit, and to signal the waiting threads, which re-check the state and the permits each time they are woken up.</p>
      */
     @ThreadSafe
     private static final class StateAndPermits {
         private final Supplier<MongoServerUnavailableException> poolClosedExceptionSupplier;
         private final ReentrantLock lock;
         private final Condition permitAvailableOrClosedOrPausedCondition;
-        private volatile boolean paused;
         private volatile boolean closed;
         private final int maxPermits;
-        private volatile int permits;
+        private final AtomicInteger permits;
+        /**
+         * The number of threads waiting for a permit, only modified by threads holding the {@link #lock}.
+         */
+        private volatile int waiters;
+        /**
+         * {@code null} if and only if not {@linkplain #pause(Supplier) paused}.
+         */
         @Nullable
-        private Supplier<MongoException> causeSupplier;
+        private volatile Supplier<MongoException> causeSupplier;
 
         StateAndPermits(final int maxPermits, final Supplier<MongoServerUnavailableException> poolClosedExceptionSupplier) {
             this.poolClosedExceptionSupplier = poolClosedExceptionSupplier;
             lock = new ReentrantLock();
             permitAvailableOrClosedOrPausedCondition = lock.newCondition();
-            paused = false;
             closed = false;
             this.maxPermits = maxPermits;
-            permits = maxPermits;
+            permits = new AtomicInteger(maxPermits);
             causeSupplier = null;
         }
 
         int permits() {
-            return permits;
+            return permits.get();
         }
 
         boolean acquirePermitImmediate() {
-            return withLock(lock, () -> {
-                throwIfClosedOrPaused();
-                if (permits > 0) {
-                    //noinspection NonAtomicOperationOnVolatileField
-                    permits--;
-                    return true;
-                } else {
-                    return false;
-                }
-            });
+            throwIfClosedOrPaused();
+            return tryAcquirePermit();
         }
 
         /**
@@ -356,12 +357,21 @@ public class ConcurrentPool<T> implements Pool<T> {
          * @param timeout See {@link StartTime#timeoutAfterOrInfiniteIfNegative(long, TimeUnit)}.
          */
         boolean acquirePermit(final long timeout, final TimeUnit unit) throws MongoInterruptedException {
+            if (Thread.interrupted()) {
+                throw interruptAndCreateMongoInterruptedException(null, null);
+            }
+            throwIfClosedOrPaused();
+            // a thread does not take a permit ahead of the threads already waiting for one
+            if (waiters == 0 && tryAcquirePermit()) {
+                return true;
+            }
             long remainingNanos = unit.toNanos(timeout);
             lockInterruptibly(lock);
             try {
-                while (permits == 0
-                        // the absence of short-circuiting is of importance
-                        & !throwIfClosedOrPaused()) {
+                //noinspection NonAtomicOperationOnVolatileField
+                waiters++;
+                // a permit released after the increment above is either taken by the check below, or signalled to this thread
+                while (!throwIfClosedOrPaused() && !tryAcquirePermit()) {
                     try {
                         if (timeout < 0 || remainingNanos == Long.MAX_VALUE) {
                             permitAvailableOrClosedOrPausedCondition.await();
@@ -374,38 +384,46 @@ public class ConcurrentPool<T> implements Pool<T> {
                         throw interruptAndCreateMongoInterruptedException(null, e);
                     }
                 }
-                assertTrue(permits > 0);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits--;
                 return true;
             } finally {
+                //noinspection NonAtomicOperationOnVolatileField
+                waiters--;
                 lock.unlock();
             }
         }
 
+        private boolean tryAcquirePermit() {
+            while (true) {
+                int current = permits.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (permits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
         void releasePermit() {
-            withLock(lock, () -> {
-                assertTrue(permits < maxPermits);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits++;
-                permitAvailableOrClosedOrPausedCondition.signal();
-            });
+            assertTrue(permits.incrementAndGet() <= maxPermits);
+            if (waiters > 0) {
+                withLock(lock, permitAvailableOrClosedOrPausedCondition::signal);
+            }
         }
 
         void pause(final Supplier<MongoException> causeSupplier) {
             withLock(lock, () -> {
+                boolean paused = this.causeSupplier != null;
+                this.causeSupplier = assertNotNull(causeSupplier);
                 if (!paused) {
-                    this.paused = true;
                     permitAvailableOrClosedOrPausedCondition.signalAll();
                 }
-                this.causeSupplier = assertNotNull(causeSupplier);
             });
         }
 
         void ready() {
-            if (paused) {
+            if (causeSupplier != null) {
                 withLock(lock, () -> {
-                    this.paused = false;
                     this.causeSupplier = null;
                 });
             }
@@ -429,8 +447,6 @@ public class ConcurrentPool<T> implements Pool<T> {
         }
 
         /**
-         * This method must be called by a {@link Thread} that holds the {@link #lock}.
-         *
          * @return {@code false} which means that the method did not throw.
          * The method returns to allow using it conveniently as part of a condition check when waiting on a {@link Condition}.
          * Short-circuiting operators {@code &&} and {@code ||} must not be used with this method to ensure that it is called.
@@ -443,8 +459,9 @@ public class ConcurrentPool<T> implements Pool<T> {
             if (closed) {
                 throw poolClosedExceptionSupplier.get();
             }
-            if (paused) {
-                throw assertNotNull(assertNotNull(causeSupplier).get());
+            Supplier<MongoException> localCauseSupplier = causeSupplier;
+            if (localCauseSupplier != null) {
+                throw assertNotNull(localCauseSupplier.get());
             }
             return false;
         }
@@ -53,6 +53,27 @@ public interface Connection extends ReferenceCounted {
             @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder, OperationContext operationContext,
             boolean responseExpected, MessageSequences sequences);
 
+    /**
+     * Executes a command with the {@code exhaustAllowed} flag, which allows the server to stream further replies to it without being
+     * sent further commands.  While {@link #hasMoreToCome()}, the further replies must be received with
+     * {@link #receiveMoreToCome(Decoder, OperationContext)}, and the connection can not be used for anything else.
+     */
+    @Nullable
+    <T> T exhaustCommand(String database, BsonDocument command, FieldNameValidator fieldNameValidator,
+            @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder, OperationContext operationContext);
+
+    /**
+     * Receives the next reply that the server streams to the last command executed with
+     * {@link #exhaustCommand(String, BsonDocument, FieldNameValidator, ReadPreference, Decoder, OperationContext)}.
+     */
+    @Nullable
+    <T> T receiveMoreToCome(Decoder<T> commandResultDecoder, OperationContext operationContext);
+
+    /**
+     * Returns whether the server is going to stream another reply to the last command executed on the connection.
+     */
+    boolean hasMoreToCome();
+
 
     enum PinningMode {
         CURSOR,
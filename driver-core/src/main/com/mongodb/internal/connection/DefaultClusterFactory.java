@@ -35,7 +35,9 @@ import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.lang.Nullable;
+import com.mongodb.observability.ObservabilitySettings;
 import com.mongodb.spi.dns.DnsClient;
 
 import java.util.List;
@@ -71,7 +73,7 @@ public final class DefaultClusterFactory {
                                  @Nullable final String applicationName,
                                  @Nullable final MongoDriverInformation mongoDriverInformation,
                                  final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-                                 @Nullable final DnsClient dnsClient) {
+                                 @Nullable final DnsClient dnsClient, @Nullable final ObservabilitySettings observabilitySettings) {
 
         detectAndLogClusterEnvironment(originalClusterSettings);
 
@@ -107,21 +109,26 @@ public final class DefaultClusterFactory {
         InternalOperationContextFactory heartBeatOperationContextFactory =
                 new InternalOperationContextFactory(heartbeatTimeoutSettings, serverApi);
 
+        MetricsRecorder metricsRecorder = MetricsRecorder.create(clusterId, observabilitySettings);
+        ConnectionPoolSettings poolSettings = metricsRecorder.isEnabled()
+                ? ConnectionPoolSettings.builder(connectionPoolSettings).addConnectionPoolListener(metricsRecorder).build()
+                : connectionPoolSettings;
+
         ClientMetadata clientMetadata = new ClientMetadata(
                 applicationName,
                 mongoDriverInformation != null ? mongoDriverInformation : MongoDriverInformation.builder().build());
 
         if (clusterSettings.getMode() == ClusterConnectionMode.LOAD_BALANCED) {
             ClusterableServerFactory serverFactory = new LoadBalancedClusterableServerFactory(serverSettings,
-                    connectionPoolSettings, internalConnectionPoolSettings, streamFactory, credential, loggerSettings, commandListener,
-                    compressorList, serverApi, clusterOperationContextFactory);
+                    poolSettings, internalConnectionPoolSettings, streamFactory, credential, loggerSettings, commandListener,
+                    compressorList, serverApi, clusterOperationContextFactory, metricsRecorder);
             return new LoadBalancedCluster(clusterId, clusterSettings, serverFactory, clientMetadata, dnsSrvRecordMonitorFactory);
         } else {
             ClusterableServerFactory serverFactory = new DefaultClusterableServerFactory(serverSettings,
-                    connectionPoolSettings, internalConnectionPoolSettings,
+                    poolSettings, internalConnectionPoolSettings,
                     clusterOperationContextFactory, streamFactory, heartBeatOperationContextFactory, heartbeatStreamFactory, credential,
                     loggerSettings, commandListener, compressorList,
-                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN);
+                    serverApi, FaasEnvironment.getFaasEnvironment() != FaasEnvironment.UNKNOWN, metricsRecorder);
 
             if (clusterSettings.getMode() == ClusterConnectionMode.SINGLE) {
                 return new SingleServerCluster(clusterId, clusterSettings, serverFactory, clientMetadata);
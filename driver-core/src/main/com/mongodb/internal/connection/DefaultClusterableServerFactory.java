@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.AuthenticationMechanism;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.MongoCredential;
@@ -28,6 +29,7 @@ import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerListener;
 import com.mongodb.internal.inject.SameObjectProvider;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.lang.Nullable;
 
 import java.util.List;
@@ -53,6 +55,7 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
     @Nullable
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
+    private final MetricsRecorder metricsRecorder;
 
     public DefaultClusterableServerFactory(
             final ServerSettings serverSettings, final ConnectionPoolSettings connectionPoolSettings,
@@ -61,7 +64,8 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
             final InternalOperationContextFactory heartbeatOperationContextFactory, final StreamFactory heartbeatStreamFactory,
             @Nullable final MongoCredential credential, final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment) {
+            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment,
+            final MetricsRecorder metricsRecorder) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -75,6 +79,7 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         this.compressorList = compressorList;
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
@@ -90,21 +95,40 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
                          emptyList(), loggerSettings, null, serverApi),
                 clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, heartbeatOperationContextFactory);
 
+        int maxConcurrentRequestsPerConnection = isMultiplexingSupported(clusterMode)
+                ? connectionPoolSettings.getMaxConcurrentRequestsPerConnection()
+                : 1;
         ConnectionPool connectionPool = new DefaultConnectionPool(serverId,
-                new InternalStreamConnectionFactory(clusterMode, streamFactory, credential, clientMetadata,
-                         compressorList, loggerSettings, commandListener, serverApi),
-                connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, clusterOperationContextFactory);
+                new InternalStreamConnectionFactory(clusterMode, false, streamFactory, credential, clientMetadata,
+                         compressorList, loggerSettings, commandListener, serverApi, maxConcurrentRequestsPerConnection > 1,
+                         metricsRecorder),
+                connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, clusterOperationContextFactory, cluster.getTimer());
         ServerListener serverListener = singleServerListener(serverSettings);
         SdamServerDescriptionManager sdam = new DefaultSdamServerDescriptionManager(cluster, serverId, serverListener, serverMonitor,
                 connectionPool, clusterMode);
         sdamProvider.initialize(sdam);
         serverMonitor.start();
         return new DefaultServer(serverId, clusterMode, connectionPool, new DefaultConnectionFactory(), serverMonitor,
-                sdam, serverListener, commandListener, cluster.getClock(), true);
+                sdam, serverListener, commandListener, cluster.getClock(), true, maxConcurrentRequestsPerConnection,
+                cluster.getSettings().getServerScorer() != null);
+    }
+
+    /**
+     * Connections are pinned to cursors and transactions in load balanced mode, and OIDC reauthentication must not race with other
+     * requests on the same connection.
+     */
+    private boolean isMultiplexingSupported(final ClusterConnectionMode clusterMode) {
+        return clusterMode != ClusterConnectionMode.LOAD_BALANCED
+                && (credential == null || credential.getAuthenticationMechanism() != AuthenticationMechanism.MONGODB_OIDC);
     }
 
     @Override
     public ServerSettings getSettings() {
         return serverSettings;
     }
+
+    @Override
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
 }
@@ -53,6 +53,7 @@ import com.mongodb.internal.inject.OptionalProvider;
 import com.mongodb.internal.logging.LogMessage;
 import com.mongodb.internal.logging.StructuredLogger;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.internal.time.HashedWheelTimer;
 import com.mongodb.internal.time.StartTime;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.NonNull;
@@ -64,12 +65,13 @@ import org.bson.types.ObjectId;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -149,6 +151,14 @@ final class DefaultConnectionPool implements ConnectionPool {
                 operationContextFactory);
     }
 
+    @VisibleForTesting(otherwise = PRIVATE)
+    DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
+            final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
+            final OptionalProvider<SdamServerDescriptionManager> sdamProvider,
+            final InternalOperationContextFactory operationContextFactory) {
+        this(serverId, internalConnectionFactory, settings, internalSettings, sdamProvider, operationContextFactory, null);
+    }
+
     /**
      * @param sdamProvider For handling exceptions via the
      *                     <a href="https://github.com/mongodb/specifications/blob/master/source/server-discovery-and-monitoring/server-discovery-and-monitoring.md">
@@ -157,11 +167,13 @@ final class DefaultConnectionPool implements ConnectionPool {
      *                     here</a>.
      *                     Must provide an {@linkplain Optional#isPresent() empty} {@link Optional} if created in load-balanced mode,
      *                     otherwise must provide a non-empty {@link Optional}.
+     * @param timer        The {@linkplain Cluster#getTimer() timer} on which the asynchronous checkouts time out while they wait to be
+     *                     performed, or {@code null} if the pool must use a timer of its own.
      */
     DefaultConnectionPool(final ServerId serverId, final InternalConnectionFactory internalConnectionFactory,
             final ConnectionPoolSettings settings, final InternalConnectionPoolSettings internalSettings,
             final OptionalProvider<SdamServerDescriptionManager> sdamProvider,
-            final InternalOperationContextFactory operationContextFactory) {
+            final InternalOperationContextFactory operationContextFactory, @Nullable final HashedWheelTimer timer) {
         this.serverId = notNull("serverId", serverId);
         this.settings = notNull("settings", settings);
         UsageTrackingInternalConnectionItemFactory connectionItemFactory =
@@ -174,7 +186,7 @@ final class DefaultConnectionPool implements ConnectionPool {
         backgroundMaintenance = new BackgroundMaintenanceManager();
         connectionPoolCreated(connectionPoolListener, serverId, settings);
         openConcurrencyLimiter = new OpenConcurrencyLimiter(settings.getMaxConnecting());
-        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager());
+        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager(), timer);
         stateAndGeneration = new StateAndGeneration();
         connectionGenerationSupplier = new ConnectionGenerationSupplier() {
             @Override
@@ -667,6 +679,10 @@ final class DefaultConnectionPool implements ConnectionPool {
             if (!isClosed.getAndSet(true)) {
                 unmarkAsPinned();
                 connectionCheckedIn();
+                if (wrapped.hasMoreToCome()) {
+                    // the replies the server still streams to the connection would be mistaken for the replies to the next commands
+                    wrapped.close();
+                }
                 if (wrapped.isClosed() || shouldPrune(wrapped)) {
                     pool.release(wrapped, true);
                 } else {
@@ -769,6 +785,13 @@ final class DefaultConnectionPool implements ConnectionPool {
             return wrapped.receive(decoder, operationContext);
         }
 
+        @Override
+        public <T> void receiveAsync(final Decoder<T> decoder, final OperationContext operationContext,
+                final SingleResultCallback<T> callback) {
+            isTrue("open", !isClosed.get());
+            wrapped.receiveAsync(decoder, operationContext, callback);
+        }
+
         @Override
         public boolean hasMoreToCome() {
             isTrue("open", !isClosed.get());
@@ -902,6 +925,9 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final Condition permitAvailableOrHandedOverOrClosedOrPausedCondition;
         private final int maxPermits;
         private int permits;
+        /**
+         * Only modified by threads holding the {@link #lock}, but may be checked for emptiness without it.
+         */
         private final Deque<MutableReference<PooledConnection>> desiredConnectionSlots;
 
         OpenConcurrencyLimiter(final int maxConnecting) {
@@ -909,7 +935,7 @@ final class DefaultConnectionPool implements ConnectionPool {
             permitAvailableOrHandedOverOrClosedOrPausedCondition = lock.newCondition();
             maxPermits = maxConnecting;
             permits = maxPermits;
-            desiredConnectionSlots = new LinkedList<>();
+            desiredConnectionSlots = new ConcurrentLinkedDeque<>();
         }
 
         PooledConnection openOrGetAvailable(final OperationContext operationContext, final PooledConnection connection,
@@ -1137,7 +1163,10 @@ final class DefaultConnectionPool implements ConnectionPool {
          * from threads that are waiting for a permit to open a connection.
          */
         void tryHandOverOrRelease(final UsageTrackingInternalConnection openConnection) {
-            boolean handedOver = withLock(lock, () -> {
+            /* The lock is only needed if a thread desires to get a connection, which is rarely the case unless `maxConnecting`
+             * connections are being opened. Checking that without the lock is not more prone to a thread expressing the desire
+             * concurrently missing the connection, as the connection is released to the pool after the lock is released anyway. */
+            boolean handedOver = !desiredConnectionSlots.isEmpty() && withLock(lock, () -> {
                 for (//iterate from first (head) to last (tail)
                         MutableReference<PooledConnection> desiredConnectionSlot : desiredConnectionSlots) {
                     if (desiredConnectionSlot.reference == null) {
@@ -1281,6 +1310,8 @@ final class DefaultConnectionPool implements ConnectionPool {
 
     /**
      * This class maintains threads needed to perform {@link ConnectionPool#getAsync(OperationContext, SingleResultCallback)}.
+     * The tasks are performed one at a time, and a task that waits in the queue for longer than its timeout is failed on the timer
+     * rather than when it reaches the head of the queue.
      */
     @ThreadSafe
     private static class AsyncWorkManager implements AutoCloseable {
@@ -1289,17 +1320,22 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final Lock lock;
         @Nullable
         private ExecutorService worker;
+        private final HashedWheelTimer timer;
+        private final boolean ownsTimer;
 
-        AsyncWorkManager(final boolean prestart) {
+        AsyncWorkManager(final boolean prestart, @Nullable final HashedWheelTimer timer) {
             state = State.NEW;
             tasks = new LinkedBlockingQueue<>();
             lock = new StampedLock().asWriteLock();
+            ownsTimer = timer == null;
+            this.timer = timer == null ? new HashedWheelTimer("AsyncGetterTimer", 10, MILLISECONDS, 512) : timer;
             if (prestart) {
                 assertTrue(initUnlessClosed());
             }
         }
 
         void enqueue(final Task task) {
+            task.scheduleTimeout(timer);
             boolean closed = withLock(lock, () -> {
                 if (initUnlessClosed()) {
                     tasks.add(task);
@@ -1342,6 +1378,9 @@ final class DefaultConnectionPool implements ConnectionPool {
                     if (worker != null) {
                         worker.shutdownNow(); // at this point we interrupt `worker`s thread
                     }
+                    if (ownsTimer) {
+                        timer.close();
+                    }
                 }
             });
         }
@@ -1395,15 +1434,18 @@ final class DefaultConnectionPool implements ConnectionPool {
     }
 
     /**
-     * An action that is allowed to be completed (failed or executed) at most once, and a timeout associated with it.
+     * An action that is completed (failed or executed) at most once, and a timeout associated with it.  Attempts to complete it after
+     * it has been completed are ignored.
      */
-    @NotThreadSafe
+    @ThreadSafe
     final class Task {
         private final Timeout timeout;
         private final StartTime startTime;
         private final Consumer<RuntimeException> action;
         private final TimeoutContext timeoutContext;
-        private boolean completed;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        @Nullable
+        private volatile HashedWheelTimer.Task timeoutTask;
 
         Task(final Timeout timeout,
              final StartTime startTime,
@@ -1416,21 +1458,41 @@ final class DefaultConnectionPool implements ConnectionPool {
         }
 
         void execute() {
-            doComplete(() -> null);
+            doComplete(() -> null, Runnable::run);
         }
 
         void failAsClosed() {
-            doComplete(pool::poolClosedException);
+            doComplete(pool::poolClosedException, Runnable::run);
         }
 
         void failAsTimedOut() {
-            doComplete(() -> createTimeoutException(startTime, null,  timeoutContext));
+            failAsTimedOut(Runnable::run);
+        }
+
+        /**
+         * Schedules failing the task as timed out when its timeout expires, unless the task is completed before that.  The timer thread
+         * only marks the task as completed, and the action runs on the callback executor of the timer.
+         */
+        void scheduleTimeout(final HashedWheelTimer timer) {
+            timeout.run(NANOSECONDS, () -> {},
+                    (ns) -> timeoutTask = timer.schedule(() -> failAsTimedOut(timer.getCallbackExecutor()), ns, NANOSECONDS),
+                    () -> {});
+        }
+
+        private void failAsTimedOut(final Executor actionExecutor) {
+            doComplete(() -> createTimeoutException(startTime, null,  timeoutContext), actionExecutor);
         }
 
-        private void doComplete(final Supplier<RuntimeException> failureSupplier) {
-            assertFalse(completed);
-            completed = true;
-            action.accept(failureSupplier.get());
+        private void doComplete(final Supplier<RuntimeException> failureSupplier, final Executor actionExecutor) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            HashedWheelTimer.Task localTimeoutTask = timeoutTask;
+            if (localTimeoutTask != null) {
+                localTimeoutTask.cancel();
+            }
+            RuntimeException failure = failureSupplier.get();
+            actionExecutor.execute(() -> action.accept(failure));
         }
 
         Timeout timeout() {
@@ -33,23 +33,29 @@ import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.session.SessionContext;
 import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerOperationStatistics;
 import org.bson.BsonDocument;
 import org.bson.FieldNameValidator;
 import org.bson.codecs.Decoder;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.assertions.Assertions.assertTrue;
+import static com.mongodb.assertions.Assertions.isTrue;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 import static com.mongodb.internal.connection.ServerDescriptionHelper.unknownConnectingServerDescription;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 class DefaultServer implements ClusterableServer {
     private static final Logger LOGGER = Loggers.getLogger("connection");
     private final ServerId serverId;
     private final ConnectionPool connectionPool;
+    @Nullable
+    private final MultiplexedConnectionPool multiplexedConnectionPool;
     private final ClusterConnectionMode clusterConnectionMode;
     private final ConnectionFactory connectionFactory;
     private final ServerMonitor serverMonitor;
@@ -59,12 +65,30 @@ class DefaultServer implements ClusterableServer {
     private final ClusterClock clusterClock;
     @Nullable
     private final AtomicInteger operationCount;
+    @Nullable
+    private final OperationLatencyWindow operationLatencies;
     private volatile boolean isClosed;
 
     DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
             final ConnectionFactory connectionFactory, final ServerMonitor serverMonitor,
             final SdamServerDescriptionManager sdam, final ServerListener serverListener,
             final CommandListener commandListener, final ClusterClock clusterClock, final boolean trackOperationCount) {
+        this(serverId, clusterConnectionMode, connectionPool, connectionFactory, serverMonitor, sdam, serverListener, commandListener,
+                clusterClock, trackOperationCount, 1, false);
+    }
+
+    /**
+     * @param maxConcurrentRequestsPerConnection if greater than one, the connections of the pool must support multiplexing, and are
+     *                                           shared between the reads that get their connection via
+     *                                           {@link #getMultiplexedReadConnection(OperationContext)}
+     * @param trackOperationLatency whether to record the latencies of the commands that succeed, for {@link #operationStatistics()};
+     *                              requires {@code trackOperationCount}
+     */
+    DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
+            final ConnectionFactory connectionFactory, final ServerMonitor serverMonitor,
+            final SdamServerDescriptionManager sdam, final ServerListener serverListener,
+            final CommandListener commandListener, final ClusterClock clusterClock, final boolean trackOperationCount,
+            final int maxConcurrentRequestsPerConnection, final boolean trackOperationLatency) {
         this.sdam = assertNotNull(sdam);
         this.serverListener = notNull("serverListener", serverListener);
         this.commandListener = commandListener;
@@ -73,24 +97,41 @@ class DefaultServer implements ClusterableServer {
         this.clusterConnectionMode = notNull("clusterConnectionMode", clusterConnectionMode);
         this.connectionFactory = notNull("connectionFactory", connectionFactory);
         this.connectionPool = notNull("connectionPool", connectionPool);
+        this.multiplexedConnectionPool = maxConcurrentRequestsPerConnection > 1
+                ? new MultiplexedConnectionPool(connectionPool, maxConcurrentRequestsPerConnection)
+                : null;
 
         this.serverId = serverId;
         serverListener.serverOpening(new ServerOpeningEvent(this.serverId));
 
         this.serverMonitor = serverMonitor;
         operationCount = trackOperationCount ? new AtomicInteger() : null;
+        isTrue("trackOperationCount if trackOperationLatency", trackOperationCount || !trackOperationLatency);
+        operationLatencies = trackOperationLatency ? new OperationLatencyWindow() : null;
     }
 
     @Override
     public Connection getConnection(final OperationContext operationContext) {
+        return getConnection(operationContext, false);
+    }
+
+    @Override
+    public Connection getMultiplexedReadConnection(final OperationContext operationContext) {
+        return getConnection(operationContext, multiplexedConnectionPool != null);
+    }
+
+    private Connection getConnection(final OperationContext operationContext, final boolean multiplexed) {
         if (isClosed) {
             throw new MongoServerUnavailableException(String.format("The server at %s is no longer available", serverId.getAddress()));
         }
         SdamIssue.Context exceptionContext = sdam.context();
         operationBegin();
         try {
+            InternalConnection internalConnection = multiplexed
+                    ? assertNotNull(multiplexedConnectionPool).get(operationContext)
+                    : connectionPool.get(operationContext);
             return OperationCountTrackingConnection.decorate(this,
-                    connectionFactory.create(connectionPool.get(operationContext), new DefaultServerProtocolExecutor(), clusterConnectionMode));
+                    connectionFactory.create(internalConnection, new DefaultServerProtocolExecutor(), clusterConnectionMode));
         } catch (Throwable e) {
             try {
                 operationEnd();
@@ -136,6 +177,20 @@ class DefaultServer implements ClusterableServer {
         return operationCount == null ? -1 : operationCount.get();
     }
 
+    @Override
+    @Nullable
+    public ServerOperationStatistics operationStatistics() {
+        return operationLatencies == null ? null : new DefaultServerOperationStatistics(operationLatencies, System.nanoTime());
+    }
+
+    private void recordOperationLatency(final CommandProtocol<?> protocol, final long startNanos) {
+        // a command that the server holds until data arrives would make the server look slow
+        if (operationLatencies != null && !protocol.mayWaitOnServer()) {
+            long nowNanos = System.nanoTime();
+            operationLatencies.record(nowNanos - startNanos, nowNanos);
+        }
+    }
+
     private void operationBegin() {
         if (operationCount != null) {
             operationCount.incrementAndGet();
@@ -202,9 +257,12 @@ class DefaultServer implements ClusterableServer {
         public <T> T execute(final CommandProtocol<T> protocol, final InternalConnection connection,
                              final SessionContext sessionContext) {
             try {
-                return protocol
+                long startNanos = System.nanoTime();
+                T result = protocol
                         .withSessionContext(new ClusterClockAdvancingSessionContext(sessionContext, clusterClock))
                         .execute(connection);
+                recordOperationLatency(protocol, startNanos);
+                return result;
             } catch (MongoException e) {
                 try {
                     sdam.handleExceptionAfterHandshake(SdamIssue.of(e, sdam.context(connection)));
@@ -226,6 +284,7 @@ class DefaultServer implements ClusterableServer {
         @Override
         public <T> void executeAsync(final CommandProtocol<T> protocol, final InternalConnection connection,
                                      final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+            long startNanos = System.nanoTime();
             protocol.withSessionContext(new ClusterClockAdvancingSessionContext(sessionContext, clusterClock))
                     .executeAsync(connection, errorHandlingCallback((result, t) -> {
                 if (t != null) {
@@ -244,12 +303,38 @@ class DefaultServer implements ClusterableServer {
                         }
                     }
                 } else {
+                    recordOperationLatency(protocol, startNanos);
                     callback.onResult(result, null);
                 }
             }, LOGGER));
         }
     }
 
+    private final class DefaultServerOperationStatistics implements ServerOperationStatistics {
+        private final OperationLatencyWindow latencies;
+        private final long nowNanos;
+
+        DefaultServerOperationStatistics(final OperationLatencyWindow latencies, final long nowNanos) {
+            this.latencies = latencies;
+            this.nowNanos = nowNanos;
+        }
+
+        @Override
+        public int getInFlightOperationCount() {
+            return Math.max(operationCount(), 0);
+        }
+
+        @Override
+        public int getLatencySampleCount() {
+            return latencies.sampleCount(nowNanos);
+        }
+
+        @Override
+        public long getLatencyPercentile(final double percentile, final TimeUnit timeUnit) {
+            return timeUnit.convert(latencies.percentileNanos(percentile, nowNanos), NANOSECONDS);
+        }
+    }
+
     private static final class OperationCountTrackingConnection implements Connection {
         private final DefaultServer server;
         private final Connection wrapped;
@@ -306,6 +391,23 @@ class DefaultServer implements ClusterableServer {
                     responseExpected, sequences);
         }
 
+        @Override
+        public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                final OperationContext operationContext) {
+            return wrapped.exhaustCommand(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext);
+        }
+
+        @Override
+        public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+            return wrapped.receiveMoreToCome(commandResultDecoder, operationContext);
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return wrapped.hasMoreToCome();
+        }
+
         @Override
         public void markAsPinned(final PinningMode pinningMode) {
             wrapped.markAsPinned(pinningMode);
@@ -369,6 +471,25 @@ class DefaultServer implements ClusterableServer {
                     operationContext, responseExpected, sequences, callback);
         }
 
+        @Override
+        public <T> void exhaustCommandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                final OperationContext operationContext, final SingleResultCallback<T> callback) {
+            wrapped.exhaustCommandAsync(database, command, fieldNameValidator, readPreference, commandResultDecoder,
+                    operationContext, callback);
+        }
+
+        @Override
+        public <T> void receiveMoreToComeAsync(final Decoder<T> commandResultDecoder, final OperationContext operationContext,
+                final SingleResultCallback<T> callback) {
+            wrapped.receiveMoreToComeAsync(commandResultDecoder, operationContext, callback);
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return wrapped.hasMoreToCome();
+        }
+
         @Override
         public void markAsPinned(final Connection.PinningMode pinningMode) {
             wrapped.markAsPinned(pinningMode);
@@ -85,6 +85,28 @@ public class DefaultServerConnection extends AbstractReferenceCounted implements
                 operationContext.getSessionContext());
     }
 
+    @Nullable
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        // a command sent on a shared connection does not allow exhaust, so that the server replies to it only once
+        return executeProtocol(
+                new CommandProtocolImpl<>(database, command, fieldNameValidator, readPreference, commandResultDecoder,
+                        true, !wrapped.isShared(), EmptyMessageSequences.INSTANCE, clusterConnectionMode, operationContext),
+                operationContext.getSessionContext());
+    }
+
+    @Nullable
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeProtocol(new MoreToComeProtocol<>(commandResultDecoder, operationContext), operationContext.getSessionContext());
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return wrapped.hasMoreToCome();
+    }
+
     @Override
     public <T> void commandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
             @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext,
@@ -102,6 +124,23 @@ public class DefaultServerConnection extends AbstractReferenceCounted implements
                 operationContext.getSessionContext(), callback);
     }
 
+    @Override
+    public <T> void exhaustCommandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        executeProtocolAsync(new CommandProtocolImpl<>(database, command, fieldNameValidator, readPreference,
+                        commandResultDecoder, true, !wrapped.isShared(), EmptyMessageSequences.INSTANCE, clusterConnectionMode,
+                        operationContext),
+                operationContext.getSessionContext(), callback);
+    }
+
+    @Override
+    public <T> void receiveMoreToComeAsync(final Decoder<T> commandResultDecoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        executeProtocolAsync(new MoreToComeProtocol<>(commandResultDecoder, operationContext), operationContext.getSessionContext(),
+                callback);
+    }
+
     @Override
     public void markAsPinned(final PinningMode pinningMode) {
         wrapped.markAsPinned(pinningMode);
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import org.bson.BinaryVector;
 import org.bson.BsonBinary;
 import org.bson.BsonDbPointer;
 import org.bson.BsonReader;
@@ -87,6 +88,12 @@ public class FieldTrackingBsonWriter extends BsonWriterDecorator {
         super.writeBinaryData(binary);
     }
 
+    @Override
+    public void writeBinaryVector(final BinaryVector vector) {
+        hasWrittenField = true;
+        super.writeBinaryVector(vector);
+    }
+
     @Override
     public void writeBoolean(final String name, final boolean value) {
         hasWrittenField = true;
@@ -17,6 +17,7 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.lang.Nullable;
+import org.bson.BinaryVector;
 import org.bson.BsonBinary;
 import org.bson.BsonBinaryWriter;
 import org.bson.BsonBoolean;
@@ -162,6 +163,12 @@ public class IdHoldingBsonWriter extends LevelCountingBsonWriter {
         super.writeBinaryData(binary);
     }
 
+    @Override
+    public void writeBinaryVector(final BinaryVector vector) {
+        addBsonValue(() -> new BsonBinary(vector), () -> getIdBsonWriter().writeBinaryVector(vector));
+        super.writeBinaryVector(vector);
+    }
+
     @Override
     public void writeBoolean(final String name, final boolean value) {
         setCurrentFieldName(name);
@@ -100,6 +100,15 @@ public interface InternalConnection extends BufferProvider {
 
     <T> T receive(Decoder<T> decoder, OperationContext operationContext);
 
+    /**
+     * Receive the next reply that the server streams to the last command sent, which may only be done if {@link #hasMoreToCome()}.
+     *
+     * @param decoder          the decoder for the reply
+     * @param operationContext the operation context
+     * @param callback         the callback
+     */
+    <T> void receiveAsync(Decoder<T> decoder, OperationContext operationContext, SingleResultCallback<T> callback);
+
     boolean hasMoreToCome();
 
     /**
@@ -150,4 +159,13 @@ public interface InternalConnection extends BufferProvider {
 
     default void markAsPinned(Connection.PinningMode pinningMode) {
     }
+
+    /**
+     * Returns whether the connection is shared by concurrent requests, in which case the server must not stream replies to it.
+     *
+     * @return whether the connection is shared by concurrent requests
+     */
+    default boolean isShared() {
+        return false;
+    }
 }
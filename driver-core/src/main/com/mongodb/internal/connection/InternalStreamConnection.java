@@ -43,12 +43,15 @@ import com.mongodb.connection.ServerType;
 import com.mongodb.event.CommandListener;
 import com.mongodb.internal.ResourceUtil;
 import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.VisibleForTesting;
 import com.mongodb.internal.async.AsyncSupplier;
 import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.logging.StructuredLogger;
+import com.mongodb.internal.observability.micrometer.ConnectionMetricsRecorder;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.internal.observability.micrometer.Span;
 import com.mongodb.internal.session.SessionContext;
 import com.mongodb.internal.time.Timeout;
@@ -69,7 +72,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import static com.mongodb.assertions.Assertions.assertNotNull;
@@ -83,6 +90,7 @@ import static com.mongodb.internal.connection.Authenticator.shouldAuthenticate;
 import static com.mongodb.internal.connection.CommandHelper.HELLO;
 import static com.mongodb.internal.connection.CommandHelper.LEGACY_HELLO;
 import static com.mongodb.internal.connection.CommandHelper.LEGACY_HELLO_LOWER;
+import static com.mongodb.internal.connection.CompressedHeader.TOTAL_COMPRESSED_HEADER_LENGTH;
 import static com.mongodb.internal.connection.MessageHeader.MESSAGE_HEADER_LENGTH;
 import static com.mongodb.internal.connection.OpCode.OP_COMPRESSED;
 import static com.mongodb.internal.connection.ProtocolHelper.createSpecialWriteConcernException;
@@ -96,8 +104,10 @@ import static com.mongodb.internal.connection.ProtocolHelper.isCommandOk;
 import static com.mongodb.internal.logging.LogMessage.Level.DEBUG;
 import static com.mongodb.internal.observability.micrometer.MongodbObservation.HighCardinalityKeyNames.QUERY_TEXT;
 import static com.mongodb.internal.observability.micrometer.MongodbObservation.LowCardinalityKeyNames.RESPONSE_STATUS_CODE;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
 import static com.mongodb.internal.thread.InterruptionUtil.translateInterruptedException;
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -159,7 +169,18 @@ public class InternalStreamConnection implements InternalConnection {
     private final Map<Byte, Compressor> compressorMap;
     private volatile boolean hasMoreToCome;
     private volatile int responseTo;
+    // the command sent with the exhaustAllowed flag that the server streams replies to, and its command document if it is needed for
+    // the command events of the replies
+    @Nullable
+    private volatile CommandMessage moreToComeMessage;
+    @Nullable
+    private volatile BsonDocument moreToComeCommandDocument;
     private int generation = NOT_INITIALIZED_GENERATION;
+    @Nullable
+    private final ReplyDemultiplexer replyDemultiplexer;
+    private final Lock writeLock = new ReentrantLock();
+    private final MetricsRecorder metricsRecorder;
+    private final ConnectionMetricsRecorder connectionMetricsRecorder;
 
     // Package-level access provided to avoid duplicating the list in test code
     static Set<String> getSecuritySensitiveCommands() {
@@ -188,6 +209,41 @@ public class InternalStreamConnection implements InternalConnection {
             final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings,
             final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, loggerSettings, commandListener, connectionInitializer, false);
+    }
+
+    /**
+     * @param multiplexed whether {@link #sendAndReceive(CommandMessage, Decoder, OperationContext)} may be called concurrently, in which
+     *                    case the replies are matched to the requests by their {@code responseTo} field
+     */
+    public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer,
+            final boolean multiplexed) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, loggerSettings, commandListener, connectionInitializer, multiplexed, MetricsRecorder.NO_OP);
+    }
+
+    /**
+     * @param multiplexed whether {@link #sendAndReceive(CommandMessage, Decoder, OperationContext)} may be called concurrently, in which
+     *                    case the replies are matched to the requests by their {@code responseTo} field
+     * @param metricsRecorder the recorder of the latency of commands and of the traffic of the connection
+     */
+    public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer,
+            final boolean multiplexed, final MetricsRecorder metricsRecorder) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.authenticator = authenticator;
         this.isMonitoringConnection = isMonitoringConnection;
@@ -208,6 +264,9 @@ public class InternalStreamConnection implements InternalConnection {
         if (clusterConnectionMode != ClusterConnectionMode.LOAD_BALANCED) {
             generation = connectionGenerationSupplier.getGeneration();
         }
+        replyDemultiplexer = multiplexed ? new ReplyDemultiplexer(serverId.getAddress(), this::close) : null;
+        this.metricsRecorder = notNull("metricsRecorder", metricsRecorder);
+        this.connectionMetricsRecorder = metricsRecorder.forServer(serverId.getAddress());
     }
 
     @Override
@@ -354,7 +413,7 @@ public class InternalStreamConnection implements InternalConnection {
             case "snappy":
                 return new SnappyCompressor();
             case "zstd":
-                return new ZstdCompressor();
+                return new ZstdCompressor(mongoCompressor);
             default:
                 throw new MongoClientException("Unsupported compressor " + mongoCompressor.getName());
         }
@@ -363,8 +422,11 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public void close() {
         // All but the first call is a no-op
-        if (!isClosed.getAndSet(true) && (stream != null)) {
-            stream.close();
+        if (!isClosed.getAndSet(true)) {
+            if (stream != null) {
+                stream.close();
+            }
+            compressorMap.values().forEach(Compressor::close);
         }
     }
 
@@ -381,15 +443,25 @@ public class InternalStreamConnection implements InternalConnection {
     @Nullable
     @Override
     public <T> T sendAndReceive(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+        long startTimeNanos = System.nanoTime();
+        boolean succeeded = false;
         Supplier<T> sendAndReceiveInternal = () -> sendAndReceiveInternal(
                 message, decoder, operationContext);
         try {
-            return sendAndReceiveInternal.get();
-        } catch (MongoCommandException e) {
-            if (reauthenticationIsTriggered(e)) {
-                return reauthenticateAndRetry(sendAndReceiveInternal, operationContext);
+            T result;
+            try {
+                result = sendAndReceiveInternal.get();
+            } catch (MongoCommandException e) {
+                if (reauthenticationIsTriggered(e)) {
+                    result = reauthenticateAndRetry(sendAndReceiveInternal, operationContext);
+                } else {
+                    throw e;
+                }
             }
-            throw e;
+            succeeded = true;
+            return result;
+        } finally {
+            metricsRecorder.recordCommand(message, System.nanoTime() - startTimeNanos, succeeded);
         }
     }
 
@@ -398,13 +470,17 @@ public class InternalStreamConnection implements InternalConnection {
                                         final OperationContext operationContext,
                                         final SingleResultCallback<T> callback) {
 
+        long startTimeNanos = System.nanoTime();
         AsyncSupplier<T> sendAndReceiveAsyncInternal = c -> sendAndReceiveAsyncInternal(
                 message, decoder, operationContext, c);
         beginAsync().<T>thenSupply(c -> {
             sendAndReceiveAsyncInternal.getAsync(c);
         }).onErrorIf(e -> reauthenticationIsTriggered(e), (t, c) -> {
             reauthenticateAndRetryAsync(sendAndReceiveAsyncInternal, operationContext, c);
-        }).finish(callback);
+        }).finish((result, t) -> {
+            metricsRecorder.recordCommand(message, System.nanoTime() - startTimeNanos, t == null);
+            callback.onResult(result, t);
+        });
     }
 
     private <T> T reauthenticateAndRetry(final Supplier<T> operation, final OperationContext operationContext) {
@@ -475,10 +551,18 @@ public class InternalStreamConnection implements InternalConnection {
             if (isTracingCommandPayloadNeeded) {
                 tracingSpan.tagHighCardinality(QUERY_TEXT.asString(), commandDocument);
             }
+            rememberMoreToComeMessage(message, commandDocument);
 
+            boolean registerReply = replyDemultiplexer != null && message.isResponseExpected();
             try {
+                if (registerReply) {
+                    replyDemultiplexer.register(message.getId());
+                }
                 sendCommandMessage(message, bsonOutput, operationContext);
             } catch (Exception e) {
+                if (registerReply) {
+                    replyDemultiplexer.abandon(message.getId());
+                }
                 if (tracingSpan != null) {
                     tracingSpan.error(e);
                 }
@@ -488,7 +572,7 @@ public class InternalStreamConnection implements InternalConnection {
         }
 
         if (message.isResponseExpected()) {
-            return receiveCommandMessageResponse(decoder, commandEventSender, operationContext, tracingSpan);
+            return receiveCommandMessageResponse(message.getId(), decoder, commandEventSender, operationContext, tracingSpan);
         } else {
             commandEventSender.sendSucceededEventForOneWayCommand();
             if (tracingSpan != null) {
@@ -503,6 +587,7 @@ public class InternalStreamConnection implements InternalConnection {
         try (ByteBufferBsonOutput bsonOutput = new ByteBufferBsonOutput(this)) {
             message.encode(bsonOutput, operationContext);
             sendCommandMessage(message, bsonOutput, operationContext);
+            rememberMoreToComeMessage(null, null);
             if (message.isResponseExpected()) {
                 hasMoreToCome = true;
             }
@@ -512,7 +597,63 @@ public class InternalStreamConnection implements InternalConnection {
     @Override
     public <T> T receive(final Decoder<T> decoder, final OperationContext operationContext) {
         isTrue("Response is expected", hasMoreToCome);
-        return receiveCommandMessageResponse(decoder, new NoOpCommandEventSender(), operationContext, null);
+        CommandMessage message = moreToComeMessage;
+        long startTimeNanos = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = receiveCommandMessageResponse(responseTo, decoder, createMoreToComeEventSender(operationContext), operationContext,
+                    null);
+            succeeded = true;
+            return result;
+        } finally {
+            if (message != null) {
+                metricsRecorder.recordCommand(message, System.nanoTime() - startTimeNanos, succeeded);
+            }
+        }
+    }
+
+    @Override
+    public <T> void receiveAsync(final Decoder<T> decoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        isTrue("Response is expected", hasMoreToCome);
+        CommandMessage message = moreToComeMessage;
+        long startTimeNanos = System.nanoTime();
+        receiveCommandMessageResponseAsync(responseTo, decoder, createMoreToComeEventSender(operationContext), operationContext,
+                (result, t) -> {
+                    if (message != null) {
+                        metricsRecorder.recordCommand(message, System.nanoTime() - startTimeNanos, t == null);
+                    }
+                    callback.onResult(result, t);
+                });
+    }
+
+    private void rememberMoreToComeMessage(@Nullable final CommandMessage message, @Nullable final BsonDocument commandDocument) {
+        if (message != null && message.isExhaustAllowed()) {
+            moreToComeMessage = message;
+            // the command document is backed by the buffers of the message, which are released once it is sent
+            moreToComeCommandDocument = commandDocument == null ? null : commandDocument.clone();
+        } else {
+            moreToComeMessage = null;
+            moreToComeCommandDocument = null;
+        }
+    }
+
+    /**
+     * Creates the sender of the events of a reply streamed to a command sent with the {@code exhaustAllowed} flag.  Each reply is
+     * reported as if the command was sent again, which is how the {@code getMore} commands of a cursor are reported without exhaust.
+     */
+    private CommandEventSender createMoreToComeEventSender(final OperationContext operationContext) {
+        CommandMessage message = moreToComeMessage;
+        BsonDocument commandDocument = moreToComeCommandDocument;
+        if (message == null || commandDocument == null || !isLoggingCommandNeeded()) {
+            return new NoOpCommandEventSender();
+        }
+        CommandEventSender commandEventSender = new LoggingCommandEventSender(
+                SECURITY_SENSITIVE_COMMANDS, SECURITY_SENSITIVE_HELLO_COMMANDS, description, commandListener,
+                operationContext, message, commandDocument,
+                COMMAND_PROTOCOL_LOGGER, loggerSettings);
+        commandEventSender.sendStartedEvent();
+        return commandEventSender;
     }
 
     @Override
@@ -534,6 +675,7 @@ public class InternalStreamConnection implements InternalConnection {
                         getMessageSettings(description, initialServerDescription));
                 compressedBsonOutput = new ByteBufferBsonOutput(this);
                 compressedMessage.encode(compressedBsonOutput, operationContext);
+                recordCompression(bsonOutput, compressedBsonOutput);
             } finally {
                 ResourceUtil.release(byteBuffers);
                 bsonOutput.close();
@@ -557,20 +699,20 @@ public class InternalStreamConnection implements InternalConnection {
         }
     }
 
-    private <T> T receiveCommandMessageResponse(final Decoder<T> decoder, final CommandEventSender commandEventSender,
-            final OperationContext operationContext, @Nullable final Span tracingSpan) {
+    private <T> T receiveCommandMessageResponse(final int messageId, final Decoder<T> decoder,
+            final CommandEventSender commandEventSender, final OperationContext operationContext, @Nullable final Span tracingSpan) {
         boolean commandSuccessful = false;
-        try (ResponseBuffers responseBuffers = receiveResponseBuffers(operationContext)) {
+        try (ResponseBuffers responseBuffers = receiveResponseBuffers(messageId, operationContext)) {
             updateSessionContext(operationContext.getSessionContext(), responseBuffers);
             if (!isCommandOk(responseBuffers)) {
-                throw getCommandFailureException(responseBuffers.getResponseDocument(responseTo,
+                throw getCommandFailureException(responseBuffers.getResponseDocument(messageId,
                         new BsonDocumentCodec()), description.getServerAddress(), operationContext.getTimeoutContext());
             }
 
             commandSuccessful = true;
             commandEventSender.sendSucceededEvent(responseBuffers);
 
-            T commandResult = getCommandResult(decoder, responseBuffers, responseTo, operationContext.getTimeoutContext());
+            T commandResult = getCommandResult(decoder, responseBuffers, messageId, operationContext.getTimeoutContext());
             hasMoreToCome = responseBuffers.getReplyHeader().hasMoreToCome();
             if (hasMoreToCome) {
                 responseTo = responseBuffers.getReplyHeader().getRequestId();
@@ -611,8 +753,9 @@ public class InternalStreamConnection implements InternalConnection {
             message.encode(bsonOutput, operationContext);
 
             CommandEventSender commandEventSender;
+            BsonDocument commandDocument = null;
             if (isLoggingCommandNeeded()) {
-                BsonDocument commandDocument = message.getCommandDocument(bsonOutput);
+                commandDocument = message.getCommandDocument(bsonOutput);
                 commandEventSender = new LoggingCommandEventSender(
                         SECURITY_SENSITIVE_COMMANDS, SECURITY_SENSITIVE_HELLO_COMMANDS, description, commandListener,
                         operationContext, message, commandDocument,
@@ -622,6 +765,7 @@ public class InternalStreamConnection implements InternalConnection {
             }
 
             commandEventSender.sendStartedEvent();
+            rememberMoreToComeMessage(message, commandDocument);
             Compressor localSendCompressor = sendCompressor;
             if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
                 sendCommandMessageAsync(message.getId(), decoder, operationContext, callback, bsonOutput, commandEventSender,
@@ -632,6 +776,7 @@ public class InternalStreamConnection implements InternalConnection {
                     CompressedMessage compressedMessage = new CompressedMessage(message.getOpCode(), byteBuffers, localSendCompressor,
                             getMessageSettings(description, initialServerDescription));
                     compressedMessage.encode(compressedBsonOutput, operationContext);
+                    recordCompression(bsonOutput, compressedBsonOutput);
                 } finally {
                     ResourceUtil.release(byteBuffers);
                     bsonOutput.close();
@@ -672,41 +817,52 @@ public class InternalStreamConnection implements InternalConnection {
                 commandEventSender.sendSucceededEventForOneWayCommand();
                 callback.onResult(null, null);
             } else {
-                readAsync(MESSAGE_HEADER_LENGTH, operationContext, new MessageHeaderCallback(operationContext, (responseBuffers, t1) -> {
-                    if (t1 != null) {
-                        commandEventSender.sendFailedEvent(t1);
-                        callback.onResult(null, t1);
-                        return;
-                    }
-                    assertNotNull(responseBuffers);
-                    T commandResult;
-                    try {
-                        updateSessionContext(operationContext.getSessionContext(), responseBuffers);
-                        boolean commandOk =
-                                isCommandOk(new BsonBinaryReader(new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer())));
-                        responseBuffers.reset();
-                        if (!commandOk) {
-                            MongoException commandFailureException = getCommandFailureException(
-                                    responseBuffers.getResponseDocument(messageId, new BsonDocumentCodec()),
-                                    description.getServerAddress(), operationContext.getTimeoutContext());
-                            commandEventSender.sendFailedEvent(commandFailureException);
-                            throw commandFailureException;
-                        }
-                        commandEventSender.sendSucceededEvent(responseBuffers);
-
-                        commandResult = getCommandResult(decoder, responseBuffers, messageId, operationContext.getTimeoutContext());
-                    } catch (Throwable localThrowable) {
-                        callback.onResult(null, localThrowable);
-                        return;
-                    } finally {
-                        responseBuffers.close();
-                    }
-                    callback.onResult(commandResult, null);
-                }));
+                receiveCommandMessageResponseAsync(messageId, decoder, commandEventSender, operationContext, callback);
             }
         });
     }
 
+    private <T> void receiveCommandMessageResponseAsync(final int messageId, final Decoder<T> decoder,
+            final CommandEventSender commandEventSender, final OperationContext operationContext, final SingleResultCallback<T> callback) {
+        readAsync(MESSAGE_HEADER_LENGTH, operationContext, new MessageHeaderCallback(operationContext, (responseBuffers, t) -> {
+            if (t != null) {
+                commandEventSender.sendFailedEvent(t);
+                callback.onResult(null, t);
+                return;
+            }
+            assertNotNull(responseBuffers);
+            T commandResult;
+            try {
+                updateSessionContext(operationContext.getSessionContext(), responseBuffers);
+                boolean commandOk =
+                        isCommandOk(new BsonBinaryReader(new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer())));
+                responseBuffers.reset();
+                if (!commandOk) {
+                    MongoException commandFailureException = getCommandFailureException(
+                            responseBuffers.getResponseDocument(messageId, new BsonDocumentCodec()),
+                            description.getServerAddress(), operationContext.getTimeoutContext());
+                    commandEventSender.sendFailedEvent(commandFailureException);
+                    throw commandFailureException;
+                }
+                commandEventSender.sendSucceededEvent(responseBuffers);
+
+                commandResult = getCommandResult(decoder, responseBuffers, messageId, operationContext.getTimeoutContext());
+                hasMoreToCome = responseBuffers.getReplyHeader().hasMoreToCome();
+                if (hasMoreToCome) {
+                    responseTo = responseBuffers.getReplyHeader().getRequestId();
+                } else {
+                    responseTo = 0;
+                }
+            } catch (Throwable localThrowable) {
+                callback.onResult(null, localThrowable);
+                return;
+            } finally {
+                responseBuffers.close();
+            }
+            callback.onResult(commandResult, null);
+        }));
+    }
+
     private <T> T getCommandResult(final Decoder<T> decoder,
                                    final ResponseBuffers responseBuffers,
                                    final int messageId,
@@ -731,13 +887,28 @@ public class InternalStreamConnection implements InternalConnection {
             throw new MongoSocketClosedException("Cannot write to a closed stream", getServerAddress());
         }
         try {
-            stream.write(byteBuffers, operationContext);
+            connectionMetricsRecorder.recordBytesSent(getSize(byteBuffers));
+            writeMessage(byteBuffers, operationContext);
         } catch (Exception e) {
             close();
             throwTranslatedWriteException(e, operationContext);
         }
     }
 
+    private void writeMessage(final List<ByteBuf> byteBuffers, final OperationContext operationContext) throws IOException {
+        if (replyDemultiplexer == null) {
+            stream.write(byteBuffers, operationContext);
+        } else {
+            // concurrent requests must not interleave their bytes on the stream
+            writeLock.lock();
+            try {
+                stream.write(byteBuffers, operationContext);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
     @Override
     public void sendMessageAsync(
             final List<ByteBuf> byteBuffers,
@@ -751,6 +922,7 @@ public class InternalStreamConnection implements InternalConnection {
             }
             c.complete(c);
         }).thenRunTryCatchAsyncBlocks(c -> {
+            connectionMetricsRecorder.recordBytesSent(getSize(byteBuffers));
             stream.writeAsync(byteBuffers, operationContext, c.asHandler());
         }, Exception.class, (e, c) -> {
             try {
@@ -886,42 +1058,121 @@ public class InternalStreamConnection implements InternalConnection {
                 getServerAddress(), e);
     }
 
+    private ResponseBuffers receiveResponseBuffers(final int messageId, final OperationContext operationContext) {
+        ReplyDemultiplexer localReplyDemultiplexer = replyDemultiplexer;
+        if (localReplyDemultiplexer == null) {
+            return receiveResponseBuffers(operationContext);
+        }
+        long readTimeoutMS;
+        try {
+            readTimeoutMS = operationContext.getTimeoutContext().getReadTimeoutMS();
+        } catch (MongoOperationTimeoutException e) {
+            localReplyDemultiplexer.abandon(messageId);
+            throw e;
+        }
+        try {
+            return localReplyDemultiplexer.receive(messageId, readTimeoutMS, (startTimeoutMS, remainingTimeoutMS) ->
+                    receiveMultiplexedResponseBuffers(startTimeoutMS, remainingTimeoutMS, operationContext));
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for a reply", e);
+        } catch (TimeoutException e) {
+            throw translateReadException(new SocketTimeoutException("Timed out while waiting for a reply"), operationContext);
+        }
+    }
+
     private ResponseBuffers receiveResponseBuffers(final OperationContext operationContext) {
         try {
-            ByteBuf messageHeaderBuffer = stream.read(MESSAGE_HEADER_LENGTH, operationContext);
-            MessageHeader messageHeader;
+            return receiveResponseBuffers(stream.read(MESSAGE_HEADER_LENGTH, operationContext), operationContext);
+        } catch (Throwable t) {
+            close();
+            throw translateReadException(t, operationContext);
+        }
+    }
+
+    /**
+     * Waits for the first byte of the next reply with the given timeout, which a multiplexed read may give up on without failing the
+     * connection, as a timed out read of a single byte reads nothing, and then reads the rest of the reply.
+     */
+    private ResponseBuffers receiveMultiplexedResponseBuffers(final long startTimeoutMS, final LongSupplier remainingTimeoutMS,
+            final OperationContext operationContext) throws TimeoutException {
+        ByteBuf firstByteBuffer;
+        try {
+            firstByteBuffer = stream.read(1, withReadTimeout(operationContext, startTimeoutMS));
+        } catch (SocketTimeoutException e) {
+            throw new TimeoutException();
+        } catch (Throwable t) {
+            close();
+            throw translateReadException(t, operationContext);
+        }
+        try {
+            OperationContext replyOperationContext = withReadTimeout(operationContext, remainingTimeoutMS.getAsLong());
+            ByteBuf messageHeaderBuffer = getBuffer(MESSAGE_HEADER_LENGTH);
             try {
-                messageHeader = new MessageHeader(messageHeaderBuffer, description.getMaxMessageSize());
-            } finally {
+                messageHeaderBuffer.put(firstByteBuffer.get());
+                ByteBuf remainingHeaderBuffer = stream.read(MESSAGE_HEADER_LENGTH - 1, replyOperationContext);
+                try {
+                    byte[] remainingHeaderBytes = new byte[MESSAGE_HEADER_LENGTH - 1];
+                    remainingHeaderBuffer.get(remainingHeaderBytes);
+                    messageHeaderBuffer.put(remainingHeaderBytes, 0, remainingHeaderBytes.length);
+                } finally {
+                    remainingHeaderBuffer.release();
+                }
+            } catch (Throwable t) {
                 messageHeaderBuffer.release();
+                throw t;
             }
+            return receiveResponseBuffers(messageHeaderBuffer.flip(), replyOperationContext);
+        } catch (Throwable t) {
+            close();
+            throw translateReadException(t, operationContext);
+        } finally {
+            firstByteBuffer.release();
+        }
+    }
 
-            ByteBuf messageBuffer = stream.read(messageHeader.getMessageLength() - MESSAGE_HEADER_LENGTH, operationContext);
-            boolean releaseMessageBuffer = true;
-            try {
-                if (messageHeader.getOpCode() == OP_COMPRESSED.getValue()) {
-                    CompressedHeader compressedHeader = new CompressedHeader(messageBuffer, messageHeader);
+    private static OperationContext withReadTimeout(final OperationContext operationContext, final long readTimeoutMS) {
+        TimeoutSettings timeoutSettings = operationContext.getTimeoutContext().getTimeoutSettings();
+        return operationContext.withTimeoutContext(new TimeoutContext(timeoutSettings.withTimeout(null, MILLISECONDS)
+                .withReadTimeoutMS(readTimeoutMS)));
+    }
+
+    /**
+     * Reads the rest of a reply whose header has been read, releasing the header buffer.
+     */
+    private ResponseBuffers receiveResponseBuffers(final ByteBuf messageHeaderBuffer, final OperationContext operationContext)
+            throws IOException {
+        MessageHeader messageHeader;
+        try {
+            messageHeader = new MessageHeader(messageHeaderBuffer, description.getMaxMessageSize());
+        } finally {
+            messageHeaderBuffer.release();
+        }
 
-                    Compressor compressor = getCompressor(compressedHeader);
+        ByteBuf messageBuffer = stream.read(messageHeader.getMessageLength() - MESSAGE_HEADER_LENGTH, operationContext);
+        connectionMetricsRecorder.recordBytesReceived(messageHeader.getMessageLength());
+        boolean releaseMessageBuffer = true;
+        try {
+            if (messageHeader.getOpCode() == OP_COMPRESSED.getValue()) {
+                CompressedHeader compressedHeader = new CompressedHeader(messageBuffer, messageHeader);
+                connectionMetricsRecorder.recordCompression(compressedHeader.getUncompressedSize(),
+                        compressedHeader.getCompressedSize());
 
-                    ByteBuf buffer = getBuffer(compressedHeader.getUncompressedSize());
-                    compressor.uncompress(messageBuffer, buffer);
+                Compressor compressor = getCompressor(compressedHeader);
 
-                    buffer.flip();
-                    return new ResponseBuffers(new ReplyHeader(buffer, compressedHeader), buffer);
-                } else {
-                    ResponseBuffers responseBuffers = new ResponseBuffers(new ReplyHeader(messageBuffer, messageHeader), messageBuffer);
-                    releaseMessageBuffer = false;
-                    return responseBuffers;
-                }
-            } finally {
-                if (releaseMessageBuffer) {
-                    messageBuffer.release();
-                }
+                ByteBuf buffer = getBuffer(compressedHeader.getUncompressedSize());
+                compressor.uncompress(messageBuffer, buffer);
+
+                buffer.flip();
+                return new ResponseBuffers(new ReplyHeader(buffer, compressedHeader), buffer);
+            } else {
+                ResponseBuffers responseBuffers = new ResponseBuffers(new ReplyHeader(messageBuffer, messageHeader), messageBuffer);
+                releaseMessageBuffer = false;
+                return responseBuffers;
+            }
+        } finally {
+            if (releaseMessageBuffer) {
+                messageBuffer.release();
             }
-        } catch (Throwable t) {
-            close();
-            throw translateReadException(t, operationContext);
         }
     }
 
@@ -983,12 +1234,15 @@ public class InternalStreamConnection implements InternalConnection {
                 }
                 boolean releaseResult = true;
                 assertNotNull(result);
+                connectionMetricsRecorder.recordBytesReceived(messageHeader.getMessageLength());
                 try {
                     ReplyHeader replyHeader;
                     ByteBuf responseBuffer;
                     if (messageHeader.getOpCode() == OP_COMPRESSED.getValue()) {
                         try {
                             CompressedHeader compressedHeader = new CompressedHeader(result, messageHeader);
+                            connectionMetricsRecorder.recordCompression(compressedHeader.getUncompressedSize(),
+                                    compressedHeader.getCompressedSize());
                             Compressor compressor = getCompressor(compressedHeader);
                             ByteBuf buffer = getBuffer(compressedHeader.getUncompressedSize());
                             compressor.uncompress(result, buffer);
@@ -1017,6 +1271,19 @@ public class InternalStreamConnection implements InternalConnection {
         }
     }
 
+    private void recordCompression(final ByteBufferBsonOutput bsonOutput, final ByteBufferBsonOutput compressedBsonOutput) {
+        connectionMetricsRecorder.recordCompression(bsonOutput.getSize() - MESSAGE_HEADER_LENGTH,
+                compressedBsonOutput.getSize() - TOTAL_COMPRESSED_HEADER_LENGTH);
+    }
+
+    private static int getSize(final List<ByteBuf> byteBuffers) {
+        int size = 0;
+        for (int i = 0; i < byteBuffers.size(); i++) {
+            size += byteBuffers.get(i).remaining();
+        }
+        return size;
+    }
+
     private static final StructuredLogger COMMAND_PROTOCOL_LOGGER = new StructuredLogger("protocol.command");
 
     private boolean isLoggingCommandNeeded() {
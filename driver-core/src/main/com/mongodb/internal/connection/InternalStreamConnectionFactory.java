@@ -23,6 +23,7 @@ import com.mongodb.ServerApi;
 import com.mongodb.connection.ClusterConnectionMode;
 import com.mongodb.connection.ServerId;
 import com.mongodb.event.CommandListener;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.lang.Nullable;
 
 import java.util.List;
@@ -40,6 +41,8 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     @Nullable
     private final ServerApi serverApi;
     private final MongoCredentialWithCache credential;
+    private final boolean multiplexed;
+    private final MetricsRecorder metricsRecorder;
 
     InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode,
                                     final StreamFactory streamFactory,
@@ -58,6 +61,28 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                                     final ClientMetadata clientMetadata,
             final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, clientMetadata, compressorList, loggerSettings,
+                commandListener, serverApi, false);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+            final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi,
+            final boolean multiplexed) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, clientMetadata, compressorList, loggerSettings,
+                commandListener, serverApi, multiplexed, MetricsRecorder.NO_OP);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+            final List<MongoCompressor> compressorList,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi,
+            final boolean multiplexed, final MetricsRecorder metricsRecorder) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.isMonitoringConnection = isMonitoringConnection;
         this.streamFactory = notNull("streamFactory", streamFactory);
@@ -67,6 +92,8 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
         this.serverApi = serverApi;
         this.clientMetadata = clientMetadata;
         this.credential = credential;
+        this.multiplexed = multiplexed;
+        this.metricsRecorder = notNull("metricsRecorder", metricsRecorder);
     }
 
     @Override
@@ -78,7 +105,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                 clusterConnectionMode, authenticator,
                 isMonitoringConnection, serverId, connectionGenerationSupplier,
                 streamFactory, compressorList, loggerSettings, commandListener,
-                connectionInitializer);
+                connectionInitializer, multiplexed, metricsRecorder);
     }
 
     private Authenticator createAuthenticator(final MongoCredentialWithCache credential) {
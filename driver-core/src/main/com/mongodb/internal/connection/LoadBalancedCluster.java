@@ -41,6 +41,7 @@ import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.time.HashedWheelTimer;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.Nullable;
 import com.mongodb.selector.ServerSelector;
@@ -78,6 +79,7 @@ final class LoadBalancedCluster implements Cluster {
     private final ClusterSettings settings;
     private final ClusterClock clusterClock = new ClusterClock();
     private final ClientMetadata clientMetadata;
+    private final HashedWheelTimer timer;
     private final ClusterListener clusterListener;
     private ClusterDescription description;
     @Nullable
@@ -104,6 +106,7 @@ final class LoadBalancedCluster implements Cluster {
         this.description = new ClusterDescription(settings.getMode(), ClusterType.UNKNOWN, emptyList(), settings,
                 serverFactory.getSettings());
         this.clientMetadata = clientMetadata;
+        this.timer = BaseCluster.createTimer(clusterId);
 
         if (settings.getSrvHost() == null) {
             dnsSrvRecordMonitor = null;
@@ -213,6 +216,11 @@ final class LoadBalancedCluster implements Cluster {
         return clientMetadata;
     }
 
+    @Override
+    public HashedWheelTimer getTimer() {
+        return timer;
+    }
+
     @Override
     public ServerTuple selectServer(final ServerSelector serverSelector, final OperationContext operationContext) {
         isTrue("open", !isClosed());
@@ -284,6 +292,7 @@ final class LoadBalancedCluster implements Cluster {
             logTopologyMonitoringStopping(clusterId);
             ClusterClosedEvent clusterClosedEvent = new ClusterClosedEvent(clusterId);
             clusterListener.clusterClosed(clusterClosedEvent);
+            timer.close();
         }
     }
 
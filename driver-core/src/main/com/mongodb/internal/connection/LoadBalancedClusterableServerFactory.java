@@ -28,6 +28,7 @@ import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.CommandListener;
 import com.mongodb.internal.inject.EmptyProvider;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.lang.Nullable;
 
 import java.util.List;
@@ -49,6 +50,7 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     private final List<MongoCompressor> compressorList;
     private final ServerApi serverApi;
     private final InternalOperationContextFactory operationContextFactory;
+    private final MetricsRecorder metricsRecorder;
 
     public LoadBalancedClusterableServerFactory(final ServerSettings serverSettings,
             final ConnectionPoolSettings connectionPoolSettings,
@@ -57,7 +59,7 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
             final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
             final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-            final InternalOperationContextFactory operationContextFactory) {
+            final InternalOperationContextFactory operationContextFactory, final MetricsRecorder metricsRecorder) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -68,14 +70,16 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
         this.compressorList = compressorList;
         this.serverApi = serverApi;
         this.operationContextFactory = operationContextFactory;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
     public ClusterableServer create(final Cluster cluster, final ServerAddress serverAddress) {
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(cluster.getClusterId(), serverAddress),
-                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, streamFactory, credential, cluster.getClientMetadata(),
-                        compressorList, loggerSettings, commandListener, serverApi),
-                connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), operationContextFactory);
+                new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, false, streamFactory, credential,
+                        cluster.getClientMetadata(), compressorList, loggerSettings, commandListener, serverApi, false, metricsRecorder),
+                connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), operationContextFactory,
+                cluster.getTimer());
         connectionPool.ready();
 
         return new LoadBalancedServer(new ServerId(cluster.getClusterId(), serverAddress), connectionPool, new DefaultConnectionFactory(),
@@ -86,4 +90,9 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     public ServerSettings getSettings() {
         return serverSettings;
     }
+
+    @Override
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
 }
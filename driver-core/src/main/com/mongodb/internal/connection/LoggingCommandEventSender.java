@@ -148,7 +148,9 @@ class LoggingCommandEventSender implements CommandEventSender {
 
     @Override
     public void sendSucceededEvent(final ResponseBuffers responseBuffers) {
-        sendSucceededEvent(responseBuffers.getResponseDocument(message.getId(), new RawBsonDocumentCodec()));
+        // a reply that the server streams to an exhaust command responds to the previous reply rather than to the message
+        sendSucceededEvent(responseBuffers.getResponseDocument(responseBuffers.getReplyHeader().getResponseTo(),
+                new RawBsonDocumentCodec()));
     }
 
     @Override
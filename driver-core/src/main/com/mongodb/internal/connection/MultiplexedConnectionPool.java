@@ -0,0 +1,229 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.async.SingleResultCallback;
+import org.bson.ByteBuf;
+import org.bson.codecs.Decoder;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * Shares connections checked out of a {@link ConnectionPool} between concurrent requests, up to a maximum number of requests in flight
+ * per connection.  A connection is checked back in to the pool once no request is using it, so that with low concurrency each request
+ * still uses a connection exclusively.
+ *
+ * <p>The connections must have been created with multiplexing enabled, see {@link InternalStreamConnection}.  The shared connections
+ * only support {@link InternalConnection#sendAndReceive(CommandMessage, Decoder, OperationContext)}, as that is the only way to use a
+ * connection that can be interleaved with other requests.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+final class MultiplexedConnectionPool {
+    private final ConnectionPool connectionPool;
+    private final int maxConcurrentRequestsPerConnection;
+    private final ConcurrentLinkedDeque<SharedConnection> sharedConnections = new ConcurrentLinkedDeque<>();
+
+    MultiplexedConnectionPool(final ConnectionPool connectionPool, final int maxConcurrentRequestsPerConnection) {
+        isTrueArgument("maxConcurrentRequestsPerConnection > 1", maxConcurrentRequestsPerConnection > 1);
+        this.connectionPool = notNull("connectionPool", connectionPool);
+        this.maxConcurrentRequestsPerConnection = maxConcurrentRequestsPerConnection;
+    }
+
+    /**
+     * Gets a lease on a shared connection, checking a new connection out of the pool if every shared connection is at capacity.
+     * Closing the returned connection releases the lease.
+     *
+     * @param operationContext the operation context
+     * @return the leased connection
+     */
+    InternalConnection get(final OperationContext operationContext) {
+        int generation = connectionPool.getGeneration();
+        for (SharedConnection sharedConnection : sharedConnections) {
+            if (sharedConnection.tryAcquire(generation)) {
+                return new LeasedConnection(sharedConnection);
+            }
+        }
+        SharedConnection sharedConnection = new SharedConnection(connectionPool.get(operationContext));
+        sharedConnections.addFirst(sharedConnection);
+        return new LeasedConnection(sharedConnection);
+    }
+
+    private final class SharedConnection {
+        private final InternalConnection connection;
+        /**
+         * The number of leases, or -1 once the connection has been checked back in to the pool.
+         */
+        private final AtomicInteger leaseCount = new AtomicInteger(1);
+
+        SharedConnection(final InternalConnection connection) {
+            this.connection = connection;
+        }
+
+        boolean tryAcquire(final int generation) {
+            // a perished connection is not leased again, so that it is checked back in to the pool, and pruned, once idle
+            if (connection.isClosed() || connection.getGeneration() != generation) {
+                return false;
+            }
+            while (true) {
+                int count = leaseCount.get();
+                if (count < 0 || count >= maxConcurrentRequestsPerConnection) {
+                    return false;
+                }
+                if (leaseCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            // a lease acquired between the decrement and the check in wins, and the connection stays shared
+            if (leaseCount.decrementAndGet() == 0 && leaseCount.compareAndSet(0, -1)) {
+                sharedConnections.remove(this);
+                connection.close();
+            }
+        }
+    }
+
+    private static final class LeasedConnection implements InternalConnection {
+        private final SharedConnection sharedConnection;
+        private final InternalConnection wrapped;
+        private final AtomicBoolean isClosed = new AtomicBoolean();
+
+        LeasedConnection(final SharedConnection sharedConnection) {
+            this.sharedConnection = sharedConnection;
+            this.wrapped = sharedConnection.connection;
+        }
+
+        @Override
+        public ByteBuf getBuffer(final int size) {
+            return wrapped.getBuffer(size);
+        }
+
+        @Override
+        public ConnectionDescription getDescription() {
+            return wrapped.getDescription();
+        }
+
+        @Override
+        public ServerDescription getInitialServerDescription() {
+            return wrapped.getInitialServerDescription();
+        }
+
+        @Override
+        public void open(final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void openAsync(final OperationContext operationContext, final SingleResultCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            // All but the first call is a no-op
+            if (!isClosed.getAndSet(true)) {
+                sharedConnection.release();
+            }
+        }
+
+        @Override
+        public boolean opened() {
+            return wrapped.opened();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return isClosed.get() || wrapped.isClosed();
+        }
+
+        @Override
+        public int getGeneration() {
+            return wrapped.getGeneration();
+        }
+
+        @Override
+        public boolean isShared() {
+            return true;
+        }
+
+        @Override
+        public <T> T sendAndReceive(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            return wrapped.sendAndReceive(message, decoder, operationContext);
+        }
+
+        @Override
+        public <T> void send(final CommandMessage message, final Decoder<T> decoder, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T receive(final Decoder<T> decoder, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> void receiveAsync(final Decoder<T> decoder, final OperationContext operationContext,
+                final SingleResultCallback<T> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return false;
+        }
+
+        @Override
+        public <T> void sendAndReceiveAsync(final CommandMessage message, final Decoder<T> decoder,
+                final OperationContext operationContext, final SingleResultCallback<T> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendMessage(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ResponseBuffers receiveMessage(final int responseTo, final OperationContext operationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void sendMessageAsync(final List<ByteBuf> byteBuffers, final int lastRequestId, final OperationContext operationContext,
+                final SingleResultCallback<Void> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void receiveMessageAsync(final int responseTo, final OperationContext operationContext,
+                final SingleResultCallback<ResponseBuffers> callback) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -59,6 +59,7 @@ public class OperationContext {
     private final String operationName;
     @Nullable
     private Span tracingSpan;
+    private final boolean requiresDedicatedConnection;
 
     public OperationContext(final RequestContext requestContext, final SessionContext sessionContext, final TimeoutContext timeoutContext,
             @Nullable final ServerApi serverApi) {
@@ -100,17 +101,32 @@ public class OperationContext {
 
     public OperationContext withSessionContext(final SessionContext sessionContext) {
         return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
-                operationName, tracingSpan);
+                operationName, tracingSpan, requiresDedicatedConnection);
     }
 
     public OperationContext withTimeoutContext(final TimeoutContext timeoutContext) {
         return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
-                operationName, tracingSpan);
+                operationName, tracingSpan, requiresDedicatedConnection);
     }
 
     public OperationContext withOperationName(final String operationName) {
         return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
-                operationName, tracingSpan);
+                operationName, tracingSpan, requiresDedicatedConnection);
+    }
+
+    /**
+     * Returns a copy of this context whose operation must not share its connections with other operations.
+     * <p>
+     * Operations that may keep a request outstanding on the server for a long time, like tailable and change stream cursors, use this,
+     * so that they do not hold up the replies to other requests on a multiplexed connection.
+     */
+    public OperationContext withDedicatedConnection() {
+        return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
+                operationName, tracingSpan, true);
+    }
+
+    public boolean requiresDedicatedConnection() {
+        return requiresDedicatedConnection;
     }
 
     public long getId() {
@@ -162,7 +178,20 @@ public class OperationContext {
             @Nullable final ServerApi serverApi,
             @Nullable final String operationName,
             @Nullable final Span tracingSpan) {
+        this(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi, operationName,
+                tracingSpan, false);
+    }
 
+    private OperationContext(final long id,
+            final RequestContext requestContext,
+            final SessionContext sessionContext,
+            final TimeoutContext timeoutContext,
+            final ServerDeprioritization serverDeprioritization,
+            final TracingManager tracingManager,
+            @Nullable final ServerApi serverApi,
+            @Nullable final String operationName,
+            @Nullable final Span tracingSpan,
+            final boolean requiresDedicatedConnection) {
         this.id = id;
         this.serverDeprioritization = serverDeprioritization;
         this.requestContext = requestContext;
@@ -172,6 +201,7 @@ public class OperationContext {
         this.serverApi = serverApi;
         this.operationName = operationName;
         this.tracingSpan = tracingSpan;
+        this.requiresDedicatedConnection = requiresDedicatedConnection;
     }
 
     @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
@@ -191,6 +221,7 @@ public class OperationContext {
         this.serverApi = serverApi;
         this.operationName = operationName;
         this.tracingSpan = null;
+        this.requiresDedicatedConnection = false;
     }
 
 
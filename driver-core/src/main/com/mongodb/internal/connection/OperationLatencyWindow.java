@@ -0,0 +1,78 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The latencies of the last {@value #CAPACITY} commands that succeeded on a server.
+ *
+ * <p>Recording a latency is a single atomic increment and store, so that it costs the command path next to nothing, while
+ * {@linkplain #percentileNanos(double, long) computing a percentile} sorts a copy of the window.  A latency that is recorded concurrently
+ * with the computation may or may not be included.  If no latency has been recorded for {@value #MAX_AGE_SECONDS} seconds, the window
+ * is considered empty, so that a server that stopped being selected because of its latencies gets selected again eventually, and
+ * records fresh ones.</p>
+ */
+@ThreadSafe
+final class OperationLatencyWindow {
+    static final int CAPACITY = 64;
+    static final long MAX_AGE_SECONDS = 30;
+    private static final long MAX_AGE_NANOS = SECONDS.toNanos(MAX_AGE_SECONDS);
+
+    private final AtomicLongArray latenciesNanos = new AtomicLongArray(CAPACITY);
+    private final AtomicLong recordedCount = new AtomicLong();
+    private volatile long lastRecordedNanos;
+
+    void record(final long latencyNanos, final long nowNanos) {
+        long position = recordedCount.getAndIncrement();
+        latenciesNanos.set((int) (position % CAPACITY), latencyNanos);
+        lastRecordedNanos = nowNanos;
+    }
+
+    int sampleCount(final long nowNanos) {
+        long count = recordedCount.get();
+        if (count == 0 || nowNanos - lastRecordedNanos > MAX_AGE_NANOS) {
+            return 0;
+        }
+        return (int) Math.min(count, CAPACITY);
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the nearest-rank percentile of the latencies in the window, or zero if it is {@linkplain #sampleCount(long) empty}
+     */
+    long percentileNanos(final double percentile, final long nowNanos) {
+        isTrueArgument("percentile is between 0 and 100", percentile >= 0 && percentile <= 100);
+        int sampleCount = sampleCount(nowNanos);
+        if (sampleCount == 0) {
+            return 0;
+        }
+        long[] samples = new long[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            samples[i] = latenciesNanos.get(i);
+        }
+        Arrays.sort(samples);
+        int rank = (int) Math.ceil(percentile / 100 * sampleCount);
+        return samples[Math.max(rank, 1) - 1];
+    }
+}
@@ -19,24 +19,51 @@ package com.mongodb.internal.connection;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
 import org.bson.ByteBufNIO;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 
 /**
+ * A pool of buffers whose capacities are powers of two.
+ *
+ * <p>Buffers of up to 64 KiB are first looked up in, and released to, a small striped cache, with the stripe chosen by the current
+ * thread.  Each stripe is a fixed-size array of slots that are claimed with a compare-and-set, so neither acquiring nor releasing a
+ * buffer through the striped cache takes a lock or allocates.  Buffers that do not fit into the striped cache fall back to a shared
+ * deque per buffer size.</p>
+ *
+ * <p>A pool may be created in {@linkplain #direct(long) direct mode}, in which case pooled buffers are allocated off-heap, so that
+ * NIO channels can write them to and read them from sockets without copying through a temporary direct buffer.  The total capacity of
+ * the direct buffers owned by such a pool is bounded, and once the bound is reached new buffers are allocated on the heap and are not
+ * pooled.  The capacity of a direct buffer counts towards the bound until the pool prunes it, or, if it is never released to the pool,
+ * until it is garbage collected.</p>
+ *
+ * <p>The idle buffers of all pools are pruned by a single daemon thread, which is started when pruning is first enabled.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class PowerOfTwoBufferPool implements BufferProvider {
     private static final Logger LOGGER = Loggers.getLogger("connection");
+    private static final int HIGHEST_STRIPED_POWER_OF_TWO = 16;
+    private static final int SLOTS_PER_STRIPE = 4;
+    private static final int STRIPE_COUNT = roundUpToNextHighestPowerOfTwo(Math.min(64, Runtime.getRuntime().availableProcessors()));
 
     /**
      * The global default pool.  Pruning is enabled on this pool. Idle buffers are pruned after one minute.
@@ -61,9 +88,18 @@ public class PowerOfTwoBufferPool implements BufferProvider {
         }
     }
 
-    private final Map<Integer, BufferPool> powerOfTwoToPoolMap = new HashMap<>();
+    private final BufferPool[] powerOfTwoToPool;
+    private final long maxDirectSize;
+    private final AtomicLong directSize = new AtomicLong();
+    /**
+     * The references to the direct buffers that count towards the direct size, so that the capacity of a buffer that is never released
+     * to the pool can be returned to the budget once the buffer is garbage collected.
+     */
+    private final Set<DirectBufferReference> directBufferReferences = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<ByteBuffer> unreachableDirectBuffers = new ReferenceQueue<>();
     private final long maxIdleTimeNanos;
-    private final ScheduledExecutorService pruner;
+    @Nullable
+    private volatile ScheduledFuture<?> pruning;
 
     /**
      * Construct an instance with a highest power of two of 24.
@@ -89,26 +125,55 @@ public class PowerOfTwoBufferPool implements BufferProvider {
      * @param timeUnit time unit of maxIdleTime
      */
     PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit) {
+        this(highestPowerOfTwo, maxIdleTime, timeUnit, 0);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param maxIdleTime max idle time when pruning is enabled
+     * @param timeUnit time unit of maxIdleTime
+     * @param maxDirectSize the maximum total capacity of the direct buffers owned by the pool, or 0 to pool heap buffers
+     */
+    PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit, final long maxDirectSize) {
+        isTrueArgument("maxDirectSize >= 0", maxDirectSize >= 0);
+        this.maxDirectSize = maxDirectSize;
+        powerOfTwoToPool = new BufferPool[highestPowerOfTwo + 1];
         int powerOfTwo = 1;
         for (int i = 0; i <= highestPowerOfTwo; i++) {
             int size = powerOfTwo;
-            powerOfTwoToPoolMap.put(i, new BufferPool(size));
+            powerOfTwoToPool[i] = new BufferPool(size, i <= HIGHEST_STRIPED_POWER_OF_TWO);
             powerOfTwo = powerOfTwo << 1;
         }
         maxIdleTimeNanos = timeUnit.toNanos(maxIdleTime);
-        pruner = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BufferPoolPruner"));
+    }
+
+    /**
+     * Creates a pool of direct buffers with a highest power of two of 24 and pruning enabled.  Call {@link #disablePruning()} once the
+     * pool is no longer used.
+     *
+     * @param maxDirectSize the maximum total capacity of the direct buffers owned by the pool, which must be positive
+     * @return the pool
+     */
+    public static PowerOfTwoBufferPool direct(final long maxDirectSize) {
+        isTrueArgument("maxDirectSize > 0", maxDirectSize > 0);
+        return new PowerOfTwoBufferPool(24, 1, TimeUnit.MINUTES, maxDirectSize).enablePruning();
     }
 
     /**
      * Call this method at most once to enable a background thread that prunes idle buffers from the pool
      */
     PowerOfTwoBufferPool enablePruning() {
-        pruner.scheduleAtFixedRate(this::prune, maxIdleTimeNanos, maxIdleTimeNanos / 2, TimeUnit.NANOSECONDS);
+        pruning = Pruner.EXECUTOR.scheduleAtFixedRate(this::prune, maxIdleTimeNanos, maxIdleTimeNanos / 2, TimeUnit.NANOSECONDS);
         return this;
     }
 
-    void disablePruning() {
-        pruner.shutdownNow();
+    public void disablePruning() {
+        ScheduledFuture<?> localPruning = pruning;
+        if (localPruning != null) {
+            localPruning.cancel(false);
+        }
     }
 
     @Override
@@ -117,8 +182,8 @@ public class PowerOfTwoBufferPool implements BufferProvider {
     }
 
     public ByteBuffer getByteBuffer(final int size) {
-        BufferPool pool = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(size)));
-        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get().getBuffer();
+        BufferPool pool = getPool(size);
+        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get();
 
         ((Buffer) byteBuffer).clear();
         ((Buffer) byteBuffer).limit(size);
@@ -131,17 +196,95 @@ public class PowerOfTwoBufferPool implements BufferProvider {
         return buf;
     }
 
+    private ByteBuffer createNewPooled(final int size) {
+        if (maxDirectSize == 0 || !reserveDirectSize(size)) {
+            return createNew(size);
+        }
+        try {
+            ByteBuffer buf = ByteBuffer.allocateDirect(size);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            directBufferReferences.add(new DirectBufferReference(buf, unreachableDirectBuffers));
+            return buf;
+        } catch (OutOfMemoryError e) {
+            directSize.addAndGet(-size);
+            throw e;
+        }
+    }
+
+    private boolean reserveDirectSize(final int size) {
+        releaseUnreachableDirectBuffers();
+        while (true) {
+            long currentDirectSize = directSize.get();
+            if (currentDirectSize + size > maxDirectSize) {
+                return false;
+            }
+            if (directSize.compareAndSet(currentDirectSize, currentDirectSize + size)) {
+                return true;
+            }
+        }
+    }
+
+    private void discard(final ByteBuffer buffer) {
+        // only the buffer that is still tracked is subtracted, so that its capacity is not subtracted again once it is collected
+        if (buffer.isDirect() && directBufferReferences.remove(new DirectBufferReference(buffer, null))) {
+            directSize.addAndGet(-buffer.capacity());
+        }
+    }
+
+    /**
+     * Returns the capacity of the direct buffers that were garbage collected without being released to the pool to the budget.
+     */
+    private void releaseUnreachableDirectBuffers() {
+        Reference<? extends ByteBuffer> reference;
+        while ((reference = unreachableDirectBuffers.poll()) != null) {
+            DirectBufferReference directBufferReference = (DirectBufferReference) reference;
+            if (directBufferReferences.remove(directBufferReference)) {
+                directSize.addAndGet(-directBufferReference.capacity);
+                LOGGER.warn(String.format("A direct buffer of %d bytes was garbage collected without being released to %s",
+                        directBufferReference.capacity, this));
+            }
+        }
+    }
+
     public void release(final ByteBuffer buffer) {
-        BufferPool pool =
-                powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(buffer.capacity())));
-        if (pool != null) {
-            pool.release(new IdleTrackingByteBuffer(buffer));
+        BufferPool pool = getPool(buffer.capacity());
+        // in direct mode, heap buffers are only allocated once the direct size is exhausted, and are not pooled
+        if (pool != null && (maxDirectSize == 0 || buffer.isDirect())) {
+            pool.release(buffer);
         }
     }
 
+    /**
+     * Gets whether the pool allocates direct buffers.
+     *
+     * @return true if the pool allocates direct buffers
+     */
+    public boolean isDirect() {
+        return maxDirectSize > 0;
+    }
+
+    /**
+     * Gets the total capacity of the direct buffers currently owned by the pool, whether in use or idle.  A buffer that was never released
+     * to the pool counts towards the direct size until the pool notices that it was garbage collected.
+     *
+     * @return the direct size in bytes
+     */
+    public long getDirectSize() {
+        return directSize.get();
+    }
+
+    @Nullable
+    private BufferPool getPool(final int size) {
+        int powerOfTwo = log2(roundUpToNextHighestPowerOfTwo(size));
+        return powerOfTwo >= 0 && powerOfTwo < powerOfTwoToPool.length ? powerOfTwoToPool[powerOfTwo] : null;
+    }
+
     private void prune() {
         try {
-            powerOfTwoToPoolMap.values().forEach(BufferPool::prune);
+            releaseUnreachableDirectBuffers();
+            for (BufferPool pool : powerOfTwoToPool) {
+                pool.prune();
+            }
         } catch (Throwable t) {
             LOGGER.error(this + " stopped pruning idle buffer pools. You may want to recreate the MongoClient", t);
             throw t;
@@ -182,27 +325,151 @@ public class PowerOfTwoBufferPool implements BufferProvider {
 
     private final class BufferPool {
         private final int bufferSize;
+        @Nullable
+        private final Stripe[] stripes;
         private final ConcurrentLinkedDeque<IdleTrackingByteBuffer> available = new ConcurrentLinkedDeque<>();
 
-        BufferPool(final int bufferSize) {
+        BufferPool(final int bufferSize, final boolean striped) {
             this.bufferSize = bufferSize;
+            if (striped) {
+                stripes = new Stripe[STRIPE_COUNT];
+                for (int i = 0; i < STRIPE_COUNT; i++) {
+                    stripes[i] = new Stripe();
+                }
+            } else {
+                stripes = null;
+            }
         }
 
-        IdleTrackingByteBuffer get() {
+        ByteBuffer get() {
+            if (stripes != null) {
+                ByteBuffer buffer = currentStripe(stripes).poll();
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
             IdleTrackingByteBuffer buffer = available.pollLast();
             if (buffer != null) {
-                return buffer;
+                return buffer.getBuffer();
             }
-            return new IdleTrackingByteBuffer(createNew(bufferSize));
+            return createNewPooled(bufferSize);
         }
 
-        void release(final IdleTrackingByteBuffer t) {
-            available.addLast(t);
+        void release(final ByteBuffer buffer) {
+            if (stripes == null || !currentStripe(stripes).offer(buffer)) {
+                available.addLast(new IdleTrackingByteBuffer(buffer));
+            }
         }
 
         void prune() {
             long now = System.nanoTime();
-            available.removeIf(cur -> now - cur.getLastUsedNanos() >= maxIdleTimeNanos);
+            if (stripes != null) {
+                for (Stripe stripe : stripes) {
+                    stripe.prune(now);
+                }
+            }
+            for (IdleTrackingByteBuffer cur : available) {
+                if (now - cur.getLastUsedNanos() >= maxIdleTimeNanos && available.remove(cur)) {
+                    discard(cur.getBuffer());
+                }
+            }
+        }
+
+        @SuppressWarnings("deprecation")
+        private Stripe currentStripe(final Stripe[] stripes) {
+            return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        }
+    }
+
+    /**
+     * A fixed number of slots, each either empty or holding an idle buffer along with the time it was released.
+     */
+    private final class Stripe {
+        private final AtomicReferenceArray<ByteBuffer> slots = new AtomicReferenceArray<>(SLOTS_PER_STRIPE);
+        private final AtomicLongArray lastUsedNanos = new AtomicLongArray(SLOTS_PER_STRIPE);
+
+        @Nullable
+        ByteBuffer poll() {
+            for (int i = 0; i < SLOTS_PER_STRIPE; i++) {
+                ByteBuffer buffer = slots.get(i);
+                if (buffer != null) {
+                    if (slots.compareAndSet(i, buffer, null)) {
+                        return buffer;
+                    }
+                }
+            }
+            return null;
+        }
+
+        boolean offer(final ByteBuffer buffer) {
+            for (int i = 0; i < SLOTS_PER_STRIPE; i++) {
+                if (slots.get(i) == null) {
+                    // the time is recorded before the buffer is published so that prune never sees a buffer with an older time
+                    lastUsedNanos.set(i, System.nanoTime());
+                    if (slots.compareAndSet(i, null, buffer)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void prune(final long now) {
+            for (int i = 0; i < SLOTS_PER_STRIPE; i++) {
+                ByteBuffer buffer = slots.get(i);
+                if (buffer != null && now - lastUsedNanos.get(i) >= maxIdleTimeNanos && slots.compareAndSet(i, buffer, null)) {
+                    discard(buffer);
+                }
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a direct buffer, which is equal to another reference to the same buffer, so that the reference to a buffer can
+     * be looked up by the buffer.  Once the buffer is collected, a reference is only equal to itself.
+     */
+    private static final class DirectBufferReference extends WeakReference<ByteBuffer> {
+        private final int capacity;
+        private final int identityHashCode;
+
+        DirectBufferReference(final ByteBuffer buffer, @Nullable final ReferenceQueue<ByteBuffer> queue) {
+            super(buffer, queue);
+            this.capacity = buffer.capacity();
+            this.identityHashCode = System.identityHashCode(buffer);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DirectBufferReference)) {
+                return false;
+            }
+            ByteBuffer buffer = get();
+            return buffer != null && buffer == ((DirectBufferReference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return identityHashCode;
+        }
+    }
+
+    /**
+     * The single thread that prunes the idle buffers of all pools, which is only started when pruning is first enabled.
+     */
+    private static final class Pruner {
+        static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("BufferPoolPruner"));
+            // the pruning of a pool is cancelled when the pool is no longer used, and should not keep the pool reachable
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+
+        private Pruner() {
         }
     }
 }
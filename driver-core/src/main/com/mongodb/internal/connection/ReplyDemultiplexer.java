@@ -0,0 +1,300 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInternalException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.MongoSocketReadTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Matches the replies read from a connection to the requests in flight on it, by the {@code responseTo} field of each reply.
+ *
+ * <p>At most one thread reads from the connection at a time.  It keeps reading until it reads the reply to its own request, handing
+ * each reply to another request over to the thread waiting for it, and then hands reading over to one of the threads still waiting.
+ * If its own request times out before the next reply starts arriving, it abandons its request and hands reading over as well, which
+ * leaves the connection usable.  Once a reply starts arriving, the rest of it is read with the latest deadline of the requests waiting
+ * for replies, since no one request owns it.  Any other failure to read fails all requests in flight, as the connection is no longer
+ * usable.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+final class ReplyDemultiplexer {
+    private final ServerAddress serverAddress;
+    private final Runnable closeConnection;
+    private final Lock lock = new ReentrantLock();
+    private final Condition replyAvailable = lock.newCondition();
+    /**
+     * The requests whose replies have not been read yet.
+     */
+    private final Set<Integer> pendingRequestIds = new HashSet<>();
+    /**
+     * The requests that gave up waiting, whose replies are discarded once read.
+     */
+    private final Set<Integer> abandonedRequestIds = new HashSet<>();
+    /**
+     * The replies that have been read, but not yet received by the threads waiting for them.
+     */
+    private final Map<Integer, ResponseBuffers> replies = new HashMap<>();
+    /**
+     * The deadlines, in {@link System#nanoTime()} terms, of the requests whose threads are receiving their replies, or {@code null}
+     * for those that wait indefinitely.
+     */
+    private final Map<Integer, Long> receiveDeadlines = new HashMap<>();
+    private boolean reading;
+    @Nullable
+    private MongoException failure;
+
+    ReplyDemultiplexer(final ServerAddress serverAddress, final Runnable closeConnection) {
+        this.serverAddress = notNull("serverAddress", serverAddress);
+        this.closeConnection = notNull("closeConnection", closeConnection);
+    }
+
+    /**
+     * Registers a request, which must be done before sending it, so that its reply can not be read before it is expected.
+     *
+     * @param requestId the request id
+     */
+    void register(final int requestId) {
+        withLock(lock, () -> {
+            pendingRequestIds.add(requestId);
+        });
+    }
+
+    /**
+     * Abandons a request, whose reply will be discarded once read.  This must be used if the request was registered but could not be
+     * sent, or if the caller gave up on the reply before calling {@link #receive(int, long, ReplyReader)}.
+     *
+     * @param requestId the request id
+     */
+    void abandon(final int requestId) {
+        withLock(lock, () -> abandonInternal(requestId));
+    }
+
+    /**
+     * Receives the reply to a registered request, reading from the connection if no other thread is reading from it.
+     *
+     * @param requestId   the request id
+     * @param timeoutMS   the maximum time to wait for the reply, or 0 to wait indefinitely
+     * @param replyReader reads the next reply from the connection
+     * @return the reply, which the caller must close
+     * @throws InterruptedException if interrupted while waiting for another thread to read the reply
+     * @throws TimeoutException     if timed out before the reply started arriving, in which case the request is abandoned
+     */
+    ResponseBuffers receive(final int requestId, final long timeoutMS, final ReplyReader replyReader)
+            throws InterruptedException, TimeoutException {
+        Long deadline = timeoutMS == 0 ? null : System.nanoTime() + MILLISECONDS.toNanos(timeoutMS);
+        boolean isReading = false;
+        lock.lock();
+        try {
+            receiveDeadlines.put(requestId, deadline);
+            while (true) {
+                ResponseBuffers reply = replies.remove(requestId);
+                if (reply != null) {
+                    return reply;
+                }
+                if (failure != null) {
+                    pendingRequestIds.remove(requestId);
+                    throw createPendingRequestFailure(failure);
+                }
+                if (!reading) {
+                    reading = true;
+                    isReading = true;
+                    break;
+                }
+                try {
+                    if (deadline == null) {
+                        replyAvailable.await();
+                    } else {
+                        long remainingNanos = deadline - System.nanoTime();
+                        if (remainingNanos <= 0) {
+                            abandonInternal(requestId);
+                            throw new TimeoutException();
+                        }
+                        replyAvailable.awaitNanos(remainingNanos);
+                    }
+                } catch (InterruptedException e) {
+                    abandonInternal(requestId);
+                    throw e;
+                }
+            }
+        } finally {
+            if (!isReading) {
+                receiveDeadlines.remove(requestId);
+            }
+            lock.unlock();
+        }
+        try {
+            return readUntilReplyTo(requestId, deadline, replyReader);
+        } finally {
+            withLock(lock, () -> {
+                receiveDeadlines.remove(requestId);
+            });
+        }
+    }
+
+    private ResponseBuffers readUntilReplyTo(final int requestId, @Nullable final Long deadline, final ReplyReader replyReader)
+            throws TimeoutException {
+        while (true) {
+            ResponseBuffers reply;
+            try {
+                reply = replyReader.read(getRemainingTimeMS(deadline), this::getLatestReceiveDeadlineRemainingTimeMS);
+            } catch (TimeoutException e) {
+                withLock(lock, () -> {
+                    abandonInternal(requestId);
+                    reading = false;
+                    replyAvailable.signalAll();
+                });
+                throw e;
+            } catch (MongoException e) {
+                fail(e);
+                throw e;
+            } catch (RuntimeException e) {
+                fail(new MongoInternalException("Unexpected runtime exception", e));
+                throw e;
+            }
+            int responseTo = reply.getReplyHeader().getResponseTo();
+            boolean unexpectedReply = false;
+            lock.lock();
+            try {
+                if (responseTo == requestId) {
+                    pendingRequestIds.remove(requestId);
+                    reading = false;
+                    replyAvailable.signalAll();
+                    return reply;
+                } else if (pendingRequestIds.remove(responseTo)) {
+                    replies.put(responseTo, reply);
+                    replyAvailable.signalAll();
+                } else {
+                    unexpectedReply = !abandonedRequestIds.remove(responseTo);
+                    reply.close();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (unexpectedReply) {
+                MongoInternalException e = new MongoInternalException(format(
+                        "The responseTo (%d) in the reply does not match any request in flight on the connection", responseTo));
+                fail(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the time left until the deadline, which is at least 1, so that it is not mistaken for an infinite timeout, or 0 if there
+     * is no deadline.
+     */
+    private static long getRemainingTimeMS(@Nullable final Long deadline) throws TimeoutException {
+        if (deadline == null) {
+            return 0;
+        }
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+            throw new TimeoutException();
+        }
+        return Math.max(1, NANOSECONDS.toMillis(remainingNanos));
+    }
+
+    private long getLatestReceiveDeadlineRemainingTimeMS() {
+        return withLock(lock, () -> {
+            long latestRemainingTimeMS = 1;
+            for (Long deadline : receiveDeadlines.values()) {
+                if (deadline == null) {
+                    return 0L;
+                }
+                latestRemainingTimeMS = Math.max(latestRemainingTimeMS, NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            }
+            return latestRemainingTimeMS;
+        });
+    }
+
+    private void abandonInternal(final int requestId) {
+        ResponseBuffers reply = replies.remove(requestId);
+        if (reply != null) {
+            reply.close();
+        } else if (pendingRequestIds.remove(requestId)) {
+            abandonedRequestIds.add(requestId);
+        }
+    }
+
+    private void fail(final MongoException e) {
+        withLock(lock, () -> {
+            if (failure == null) {
+                failure = e;
+            }
+            reading = false;
+            replies.values().forEach(ResponseBuffers::close);
+            replies.clear();
+            replyAvailable.signalAll();
+        });
+        closeConnection.run();
+    }
+
+    /**
+     * The failure of one request must not be mistaken for a network error by the others, as that would clear the connection pool
+     * whenever a multiplexed read timed out or was interrupted.
+     */
+    private MongoException createPendingRequestFailure(final MongoException cause) {
+        String message = "The connection was closed because of the failure of another request in flight on it";
+        if (cause instanceof MongoSocketReadTimeoutException || cause instanceof MongoOperationTimeoutException
+                || cause instanceof MongoInterruptedException) {
+            return new MongoSocketReadTimeoutException(message, serverAddress, cause);
+        } else {
+            return new MongoSocketReadException(message, serverAddress, cause);
+        }
+    }
+
+    /**
+     * Reads replies from a connection.
+     */
+    interface ReplyReader {
+        /**
+         * Reads the next reply from the connection, closing the connection if that fails other than by timing out before the reply
+         * started arriving.
+         *
+         * @param startTimeoutMS     the maximum time to wait for the reply to start arriving, or 0 to wait indefinitely
+         * @param remainingTimeoutMS supplies the maximum time to wait for the rest of the reply once it started arriving, or 0 to wait
+         *                           indefinitely
+         * @return the reply
+         * @throws TimeoutException if the reply did not start arriving in time, in which case nothing was read from the connection
+         */
+        ResponseBuffers read(long startTimeoutMS, LongSupplier remainingTimeoutMS) throws TimeoutException;
+    }
+}
@@ -18,6 +18,8 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.annotations.ThreadSafe;
 import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerOperationStatistics;
 
 /**
  * A logical connection to a MongoDB server.
@@ -40,6 +42,21 @@ public interface Server {
      */
     Connection getConnection(OperationContext operationContext);
 
+    /**
+     * <p>Gets a connection to this server for a read that is neither part of an explicit session nor of a transaction, and so may be
+     * interleaved with other such reads on the same connection.  The connection should be released after the caller is done with
+     * it.</p>
+     *
+     * <p>Implementations may hand out a connection that is shared with other such reads.  By default, this is the same as
+     * {@link #getConnection(OperationContext)}.</p>
+     *
+     * @param operationContext operation context
+     * @return a connection to this server
+     */
+    default Connection getMultiplexedReadConnection(final OperationContext operationContext) {
+        return getConnection(operationContext);
+    }
+
     /**
      * <p>Gets a connection to this server asynchronously.  The connection should be released after the caller is done with it.</p>
      *
@@ -59,4 +76,15 @@ public interface Server {
      * @return A negative value iff the server does not track its operation count.
      */
     int operationCount();
+
+    /**
+     * Statistics about the operations that this server is executing, and has recently executed, including the latencies of its
+     * commands.
+     *
+     * @return the statistics, or null if the server does not track the latencies of its commands. By default, null.
+     */
+    @Nullable
+    default ServerOperationStatistics operationStatistics() {
+        return null;
+    }
 }
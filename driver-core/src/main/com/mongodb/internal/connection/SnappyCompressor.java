@@ -18,12 +18,12 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
 import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 import org.xerial.snappy.Snappy;
 import org.xerial.snappy.SnappyInputStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 class SnappyCompressor extends Compressor {
@@ -38,38 +38,55 @@ class SnappyCompressor extends Compressor {
     }
 
     // the server does not support the framing format so SnappyFramedOutputStream can't be used.  The entire source message must first
-    // be copied into a single byte array.  For that reason the compress method defined in the base class can't be used.
+    // be copied into a single buffer, and it is compressed into another single buffer.  Both are taken from the pool of the target, so
+    // the only garbage is for messages that are too large to be pooled.
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
+    void compress(final List<ByteBuf> source, final ByteBufferBsonOutput target) {
         int uncompressedSize = getUncompressedSize(source);
+        BufferProvider bufferProvider = target.getBufferProvider();
 
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
-
+        ByteBuf uncompressedBuffer = bufferProvider.getBuffer(uncompressedSize);
         try {
-            byte[] out = new byte[Snappy.maxCompressedLength(uncompressedSize)];
-            int compressedSize = Snappy.compress(singleByteArraySource, 0, singleByteArraySource.length, out, 0);
-            target.writeBytes(out, 0, compressedSize);
+            ByteBuffer uncompressed = uncompressedBuffer.asNIO();
+            for (ByteBuf cur : source) {
+                uncompressed.put(cur.asNIO());
+            }
+            uncompressed.flip();
+
+            ByteBuf compressedBuffer = bufferProvider.getBuffer(Snappy.maxCompressedLength(uncompressedSize));
+            try {
+                ByteBuffer compressed = compressedBuffer.asNIO();
+                int compressedSize = compress(uncompressed, compressed);
+                compressed.limit(compressed.position() + compressedSize);
+                target.writeBytes(compressed);
+            } finally {
+                compressedBuffer.release();
+            }
         } catch (IOException e) {
             throw new MongoInternalException("Unexpected IOException", e);
+        } finally {
+            uncompressedBuffer.release();
         }
     }
 
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
-        for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
+    private static int compress(final ByteBuffer uncompressed, final ByteBuffer compressed) throws IOException {
+        if (uncompressed.isDirect() && compressed.isDirect()) {
+            int position = compressed.position();
+            int compressedSize = Snappy.compress(uncompressed, compressed);
+            compressed.position(position);
+            return compressedSize;
         }
-        return uncompressedSize;
-    }
-
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
-        for (ByteBuf cur : source) {
-            int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
-            offset += remaining;
+        if (uncompressed.hasArray() && compressed.hasArray()) {
+            return Snappy.compress(uncompressed.array(), uncompressed.arrayOffset() + uncompressed.position(), uncompressed.remaining(),
+                    compressed.array(), compressed.arrayOffset() + compressed.position());
         }
+        // a buffer provider that mixes heap and direct buffers
+        byte[] in = new byte[uncompressed.remaining()];
+        uncompressed.duplicate().get(in);
+        byte[] out = new byte[compressed.remaining()];
+        int compressedSize = Snappy.compress(in, 0, in.length, out, 0);
+        compressed.duplicate().put(out, 0, compressedSize);
+        return compressedSize;
     }
 
     @Override
@@ -24,6 +24,7 @@ import com.mongodb.connection.AsyncCompletionHandler;
 import com.mongodb.connection.ProxySettings;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.SslSettings;
+import com.mongodb.internal.connection.tlschannel.util.Util;
 import com.mongodb.spi.dns.InetAddressResolver;
 import org.bson.ByteBuf;
 
@@ -36,6 +37,9 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Iterator;
 import java.util.List;
 
@@ -51,6 +55,17 @@ import static com.mongodb.internal.thread.InterruptionUtil.translateInterruptedE
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class SocketStream implements Stream {
+    /**
+     * The size of the pooled buffer into which small buffers are copied so that they are written to the socket output stream
+     * together.  It matches the largest chunk that the JDK socket output stream hands to the operating system in a single send.
+     */
+    private static final int COALESCED_WRITE_SIZE = 1 << 16;
+    /**
+     * Whether the sockets of socket channels can be read and written concurrently through their streams.  Before Java 13 the streams of
+     * such a socket share a lock, so that a blocked read blocks all writes.
+     */
+    private static final boolean CHANNEL_SOCKETS_SUPPORTED = Util.getJavaMajorVersion() >= 13;
+
     private final ServerAddress address;
     private final InetAddressResolver inetAddressResolver;
     private final SocketSettings settings;
@@ -99,7 +114,7 @@ public class SocketStream implements Stream {
 
         Iterator<InetSocketAddress> inetSocketAddresses = getSocketAddresses(address, inetAddressResolver).iterator();
         while (inetSocketAddresses.hasNext()) {
-            Socket socket = socketFactory.createSocket();
+            Socket socket = createSocket();
             try {
                 SocketStreamHelper.initialize(operationContext, socket, inetSocketAddresses.next(), settings, sslSettings);
                 return socket;
@@ -113,6 +128,17 @@ public class SocketStream implements Stream {
         throw new MongoSocketException("Exception opening socket", getAddress());
     }
 
+    /**
+     * Creates a socket that is backed by a channel, so that messages are written with gathering writes, unless a custom socket factory
+     * is configured.
+     */
+    private Socket createSocket() throws IOException {
+        if (CHANNEL_SOCKETS_SUPPORTED && socketFactory == SocketFactory.getDefault()) {
+            return SocketChannel.open().socket();
+        }
+        return socketFactory.createSocket();
+    }
+
     private SSLSocket initializeSslSocketOverSocksProxy(final OperationContext operationContext,
             final SSLSocketFactory sslSocketFactory) throws IOException {
         final String serverHost = address.getHost();
@@ -161,14 +187,101 @@ public class SocketStream implements Stream {
 
     @Override
     public void write(final List<ByteBuf> buffers, final OperationContext operationContext) throws IOException {
-        for (final ByteBuf cur : buffers) {
-            outputStream.write(cur.array(), 0, cur.limit());
-            operationContext.getTimeoutContext().onExpired(() -> {
-                throwMongoTimeoutException("Socket write exceeded the timeout limit.");
-            });
+        SocketChannel channel = socket.getChannel();
+        if (channel != null && channel.isBlocking()) {
+            gatheringWrite(channel, buffers, operationContext);
+        } else if (buffers.size() == 1) {
+            writeBuffer(buffers.get(0), operationContext);
+        } else {
+            coalescingWrite(buffers, operationContext);
+        }
+    }
+
+    /**
+     * Writes all the buffers to a socket that is backed by a channel with as few gathering writes as the channel allows.
+     */
+    private void gatheringWrite(final GatheringByteChannel channel, final List<ByteBuf> buffers,
+            final OperationContext operationContext) throws IOException {
+        ByteBuffer[] nioBuffers = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < nioBuffers.length; i++) {
+            nioBuffers[i] = buffers.get(i).asNIO();
+        }
+        int offset = 0;
+        while (offset < nioBuffers.length) {
+            channel.write(nioBuffers, offset, nioBuffers.length - offset);
+            while (offset < nioBuffers.length && !nioBuffers[offset].hasRemaining()) {
+                offset++;
+            }
+            checkWriteTimeout(operationContext);
+        }
+    }
+
+    /**
+     * Writes all the buffers to a socket that is only accessible through its output stream.  Each write to a socket output stream is
+     * a separate send, so consecutive buffers smaller than {@link #COALESCED_WRITE_SIZE} are first copied into a single pooled buffer,
+     * while larger buffers are written directly.
+     */
+    private void coalescingWrite(final List<ByteBuf> buffers, final OperationContext operationContext) throws IOException {
+        ByteBuf coalesced = null;
+        try {
+            for (final ByteBuf cur : buffers) {
+                int size = cur.remaining();
+                if (coalesced != null && coalesced.position() > 0 && size > coalesced.remaining()) {
+                    writeCoalesced(coalesced, operationContext);
+                }
+                if (size >= COALESCED_WRITE_SIZE) {
+                    writeBuffer(cur, operationContext);
+                } else {
+                    if (coalesced == null) {
+                        coalesced = bufferProvider.getBuffer(COALESCED_WRITE_SIZE);
+                    }
+                    copy(cur, coalesced);
+                }
+            }
+            if (coalesced != null && coalesced.position() > 0) {
+                writeCoalesced(coalesced, operationContext);
+            }
+        } finally {
+            if (coalesced != null) {
+                coalesced.release();
+            }
         }
     }
 
+    private void writeCoalesced(final ByteBuf coalesced, final OperationContext operationContext) throws IOException {
+        outputStream.write(coalesced.array(), coalesced.arrayOffset(), coalesced.position());
+        coalesced.clear();
+        checkWriteTimeout(operationContext);
+    }
+
+    private void writeBuffer(final ByteBuf buffer, final OperationContext operationContext) throws IOException {
+        if (buffer.isBackedByArray()) {
+            outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(buffer.position(), bytes, 0, bytes.length);
+            outputStream.write(bytes);
+        }
+        checkWriteTimeout(operationContext);
+    }
+
+    private static void copy(final ByteBuf source, final ByteBuf target) {
+        int size = source.remaining();
+        if (source.isBackedByArray()) {
+            target.put(source.array(), source.arrayOffset() + source.position(), size);
+        } else {
+            byte[] bytes = new byte[size];
+            source.get(source.position(), bytes, 0, size);
+            target.put(bytes, 0, size);
+        }
+    }
+
+    private static void checkWriteTimeout(final OperationContext operationContext) {
+        operationContext.getTimeoutContext().onExpired(() -> {
+            throwMongoTimeoutException("Socket write exceeded the timeout limit.");
+        });
+    }
+
     @Override
     public ByteBuf read(final int numBytes, final OperationContext operationContext) throws IOException {
         try {
@@ -68,6 +68,9 @@ public final class StreamFactoryHelper {
             ExecutorService executorService = transportSettings == null
                     ? null
                     : ((AsyncTransportSettings) transportSettings).getExecutorService();
+            long maxDirectBufferPoolSize = transportSettings == null
+                    ? 0
+                    : ((AsyncTransportSettings) transportSettings).getMaxDirectBufferPoolSize();
             if (settings.getSslSettings().isEnabled()) {
                 return new TlsChannelStreamFactoryFactory(inetAddressResolver, executorService);
             }
@@ -79,7 +82,10 @@ public final class StreamFactoryHelper {
                     throw new MongoClientException("Unable to create an asynchronous channel group", e);
                 }
             }
-            return new AsynchronousSocketChannelStreamFactoryFactory(inetAddressResolver, group);
+            PowerOfTwoBufferPool bufferPool = maxDirectBufferPoolSize == 0
+                    ? PowerOfTwoBufferPool.DEFAULT
+                    : PowerOfTwoBufferPool.direct(maxDirectBufferPoolSize);
+            return new AsynchronousSocketChannelStreamFactoryFactory(inetAddressResolver, group, bufferPool);
         } else  if (transportSettings instanceof NettyTransportSettings) {
             return getNettyStreamFactoryFactory(inetAddressResolver, (NettyTransportSettings) transportSettings);
         } else {
@@ -29,6 +29,7 @@ import com.mongodb.internal.connection.tlschannel.async.AsynchronousTlsChannel;
 import com.mongodb.internal.connection.tlschannel.async.AsynchronousTlsChannelGroup;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.time.HashedWheelTimer;
 import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 
@@ -224,11 +225,18 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
                 //getConnectTimeoutMs MUST be called before connection attempt, as it might throw MongoOperationTimeout exception.
                 int connectTimeoutMs = operationContext.getTimeoutContext().getConnectTimeoutMs();
                 socketChannel.connect(getSocketAddresses(getServerAddress(), inetAddressResolver).get(0));
+                AtomicReference<HashedWheelTimer.Task> timeoutInterruption = new AtomicReference<>();
                 SelectorMonitor.SocketRegistration socketRegistration = new SelectorMonitor.SocketRegistration(
-                        socketChannel, () -> initializeTslChannel(handler, socketChannel));
+                        socketChannel, () -> {
+                            HashedWheelTimer.Task localTimeoutInterruption = timeoutInterruption.get();
+                            if (localTimeoutInterruption != null) {
+                                localTimeoutInterruption.cancel();
+                            }
+                            initializeTslChannel(handler, socketChannel);
+                        });
 
                 if (connectTimeoutMs > 0) {
-                    scheduleTimeoutInterruption(handler, socketRegistration, connectTimeoutMs);
+                    timeoutInterruption.set(scheduleTimeoutInterruption(handler, socketRegistration, connectTimeoutMs));
                 }
                 selectorMonitor.register(socketRegistration);
             } catch (IOException e) {
@@ -238,12 +246,13 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
             }
         }
 
-        private void scheduleTimeoutInterruption(final AsyncCompletionHandler<Void> handler,
-                                                 final SelectorMonitor.SocketRegistration socketRegistration,
-                                                 final int connectTimeoutMs) {
-            group.getTimeoutExecutor().schedule(() -> {
+        private HashedWheelTimer.Task scheduleTimeoutInterruption(final AsyncCompletionHandler<Void> handler,
+                                                                  final SelectorMonitor.SocketRegistration socketRegistration,
+                                                                  final int connectTimeoutMs) {
+            HashedWheelTimer timer = group.getTimeoutTimer();
+            return timer.schedule(() -> {
                 if (socketRegistration.tryCancelPendingConnection()) {
-                    closeAndTimeout(handler, socketRegistration.socketChannel);
+                    timer.getCallbackExecutor().execute(() -> closeAndTimeout(handler, socketRegistration.socketChannel));
                 }
             }, connectTimeoutMs, TimeUnit.MILLISECONDS);
         }
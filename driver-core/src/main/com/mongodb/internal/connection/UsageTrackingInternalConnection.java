@@ -126,6 +126,16 @@ class UsageTrackingInternalConnection implements InternalConnection {
         return result;
     }
 
+    @Override
+    public <T> void receiveAsync(final Decoder<T> decoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        SingleResultCallback<T> errHandlingCallback = errorHandlingCallback((result, t) -> {
+            lastUsedAt = System.currentTimeMillis();
+            callback.onResult(result, t);
+        }, LOGGER);
+        wrapped.receiveAsync(decoder, operationContext, errHandlingCallback);
+    }
+
     @Override
     public boolean hasMoreToCome() {
         return wrapped.hasMoreToCome();
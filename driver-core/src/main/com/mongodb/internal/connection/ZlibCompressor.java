@@ -17,16 +17,33 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import com.mongodb.lang.Nullable;
+import org.bson.ByteBuf;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Inflater;
 
+/**
+ * A zlib compressor that reuses a {@link Deflater} and an {@link Inflater} for every message sent and received on the connection, and
+ * compresses and decompresses directly between the message buffers when they are backed by arrays.
+ */
 class ZlibCompressor extends Compressor {
+    private static final int SCRATCH_SIZE = 8192;
     private final int level;
+    @Nullable
+    private Deflater deflater;
+    @Nullable
+    private Inflater inflater;
+    // only needed when the source or target buffers are not backed by an array
+    @Nullable
+    private byte[] inputScratch;
+    @Nullable
+    private byte[] outputScratch;
+    private boolean closed;
 
     ZlibCompressor(final MongoCompressor mongoCompressor) {
         this.level = mongoCompressor.getPropertyNonNull(MongoCompressor.LEVEL, Deflater.DEFAULT_COMPRESSION);
@@ -43,21 +60,147 @@ class ZlibCompressor extends Compressor {
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) {
-        return new InflaterInputStream(source);
+    synchronized void compress(final List<ByteBuf> source, final ByteBufferBsonOutput target) {
+        Deflater deflater = getDeflater();
+        try {
+            for (ByteBuf cur : source) {
+                while (cur.hasRemaining()) {
+                    setInput(deflater, cur);
+                    while (!deflater.needsInput()) {
+                        target.writeBytes(buffer -> deflateInto(deflater, buffer));
+                    }
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                target.writeBytes(buffer -> deflateInto(deflater, buffer));
+            }
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    private boolean deflateInto(final Deflater deflater, final ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            int numBytes = deflater.deflate(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.position() + numBytes);
+        } else {
+            byte[] bytes = getOutputScratch();
+            int numBytes = deflater.deflate(bytes, 0, Math.min(buffer.remaining(), bytes.length));
+            buffer.put(bytes, 0, numBytes);
+        }
+        return deflater.finished();
     }
 
     @Override
-    OutputStream getOutputStream(final OutputStream source) {
-        return new DeflaterOutputStream(source, new Deflater(level)) {
-            @Override
-            public void close() throws IOException {
-                try {
-                    super.close();
-                } finally {
-                    def.end();
+    synchronized void uncompress(final ByteBuf source, final ByteBuf target) {
+        Inflater inflater = getInflater();
+        try {
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (!source.hasRemaining()) {
+                        throw new MongoInternalException("Unexpected end of zlib compressed message");
+                    }
+                    setInput(inflater, source);
+                }
+                if (inflater.needsDictionary()) {
+                    throw new MongoInternalException("Unexpected zlib dictionary in compressed message");
+                }
+                if (inflateInto(inflater, target) == 0 && !target.hasRemaining()) {
+                    throw new MongoInternalException("The zlib compressed message is larger than its declared uncompressed size");
                 }
             }
-        };
+        } catch (DataFormatException e) {
+            throw new MongoInternalException("Unexpected DataFormatException", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+
+    private int inflateInto(final Inflater inflater, final ByteBuf target) throws DataFormatException {
+        int numBytes;
+        if (target.isBackedByArray()) {
+            numBytes = inflater.inflate(target.array(), target.arrayOffset() + target.position(), target.remaining());
+            target.position(target.position() + numBytes);
+        } else {
+            byte[] bytes = getOutputScratch();
+            numBytes = inflater.inflate(bytes, 0, Math.min(target.remaining(), bytes.length));
+            target.put(bytes, 0, numBytes);
+        }
+        return numBytes;
+    }
+
+    // hands the deflater either all the remaining bytes of the source, if it is backed by an array, or the next chunk of them
+    private void setInput(final Deflater deflater, final ByteBuf source) {
+        if (source.isBackedByArray()) {
+            deflater.setInput(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            source.position(source.limit());
+        } else {
+            byte[] bytes = getInputScratch();
+            int length = Math.min(source.remaining(), bytes.length);
+            source.get(bytes, 0, length);
+            deflater.setInput(bytes, 0, length);
+        }
+    }
+
+    private void setInput(final Inflater inflater, final ByteBuf source) {
+        if (source.isBackedByArray()) {
+            inflater.setInput(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            source.position(source.limit());
+        } else {
+            byte[] bytes = getInputScratch();
+            int length = Math.min(source.remaining(), bytes.length);
+            source.get(bytes, 0, length);
+            inflater.setInput(bytes, 0, length);
+        }
+    }
+
+    private byte[] getInputScratch() {
+        if (inputScratch == null) {
+            inputScratch = new byte[SCRATCH_SIZE];
+        }
+        return inputScratch;
+    }
+
+    private Deflater getDeflater() {
+        ensureOpen();
+        if (deflater == null) {
+            deflater = new Deflater(level);
+        }
+        return deflater;
+    }
+
+    private Inflater getInflater() {
+        ensureOpen();
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        return inflater;
+    }
+
+    private byte[] getOutputScratch() {
+        if (outputScratch == null) {
+            outputScratch = new byte[SCRATCH_SIZE];
+        }
+        return outputScratch;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The compressor is closed");
+        }
+    }
+
+    @Override
+    synchronized void close() {
+        closed = true;
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
     }
 }
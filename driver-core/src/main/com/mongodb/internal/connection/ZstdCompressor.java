@@ -16,17 +16,39 @@
 
 package com.mongodb.internal.connection;
 
+import com.github.luben.zstd.EndDirective;
 import com.github.luben.zstd.Zstd;
-import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+import com.mongodb.MongoCompressor;
 import com.mongodb.MongoInternalException;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 class ZstdCompressor extends Compressor {
+    // the streaming API of zstd-jni only accepts direct buffers, so heap buffers are streamed through direct staging buffers
+    private static final int STAGING_BUFFER_SIZE = 1 << 16;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocateDirect(0);
+
+    private final int level;
+    @Nullable
+    private ZstdCompressCtx compressContext;
+    @Nullable
+    private ZstdDecompressCtx decompressContext;
+    @Nullable
+    private ByteBuffer stagingInput;
+    @Nullable
+    private ByteBuffer stagingOutput;
+    private boolean closed;
+
+    ZstdCompressor(final MongoCompressor mongoCompressor) {
+        this.level = mongoCompressor.getPropertyNonNull(MongoCompressor.LEVEL, Zstd.defaultCompressionLevel());
+    }
+
     @Override
     public String getName() {
         return "zstd";
@@ -37,41 +59,149 @@ class ZstdCompressor extends Compressor {
         return 3;
     }
 
+    /**
+     * Streams the source buffers through a compression context that is reused for every message sent on the connection, writing the
+     * compressed frame directly into the buffers of the target.
+     */
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
-        int uncompressedSize = getUncompressedSize(source);
-
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
-
+    synchronized void compress(final List<ByteBuf> source, final ByteBufferBsonOutput target) {
+        ZstdCompressCtx context = getCompressContext();
+        boolean completed = false;
         try {
-            byte[] out = new byte[(int) Zstd.compressBound(uncompressedSize)];
-            int compressedSize = (int) Zstd.compress(out, singleByteArraySource, Zstd.defaultCompressionLevel());
-            target.writeBytes(out, 0, compressedSize);
-        } catch (Exception e) {
+            for (ByteBuf cur : source) {
+                ByteBuffer src = cur.asNIO();
+                if (src.isDirect()) {
+                    compressStream(context, src, EndDirective.CONTINUE, target);
+                } else {
+                    ByteBuffer input = getStagingInput();
+                    while (src.hasRemaining()) {
+                        ByteBuffer chunk = src.duplicate();
+                        chunk.limit(chunk.position() + Math.min(chunk.remaining(), input.capacity()));
+                        input.clear();
+                        input.put(chunk);
+                        input.flip();
+                        src.position(chunk.position());
+                        compressStream(context, input, EndDirective.CONTINUE, target);
+                    }
+                }
+            }
+            compressStream(context, EMPTY, EndDirective.END, target);
+            completed = true;
+        } catch (ZstdException e) {
             throw new MongoInternalException("Unexpected exception", e);
+        } finally {
+            if (!completed) {
+                // the context is in the middle of a frame, so start over with a new one for the next message
+                closeCompressContext();
+            }
+        }
+    }
+
+    private void compressStream(final ZstdCompressCtx context, final ByteBuffer src, final EndDirective endDirective,
+                                final ByteBufferBsonOutput target) {
+        boolean finished = false;
+        while (src.hasRemaining() || (endDirective == EndDirective.END && !finished)) {
+            finished = target.writeBytes(buffer -> buffer.isDirect()
+                    ? context.compressDirectByteBufferStream(buffer, src, endDirective)
+                    : compressThroughStagingOutput(context, src, endDirective, buffer));
+        }
+    }
+
+    private boolean compressThroughStagingOutput(final ZstdCompressCtx context, final ByteBuffer src, final EndDirective endDirective,
+                                                 final ByteBuffer target) {
+        ByteBuffer output = getStagingOutput();
+        output.clear();
+        output.limit(Math.min(output.capacity(), target.remaining()));
+        boolean finished = context.compressDirectByteBufferStream(output, src, endDirective);
+        output.flip();
+        target.put(output);
+        return finished;
+    }
+
+    private ZstdCompressCtx getCompressContext() {
+        if (closed) {
+            throw new IllegalStateException("The compressor is closed");
+        }
+        if (compressContext == null) {
+            ZstdCompressCtx context = new ZstdCompressCtx();
+            context.setLevel(level);
+            compressContext = context;
         }
+        return compressContext;
     }
 
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
-        for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
+    private ByteBuffer getStagingInput() {
+        if (stagingInput == null) {
+            stagingInput = ByteBuffer.allocateDirect(STAGING_BUFFER_SIZE);
         }
-        return uncompressedSize;
+        return stagingInput;
     }
 
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
-        for (ByteBuf cur : source) {
-            int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
-            offset += remaining;
+    private ByteBuffer getStagingOutput() {
+        if (stagingOutput == null) {
+            stagingOutput = ByteBuffer.allocateDirect(STAGING_BUFFER_SIZE);
         }
+        return stagingOutput;
+    }
+
+    private void closeCompressContext() {
+        if (compressContext != null) {
+            compressContext.close();
+            compressContext = null;
+        }
+    }
+
+    /**
+     * Decompresses the source buffer with a single call, using a decompression context that is reused for every message received on
+     * the connection.  The target buffer is sized by the uncompressed size declared in the message, so no streaming is needed.
+     */
+    @Override
+    synchronized void uncompress(final ByteBuf source, final ByteBuf target) {
+        ZstdDecompressCtx context = getDecompressContext();
+        ByteBuffer src = source.asNIO();
+        ByteBuffer dst = target.asNIO();
+        int uncompressedSize;
+        try {
+            if (src.isDirect() && dst.isDirect()) {
+                uncompressedSize = context.decompressDirectByteBuffer(dst, dst.position(), dst.remaining(), src, src.position(),
+                        src.remaining());
+            } else if (src.hasArray() && dst.hasArray()) {
+                uncompressedSize = context.decompressByteArray(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining(),
+                        src.array(), src.arrayOffset() + src.position(), src.remaining());
+            } else {
+                // a buffer provider that mixes heap and direct buffers
+                byte[] in = new byte[src.remaining()];
+                src.duplicate().get(in);
+                byte[] out = new byte[dst.remaining()];
+                uncompressedSize = context.decompressByteArray(out, 0, out.length, in, 0, in.length);
+                dst.duplicate().put(out, 0, uncompressedSize);
+            }
+        } catch (ZstdException e) {
+            throw new MongoInternalException("Unexpected exception", e);
+        }
+        source.position(source.limit());
+        target.position(target.position() + uncompressedSize);
+    }
+
+    private ZstdDecompressCtx getDecompressContext() {
+        if (closed) {
+            throw new IllegalStateException("The compressor is closed");
+        }
+        if (decompressContext == null) {
+            decompressContext = new ZstdDecompressCtx();
+        }
+        return decompressContext;
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new ZstdInputStream(source);
+    synchronized void close() {
+        closed = true;
+        closeCompressContext();
+        if (decompressContext != null) {
+            decompressContext.close();
+            decompressContext = null;
+        }
+        stagingInput = null;
+        stagingOutput = null;
     }
 }
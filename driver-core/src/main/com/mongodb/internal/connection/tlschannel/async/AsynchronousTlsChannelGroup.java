@@ -27,6 +27,7 @@ import com.mongodb.internal.connection.tlschannel.impl.ByteBufferSet;
 import com.mongodb.internal.connection.tlschannel.util.Util;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.time.HashedWheelTimer;
 import com.mongodb.lang.Nullable;
 
 import java.io.IOException;
@@ -44,9 +45,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -122,7 +121,7 @@ public class AsynchronousTlsChannelGroup {
         final ByteBufferSet bufferSet;
         final LongConsumer onSuccess;
         final Consumer<Throwable> onFailure;
-        Future<?> timeoutFuture;
+        HashedWheelTimer.Task timeoutTask;
 
         Operation(ByteBufferSet bufferSet, LongConsumer onSuccess, Consumer<Throwable> onFailure) {
             this.bufferSet = bufferSet;
@@ -162,11 +161,12 @@ public class AsynchronousTlsChannelGroup {
 
     private final ExecutorService executor;
 
-    private final ScheduledThreadPoolExecutor timeoutExecutor =
-            new ScheduledThreadPoolExecutor(
-                    1,
-                    runnable ->
-                            new Thread(runnable, format("async-channel-group-%d-timeout-thread", id)));
+    /**
+     * The timer of the read and write timeouts of the sockets of this group, and of the connect timeouts of the streams that use it.
+     * Its thread only cancels the timed out operation, and the failure callback runs on the callback executor of the timer.
+     */
+    private final HashedWheelTimer timeoutTimer =
+            new HashedWheelTimer(format("async-channel-group-%d-timeout-thread", id), 10, TimeUnit.MILLISECONDS, 512);
 
     private final Thread selectorThread =
             new Thread(this::loop, format("async-channel-group-%d-selector", id));
@@ -207,7 +207,6 @@ public class AsynchronousTlsChannelGroup {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        timeoutExecutor.setRemoveOnCancelPolicy(true);
         if (executorService != null) {
             this.executor = executorService;
         } else {
@@ -302,12 +301,13 @@ public class AsynchronousTlsChannelGroup {
              */
             socket.pendingOps.set(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
             if (timeout != 0) {
-                op.timeoutFuture =
-                        timeoutExecutor.schedule(
+                op.timeoutTask =
+                        timeoutTimer.schedule(
                                 () -> {
                                     boolean success = doCancelRead(socket, op);
                                     if (success) {
-                                        op.onFailure.accept(new InterruptedByTimeoutException());
+                                        timeoutTimer.getCallbackExecutor().execute(() ->
+                                                op.onFailure.accept(new InterruptedByTimeoutException()));
                                     }
                                 },
                                 timeout,
@@ -355,12 +355,13 @@ public class AsynchronousTlsChannelGroup {
              */
             socket.pendingOps.set(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
             if (timeout != 0) {
-                op.timeoutFuture =
-                        timeoutExecutor.schedule(
+                op.timeoutTask =
+                        timeoutTimer.schedule(
                                 () -> {
                                     boolean success = doCancelWrite(socket, op);
                                     if (success) {
-                                        op.onFailure.accept(new InterruptedByTimeoutException());
+                                        timeoutTimer.getCallbackExecutor().execute(() ->
+                                                op.onFailure.accept(new InterruptedByTimeoutException()));
                                     }
                                 },
                                 timeout,
@@ -422,8 +423,8 @@ public class AsynchronousTlsChannelGroup {
             LOGGER.error("error in selector loop", e);
         } finally {
             executor.shutdown();
-            // use shutdownNow to stop delayed tasks
-            timeoutExecutor.shutdownNow();
+            // closing the timer stops delayed tasks
+            timeoutTimer.close();
             try {
                 selector.close();
             } catch (IOException e) {
@@ -501,8 +502,8 @@ public class AsynchronousTlsChannelGroup {
                     op.consumesBytes += c;
                 }
                 socket.writeOperation = null;
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeoutTask != null) {
+                    op.timeoutTask.cancel();
                 }
                 op.onSuccess.accept(op.consumesBytes);
                 successfulWrites.increment();
@@ -517,8 +518,8 @@ public class AsynchronousTlsChannelGroup {
                 if (socket.writeOperation == op) {
                     socket.writeOperation = null;
                 }
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeoutTask != null) {
+                    op.timeoutTask.cancel();
                 }
                 op.onFailure.accept(e);
                 failedWrites.increment();
@@ -565,8 +566,8 @@ public class AsynchronousTlsChannelGroup {
                 long c = readHandlingTasks(socket, op);
                 Util.assertTrue(c > 0 || c == -1);
                 socket.readOperation = null;
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeoutTask != null) {
+                    op.timeoutTask.cancel();
                 }
                 op.onSuccess.accept(c);
                 successfulReads.increment();
@@ -581,8 +582,8 @@ public class AsynchronousTlsChannelGroup {
                 if (socket.readOperation == op) {
                     socket.readOperation = null;
                 }
-                if (op.timeoutFuture != null) {
-                    op.timeoutFuture.cancel(false);
+                if (op.timeoutTask != null) {
+                    op.timeoutTask.cancel();
                 }
                 op.onFailure.accept(e);
                 failedReads.increment();
@@ -640,8 +641,8 @@ public class AsynchronousTlsChannelGroup {
         try {
             if (socket.readOperation != null) {
                 socket.readOperation.onFailure.accept(new ClosedChannelException());
-                if (socket.readOperation.timeoutFuture != null) {
-                    socket.readOperation.timeoutFuture.cancel(false);
+                if (socket.readOperation.timeoutTask != null) {
+                    socket.readOperation.timeoutTask.cancel();
                 }
                 socket.readOperation = null;
                 failedReads.increment();
@@ -657,8 +658,8 @@ public class AsynchronousTlsChannelGroup {
         try {
             if (socket.writeOperation != null) {
                 socket.writeOperation.onFailure.accept(new ClosedChannelException());
-                if (socket.writeOperation.timeoutFuture != null) {
-                    socket.writeOperation.timeoutFuture.cancel(false);
+                if (socket.writeOperation.timeoutTask != null) {
+                    socket.writeOperation.timeoutTask.cancel();
                 }
                 socket.writeOperation = null;
                 failedWrites.increment();
@@ -825,11 +826,11 @@ public class AsynchronousTlsChannelGroup {
     }
 
     /**
-     * Returns the timeout executor used by this channel group.
+     * Returns the timer of the timeouts of this channel group.
      *
-     * @return the timeout executor
+     * @return the timeout timer
      */
-    public ScheduledThreadPoolExecutor getTimeoutExecutor() {
-        return timeoutExecutor;
+    public HashedWheelTimer getTimeoutTimer() {
+        return timeoutTimer;
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.observability.micrometer;
+
+/**
+ * Records the traffic of the connections to one server.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public interface ConnectionMetricsRecorder {
+    /**
+     * A no-op instance of the ConnectionMetricsRecorder used when metrics are disabled.
+     */
+    ConnectionMetricsRecorder NO_OP = new ConnectionMetricsRecorder() {
+        @Override
+        public void recordBytesSent(final int size) {
+        }
+
+        @Override
+        public void recordBytesReceived(final int size) {
+        }
+
+        @Override
+        public void recordCompression(final int uncompressedSize, final int compressedSize) {
+        }
+    };
+
+    /**
+     * Records a message written to a connection.
+     *
+     * @param size the size of the message in bytes, including its header
+     */
+    void recordBytesSent(int size);
+
+    /**
+     * Records a message read from a connection.
+     *
+     * @param size the size of the message in bytes, including its header
+     */
+    void recordBytesReceived(int size);
+
+    /**
+     * Records the compression of a sent message, or the decompression of a received one.
+     *
+     * @param uncompressedSize the size of the uncompressed message body in bytes
+     * @param compressedSize the size of the compressed message body in bytes
+     */
+    void recordCompression(int uncompressedSize, int compressedSize);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.observability.micrometer;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.internal.connection.CommandMessage;
+import com.mongodb.lang.Nullable;
+import com.mongodb.observability.ObservabilitySettings;
+import com.mongodb.observability.micrometer.MicrometerObservabilitySettings;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the metrics of a cluster: the latency of commands and of server selection, the state of the connection pools, and the
+ * traffic of the connections.
+ * <p>
+ * The connection pool metrics are recorded from the events of the pools, so an enabled recorder must be added to the listeners of the
+ * connection pools.  Recording must not allocate, so implementations register their meters before they are needed.
+ * </p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public interface MetricsRecorder extends ConnectionPoolListener {
+    /**
+     * A no-op instance of the MetricsRecorder used when metrics are disabled.
+     */
+    MetricsRecorder NO_OP = new MetricsRecorder() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void recordCommand(final CommandMessage message, final long elapsedTimeNanos, final boolean succeeded) {
+        }
+
+        @Override
+        public void recordServerSelection(final long elapsedTimeNanos, final boolean succeeded) {
+        }
+
+        @Override
+        public ConnectionMetricsRecorder forServer(final ServerAddress serverAddress) {
+            return ConnectionMetricsRecorder.NO_OP;
+        }
+    };
+
+    /**
+     * Creates the recorder for a cluster.
+     *
+     * @param clusterId the cluster id
+     * @param observabilitySettings the observability settings, may be null
+     * @return a recorder that records to the meter registry of the settings, or {@link #NO_OP} if there is none
+     */
+    static MetricsRecorder create(final ClusterId clusterId, @Nullable final ObservabilitySettings observabilitySettings) {
+        if (observabilitySettings instanceof MicrometerObservabilitySettings) {
+            MicrometerObservabilitySettings settings = (MicrometerObservabilitySettings) observabilitySettings;
+            MeterRegistry meterRegistry = settings.getMeterRegistry();
+            if (meterRegistry != null) {
+                return new MicrometerMetricsRecorder(clusterId, meterRegistry, settings.isEnablePercentileHistograms(),
+                        settings.getMetricsDatabaseNames());
+            }
+        }
+        return NO_OP;
+    }
+
+    /**
+     * Indicates whether metrics are recorded.
+     *
+     * @return {@code true} if metrics are recorded, {@code false} otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records the latency of a command, from sending it to receiving its response.
+     *
+     * @param message the command message
+     * @param elapsedTimeNanos the elapsed time in nanoseconds
+     * @param succeeded whether the command succeeded
+     */
+    void recordCommand(CommandMessage message, long elapsedTimeNanos, boolean succeeded);
+
+    /**
+     * Records the latency of a server selection.
+     *
+     * @param elapsedTimeNanos the elapsed time in nanoseconds
+     * @param succeeded whether a server was selected
+     */
+    void recordServerSelection(long elapsedTimeNanos, boolean succeeded);
+
+    /**
+     * Gets the recorder for the traffic of the connections to a server.  It is expected to be called once per connection, and the
+     * returned recorder kept for the lifetime of the connection.
+     *
+     * @param serverAddress the server address
+     * @return the recorder
+     */
+    ConnectionMetricsRecorder forServer(ServerAddress serverAddress);
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.observability.micrometer;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.internal.connection.CommandMessage;
+import com.mongodb.lang.Nullable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link MetricsRecorder} that records to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Meters are registered the first time a command name and database, or a server, is seen, and looked up without allocating after
+ * that.  The gauges of a connection pool are removed from the registry when the pool is closed.  To bound the number of command
+ * timers, the commands on databases beyond the allowed or the first {@link #MAX_TAGGED_DATABASE_NAMES} ones share the timers tagged
+ * with {@link #OTHER_DATABASES}.
+ * </p>
+ */
+@ThreadSafe
+final class MicrometerMetricsRecorder implements MetricsRecorder {
+    static final String COMMANDS = "mongodb.driver.commands";
+    static final String SERVER_SELECTION = "mongodb.driver.server.selection";
+    static final String POOL_CHECKOUT = "mongodb.driver.pool.checkout";
+    static final String POOL_SIZE = "mongodb.driver.pool.size";
+    static final String POOL_CHECKED_OUT = "mongodb.driver.pool.checkedout";
+    static final String POOL_WAIT_QUEUE_SIZE = "mongodb.driver.pool.waitqueuesize";
+    static final String CONNECTION_IO = "mongodb.driver.connection.io";
+    static final String COMPRESSION_RATIO = "mongodb.driver.compression.ratio";
+    static final int MAX_TAGGED_DATABASE_NAMES = 100;
+    static final String OTHER_DATABASES = "other";
+
+    private static final String CLUSTER_ID = "cluster.id";
+    private static final String OUTCOME = "outcome";
+    private static final String DIRECTION = "network.io.direction";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean publishPercentileHistograms;
+    @Nullable
+    private final Set<String> taggedDatabaseNames;
+    private final Tags tags;
+    private final Timer serverSelectionSucceeded;
+    private final Timer serverSelectionFailed;
+    /**
+     * The command timers by database name and then by command name, which lets them be found without creating a key.
+     */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, CommandTimers>> commandTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CommandTimers> otherDatabasesCommandTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ServerAddress, ServerMeters> serverMeters = new ConcurrentHashMap<>();
+
+    /**
+     * @param publishPercentileHistograms whether the timers publish percentile histograms
+     * @param taggedDatabaseNames the names of the databases that tag the command timers, or null for the first
+     *                            {@link #MAX_TAGGED_DATABASE_NAMES} distinct ones
+     */
+    MicrometerMetricsRecorder(final ClusterId clusterId, final MeterRegistry meterRegistry, final boolean publishPercentileHistograms,
+            @Nullable final Set<String> taggedDatabaseNames) {
+        this.meterRegistry = meterRegistry;
+        this.publishPercentileHistograms = publishPercentileHistograms;
+        this.taggedDatabaseNames = taggedDatabaseNames;
+        this.tags = Tags.of(CLUSTER_ID, clusterId.getValue());
+        this.serverSelectionSucceeded = timer(SERVER_SELECTION, "The latency of server selection", tags, true);
+        this.serverSelectionFailed = timer(SERVER_SELECTION, "The latency of server selection", tags, false);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordCommand(final CommandMessage message, final long elapsedTimeNanos, final boolean succeeded) {
+        recordCommand(message.getDatabase(), message.getCommandName(), elapsedTimeNanos, succeeded);
+    }
+
+    void recordCommand(final String databaseName, final String commandName, final long elapsedTimeNanos, final boolean succeeded) {
+        ConcurrentHashMap<String, CommandTimers> databaseTimers = commandTimers.get(databaseName);
+        if (databaseTimers == null) {
+            databaseTimers = getDatabaseTimers(databaseName);
+        }
+        CommandTimers timers = databaseTimers.get(commandName);
+        if (timers == null) {
+            String databaseTag = databaseTimers == otherDatabasesCommandTimers ? OTHER_DATABASES : databaseName;
+            timers = databaseTimers.computeIfAbsent(commandName, k -> new CommandTimers(k, databaseTag));
+        }
+        (succeeded ? timers.succeeded : timers.failed).record(elapsedTimeNanos, NANOSECONDS);
+    }
+
+    private ConcurrentHashMap<String, CommandTimers> getDatabaseTimers(final String databaseName) {
+        // the bound on the first distinct database names may be exceeded by a few due to concurrent registrations
+        boolean tagged = taggedDatabaseNames == null
+                ? commandTimers.size() < MAX_TAGGED_DATABASE_NAMES
+                : taggedDatabaseNames.contains(databaseName);
+        return tagged ? commandTimers.computeIfAbsent(databaseName, k -> new ConcurrentHashMap<>()) : otherDatabasesCommandTimers;
+    }
+
+    @Override
+    public void recordServerSelection(final long elapsedTimeNanos, final boolean succeeded) {
+        (succeeded ? serverSelectionSucceeded : serverSelectionFailed).record(elapsedTimeNanos, NANOSECONDS);
+    }
+
+    @Override
+    public ConnectionMetricsRecorder forServer(final ServerAddress serverAddress) {
+        return serverMeters.computeIfAbsent(serverAddress, ServerMeters::new);
+    }
+
+    @Override
+    public void connectionPoolCreated(final ConnectionPoolCreatedEvent event) {
+        serverMeters.computeIfAbsent(event.getServerId().getAddress(), ServerMeters::new);
+    }
+
+    @Override
+    public void connectionPoolClosed(final ConnectionPoolClosedEvent event) {
+        ServerMeters meters = serverMeters.remove(event.getServerId().getAddress());
+        if (meters != null) {
+            meters.removeGauges();
+        }
+    }
+
+    @Override
+    public void connectionCheckOutStarted(final ConnectionCheckOutStartedEvent event) {
+        ServerMeters meters = getServerMeters(event.getServerId());
+        if (meters != null) {
+            meters.waitQueueSize.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void connectionCheckedOut(final ConnectionCheckedOutEvent event) {
+        ServerMeters meters = getServerMeters(event.getConnectionId().getServerId());
+        if (meters != null) {
+            meters.waitQueueSize.decrementAndGet();
+            meters.checkedOut.incrementAndGet();
+            meters.checkoutSucceeded.record(event.getElapsedTime(NANOSECONDS), NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void connectionCheckOutFailed(final ConnectionCheckOutFailedEvent event) {
+        ServerMeters meters = getServerMeters(event.getServerId());
+        if (meters != null) {
+            meters.waitQueueSize.decrementAndGet();
+            meters.checkoutFailed.record(event.getElapsedTime(NANOSECONDS), NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void connectionCheckedIn(final ConnectionCheckedInEvent event) {
+        ServerMeters meters = getServerMeters(event.getConnectionId().getServerId());
+        if (meters != null) {
+            meters.checkedOut.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void connectionCreated(final ConnectionCreatedEvent event) {
+        ServerMeters meters = getServerMeters(event.getConnectionId().getServerId());
+        if (meters != null) {
+            meters.size.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void connectionClosed(final ConnectionClosedEvent event) {
+        ServerMeters meters = getServerMeters(event.getConnectionId().getServerId());
+        if (meters != null) {
+            meters.size.decrementAndGet();
+        }
+    }
+
+    @Nullable
+    private ServerMeters getServerMeters(final ServerId serverId) {
+        return serverMeters.get(serverId.getAddress());
+    }
+
+    private Timer timer(final String name, final String description, final Tags timerTags, final boolean succeeded) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(timerTags)
+                .tag(OUTCOME, succeeded ? "success" : "failure")
+                .publishPercentileHistogram(publishPercentileHistograms)
+                .register(meterRegistry);
+    }
+
+    private final class CommandTimers {
+        private final Timer succeeded;
+        private final Timer failed;
+
+        CommandTimers(final String commandName, final String databaseTag) {
+            Tags commandTags = tags.and(MongodbObservation.LowCardinalityKeyNames.COMMAND_NAME.asString(), commandName)
+                    .and(MongodbObservation.LowCardinalityKeyNames.NAMESPACE.asString(), databaseTag);
+            succeeded = timer(COMMANDS, "The latency of commands", commandTags, true);
+            failed = timer(COMMANDS, "The latency of commands", commandTags, false);
+        }
+    }
+
+    private final class ServerMeters implements ConnectionMetricsRecorder {
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private final AtomicInteger waitQueueSize = new AtomicInteger();
+        private final List<Meter> gauges = new ArrayList<>();
+        private final Timer checkoutSucceeded;
+        private final Timer checkoutFailed;
+        private final Counter bytesSent;
+        private final Counter bytesReceived;
+        private final DistributionSummary compressionRatio;
+
+        ServerMeters(final ServerAddress serverAddress) {
+            Tags serverTags = tags.and(MongodbObservation.LowCardinalityKeyNames.SERVER_ADDRESS.asString(), serverAddress.getHost())
+                    .and(MongodbObservation.LowCardinalityKeyNames.SERVER_PORT.asString(), String.valueOf(serverAddress.getPort()));
+            checkoutSucceeded = timer(POOL_CHECKOUT, "The time spent waiting to check out a connection", serverTags, true);
+            checkoutFailed = timer(POOL_CHECKOUT, "The time spent waiting to check out a connection", serverTags, false);
+            gauges.add(gauge(POOL_SIZE, "The number of connections in the pool", serverTags, size));
+            gauges.add(gauge(POOL_CHECKED_OUT, "The number of connections checked out of the pool", serverTags, checkedOut));
+            gauges.add(gauge(POOL_WAIT_QUEUE_SIZE, "The number of checkouts waiting for a connection", serverTags, waitQueueSize));
+            bytesSent = Counter.builder(CONNECTION_IO)
+                    .description("The bytes sent and received on connections")
+                    .baseUnit("bytes")
+                    .tags(serverTags)
+                    .tag(DIRECTION, "transmit")
+                    .register(meterRegistry);
+            bytesReceived = Counter.builder(CONNECTION_IO)
+                    .description("The bytes sent and received on connections")
+                    .baseUnit("bytes")
+                    .tags(serverTags)
+                    .tag(DIRECTION, "receive")
+                    .register(meterRegistry);
+            compressionRatio = DistributionSummary.builder(COMPRESSION_RATIO)
+                    .description("The ratio of uncompressed to compressed message size")
+                    .tags(serverTags)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void recordBytesSent(final int size) {
+            bytesSent.increment(size);
+        }
+
+        @Override
+        public void recordBytesReceived(final int size) {
+            bytesReceived.increment(size);
+        }
+
+        @Override
+        public void recordCompression(final int uncompressedSize, final int compressedSize) {
+            if (compressedSize > 0) {
+                compressionRatio.record((double) uncompressedSize / compressedSize);
+            }
+        }
+
+        void removeGauges() {
+            gauges.forEach(meterRegistry::remove);
+        }
+
+        private Gauge gauge(final String name, final String description, final Tags gaugeTags, final AtomicInteger value) {
+            return Gauge.builder(name, value, AtomicInteger::get)
+                    .description(description)
+                    .tags(gaugeTags)
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -67,6 +67,24 @@ public class AggregateOperation<T> implements ReadOperationExplainable<T> {
         return this;
     }
 
+    public boolean isExhaust() {
+        return wrapped.isExhaust();
+    }
+
+    public AggregateOperation<T> exhaust(final boolean exhaust) {
+        wrapped.exhaust(exhaust);
+        return this;
+    }
+
+    public int getPrefetch() {
+        return wrapped.getPrefetch();
+    }
+
+    public AggregateOperation<T> prefetch(final int prefetch) {
+        wrapped.prefetch(prefetch);
+        return this;
+    }
+
     public Integer getBatchSize() {
         return wrapped.getBatchSize();
     }
@@ -49,6 +49,7 @@ import static com.mongodb.internal.operation.CommandOperationHelper.CommandCreat
 import static com.mongodb.internal.operation.OperationHelper.LOGGER;
 import static com.mongodb.internal.operation.OperationHelper.applyTimeoutModeToOperationContext;
 import static com.mongodb.internal.operation.OperationReadConcernHelper.appendReadConcernToCommand;
+import static com.mongodb.internal.operation.PrefetchingCursor.isPrefetchAllowed;
 import static com.mongodb.internal.operation.SyncOperationHelper.CommandReadTransformer;
 import static com.mongodb.internal.operation.SyncOperationHelper.executeRetryableRead;
 
@@ -66,6 +67,8 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
 
     private boolean retryReads;
     private Boolean allowDiskUse;
+    private boolean exhaust;
+    private int prefetch;
     private Integer batchSize;
     private Collation collation;
     private BsonValue comment;
@@ -109,6 +112,25 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
         return this;
     }
 
+    boolean isExhaust() {
+        return exhaust;
+    }
+
+    AggregateOperationImpl<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    int getPrefetch() {
+        return prefetch;
+    }
+
+    AggregateOperationImpl<T> prefetch(final int prefetch) {
+        isTrueArgument("prefetch >= 0", prefetch >= 0);
+        this.prefetch = prefetch;
+        return this;
+    }
+
     Integer getBatchSize() {
         return batchSize;
     }
@@ -243,20 +265,29 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
 
     private CommandReadTransformer<BsonDocument, CommandBatchCursor<T>> transformer() {
         return (result, source, connection, operationContext) ->
-                new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()), operationContext, new CommandCursor<>(
-                        result, batchSize != null ? batchSize : 0,
-                        decoder, comment, source, connection
-                ));
+                new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()), operationContext, prefetching(
+                        new CommandCursor<>(result, batchSize != null ? batchSize : 0,
+                                decoder, comment, source, connection, isExhaustAllowed(operationContext)
+                        ), operationContext));
     }
 
     private CommandReadTransformerAsync<BsonDocument, AsyncBatchCursor<T>> asyncTransformer() {
         return (result, source, connection, operationContext) ->
             new AsyncCommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()),
                     operationContext, new AsyncCommandCursor<>(
-                    result, batchSize != null ? batchSize : 0, decoder, comment, source, connection
+                    result, batchSize != null ? batchSize : 0, decoder, comment, source, connection, isExhaustAllowed(operationContext)
             ));
     }
 
+    private boolean isExhaustAllowed(final OperationContext operationContext) {
+        return exhaust && CursorType.TailableAwait != cursorType && !operationContext.getSessionContext().hasActiveTransaction();
+    }
+
+    private Cursor<T> prefetching(final Cursor<T> cursor, final OperationContext operationContext) {
+        return prefetch > 0 && CursorType.TailableAwait != cursorType && isPrefetchAllowed(getTimeoutMode(), operationContext)
+                ? new PrefetchingCursor<>(cursor, prefetch) : cursor;
+    }
+
     private TimeoutMode getTimeoutMode() {
         TimeoutMode localTimeoutMode = timeoutMode;
         if (localTimeoutMode == null) {
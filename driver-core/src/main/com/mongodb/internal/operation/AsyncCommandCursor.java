@@ -69,6 +69,7 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
     private final BsonValue comment;
     private final int maxWireVersion;
     private final boolean firstBatchEmpty;
+    private final boolean exhaust;
     private final ResourceManager resourceManager;
     private final AtomicBoolean processedInitial = new AtomicBoolean();
     private int batchSize;
@@ -81,6 +82,21 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
             @Nullable final BsonValue comment,
             final AsyncConnectionSource connectionSource,
             final AsyncConnection connection) {
+        this(commandCursorDocument, batchSize, decoder, comment, connectionSource, connection, false);
+    }
+
+    /**
+     * @param exhaust whether to allow the server to stream the batches after the first one, instead of sending a {@code getMore}
+     *                command for each of them
+     */
+    AsyncCommandCursor(
+            final BsonDocument commandCursorDocument,
+            final int batchSize,
+            final Decoder<T> decoder,
+            @Nullable final BsonValue comment,
+            final AsyncConnectionSource connectionSource,
+            final AsyncConnection connection,
+            final boolean exhaust) {
         ConnectionDescription connectionDescription = connection.getDescription();
         this.commandCursorResult = toCommandCursorResult(connectionDescription.getServerAddress(), FIRST_BATCH, commandCursorDocument);
         this.namespace = commandCursorResult.getNamespace();
@@ -91,6 +107,8 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
         this.firstBatchEmpty = commandCursorResult.getResults().isEmpty();
         AsyncConnection connectionToPin = connectionSource.getServerDescription().getType() == ServerType.LOAD_BALANCER
                 ? connection : null;
+        // a connection pinned to the cursor can not be used for anything else while the server streams batches to it
+        this.exhaust = exhaust && connectionToPin == null;
         resourceManager = new ResourceManager(namespace, connectionSource, connectionToPin, commandCursorResult.getServerCursor());
     }
 
@@ -170,11 +188,7 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
     private void getMoreLoop(final AsyncConnection connection, final ServerCursor serverCursor,
                              final OperationContext operationContext,
                              final SingleResultCallback<List<T>> callback) {
-        connection.commandAsync(namespace.getDatabaseName(),
-                getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize, comment),
-                NoOpFieldNameValidator.INSTANCE, ReadPreference.primary(),
-                CommandResultDocumentCodec.create(decoder, NEXT_BATCH),
-                operationContext,
+        getMoreResultAsync(connection, serverCursor, operationContext,
                 (commandResult, t) -> {
                     if (t != null) {
                         Throwable translatedException =
@@ -204,6 +218,24 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
                 });
     }
 
+    private void getMoreResultAsync(final AsyncConnection connection, final ServerCursor serverCursor,
+            final OperationContext operationContext, final SingleResultCallback<BsonDocument> callback) {
+        Decoder<BsonDocument> resultDecoder = CommandResultDocumentCodec.create(decoder, NEXT_BATCH);
+        if (connection.hasMoreToCome()) {
+            connection.receiveMoreToComeAsync(resultDecoder, operationContext, callback);
+            return;
+        }
+        BsonDocument getMoreCommand = getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
+                comment);
+        if (exhaust) {
+            connection.exhaustCommandAsync(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                    ReadPreference.primary(), resultDecoder, operationContext, callback);
+        } else {
+            connection.commandAsync(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                    ReadPreference.primary(), resultDecoder, operationContext, callback);
+        }
+    }
+
     private CommandCursorResult<T> toCommandCursorResult(final ServerAddress serverAddress, final String fieldNameContainingBatch,
                                                          final BsonDocument commandCursorDocument) {
         CommandCursorResult<T> commandCursorResult = new CommandCursorResult<>(serverAddress, fieldNameContainingBatch,
@@ -247,6 +279,11 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
             connectionToPin.markAsPinned(pinningMode);
         }
 
+        @Override
+        boolean hasMoreToCome(final AsyncConnection connection) {
+            return connection.hasMoreToCome();
+        }
+
         @Override
         void doClose(final OperationContext operationContext) {
                 releaseResourcesAsync(operationContext, THEN_DO_NOTHING);
@@ -254,6 +291,8 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
 
         private void releaseResourcesAsync(final OperationContext operationContext, final SingleResultCallback<Void> callback) {
             beginAsync().thenRunTryCatchAsyncBlocks(c -> {
+                // the server cursor must be killed via another connection, which the pool may only have once this one is released
+                releaseExhaustConnection();
                 if (isSkipReleasingServerResourcesOnClose()) {
                     unsetServerCursor();
                 }
@@ -288,7 +327,11 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
                 }
                 callable.call(assertNotNull(connection), (result, t1) -> {
                     if (t1 != null) {
+                        // whether the server streams further batches after a failed one is unknown, so the connection is not used again
+                        releaseExhaustConnection();
                         handleException(connection, t1);
+                    } else {
+                        onBatchReceived(connection);
                     }
                     connection.release();
                     callback.onResult(result, t1);
@@ -306,8 +349,11 @@ class AsyncCommandCursor<T> implements AsyncCursor<T> {
 
         private void getConnection(final OperationContext operationContext, final SingleResultCallback<AsyncConnection> callback) {
             assertTrue(getState() != State.IDLE);
+            AsyncConnection exhaustConnection = getExhaustConnection();
             AsyncConnection pinnedConnection = getPinnedConnection();
-            if (pinnedConnection != null) {
+            if (exhaustConnection != null) {
+                callback.onResult(exhaustConnection.retain(), null);
+            } else if (pinnedConnection != null) {
                 callback.onResult(assertNotNull(pinnedConnection).retain(), null);
             } else {
                 assertNotNull(getConnectionSource()).getConnection(operationContext, callback);
@@ -201,14 +201,16 @@ public class ChangeStreamOperation<T> implements ReadOperationCursor<T> {
 
     @Override
     public BatchCursor<T> execute(final ReadBinding binding, final OperationContext operationContext) {
+        // the getMores of a change stream wait on the server for new events
+        OperationContext changeStreamOperationContext = operationContext.withDedicatedConnection();
         Cursor<RawBsonDocument> cursor = ((CommandBatchCursor<RawBsonDocument>) getAggregateOperation(operationContext.getTimeoutContext())
-                .execute(binding, operationContext))
+                .execute(binding, changeStreamOperationContext))
                 .getWrapped();
 
         return new ChangeStreamBatchCursor<>(ChangeStreamOperation.this,
                     cursor,
                     binding,
-                    operationContext,
+                    changeStreamOperationContext,
                     setChangeStreamOptions(
                             cursor.getPostBatchResumeToken(),
                             cursor.getOperationTime(),
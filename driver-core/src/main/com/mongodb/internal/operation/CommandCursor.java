@@ -64,6 +64,7 @@ class CommandCursor<T> implements Cursor<T> {
     private final BsonValue comment;
     private final int maxWireVersion;
     private final boolean firstBatchEmpty;
+    private final boolean exhaust;
     private final ResourceManager resourceManager;
 
     private int batchSize;
@@ -78,6 +79,21 @@ class CommandCursor<T> implements Cursor<T> {
             @Nullable final BsonValue comment,
             final ConnectionSource connectionSource,
             final Connection connection) {
+        this(commandCursorDocument, batchSize, decoder, comment, connectionSource, connection, false);
+    }
+
+    /**
+     * @param exhaust whether to allow the server to stream the batches after the first one, instead of sending a {@code getMore}
+     *                command for each of them
+     */
+    CommandCursor(
+            final BsonDocument commandCursorDocument,
+            final int batchSize,
+            final Decoder<T> decoder,
+            @Nullable final BsonValue comment,
+            final ConnectionSource connectionSource,
+            final Connection connection,
+            final boolean exhaust) {
         ConnectionDescription connectionDescription = connection.getDescription();
         this.commandCursorResult = toCommandCursorResult(connectionDescription.getServerAddress(), FIRST_BATCH, commandCursorDocument);
         this.namespace = commandCursorResult.getNamespace();
@@ -88,6 +104,8 @@ class CommandCursor<T> implements Cursor<T> {
         this.firstBatchEmpty = commandCursorResult.getResults().isEmpty();
 
         Connection connectionToPin = connectionSource.getServerDescription().getType() == ServerType.LOAD_BALANCER ? connection : null;
+        // a connection pinned to the cursor can not be used for anything else while the server streams batches to it
+        this.exhaust = exhaust && connectionToPin == null;
         resourceManager = new ResourceManager(namespace, connectionSource, connectionToPin, commandCursorResult.getServerCursor());
     }
 
@@ -225,14 +243,7 @@ class CommandCursor<T> implements Cursor<T> {
             ServerCursor nextServerCursor;
             try {
                 this.commandCursorResult = toCommandCursorResult(connection.getDescription().getServerAddress(), NEXT_BATCH,
-                        assertNotNull(
-                                connection.command(namespace.getDatabaseName(),
-                                        getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
-                                                comment),
-                                        NoOpFieldNameValidator.INSTANCE,
-                                        ReadPreference.primary(),
-                                        CommandResultDocumentCodec.create(decoder, NEXT_BATCH),
-                                        operationContext)));
+                        assertNotNull(getMoreResult(connection, serverCursor, operationContext)));
                 nextServerCursor = commandCursorResult.getServerCursor();
             } catch (MongoCommandException e) {
                 throw translateCommandException(e, serverCursor);
@@ -241,6 +252,23 @@ class CommandCursor<T> implements Cursor<T> {
         }, operationContext);
     }
 
+    @Nullable
+    private BsonDocument getMoreResult(final Connection connection, final ServerCursor serverCursor,
+            final OperationContext operationContext) {
+        Decoder<BsonDocument> resultDecoder = CommandResultDocumentCodec.create(decoder, NEXT_BATCH);
+        if (connection.hasMoreToCome()) {
+            return connection.receiveMoreToCome(resultDecoder, operationContext);
+        }
+        BsonDocument getMoreCommand = getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
+                comment);
+        if (exhaust) {
+            return connection.exhaustCommand(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                    ReadPreference.primary(), resultDecoder, operationContext);
+        }
+        return connection.command(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                ReadPreference.primary(), resultDecoder, operationContext);
+    }
+
     private CommandCursorResult<T> toCommandCursorResult(final ServerAddress serverAddress, final String fieldNameContainingBatch,
                                                          final BsonDocument commandCursorDocument) {
         CommandCursorResult<T> commandCursorResult = new CommandCursorResult<>(serverAddress, fieldNameContainingBatch,
@@ -282,6 +310,11 @@ class CommandCursor<T> implements Cursor<T> {
             connectionToPin.markAsPinned(pinningMode);
         }
 
+        @Override
+        boolean hasMoreToCome(final Connection connection) {
+            return connection.hasMoreToCome();
+        }
+
         @Override
         void doClose(final OperationContext operationContext) {
                 releaseResources(operationContext);
@@ -289,6 +322,8 @@ class CommandCursor<T> implements Cursor<T> {
 
         private void releaseResources(final OperationContext operationContext) {
             try {
+                // the server cursor must be killed via another connection, which the pool may only have once this one is released
+                releaseExhaustConnection();
                 if (isSkipReleasingServerResourcesOnClose()) {
                     unsetServerCursor();
                 }
@@ -313,22 +348,31 @@ class CommandCursor<T> implements Cursor<T> {
             Connection connection = getConnection(operationContext);
             try {
                 action.accept(connection);
-            } catch (MongoSocketException e) {
-                onCorruptedConnection(connection, e);
-                throw e;
-            } catch (MongoOperationTimeoutException e) {
-                Throwable cause = e.getCause();
-                if (cause instanceof MongoSocketException) {
-                    onCorruptedConnection(connection, (MongoSocketException) cause);
-                }
+                onBatchReceived(connection);
+            } catch (RuntimeException e) {
+                // whether the server streams further batches after a failed one is unknown, so the connection is not used again
+                releaseExhaustConnection();
+                handleException(connection, e);
                 throw e;
             } finally {
                 connection.release();
             }
         }
 
+        private void handleException(final Connection connection, final RuntimeException exception) {
+            if (exception instanceof MongoOperationTimeoutException && exception.getCause() instanceof MongoSocketException) {
+                onCorruptedConnection(connection, (MongoSocketException) exception.getCause());
+            } else if (exception instanceof MongoSocketException) {
+                onCorruptedConnection(connection, (MongoSocketException) exception);
+            }
+        }
+
         private Connection getConnection(final OperationContext operationContext) {
             assertTrue(getState() != State.IDLE);
+            Connection exhaustConnection = getExhaustConnection();
+            if (exhaustConnection != null) {
+                return exhaustConnection.retain();
+            }
             Connection pinnedConnection = getPinnedConnection();
             if (pinnedConnection == null) {
                 return assertNotNull(getConnectionSource()).getConnection(operationContext);
@@ -67,7 +67,8 @@ public class CommandReadOperation<T> implements ReadOperationSimple<T> {
 
     @Override
     public T execute(final ReadBinding binding, final OperationContext operationContext) {
-        return executeRetryableRead(binding, operationContext, databaseName, commandCreator, decoder,
+        // an arbitrary command may run for a long time on the server
+        return executeRetryableRead(binding, operationContext.withDedicatedConnection(), databaseName, commandCreator, decoder,
                 transformer(), false);
     }
 
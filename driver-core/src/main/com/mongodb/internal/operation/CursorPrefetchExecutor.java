@@ -0,0 +1,86 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.assertTrue;
+
+/**
+ * The threads that get the batches of prefetching cursors in the background.  They are shared by all the open clients, and are shut
+ * down once the last of them is closed.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class CursorPrefetchExecutor {
+    /**
+     * The maximum number of threads getting batches in the background, for all cursors.  Once they are all busy, the next batches are
+     * queued and got as threads become free, and threads that stay idle are stopped.
+     */
+    private static final int MAX_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static int clients;
+    @Nullable
+    private static ThreadPoolExecutor executor;
+
+    /**
+     * Starts the threads if no other client is open.  Must be paired with a call to {@link #release()} when the client is closed.
+     */
+    public static synchronized void acquire() {
+        if (clients++ == 0) {
+            executor = createExecutor();
+        }
+    }
+
+    /**
+     * Shuts the threads down once they have got the batches already requested, if no other client is open.
+     */
+    public static synchronized void release() {
+        assertTrue(clients > 0);
+        if (--clients == 0) {
+            assertNotNull(executor).shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Gets the executor of the batches got in the background.  If no client is open, or once the last one is closed, batches are got
+     * by the thread that requests them.
+     */
+    static synchronized Executor current() {
+        ThreadPoolExecutor localExecutor = executor;
+        return localExecutor == null ? Runnable::run : localExecutor;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        // a batch requested after the executor is shut down is got by the requesting thread, so that its future is still completed
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new DaemonThreadFactory("CursorPrefetcher"), (task, shutDownExecutor) -> task.run());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private CursorPrefetchExecutor() {
+    }
+}
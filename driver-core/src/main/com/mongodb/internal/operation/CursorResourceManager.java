@@ -60,6 +60,11 @@ abstract class CursorResourceManager<CS extends ReferenceCounted, C extends Refe
     private volatile CS connectionSource;
     @Nullable
     private volatile C pinnedConnection;
+    /**
+     * The connection that the server streams the next batch to, see {@link Connection#exhaustCommand}.
+     */
+    @Nullable
+    private volatile C exhaustConnection;
     @Nullable
     private volatile ServerCursor serverCursor;
     private volatile boolean skipReleasingServerResourcesOnClose;
@@ -122,9 +127,47 @@ abstract class CursorResourceManager<CS extends ReferenceCounted, C extends Refe
         return skipReleasingServerResourcesOnClose;
     }
 
+    /**
+     * Thread-safe.
+     */
+    @Nullable
+    C getExhaustConnection() {
+        return exhaustConnection;
+    }
+
     @SuppressWarnings("SameParameterValue")
     abstract void markAsPinned(C connectionToPin, Connection.PinningMode pinningMode);
 
+    abstract boolean hasMoreToCome(C connection);
+
+    /**
+     * Keeps the connection a batch was received from if the server streams the next batch to it, as the next batch can only be
+     * received from that connection, and releases it otherwise.
+     */
+    void onBatchReceived(final C connection) {
+        if (hasMoreToCome(connection)) {
+            if (exhaustConnection != connection) {
+                assertNull(exhaustConnection);
+                connection.retain();
+                exhaustConnection = connection;
+            }
+        } else {
+            releaseExhaustConnection();
+        }
+    }
+
+    /**
+     * Releases the connection that the server streams the next batch to, if any.  The connection pool closes a connection that has
+     * replies streamed to it instead of reusing it.
+     */
+    void releaseExhaustConnection() {
+        C localExhaustConnection = exhaustConnection;
+        if (localExhaustConnection != null) {
+            localExhaustConnection.release();
+            exhaustConnection = null;
+        }
+    }
+
     /**
      * Thread-safe.
      */
@@ -237,6 +280,7 @@ abstract class CursorResourceManager<CS extends ReferenceCounted, C extends Refe
 
     void releaseClientResources() {
         assertNull(serverCursor);
+        releaseExhaustConnection();
         CS localConnectionSource = connectionSource;
         if (localConnectionSource != null) {
             localConnectionSource.release();
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.lang.String.format;
+
+/**
+ * A decoder that decodes only the fields of an inclusion projection, by passing their paths to the wrapped decoder in its
+ * {@link DecoderContext}.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+final class FieldPathsDecoder<T> implements Decoder<T> {
+    private static final String ID_FIELD_NAME = "_id";
+
+    private final Decoder<T> wrapped;
+    private final DecoderContext decoderContext;
+
+    /**
+     * Wraps the decoder so that it decodes only the fields of the projection.
+     *
+     * <p>As in a projection, the {@code _id} field is decoded unless the projection excludes it.  The projection must otherwise only
+     * include fields, as a decoder can not apply exclusions or projection operators.</p>
+     *
+     * @param decoder the decoder
+     * @param projection the projection of the fields to decode, or null to decode all fields
+     * @return the decoder of the fields of the projection, or the given decoder if the projection is null
+     * @throws IllegalArgumentException if the projection is not an inclusion projection
+     */
+    static <T> Decoder<T> create(final Decoder<T> decoder, @Nullable final BsonDocument projection) {
+        notNull("decoder", decoder);
+        if (projection == null) {
+            return decoder;
+        }
+        Set<String> fieldPaths = new LinkedHashSet<>();
+        fieldPaths.add(ID_FIELD_NAME);
+        for (Map.Entry<String, BsonValue> entry : projection.entrySet()) {
+            BsonValue value = entry.getValue();
+            boolean included = value.isBoolean() ? value.asBoolean().getValue() : value.isNumber() && value.asNumber().doubleValue() != 0;
+            boolean excluded = value.isBoolean() ? !value.asBoolean().getValue() : value.isNumber() && value.asNumber().doubleValue() == 0;
+            if (included) {
+                fieldPaths.add(entry.getKey());
+            } else if (excluded && entry.getKey().equals(ID_FIELD_NAME)) {
+                fieldPaths.remove(ID_FIELD_NAME);
+            } else {
+                throw new IllegalArgumentException(format("The projection of the fields to decode can only include fields, and exclude "
+                        + "the _id field, but its value for the field %s is %s", entry.getKey(), value));
+            }
+        }
+        return new FieldPathsDecoder<>(decoder, DecoderContext.builder().fieldPaths(fieldPaths).build());
+    }
+
+    private FieldPathsDecoder(final Decoder<T> wrapped, final DecoderContext decoderContext) {
+        this.wrapped = wrapped;
+        this.decoderContext = decoderContext;
+    }
+
+    @Override
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return wrapped.decode(reader, this.decoderContext);
+    }
+}
@@ -41,6 +41,7 @@ import org.bson.codecs.Decoder;
 
 import java.util.function.Supplier;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 import static com.mongodb.internal.connection.CommandHelper.applyMaxTimeMS;
@@ -56,6 +57,7 @@ import static com.mongodb.internal.operation.ExplainHelper.asExplainCommand;
 import static com.mongodb.internal.operation.OperationHelper.LOGGER;
 import static com.mongodb.internal.operation.OperationHelper.canRetryRead;
 import static com.mongodb.internal.operation.OperationReadConcernHelper.appendReadConcernToCommand;
+import static com.mongodb.internal.operation.PrefetchingCursor.isPrefetchAllowed;
 import static com.mongodb.internal.operation.ServerVersionHelper.UNKNOWN_WIRE_VERSION;
 import static com.mongodb.internal.operation.SyncOperationHelper.CommandReadTransformer;
 import static com.mongodb.internal.operation.SyncOperationHelper.createReadCommandAndExecute;
@@ -92,6 +94,8 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
     private boolean returnKey;
     private boolean showRecordId;
     private Boolean allowDiskUse;
+    private boolean exhaust;
+    private int prefetch;
     private TimeoutMode timeoutMode;
 
     public FindOperation(final MongoNamespace namespace, final Decoder<T> decoder) {
@@ -286,6 +290,25 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
         return this;
     }
 
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    public FindOperation<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public FindOperation<T> prefetch(final int prefetch) {
+        isTrueArgument("prefetch >= 0", prefetch >= 0);
+        this.prefetch = prefetch;
+        return this;
+    }
+
     @Override
     public String getCommandName() {
         return COMMAND_NAME;
@@ -470,9 +493,9 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
     private CommandReadTransformer<BsonDocument, CommandBatchCursor<T>> transformer() {
         return (result, source, connection, operationContext) ->
                 new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext), operationContext,
-                        new CommandCursor<>(
-                                result, batchSize, decoder, comment, source, connection
-                ));
+                        prefetching(new CommandCursor<>(
+                                result, batchSize, decoder, comment, source, connection, isExhaustAllowed(operationContext)
+                        ), operationContext));
     }
 
     private CommandReadTransformerAsync<BsonDocument, AsyncBatchCursor<T>> asyncTransformer() {
@@ -480,10 +503,19 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
                 new AsyncCommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext), operationContext,
                         new AsyncCommandCursor<>(
                                 result, batchSize, decoder,
-                                comment, source, connection
+                                comment, source, connection, isExhaustAllowed(operationContext)
                         ));
     }
 
+    private boolean isExhaustAllowed(final OperationContext operationContext) {
+        return exhaust && !isTailableCursor() && !operationContext.getSessionContext().hasActiveTransaction();
+    }
+
+    private Cursor<T> prefetching(final Cursor<T> cursor, final OperationContext operationContext) {
+        return prefetch > 0 && !isTailableCursor() && isPrefetchAllowed(getTimeoutMode(), operationContext)
+                ? new PrefetchingCursor<>(cursor, prefetch) : cursor;
+    }
+
     private long getMaxTimeForCursor(final OperationContext operationContext) {
         return cursorType == CursorType.TailableAwait ? operationContext.getTimeoutContext().getMaxAwaitTimeMS() : 0;
     }
@@ -503,9 +535,11 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
     }
 
     private OperationContext getFindOperationContext(final OperationContext operationContext) {
+        // the getMores of a tailable cursor may wait on the server for new documents
+        OperationContext findOperationContext = isTailableCursor() ? operationContext.withDedicatedConnection() : operationContext;
         if (shouldDisableMaxTimeMS()) {
-            return operationContext.withOverride(TimeoutContext::withDisabledMaxTime);
+            return findOperationContext.withOverride(TimeoutContext::withDisabledMaxTime);
         }
-        return operationContext;
+        return findOperationContext;
     }
 }
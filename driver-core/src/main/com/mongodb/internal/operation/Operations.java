@@ -265,7 +265,7 @@ public final class Operations<T> {
     private <R> FindOperation<R> createFindOperation(final MongoNamespace findNamespace, @Nullable final Bson filter,
                                                                  final Class<R> resultClass, final FindOptions options) {
         FindOperation<R> operation = new FindOperation<>(
-                findNamespace, codecRegistry.get(resultClass))
+                findNamespace, FieldPathsDecoder.create(codecRegistry.get(resultClass), toBsonDocument(options.getDecodeProjection())))
                 .retryReads(retryReads)
                 .filter(filter == null ? new BsonDocument() : filter.toBsonDocument(documentClass, codecRegistry))
                 .batchSize(options.getBatchSize())
@@ -284,6 +284,8 @@ public final class Operations<T> {
                 .returnKey(options.isReturnKey())
                 .showRecordId(options.isShowRecordId())
                 .allowDiskUse(options.isAllowDiskUse())
+                .exhaust(options.isExhaust())
+                .prefetch(options.getPrefetch())
                 .timeoutMode(options.getTimeoutMode());
 
         if (options.getHint() != null) {
@@ -314,11 +316,14 @@ public final class Operations<T> {
     public <R> ReadOperationExplainable<R> aggregate(final List<? extends Bson> pipeline, final Class<R> resultClass,
             @Nullable final TimeoutMode timeoutMode, @Nullable final Integer batchSize,
             final Collation collation, @Nullable final Bson hint, @Nullable final String hintString,
-            final BsonValue comment, final Bson variables, final Boolean allowDiskUse, final AggregationLevel aggregationLevel) {
+            final BsonValue comment, final Bson variables, final Boolean allowDiskUse, final boolean exhaust,
+            final int prefetch, final AggregationLevel aggregationLevel) {
         return new AggregateOperation<>(assertNotNull(namespace),
                 assertNotNull(toBsonDocumentList(pipeline)), codecRegistry.get(resultClass), aggregationLevel)
                 .retryReads(retryReads)
                 .allowDiskUse(allowDiskUse)
+                .exhaust(exhaust)
+                .prefetch(prefetch)
                 .batchSize(batchSize)
                 .collation(collation)
                 .hint(hint != null ? toBsonDocument(hint) : (hintString != null ? new BsonString(hintString) : null))
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoInternalException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.internal.session.SessionContext;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.operation.CommandBatchCursorHelper.MESSAGE_IF_CLOSED_AS_CURSOR;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+
+/**
+ * A cursor that gets the batches of the wrapped cursor in the background, up to a maximum number of batches ahead of the application,
+ * so that the {@code getMore} round trips for the next batches overlap with the application processing the current one.
+ *
+ * <p>The wrapped cursor is only iterated by background tasks, each of them starting once the previous one has completed, so that it is
+ * never used by more than one thread at a time.  The wrapped cursor may be closed while a task is in progress, in which case it is
+ * closed once the task completes.  The tasks run on the {@link CursorPrefetchExecutor} of the open clients.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@NotThreadSafe
+final class PrefetchingCursor<T> implements Cursor<T> {
+    private final Cursor<T> wrapped;
+    private final Executor executor = CursorPrefetchExecutor.current();
+    private final int maxPrefetchedBatches;
+    /**
+     * The batches being got, or already got, in the background, in order.  A batch is {@code null} if the wrapped cursor is exhausted.
+     */
+    private final Deque<CompletableFuture<List<T>>> batches = new ArrayDeque<>();
+    private volatile boolean closed;
+
+    PrefetchingCursor(final Cursor<T> wrapped, final int maxPrefetchedBatches) {
+        isTrueArgument("maxPrefetchedBatches > 0", maxPrefetchedBatches > 0);
+        this.wrapped = notNull("wrapped", wrapped);
+        this.maxPrefetchedBatches = maxPrefetchedBatches;
+    }
+
+    /**
+     * The background tasks use the session of the cursor while the application may use it too, which only an implicit session, that
+     * the application does not know of, allows.  They also use the operation context of the call that started them, whose timeout
+     * is replaced by a new one on each call in {@link TimeoutMode#ITERATION} mode, so a batch got ahead of the call it is for would
+     * be got with an earlier, partly elapsed, timeout.
+     */
+    static boolean isPrefetchAllowed(final TimeoutMode timeoutMode, final OperationContext operationContext) {
+        SessionContext sessionContext = operationContext.getSessionContext();
+        return (!sessionContext.hasSession() || sessionContext.isImplicitSession())
+                && !(timeoutMode == TimeoutMode.ITERATION && operationContext.getTimeoutContext().hasTimeoutMS());
+    }
+
+    @Override
+    public void close(final OperationContext operationContext) {
+        closed = true;
+        batches.clear();
+        wrapped.close(operationContext);
+    }
+
+    @Override
+    public boolean hasNext(final OperationContext operationContext) {
+        if (closed) {
+            throw new IllegalStateException(MESSAGE_IF_CLOSED_AS_CURSOR);
+        }
+        prefetch(operationContext);
+        return get(assertNotNull(batches.peekFirst())) != null;
+    }
+
+    @Override
+    public List<T> next(final OperationContext operationContext) {
+        if (!hasNext(operationContext)) {
+            throw new NoSuchElementException();
+        }
+        List<T> batch = assertNotNull(get(batches.removeFirst()));
+        prefetch(operationContext);
+        return batch;
+    }
+
+    @Nullable
+    @Override
+    public List<T> tryNext(final OperationContext operationContext) {
+        return hasNext(operationContext) ? next(operationContext) : null;
+    }
+
+    @Override
+    public int available() {
+        CompletableFuture<List<T>> batch = batches.peekFirst();
+        if (closed || batch == null || !batch.isDone() || batch.isCompletedExceptionally()) {
+            return 0;
+        }
+        List<T> results = batch.join();
+        return results == null ? 0 : results.size();
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        wrapped.setBatchSize(batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return wrapped.getBatchSize();
+    }
+
+    @Nullable
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Nullable
+    @Override
+    public BsonDocument getPostBatchResumeToken() {
+        return wrapped.getPostBatchResumeToken();
+    }
+
+    @Nullable
+    @Override
+    public BsonTimestamp getOperationTime() {
+        return wrapped.getOperationTime();
+    }
+
+    @Override
+    public boolean isFirstBatchEmpty() {
+        return wrapped.isFirstBatchEmpty();
+    }
+
+    @Override
+    public int getMaxWireVersion() {
+        return wrapped.getMaxWireVersion();
+    }
+
+    /**
+     * Starts getting batches in the background until the maximum number of batches is being got, or the wrapped cursor is exhausted.
+     */
+    private void prefetch(final OperationContext operationContext) {
+        CompletableFuture<List<T>> last = batches.peekLast();
+        while (batches.size() < maxPrefetchedBatches && !isExhausted(last)) {
+            last = last == null
+                    ? CompletableFuture.supplyAsync(() -> getNextBatch(operationContext), executor)
+                    : last.thenApplyAsync(previous -> previous == null ? null : getNextBatch(operationContext), executor);
+            batches.addLast(last);
+        }
+    }
+
+    private boolean isExhausted(@Nullable final CompletableFuture<List<T>> batch) {
+        return batch != null && batch.isDone() && !batch.isCompletedExceptionally() && batch.join() == null;
+    }
+
+    @Nullable
+    private List<T> getNextBatch(final OperationContext operationContext) {
+        if (closed || !wrapped.hasNext(operationContext)) {
+            return null;
+        }
+        return wrapped.next(operationContext);
+    }
+
+    @Nullable
+    private static <T> List<T> get(final CompletableFuture<List<T>> batch) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted while waiting for the next batch", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MongoInternalException("Unexpected exception while getting the next batch", cause);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.selector;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.selector.ServerOperationStatistics;
+import com.mongodb.selector.ServerScorer;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * {@linkplain #score(ServerDescription, ServerOperationStatistics) Scores} a server by the 90th percentile of its recent command
+ * latencies, or its round trip time if there are none, multiplied by one more than the number of operations in flight on it.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ *
+ * @see ServerScorer#latencyAndLoad()
+ */
+@Immutable
+public final class LatencyAndLoadServerScorer implements ServerScorer {
+    private static final double LATENCY_PERCENTILE = 90;
+    private static final LatencyAndLoadServerScorer INSTANCE = new LatencyAndLoadServerScorer();
+
+    private LatencyAndLoadServerScorer() {
+    }
+
+    public static LatencyAndLoadServerScorer instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public double score(final ServerDescription serverDescription, final ServerOperationStatistics statistics) {
+        long latencyNanos = statistics.getLatencySampleCount() == 0
+                ? serverDescription.getRoundTripTimeNanos()
+                : statistics.getLatencyPercentile(LATENCY_PERCENTILE, NANOSECONDS);
+        return (double) latencyNanos * (statistics.getInFlightOperationCount() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyAndLoadServerScorer{}";
+    }
+}
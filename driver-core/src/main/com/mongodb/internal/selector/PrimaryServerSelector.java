@@ -40,4 +40,14 @@ public final class PrimaryServerSelector implements ServerSelector {
     public String toString() {
         return "PrimaryServerSelector";
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof PrimaryServerSelector;
+    }
+
+    @Override
+    public int hashCode() {
+        return PrimaryServerSelector.class.hashCode();
+    }
 }
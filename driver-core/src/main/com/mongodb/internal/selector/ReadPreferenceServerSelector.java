@@ -67,4 +67,22 @@ public class ReadPreferenceServerSelector implements ServerSelector {
                + "readPreference=" + readPreference
                + '}';
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ReadPreferenceServerSelector that = (ReadPreferenceServerSelector) o;
+        return readPreference.equals(that.readPreference);
+    }
+
+    @Override
+    public int hashCode() {
+        return readPreference.hashCode();
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.selector;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster.ServersSnapshot;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.selector.ServerOperationStatistics;
+import com.mongodb.selector.ServerScorer;
+import com.mongodb.selector.ServerSelector;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * {@linkplain #select(ClusterDescription) Selects} at most one {@link ServerDescription}
+ * corresponding to a {@link ServersSnapshot#getServer(ServerAddress) server} with the lowest {@link ServerScorer#score score}.
+ * It is used in place of {@link MinimumOperationCountServerSelector} when a {@link ServerScorer} is configured.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class ScoringServerSelector implements ServerSelector {
+    private final ServersSnapshot serversSnapshot;
+    private final ServerScorer serverScorer;
+
+    /**
+     * @param serversSnapshot Must {@linkplain ServersSnapshot#containsServer(ServerAddress) contain} {@link Server}s corresponding to
+     * {@linkplain ClusterDescription#getServerDescriptions() all} {@link ServerDescription}s
+     * in the {@link ClusterDescription} passed to {@link #select(ClusterDescription)}.
+     */
+    public ScoringServerSelector(final ServersSnapshot serversSnapshot, final ServerScorer serverScorer) {
+        this.serversSnapshot = serversSnapshot;
+        this.serverScorer = serverScorer;
+    }
+
+    @Override
+    public List<ServerDescription> select(final ClusterDescription clusterDescription) {
+        ServerDescription selected = null;
+        double selectedScore = Double.POSITIVE_INFINITY;
+        for (ServerDescription serverDescription : clusterDescription.getServerDescriptions()) {
+            double score = serverScorer.score(serverDescription, statistics(
+                    assertNotNull(serversSnapshot.getServer(serverDescription.getAddress()))));
+            if (Double.isNaN(score)) {
+                score = Double.POSITIVE_INFINITY;
+            }
+            if (selected == null || score < selectedScore) {
+                selected = serverDescription;
+                selectedScore = score;
+            }
+        }
+        return selected == null ? emptyList() : singletonList(selected);
+    }
+
+    private static ServerOperationStatistics statistics(final Server server) {
+        ServerOperationStatistics statistics = server.operationStatistics();
+        return statistics != null ? statistics : new OperationCountStatistics(server.operationCount());
+    }
+
+    /**
+     * The statistics of a server that does not track the latencies of its commands.
+     */
+    private static final class OperationCountStatistics implements ServerOperationStatistics {
+        private final int operationCount;
+
+        OperationCountStatistics(final int operationCount) {
+            this.operationCount = Math.max(operationCount, 0);
+        }
+
+        @Override
+        public int getInFlightOperationCount() {
+            return operationCount;
+        }
+
+        @Override
+        public int getLatencySampleCount() {
+            return 0;
+        }
+
+        @Override
+        public long getLatencyPercentile(final double percentile, final TimeUnit timeUnit) {
+            isTrueArgument("percentile is between 0 and 100", percentile >= 0 && percentile <= 100);
+            return 0;
+        }
+    }
+}
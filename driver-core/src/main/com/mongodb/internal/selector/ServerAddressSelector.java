@@ -69,4 +69,22 @@ public class ServerAddressSelector implements ServerSelector {
                + "serverAddress=" + serverAddress
                + '}';
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ServerAddressSelector that = (ServerAddressSelector) o;
+        return serverAddress.equals(that.serverAddress);
+    }
+
+    @Override
+    public int hashCode() {
+        return serverAddress.hashCode();
+    }
 }
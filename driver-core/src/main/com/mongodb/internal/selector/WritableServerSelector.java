@@ -46,4 +46,14 @@ public final class WritableServerSelector implements ServerSelector {
     public String toString() {
         return "WritableServerSelector";
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof WritableServerSelector;
+    }
+
+    @Override
+    public int hashCode() {
+        return WritableServerSelector.class.hashCode();
+    }
 }
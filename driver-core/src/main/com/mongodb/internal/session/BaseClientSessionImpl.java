@@ -179,7 +179,7 @@ public class BaseClientSessionImpl implements ClientSession {
     private BsonDocument greaterOf(@Nullable final BsonDocument newClusterTime) {
         if (newClusterTime == null) {
             return clusterTime;
-        } else if (clusterTime == null) {
+        } else if (clusterTime == null || clusterTime == newClusterTime) {
             return newClusterTime;
         } else {
             return newClusterTime.getTimestamp(CLUSTER_TIME_KEY).compareTo(clusterTime.getTimestamp(CLUSTER_TIME_KEY)) > 0
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.time;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.internal.diagnostics.logging.Logger;
+import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A timer that runs tasks after a delay, for the many short-lived timeouts that are scheduled and then, most of the time, cancelled
+ * before they expire.
+ *
+ * <p>Tasks are kept in a wheel of buckets, one per tick, that a single daemon thread advances through.  Scheduling a task is an
+ * enqueue onto a lock-free queue that the thread drains into the wheel, and cancelling one is a compare-and-set, after which the thread
+ * unlinks it from its bucket, so neither takes a lock or touches a shared data structure that is ordered by deadline.  The price is
+ * that tasks run up to one tick late.  Actions that should not wait for a tick may be {@linkplain #execute(Runnable) executed} on the
+ * timer thread instead.  The thread is only started when the first task is scheduled.</p>
+ *
+ * <p>Tasks run on the timer thread, so they must be short and must not block.  A task that completes an operation does its own
+ * bookkeeping on the timer thread, and hands the continuation of the operation, such as an application callback, to the
+ * {@linkplain #getCallbackExecutor() callback executor} of the timer.  A timer thus has up to {@code 1 + max(2, available processors)}
+ * threads: the timer thread, and the threads of the callback executor, which are started as callbacks are executed and stop once they
+ * have been idle for a minute.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+@ThreadSafe
+public final class HashedWheelTimer implements Executor, AutoCloseable {
+    private static final Logger LOGGER = Loggers.getLogger("timer");
+    private static final int NOT_STARTED = 0;
+    private static final int STARTED = 1;
+    private static final int CLOSED = 2;
+    private static final int MAX_CALLBACK_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final String threadName;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Task> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Task> cancelled = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> immediate = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(NOT_STARTED);
+    private final ThreadPoolExecutor callbackExecutor;
+    private volatile long startNanos;
+    @Nullable
+    private volatile Thread thread;
+
+    /**
+     * @param threadName the name of the timer thread
+     * @param tickDuration the duration of a tick, which is the resolution of the timer
+     * @param unit the unit of the tick duration
+     * @param ticksPerWheel the number of buckets in the wheel, which is rounded up to a power of two
+     */
+    public HashedWheelTimer(final String threadName, final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        isTrueArgument("tickDuration > 0", tickDuration > 0);
+        isTrueArgument("ticksPerWheel > 0 and <= 2^30", ticksPerWheel > 0 && ticksPerWheel <= 1 << 30);
+        this.threadName = threadName;
+        this.tickNanos = unit.toNanos(tickDuration);
+        int wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        wheel = new Bucket[Math.max(wheelSize, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = wheel.length - 1;
+        // the threads are only started when callbacks are executed, and stopped once they are idle; a callback executed after the
+        // executor is shut down runs in the calling thread, so that it is never lost
+        callbackExecutor = new ThreadPoolExecutor(MAX_CALLBACK_THREADS, MAX_CALLBACK_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory(threadName + "-callback"), (callback, executor) -> callback.run());
+        callbackExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules a task to run after a delay.  If the timer is closed, the task never runs.
+     *
+     * @param action the action to run on the timer thread
+     * @param delay the delay, which is treated as zero if negative
+     * @param unit the unit of the delay
+     * @return the task, which may be {@linkplain Task#cancel() cancelled}
+     */
+    public Task schedule(final Runnable action, final long delay, final TimeUnit unit) {
+        start();
+        Task task = new Task(this, action, System.nanoTime() + Math.max(unit.toNanos(delay), 0));
+        scheduled.add(task);
+        if (state.get() == CLOSED) {
+            task.cancel();
+        }
+        return task;
+    }
+
+    /**
+     * Runs an action on the timer thread as soon as possible, without waiting for the end of the current tick.  If the timer is closed,
+     * the action never runs.
+     *
+     * @param action the action
+     */
+    @Override
+    public void execute(final Runnable action) {
+        start();
+        immediate.add(action);
+        Thread localThread = thread;
+        if (localThread != null) {
+            LockSupport.unpark(localThread);
+        }
+    }
+
+    /**
+     * Gets the executor for the continuations of the operations that tasks complete, which must not hold up the timer thread.  It runs
+     * them on a small pool of daemon threads.
+     *
+     * @return the callback executor
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * Stops the timer thread.  The tasks that have not run yet never run, while the callbacks already handed to the
+     * {@linkplain #getCallbackExecutor() callback executor} still run.
+     */
+    @Override
+    public void close() {
+        if (state.getAndSet(CLOSED) != CLOSED) {
+            callbackExecutor.shutdown();
+            Thread localThread = thread;
+            if (localThread != null) {
+                LockSupport.unpark(localThread);
+            }
+        }
+    }
+
+    private void start() {
+        if (state.get() == NOT_STARTED && state.compareAndSet(NOT_STARTED, STARTED)) {
+            startNanos = System.nanoTime();
+            Thread localThread = new Thread(this::run, threadName);
+            localThread.setDaemon(true);
+            thread = localThread;
+            localThread.start();
+        }
+    }
+
+    private void run() {
+        long tick = 0;
+        try {
+            while (state.get() == STARTED) {
+                runImmediate();
+                long tickEndNanos = startNanos + (tick + 1) * tickNanos;
+                long sleepNanos = tickEndNanos - System.nanoTime();
+                if (sleepNanos > 0) {
+                    LockSupport.parkNanos(this, sleepNanos);
+                    continue;
+                }
+                removeCancelled();
+                transferScheduled(tick);
+                wheel[(int) (tick & mask)].expire(System.nanoTime());
+                tick++;
+            }
+        } catch (Throwable t) {
+            LOGGER.error(threadName + " stopped working. You may want to recreate the MongoClient", t);
+            throw t;
+        }
+    }
+
+    private void runImmediate() {
+        Runnable action;
+        while ((action = immediate.poll()) != null) {
+            runSafely(action);
+        }
+    }
+
+    private void runSafely(final Runnable action) {
+        try {
+            action.run();
+        } catch (Throwable t) {
+            LOGGER.warn("An action run on " + threadName + " failed", t);
+        }
+    }
+
+    private void removeCancelled() {
+        Task task;
+        while ((task = cancelled.poll()) != null) {
+            Bucket bucket = task.bucket;
+            if (bucket != null) {
+                bucket.remove(task);
+            }
+        }
+    }
+
+    private void transferScheduled(final long currentTick) {
+        Task task;
+        while ((task = scheduled.poll()) != null) {
+            if (task.state.get() != Task.PENDING) {
+                continue;
+            }
+            long deadlineTick = Math.max((task.deadlineNanos - startNanos) / tickNanos, currentTick);
+            task.remainingRounds = (deadlineTick - currentTick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(task);
+        }
+    }
+
+    /**
+     * A task that was scheduled on a {@link HashedWheelTimer}.
+     */
+    public static final class Task {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable action;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // the fields below are only accessed by the timer thread
+        private long remainingRounds;
+        @Nullable
+        private volatile Bucket bucket;
+        @Nullable
+        private Task previous;
+        @Nullable
+        private Task next;
+
+        private Task(final HashedWheelTimer timer, final Runnable action, final long deadlineNanos) {
+            this.timer = timer;
+            this.action = action;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancels the task, unless it has already run or been cancelled.
+         *
+         * @return true if the task was cancelled by this call, in which case it never runs
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        /**
+         * @return the remaining delay of the task in the given unit, which is negative if the deadline has passed
+         */
+        public long getDelay(final TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), NANOSECONDS);
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            timer.runSafely(action);
+        }
+    }
+
+    /**
+     * A doubly-linked list of tasks, only accessed by the timer thread.
+     */
+    private static final class Bucket {
+        @Nullable
+        private Task head;
+        @Nullable
+        private Task tail;
+
+        void add(final Task task) {
+            task.bucket = this;
+            if (tail == null) {
+                head = task;
+            } else {
+                tail.next = task;
+                task.previous = tail;
+            }
+            tail = task;
+        }
+
+        void remove(final Task task) {
+            Task previous = task.previous;
+            Task next = task.next;
+            if (previous == null) {
+                head = next;
+            } else {
+                previous.next = next;
+            }
+            if (next == null) {
+                tail = previous;
+            } else {
+                next.previous = previous;
+            }
+            task.previous = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        void expire(final long nowNanos) {
+            Task task = head;
+            while (task != null) {
+                Task next = task.next;
+                if (task.remainingRounds <= 0 && task.deadlineNanos <= nowNanos) {
+                    remove(task);
+                    task.expire();
+                } else if (task.remainingRounds > 0) {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+    }
+}
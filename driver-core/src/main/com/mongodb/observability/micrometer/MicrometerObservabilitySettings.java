@@ -23,14 +23,19 @@ import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.annotations.Reason;
 import com.mongodb.lang.Nullable;
 import com.mongodb.observability.ObservabilitySettings;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableSet;
 
 /**
- * The Micrometer Observation settings for tracing operations, commands and transactions.
+ * The Micrometer settings for tracing operations, commands and transactions, and for recording metrics.
  *
  * <p>If tracing is configured by supplying an {@code observationRegistry} then setting the environment variable
  * {@value com.mongodb.internal.observability.micrometer.TracingManager#ENV_OBSERVABILITY_ENABLED} is used to enable or disable the
@@ -42,6 +47,32 @@ import static com.mongodb.assertions.Assertions.notNull;
  * If the environment variable is not set, the entire command payloads are captured (unless a {@code maxQueryTextLength} is specified via
  * the Builder).
  *
+ * <p>If metrics are configured by supplying a {@code meterRegistry} then the driver registers these meters with it, each tagged with
+ * the {@code cluster.id} of the client:</p>
+ * <ul>
+ *     <li>{@code mongodb.driver.commands}: a timer of the latency of commands, tagged with the command name and the database</li>
+ *     <li>{@code mongodb.driver.server.selection}: a timer of the latency of server selection</li>
+ *     <li>{@code mongodb.driver.pool.checkout}: a timer of the time spent waiting to check out a connection from a pool</li>
+ *     <li>{@code mongodb.driver.pool.size}, {@code mongodb.driver.pool.checkedout} and {@code mongodb.driver.pool.waitqueuesize}:
+ *     gauges of the number of connections in a pool, of those in use, and of the threads and tasks waiting for one</li>
+ *     <li>{@code mongodb.driver.connection.io}: counters of the bytes sent and received on connections</li>
+ *     <li>{@code mongodb.driver.compression.ratio}: a distribution of the ratio of uncompressed to compressed message size</li>
+ * </ul>
+ * <p>The timers are also tagged with the {@code outcome} ({@code success} or {@code failure}), and the meters of pools and
+ * connections with the address of the server.</p>
+ *
+ * <p>Meters are never removed while the client is open, except for the gauges of a pool when the pool is closed.  So the number of
+ * meters registered is bounded by the number of distinct tag values:</p>
+ * <ul>
+ *     <li>The commands timer registers two timers, one per outcome, for each pair of command name and database name.  Command names
+ *     come from the application, but database names may come from data, for example with a database per tenant.  So only the first
+ *     100 distinct database names are tagged, and the commands on any other database are tagged with the database name
+ *     {@code other}.  Use {@link Builder#metricsDatabaseNames(Collection)} to choose the database names that are tagged instead.</li>
+ *     <li>The other meters are registered once per client, or once per server.</li>
+ * </ul>
+ * <p>A timer publishes a percentile histogram, with a time series for each of its buckets, only if
+ * {@link Builder#enablePercentileHistograms(boolean)} is set.  There can be a few hundred buckets per timer.</p>
+ *
  * @since 5.7
  */
 @Alpha(Reason.CLIENT)
@@ -62,8 +93,13 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
 
     @Nullable
     private final ObservationRegistry observationRegistry;
+    @Nullable
+    private final MeterRegistry meterRegistry;
     private final int maxQueryTextLength;
     private final boolean enableCommandPayloadTracing;
+    private final boolean enablePercentileHistograms;
+    @Nullable
+    private final Set<String> metricsDatabaseNames;
 
     /**
      * Convenience method to create a Builder.
@@ -92,6 +128,15 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         return observationRegistry;
     }
 
+    /**
+     * @return the meter registry or null
+     * @since 5.7
+     */
+    @Nullable
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
     /**
      * @return true if command payload tracing is enabled
      */
@@ -99,6 +144,23 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         return enableCommandPayloadTracing;
     }
 
+    /**
+     * @return true if the timers publish percentile histograms
+     * @since 5.7
+     */
+    public boolean isEnablePercentileHistograms() {
+        return enablePercentileHistograms;
+    }
+
+    /**
+     * @return the names of the databases that tag the commands timer, or null if the first distinct database names do
+     * @since 5.7
+     */
+    @Nullable
+    public Set<String> getMetricsDatabaseNames() {
+        return metricsDatabaseNames;
+    }
+
     /**
      * @return the maximum length of command payloads captured in tracing spans.
      */
@@ -113,8 +175,13 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
     public static final class Builder {
         @Nullable
         private ObservationRegistry observationRegistry;
+        @Nullable
+        private MeterRegistry meterRegistry;
         private boolean enableCommandPayloadTracing;
         private int maxQueryTextLength = Integer.MAX_VALUE;
+        private boolean enablePercentileHistograms;
+        @Nullable
+        private Set<String> metricsDatabaseNames;
 
         private Builder() {
             if (!OBSERVATION_REGISTRY_AVAILABLE) {
@@ -124,8 +191,11 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         }
         private Builder(final MicrometerObservabilitySettings settings) {
             this.observationRegistry = settings.observationRegistry;
+            this.meterRegistry = settings.meterRegistry;
             this.enableCommandPayloadTracing = settings.enableCommandPayloadTracing;
             this.maxQueryTextLength = settings.maxQueryTextLength;
+            this.enablePercentileHistograms = settings.enablePercentileHistograms;
+            this.metricsDatabaseNames = settings.metricsDatabaseNames;
         }
 
         /**
@@ -139,8 +209,11 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         public MicrometerObservabilitySettings.Builder applySettings(final MicrometerObservabilitySettings settings) {
             notNull("settings", settings);
             observationRegistry = settings.observationRegistry;
+            meterRegistry = settings.meterRegistry;
             enableCommandPayloadTracing = settings.enableCommandPayloadTracing;
             maxQueryTextLength = settings.maxQueryTextLength;
+            enablePercentileHistograms = settings.enablePercentileHistograms;
+            metricsDatabaseNames = settings.metricsDatabaseNames;
             return this;
         }
 
@@ -157,6 +230,50 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
             return this;
         }
 
+        /**
+         * Sets the meter registry to register the metrics of commands, server selection, connection pools and connections with.
+         *
+         * <p>Requires the {@code io.micrometer:micrometer-core} dependency.</p>
+         *
+         * @param meterRegistry the meter registry
+         * @return this
+         * @since 5.7
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder meterRegistry(@Nullable final MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * Sets whether the timers publish percentile histograms, which lets percentiles be aggregated across clients and
+         * applications.  Each histogram adds a time series per bucket for each timer, so this is disabled by default.
+         *
+         * @param enablePercentileHistograms whether the timers publish percentile histograms
+         * @return this
+         * @since 5.7
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder enablePercentileHistograms(final boolean enablePercentileHistograms) {
+            this.enablePercentileHistograms = enablePercentileHistograms;
+            return this;
+        }
+
+        /**
+         * Sets the names of the databases that tag the {@code mongodb.driver.commands} timer.  Commands on any other database are
+         * tagged with the database name {@code other}.  The default is null, which tags the first 100 distinct database names that
+         * commands are sent to.
+         *
+         * @param metricsDatabaseNames the database names, which may be null
+         * @return this
+         * @since 5.7
+         */
+        @Alpha(Reason.CLIENT)
+        public Builder metricsDatabaseNames(@Nullable final Collection<String> metricsDatabaseNames) {
+            this.metricsDatabaseNames = metricsDatabaseNames == null ? null : unmodifiableSet(new HashSet<>(metricsDatabaseNames));
+            return this;
+        }
+
         /**
          * Sets the observation registry to use for creating tracing Spans for operations, commands and transactions.
          *
@@ -188,7 +305,8 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
          * @return the configured settings
          */
         public MicrometerObservabilitySettings build() {
-            return new MicrometerObservabilitySettings(observationRegistry, enableCommandPayloadTracing, maxQueryTextLength);
+            return new MicrometerObservabilitySettings(observationRegistry, meterRegistry, enableCommandPayloadTracing, maxQueryTextLength,
+                    enablePercentileHistograms, metricsDatabaseNames);
         }
     }
 
@@ -199,18 +317,26 @@ public final class MicrometerObservabilitySettings extends ObservabilitySettings
         }
         final MicrometerObservabilitySettings that = (MicrometerObservabilitySettings) o;
         return enableCommandPayloadTracing == that.enableCommandPayloadTracing
-                && Objects.equals(observationRegistry, that.observationRegistry);
+                && enablePercentileHistograms == that.enablePercentileHistograms
+                && Objects.equals(observationRegistry, that.observationRegistry)
+                && Objects.equals(meterRegistry, that.meterRegistry)
+                && Objects.equals(metricsDatabaseNames, that.metricsDatabaseNames);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(observationRegistry, enableCommandPayloadTracing);
+        return Objects.hash(observationRegistry, meterRegistry, enableCommandPayloadTracing, enablePercentileHistograms,
+                metricsDatabaseNames);
     }
 
     private MicrometerObservabilitySettings(@Nullable final ObservationRegistry observationRegistry,
-            final boolean enableCommandPayloadTracing, final int maxQueryTextLength) {
+            @Nullable final MeterRegistry meterRegistry, final boolean enableCommandPayloadTracing, final int maxQueryTextLength,
+            final boolean enablePercentileHistograms, @Nullable final Set<String> metricsDatabaseNames) {
         this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
         this.enableCommandPayloadTracing = enableCommandPayloadTracing;
         this.maxQueryTextLength = maxQueryTextLength;
+        this.enablePercentileHistograms = enablePercentileHistograms;
+        this.metricsDatabaseNames = metricsDatabaseNames;
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.selector;
+
+import com.mongodb.annotations.Sealed;
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics about the operations that the driver is running, and has recently run, on a server.
+ *
+ * <p>The latencies are those of the commands that recently succeeded on the server, measured by the driver from sending each command
+ * to receiving its reply, which is the duration reported by {@link com.mongodb.event.CommandSucceededEvent}.  Latencies that were
+ * recorded too long ago are disregarded, so that a server the driver has stopped sending commands to does not keep its old
+ * latencies forever.</p>
+ *
+ * @see ServerScorer
+ * @since 5.7
+ */
+@Sealed
+@ThreadSafe
+public interface ServerOperationStatistics {
+    /**
+     * Gets an approximation of the number of operations that the server is currently executing.
+     *
+     * @return the number of operations in flight, which is not negative
+     */
+    int getInFlightOperationCount();
+
+    /**
+     * Gets the number of recent command latencies that the statistics have.
+     *
+     * @return the number of latency samples, which is zero if none of the commands that recently succeeded on the server were timed
+     */
+    int getLatencySampleCount();
+
+    /**
+     * Gets a percentile of the recent command latencies.
+     *
+     * @param percentile the percentile, between 0 and 100, for example 50 for the median or 90 for the 90th percentile
+     * @param timeUnit the time unit
+     * @return the latency at the percentile in the given time unit, or zero if {@link #getLatencySampleCount()} is zero
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     */
+    long getLatencyPercentile(double percentile, TimeUnit timeUnit);
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.selector;
+
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.selector.LatencyAndLoadServerScorer;
+
+/**
+ * Scores the servers that the driver chooses between when it selects a server for an operation.
+ *
+ * <p>After applying the read preference, the {@linkplain com.mongodb.connection.ClusterSettings#getServerSelector() server selector}
+ * and the latency window, the driver picks two of the remaining servers at random, and, when a scorer is
+ * {@linkplain com.mongodb.connection.ClusterSettings.Builder#serverScorer(ServerScorer) configured}, selects the one with the lower
+ * score.  Without a scorer, the driver selects the one with fewer operations in flight.</p>
+ *
+ * @see com.mongodb.connection.ClusterSettings.Builder#serverScorer(ServerScorer)
+ * @since 5.7
+ */
+@ThreadSafe
+@FunctionalInterface
+public interface ServerScorer {
+    /**
+     * Scores a server.  Servers with lower scores are preferred.
+     *
+     * <p>This method is called on the server selection path of every operation, so it should be cheap and must not block.</p>
+     *
+     * @param serverDescription the description of the server
+     * @param statistics the statistics about the operations on the server
+     * @return the score
+     */
+    double score(ServerDescription serverDescription, ServerOperationStatistics statistics);
+
+    /**
+     * Gets a scorer that multiplies the 90th percentile of the recent command latencies of a server by one more than the number of
+     * operations in flight on it, which is an estimate of how long a new operation would take on the server.  A server without
+     * recent command latencies is scored using its {@linkplain ServerDescription#getRoundTripTimeNanos() round trip time} instead.
+     *
+     * @return the scorer
+     */
+    static ServerScorer latencyAndLoad() {
+        return LatencyAndLoadServerScorer.instance();
+    }
+}
@@ -480,7 +480,7 @@ public final class ClusterFixture {
                 ServerSettings.builder().build(),
                 ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                 TIMEOUT_SETTINGS.connectionOnly(), streamFactory, TIMEOUT_SETTINGS.connectionOnly(), streamFactory, credential,
-                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), getServerApi(), null);
+                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), getServerApi(), null, null);
     }
 
     private static Cluster createCluster(final ConnectionString connectionString, final StreamFactory streamFactory) {
@@ -494,7 +494,7 @@ public final class ClusterFixture {
                         getSslSettings(connectionString)),
                 connectionString.getCredential(),
                 LoggerSettings.builder().build(), null, null, null,
-                connectionString.getCompressorList(), getServerApi(), null);
+                connectionString.getCompressorList(), getServerApi(), null, null);
     }
 
     public static StreamFactory getStreamFactory() {
@@ -72,6 +72,28 @@ public final class SyncConnection implements Connection {
         return callback.get();
     }
 
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+            final OperationContext operationContext) {
+        SupplyingCallback<T> callback = new SupplyingCallback<>();
+        wrapped.exhaustCommandAsync(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext,
+                callback);
+        return callback.get();
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        SupplyingCallback<T> callback = new SupplyingCallback<>();
+        wrapped.receiveMoreToComeAsync(commandResultDecoder, operationContext, callback);
+        return callback.get();
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return wrapped.hasMoreToCome();
+    }
+
     @Override
     public void markAsPinned(final PinningMode pinningMode) {
         wrapped.markAsPinned(pinningMode);
@@ -25,6 +25,7 @@ import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.connection.SocketSettings;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import com.mongodb.internal.selector.ServerAddressSelector;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import org.bson.BsonDocument;
@@ -69,7 +70,7 @@ public class SingleServerClusterTest {
                         ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                         OPERATION_CONTEXT_FACTORY, streamFactory, OPERATION_CONTEXT_FACTORY, streamFactory, getCredential(),
                         LoggerSettings.builder().build(), null,
-                        Collections.emptyList(), getServerApi(), false), CLIENT_METADATA);
+                        Collections.emptyList(), getServerApi(), false, MetricsRecorder.NO_OP), CLIENT_METADATA);
     }
 
     @After
@@ -23,6 +23,7 @@ import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AsyncTransportSettingsTest {
 
@@ -31,6 +32,7 @@ class AsyncTransportSettingsTest {
         AsyncTransportSettings settings = TransportSettings.asyncBuilder().build();
 
         assertNull(settings.getExecutorService());
+        assertEquals(0, settings.getMaxDirectBufferPoolSize());
     }
 
     @Test
@@ -38,8 +40,15 @@ class AsyncTransportSettingsTest {
         ExecutorService executorService = Executors.newFixedThreadPool(1);
         AsyncTransportSettings settings = TransportSettings.asyncBuilder()
                 .executorService(executorService)
+                .maxDirectBufferPoolSize(64 * 1024 * 1024)
                 .build();
 
         assertEquals(executorService, settings.getExecutorService());
+        assertEquals(64 * 1024 * 1024, settings.getMaxDirectBufferPoolSize());
+    }
+
+    @Test
+    public void shouldRejectNegativeMaxDirectBufferPoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> TransportSettings.asyncBuilder().maxDirectBufferPoolSize(-1));
     }
 }
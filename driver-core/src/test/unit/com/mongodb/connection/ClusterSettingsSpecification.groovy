@@ -21,6 +21,7 @@ import com.mongodb.ServerAddress
 import com.mongodb.UnixServerAddress
 import com.mongodb.event.ClusterListener
 import com.mongodb.internal.selector.WritableServerSelector
+import com.mongodb.selector.ServerScorer
 import spock.lang.Specification
 
 import java.util.concurrent.TimeUnit
@@ -39,6 +40,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.requiredClusterType == ClusterType.UNKNOWN
         settings.requiredReplicaSetName == null
         settings.serverSelector == null
+        settings.serverScorer == null
         settings.getServerSelectionTimeout(TimeUnit.SECONDS) == 30
         settings.clusterListeners == []
         settings.srvMaxHosts == null
@@ -57,6 +59,7 @@ class ClusterSettingsSpecification extends Specification {
                                       .requiredReplicaSetName('foo')
                                       .localThreshold(1, TimeUnit.SECONDS)
                                       .serverSelector(serverSelector)
+                                      .serverScorer(ServerScorer.latencyAndLoad())
                                       .serverSelectionTimeout(1, TimeUnit.SECONDS)
                                       .addClusterListener(listenerOne)
                                       .addClusterListener(listenerTwo)
@@ -68,6 +71,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.requiredClusterType == ClusterType.REPLICA_SET
         settings.requiredReplicaSetName == 'foo'
         settings.serverSelector == serverSelector
+        settings.serverScorer == ServerScorer.latencyAndLoad()
         settings.getServerSelectionTimeout(TimeUnit.MILLISECONDS) == 1000
         settings.clusterListeners == [listenerOne, listenerTwo]
 
@@ -89,6 +93,7 @@ class ClusterSettingsSpecification extends Specification {
                 .requiredClusterType(ClusterType.REPLICA_SET)
                 .requiredReplicaSetName('foo')
                 .serverSelector(serverSelector)
+                .serverScorer(ServerScorer.latencyAndLoad())
                 .localThreshold(10, TimeUnit.MILLISECONDS)
                 .serverSelectionTimeout(1, TimeUnit.SECONDS)
                 .addClusterListener(listenerOne)
@@ -132,6 +132,12 @@ class ConnectionPoolSettingsSpecification extends Specification {
 
         then:
         thrown(IllegalStateException)
+
+        when:
+        ConnectionPoolSettings.builder().maxConcurrentRequestsPerConnection(0).build()
+
+        then:
+        thrown(IllegalStateException)
     }
 
     def 'settings with same values should be equal'() {
@@ -183,6 +189,7 @@ class ConnectionPoolSettingsSpecification extends Specification {
                 .maintenanceInitialDelay(5, SECONDS)
                 .maintenanceFrequency(1000, SECONDS)
                 .maxConnecting(1)
+                .maxConcurrentRequestsPerConnection(8)
                 .build()
 
         expect:
@@ -220,6 +227,7 @@ class ConnectionPoolSettingsSpecification extends Specification {
     def 'different settings should not be equal'() {
         expect:
         ConnectionPoolSettings.builder().maxWaitTime(5, SECONDS).build() != ConnectionPoolSettings.builder().maxWaitTime(2, SECONDS).build()
+        ConnectionPoolSettings.builder().maxConcurrentRequestsPerConnection(8).build() != ConnectionPoolSettings.builder().build()
     }
 
     def 'identical settings should have same hash code'() {
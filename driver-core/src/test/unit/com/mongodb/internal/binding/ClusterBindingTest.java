@@ -0,0 +1,87 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.binding;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.internal.connection.ServerTuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.mongodb.ClusterFixture.OPERATION_CONTEXT;
+import static com.mongodb.connection.ServerConnectionState.CONNECTED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClusterBindingTest {
+    private Server server;
+    private ClusterBinding binding;
+
+    @BeforeEach
+    void setUp() {
+        server = mock(Server.class);
+        Cluster cluster = mock(Cluster.class);
+        ServerDescription serverDescription = ServerDescription.builder().address(new ServerAddress()).state(CONNECTED).build();
+        when(cluster.selectServer(any(), any())).thenReturn(new ServerTuple(server, serverDescription));
+        binding = new ClusterBinding(cluster, ReadPreference.primary());
+    }
+
+    @Test
+    void readsShouldUseMultiplexedConnections() {
+        getReadConnection(OPERATION_CONTEXT);
+
+        verify(server).getMultiplexedReadConnection(any());
+        verify(server, never()).getConnection(any());
+    }
+
+    @Test
+    void readsThatRequireDedicatedConnectionShouldNotUseMultiplexedConnections() {
+        getReadConnection(OPERATION_CONTEXT.withDedicatedConnection());
+
+        verify(server, never()).getMultiplexedReadConnection(any());
+        verify(server).getConnection(any());
+    }
+
+    @Test
+    void writesShouldNotUseMultiplexedConnections() {
+        ConnectionSource source = binding.getWriteConnectionSource(OPERATION_CONTEXT);
+        try {
+            source.getConnection(OPERATION_CONTEXT);
+        } finally {
+            source.release();
+        }
+
+        verify(server, never()).getMultiplexedReadConnection(any());
+        verify(server).getConnection(any());
+    }
+
+    private void getReadConnection(final OperationContext operationContext) {
+        ConnectionSource source = binding.getReadConnectionSource(operationContext);
+        try {
+            source.getConnection(operationContext);
+        } finally {
+            source.release();
+        }
+    }
+}
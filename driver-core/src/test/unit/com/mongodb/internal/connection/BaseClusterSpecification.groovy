@@ -325,6 +325,32 @@ class BaseClusterSpecification extends Specification {
         serverSelectionTimeoutMS << [500, -1]
     }
 
+    def 'should select server asynchronously for each of the requests waiting with equal selectors'() {
+        given:
+        def cluster = new MultiServerCluster(new ClusterId(),
+                builder().mode(MULTIPLE)
+                        .hosts([firstServer, secondServer, thirdServer])
+                        .build(),
+                factory, CLIENT_METADATA)
+
+        when:
+        def firstServerLatches = (1..10).collect { selectServerAsync(cluster, firstServer, -1) }
+        def secondServerLatch = selectServerAsync(cluster, secondServer, 500)
+        factory.sendNotification(firstServer, REPLICA_SET_SECONDARY, allServers)
+
+        then:
+        firstServerLatches.every { it.getDescription().address == firstServer }
+
+        when:
+        secondServerLatch.get()
+
+        then:
+        thrown(MongoTimeoutException)
+
+        cleanup:
+        cluster?.close()
+    }
+
     def 'when selecting server asynchronously should send MongoClientException to callback if cluster is closed before success'() {
         given:
         def cluster = new MultiServerCluster(new ClusterId(),
@@ -20,6 +20,11 @@ import org.bson.BsonDocument
 import org.bson.BsonTimestamp
 import spock.lang.Specification
 
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
 
 class ClusterClockSpecification extends Specification {
     def 'should advance cluster time'() {
@@ -61,4 +66,31 @@ class ClusterClockSpecification extends Specification {
         then:
         clock.getCurrent() == secondClusterTime
     }
+
+    def 'should advance to the greatest cluster time when advanced concurrently'() {
+        given:
+        def clock = new ClusterClock()
+        def threads = 8
+        def executor = Executors.newFixedThreadPool(threads)
+        def start = new CountDownLatch(1)
+
+        when:
+        def futures = (0..<threads).collect { thread ->
+            executor.submit({
+                start.await()
+                for (int i = 0; i < 10000; i++) {
+                    clock.advance(new BsonDocument('clusterTime', new BsonTimestamp(i, thread)))
+                }
+            } as Callable)
+        }
+        start.countDown()
+        futures*.get(1, TimeUnit.MINUTES)
+
+        then:
+        clock.getClusterTime() == new BsonTimestamp(9999, threads - 1)
+        clock.getCurrent() == new BsonDocument('clusterTime', new BsonTimestamp(9999, threads - 1))
+
+        cleanup:
+        executor.shutdownNow()
+    }
 }
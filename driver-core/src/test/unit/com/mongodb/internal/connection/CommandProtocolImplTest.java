@@ -0,0 +1,53 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.validator.NoOpFieldNameValidator;
+import org.bson.BsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import static com.mongodb.ReadPreference.primary;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandProtocolImplTest {
+    private static final OperationContext OPERATION_CONTEXT =
+            OperationContext.simpleOperationContext(new TimeoutContext(TimeoutSettings.DEFAULT));
+
+    @Test
+    void shouldWaitOnServerForGetMoresOfCursorsWithDedicatedConnections() {
+        BsonDocument getMore = BsonDocument.parse("{getMore: {$numberLong: '1'}, collection: 'coll'}");
+        assertTrue(protocol(getMore, OPERATION_CONTEXT.withDedicatedConnection()).mayWaitOnServer());
+        assertFalse(protocol(getMore, OPERATION_CONTEXT).mayWaitOnServer());
+        assertFalse(protocol(BsonDocument.parse("{find: 'coll'}"), OPERATION_CONTEXT.withDedicatedConnection()).mayWaitOnServer());
+    }
+
+    @Test
+    void shouldWaitOnServerForCommandsWithMaxAwaitTime() {
+        assertTrue(protocol(BsonDocument.parse("{aggregate: 'coll', maxAwaitTimeMS: 100}"), OPERATION_CONTEXT).mayWaitOnServer());
+        assertFalse(protocol(BsonDocument.parse("{aggregate: 'coll', maxTimeMS: 100}"), OPERATION_CONTEXT).mayWaitOnServer());
+    }
+
+    private static CommandProtocolImpl<BsonDocument> protocol(final BsonDocument command, final OperationContext operationContext) {
+        return new CommandProtocolImpl<>("db", command, NoOpFieldNameValidator.INSTANCE, primary(), new BsonDocumentCodec(), true,
+                MessageSequences.EmptyMessageSequences.INSTANCE, ClusterConnectionMode.SINGLE, operationContext);
+    }
+}
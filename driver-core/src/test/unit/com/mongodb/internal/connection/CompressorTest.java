@@ -0,0 +1,133 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import com.mongodb.internal.ResourceUtil;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompressorTest {
+    private static final int MESSAGE_SIZE = 300_000;
+
+    @Test
+    void zlibShouldRoundTrip() {
+        assertRoundTrip(new ZlibCompressor(MongoCompressor.createZlibCompressor()));
+    }
+
+    @Test
+    void zlibShouldRejectMessageLargerThanItsUncompressedSize() {
+        ZlibCompressor compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor());
+        PowerOfTwoBufferPool bufferPool = new PowerOfTwoBufferPool();
+        ByteBuf compressed = compress(compressor, createMessage(), bufferPool);
+        try {
+            ByteBuf uncompressed = new ByteBufNIO(ByteBuffer.allocate(MESSAGE_SIZE - 1));
+            assertThrows(MongoInternalException.class, () -> compressor.uncompress(compressed, uncompressed));
+        } finally {
+            compressed.release();
+            compressor.close();
+        }
+    }
+
+    @Test
+    void snappyShouldRoundTrip() {
+        assertRoundTrip(new SnappyCompressor());
+    }
+
+    @Test
+    void zstdShouldRoundTrip() {
+        assertRoundTrip(new ZstdCompressor(MongoCompressor.createZstdCompressor()));
+    }
+
+    private static void assertRoundTrip(final Compressor compressor) {
+        try {
+            assertRoundTrip(compressor, new PowerOfTwoBufferPool());
+            PowerOfTwoBufferPool directBufferPool = PowerOfTwoBufferPool.direct(1 << 26);
+            try {
+                assertRoundTrip(compressor, directBufferPool);
+            } finally {
+                directBufferPool.disablePruning();
+            }
+        } finally {
+            compressor.close();
+        }
+    }
+
+    private static void assertRoundTrip(final Compressor compressor, final PowerOfTwoBufferPool bufferPool) {
+        byte[] message = createMessage();
+        // compress the same message twice, to check that state reused from the first message does not affect the second
+        for (int i = 0; i < 2; i++) {
+            ByteBuf compressed = compress(compressor, message, bufferPool);
+            ByteBuf uncompressed = bufferPool.getBuffer(message.length);
+            try {
+                compressor.uncompress(compressed, uncompressed);
+                uncompressed.flip();
+                byte[] actual = new byte[uncompressed.remaining()];
+                uncompressed.get(actual);
+                assertArrayEquals(message, actual);
+            } finally {
+                compressed.release();
+                uncompressed.release();
+            }
+        }
+    }
+
+    private static ByteBuf compress(final Compressor compressor, final byte[] message, final PowerOfTwoBufferPool bufferPool) {
+        try (ByteBufferBsonOutput source = new ByteBufferBsonOutput(bufferPool);
+             ByteBufferBsonOutput target = new ByteBufferBsonOutput(bufferPool)) {
+            source.writeBytes(message);
+            List<ByteBuf> sourceBuffers = source.getByteBuffers();
+            try {
+                compressor.compress(sourceBuffers, target);
+            } finally {
+                ResourceUtil.release(sourceBuffers);
+            }
+
+            ByteBuf compressed = bufferPool.getBuffer(target.getSize());
+            List<ByteBuf> targetBuffers = target.getByteBuffers();
+            try {
+                for (ByteBuf cur : targetBuffers) {
+                    byte[] bytes = new byte[cur.remaining()];
+                    cur.get(bytes);
+                    compressed.put(bytes, 0, bytes.length);
+                }
+            } finally {
+                ResourceUtil.release(targetBuffers);
+            }
+            return compressed.flip();
+        }
+    }
+
+    private static byte[] createMessage() {
+        // compressible, but not trivially so
+        byte[] message = new byte[MESSAGE_SIZE];
+        Random random = new Random(42);
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return message;
+    }
+}
@@ -21,9 +21,18 @@ import com.mongodb.MongoTimeoutException;
 import org.junit.Test;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -72,6 +81,50 @@ public class ConcurrentPoolTest {
         assertTrue(pool.acquirePermit(-1, MILLISECONDS));
     }
 
+    @Test
+    public void testThatReleaseWakesUpWaitingGet() throws Exception {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        TestCloseable closeable = pool.get();
+        CompletableFuture<TestCloseable> waitingGet = CompletableFuture.supplyAsync(() -> pool.get(10, SECONDS));
+
+        Thread.sleep(100);
+        assertFalse(waitingGet.isDone());
+        pool.release(closeable);
+
+        assertEquals(closeable, waitingGet.get(10, SECONDS));
+    }
+
+    @Test
+    public void testThatConcurrentGetsAndReleasesDoNotExceedMaxSize() throws Exception {
+        int maxSize = 4;
+        pool = new ConcurrentPool<>(maxSize, new TestItemFactory());
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        TestCloseable closeable = pool.get(10, SECONDS);
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        inUse.decrementAndGet();
+                        pool.release(closeable);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxInUse.get() <= maxSize);
+        assertEquals(0, pool.getInUseCount());
+        assertTrue(pool.getAvailableCount() <= maxSize);
+    }
+
     @Test
     public void testInUseCount() {
         pool = new ConcurrentPool<>(3, new TestItemFactory());
@@ -23,6 +23,7 @@ import com.mongodb.connection.ServerId;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.ServerListener;
 import com.mongodb.internal.inject.SameObjectProvider;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -65,6 +66,11 @@ public class DefaultTestClusterableServerFactory implements ClusterableServerFac
         return settings;
     }
 
+    @Override
+    public MetricsRecorder getMetricsRecorder() {
+        return MetricsRecorder.NO_OP;
+    }
+
 
     public void sendNotification(final ServerAddress serverAddress, final ServerDescription serverDescription) {
         serverAddressToServerMonitorMap.get(serverAddress).updateServerDescription(serverDescription);
@@ -16,13 +16,18 @@
 
 package com.mongodb.internal.connection
 
+import org.bson.BinaryVector
 import org.bson.BsonArray
+import org.bson.BsonBinary
 import org.bson.BsonBinaryReader
 import org.bson.BsonBinaryWriter
 import org.bson.BsonDocument
+import org.bson.BsonInt32
 import org.bson.BsonObjectId
+import org.bson.Document
 import org.bson.codecs.BsonDocumentCodec
 import org.bson.codecs.DecoderContext
+import org.bson.codecs.DocumentCodec
 import org.bson.codecs.EncoderContext
 import org.bson.io.BasicOutputBuffer
 import org.bson.io.BsonOutput
@@ -33,6 +38,7 @@ import static org.bson.BsonHelper.getBsonValues
 
 class IdHoldingBsonWriterSpecification extends Specification {
     private static final OBJECT_ID = new BsonObjectId()
+    private static final VECTOR = BinaryVector.floatVector([1.5f, -2.0f, 3.25f] as float[])
 
     def 'should write all types'() {
         given:
@@ -132,6 +138,27 @@ class IdHoldingBsonWriterSpecification extends Specification {
         ].combinations()
     }
 
+    def 'should hold vector _id values written with writeBinaryVector'() {
+        given:
+        def bsonBinaryWriter = new BsonBinaryWriter(new BasicOutputBuffer())
+        def idTrackingBsonWriter = new IdHoldingBsonWriter(bsonBinaryWriter, fallbackId)
+
+        when:
+        new DocumentCodec().encode(idTrackingBsonWriter, new Document('_id', id).append('x', 1), EncoderContext.builder().build())
+        def encodedDocument = getEncodedDocument(bsonBinaryWriter.getBsonOutput())
+
+        then:
+        encodedDocument == new BsonDocument('_id', expectedId).append('x', new BsonInt32(1))
+        idTrackingBsonWriter.getId() == expectedId
+
+        where:
+        id                             | expectedId                                                     | fallbackId
+        VECTOR                         | new BsonBinary(VECTOR)                                         | null
+        VECTOR                         | new BsonBinary(VECTOR)                                         | OBJECT_ID
+        new Document('v', VECTOR)      | new BsonDocument('v', new BsonBinary(VECTOR))                  | null
+        new Document('a', [VECTOR])    | new BsonDocument('a', new BsonArray([new BsonBinary(VECTOR)])) | OBJECT_ID
+    }
+
     private static BsonDocument getEncodedDocument(BsonOutput buffer) {
         new BsonDocumentCodec().decode(new BsonBinaryReader(buffer.getByteBuffers().get(0).asNIO()),
                 DecoderContext.builder().build())
@@ -44,6 +44,7 @@ import com.mongodb.internal.session.SessionContext
 import com.mongodb.internal.validator.NoOpFieldNameValidator
 import org.bson.BsonDocument
 import org.bson.BsonInt32
+import org.bson.BsonInt64
 import org.bson.BsonReader
 import org.bson.BsonString
 import org.bson.ByteBufNIO
@@ -764,6 +765,33 @@ class InternalStreamConnectionSpecification extends Specification {
                         new BsonDocument('ok', new BsonInt32(1)), 1000)])
     }
 
+    def 'should send events for each reply streamed to an exhaust command'() {
+        given:
+        def connection = getOpenedConnection()
+        def getMoreCommandDocument = new BsonDocument('getMore', new BsonInt64(1)).append('collection', new BsonString('coll'))
+        def commandMessage = new CommandMessage(database, getMoreCommandDocument, fieldNameValidator, primary(), messageSettings, true,
+                MULTIPLE, null)
+        stream.getBuffer(1024) >> { new ByteBufNIO(ByteBuffer.wrap(new byte[1024])) }
+        stream.read(16, _) >>> [helper.opMsgHeader(4, commandMessage.getId(), '{ok: 1}'), helper.opMsgHeader(5, 4, '{ok: 1}')]
+        stream.read(18, _) >>> [helper.opMsgReply('{ok: 1}', true), helper.opMsgReply('{ok: 1}', false)]
+
+        when:
+        connection.sendAndReceive(commandMessage, new BsonDocumentCodec(), OPERATION_CONTEXT)
+        connection.receive(new BsonDocumentCodec(), OPERATION_CONTEXT)
+
+        then:
+        !connection.hasMoreToCome()
+        commandListener.eventsWereDelivered([
+                new CommandStartedEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        getMoreCommandDocument.clone().append('$db', new BsonString('admin'))),
+                new CommandSucceededEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        new BsonDocument('ok', new BsonInt32(1)), 1000),
+                new CommandStartedEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        getMoreCommandDocument.clone().append('$db', new BsonString('admin'))),
+                new CommandSucceededEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        new BsonDocument('ok', new BsonInt32(1)), 1000)])
+    }
+
     def 'should extract cluster and operation time into session context'() {
         given:
         def connection = getOpenedConnection()
@@ -1016,6 +1044,47 @@ class InternalStreamConnectionSpecification extends Specification {
                         new BsonDocument('ok', new BsonInt32(1)), 1000)])
     }
 
+    def 'should send events for each reply streamed to an asynchronous exhaust command'() {
+        given:
+        def connection = getOpenedConnection()
+        def getMoreCommandDocument = new BsonDocument('getMore', new BsonInt64(1)).append('collection', new BsonString('coll'))
+        def commandMessage = new CommandMessage(database, getMoreCommandDocument, fieldNameValidator, primary(), messageSettings, true,
+                MULTIPLE, null)
+        def callback = new FutureResultCallback()
+        def moreToComeCallback = new FutureResultCallback()
+        def headers = [helper.opMsgHeader(4, commandMessage.getId(), '{ok: 1}'), helper.opMsgHeader(5, 4, '{ok: 1}')]
+        def replies = [helper.opMsgReply('{ok: 1}', true), helper.opMsgReply('{ok: 1}', false)]
+
+        stream.getBuffer(1024) >> { new ByteBufNIO(ByteBuffer.wrap(new byte[1024])) }
+        stream.writeAsync(_, _, _) >> { buffers, operationContext, handler ->
+            handler.completed(null)
+        }
+        stream.readAsync(16, _, _) >> { numBytes, operationContext, handler ->
+            handler.completed(headers.remove(0))
+        }
+        stream.readAsync(18, _, _) >> { numBytes, operationContext, handler ->
+            handler.completed(replies.remove(0))
+        }
+
+        when:
+        connection.sendAndReceiveAsync(commandMessage, new BsonDocumentCodec(), OPERATION_CONTEXT, callback)
+        callback.get()
+        connection.receiveAsync(new BsonDocumentCodec(), OPERATION_CONTEXT, moreToComeCallback)
+        moreToComeCallback.get()
+
+        then:
+        !connection.hasMoreToCome()
+        commandListener.eventsWereDelivered([
+                new CommandStartedEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        getMoreCommandDocument.clone().append('$db', new BsonString('admin'))),
+                new CommandSucceededEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        new BsonDocument('ok', new BsonInt32(1)), 1000),
+                new CommandStartedEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        getMoreCommandDocument.clone().append('$db', new BsonString('admin'))),
+                new CommandSucceededEvent(null, 1, 1, connection.getDescription(), 'admin', 'getMore',
+                        new BsonDocument('ok', new BsonInt32(1)), 1000)])
+    }
+
     def 'should send events for successful asynchronous command with decoding error'() {
         given:
         def connection = getOpenedConnection()
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.internal.connection.OperationContext.simpleOperationContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiplexedConnectionPoolTest {
+    private static final OperationContext OPERATION_CONTEXT = simpleOperationContext(TimeoutSettings.DEFAULT, null);
+
+    private final RecordingConnectionPool connectionPool = new RecordingConnectionPool();
+    private final MultiplexedConnectionPool multiplexedConnectionPool = new MultiplexedConnectionPool(connectionPool, 2);
+
+    @Test
+    void shouldShareConnectionUpToTheMaximumNumberOfConcurrentRequests() {
+        InternalConnection first = multiplexedConnectionPool.get(OPERATION_CONTEXT);
+        InternalConnection second = multiplexedConnectionPool.get(OPERATION_CONTEXT);
+        InternalConnection third = multiplexedConnectionPool.get(OPERATION_CONTEXT);
+
+        assertEquals(2, connectionPool.checkedOut.size());
+        assertSame(first.getDescription(), second.getDescription());
+        assertNotSame(first.getDescription(), third.getDescription());
+    }
+
+    @Test
+    void shouldCheckConnectionBackInOnceIdle() {
+        InternalConnection first = multiplexedConnectionPool.get(OPERATION_CONTEXT);
+        InternalConnection second = multiplexedConnectionPool.get(OPERATION_CONTEXT);
+        InternalConnection pooledConnection = connectionPool.checkedOut.get(0);
+
+        first.close();
+        first.close();
+        assertFalse(pooledConnection.isClosed());
+        second.close();
+        assertTrue(pooledConnection.isClosed());
+
+        multiplexedConnectionPool.get(OPERATION_CONTEXT);
+        assertEquals(2, connectionPool.checkedOut.size());
+    }
+
+    @Test
+    void shouldNotShareConnectionOfAnOlderGeneration() {
+        multiplexedConnectionPool.get(OPERATION_CONTEXT);
+        connectionPool.generation++;
+
+        multiplexedConnectionPool.get(OPERATION_CONTEXT);
+
+        assertEquals(2, connectionPool.checkedOut.size());
+    }
+
+    private static final class RecordingConnectionPool implements ConnectionPool {
+        private final List<InternalConnection> checkedOut = new ArrayList<>();
+        private int generation;
+
+        @Override
+        public InternalConnection get(final OperationContext operationContext) {
+            TestInternalConnection connection = new TestInternalConnection(new ServerId(new ClusterId(), new ServerAddress()));
+            checkedOut.add(connection);
+            return connection;
+        }
+
+        @Override
+        public void getAsync(final OperationContext operationContext, final SingleResultCallback<InternalConnection> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void invalidate(@Nullable final Throwable cause) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void invalidate(final ObjectId serviceId, final int generation) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void ready() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int getGeneration() {
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class OperationLatencyWindowTest {
+    @Test
+    void shouldBeEmptyUntilRecorded() {
+        OperationLatencyWindow window = new OperationLatencyWindow();
+        assertEquals(0, window.sampleCount(0));
+        assertEquals(0, window.percentileNanos(50, 0));
+    }
+
+    @Test
+    void shouldCalculateNearestRankPercentiles() {
+        OperationLatencyWindow window = new OperationLatencyWindow();
+        for (int latency : new int[] {50, 10, 40, 20, 30}) {
+            window.record(latency, 0);
+        }
+
+        assertEquals(5, window.sampleCount(0));
+        assertEquals(10, window.percentileNanos(0, 0));
+        assertEquals(10, window.percentileNanos(20, 0));
+        assertEquals(30, window.percentileNanos(50, 0));
+        assertEquals(50, window.percentileNanos(90, 0));
+        assertEquals(50, window.percentileNanos(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> window.percentileNanos(101, 0));
+        assertThrows(IllegalArgumentException.class, () -> window.percentileNanos(-1, 0));
+    }
+
+    @Test
+    void shouldKeepOnlyTheMostRecentLatencies() {
+        OperationLatencyWindow window = new OperationLatencyWindow();
+        for (int i = 0; i < OperationLatencyWindow.CAPACITY; i++) {
+            window.record(1000, 0);
+        }
+        for (int i = 0; i < OperationLatencyWindow.CAPACITY; i++) {
+            window.record(1, 0);
+        }
+
+        assertEquals(OperationLatencyWindow.CAPACITY, window.sampleCount(0));
+        assertEquals(1, window.percentileNanos(100, 0));
+    }
+
+    @Test
+    void shouldDisregardLatenciesRecordedTooLongAgo() {
+        OperationLatencyWindow window = new OperationLatencyWindow();
+        long recordedNanos = 42;
+        window.record(1000, recordedNanos);
+
+        long maxAgeNanos = SECONDS.toNanos(OperationLatencyWindow.MAX_AGE_SECONDS);
+        assertEquals(1, window.sampleCount(recordedNanos + maxAgeNanos));
+        assertEquals(0, window.sampleCount(recordedNanos + maxAgeNanos + 1));
+        assertEquals(0, window.percentileNanos(50, recordedNanos + maxAgeNanos + 1));
+    }
+}
@@ -21,11 +21,17 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class PowerOfTwoBufferPoolTest {
     private PowerOfTwoBufferPool pool;
@@ -65,6 +71,77 @@ public class PowerOfTwoBufferPoolTest {
         assertSame(byteBuffer, pool.getBuffer((int) Math.pow(2, 10)).asNIO());
     }
 
+    @Test
+    public void testReuseBeyondStripedCacheCapacity() {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(17);
+        for (int size : new int[] {1 << 10, 1 << 17}) {
+            Map<ByteBuffer, Boolean> released = new IdentityHashMap<>();
+            List<ByteBuf> bufs = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                bufs.add(pool.getBuffer(size));
+            }
+            for (ByteBuf buf : bufs) {
+                released.put(buf.asNIO(), true);
+                buf.release();
+            }
+            for (int i = 0; i < 10; i++) {
+                assertTrue(released.containsKey(pool.getBuffer(size).asNIO()));
+            }
+        }
+    }
+
+    @Test
+    public void testDirectBuffers() {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 1, TimeUnit.MINUTES, 2048);
+        ByteBuf first = pool.getBuffer(1024);
+        ByteBuf second = pool.getBuffer(1000);
+        assertTrue(first.asNIO().isDirect());
+        assertTrue(second.asNIO().isDirect());
+        assertEquals(2048, pool.getDirectSize());
+
+        ByteBuf overBudget = pool.getBuffer(1024);
+        assertFalse(overBudget.asNIO().isDirect());
+        assertEquals(2048, pool.getDirectSize());
+
+        ByteBuffer firstByteBuffer = first.asNIO();
+        first.release();
+        overBudget.release();
+        assertSame(firstByteBuffer, pool.getBuffer(1024).asNIO());
+        assertFalse(pool.getBuffer(1024).asNIO().isDirect());
+    }
+
+    @Test
+    public void testDirectBufferPruningReleasesBudget() throws InterruptedException {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 5, TimeUnit.MILLISECONDS, 1024).enablePruning();
+        try {
+            pool.getBuffer(1024).release();
+            assertEquals(1024, pool.getDirectSize());
+            Thread.sleep(50);
+            assertEquals(0, pool.getDirectSize());
+        } finally {
+            pool.disablePruning();
+        }
+    }
+
+    // Racy test
+    @Test
+    public void testUnreleasedDirectBufferReleasesBudgetWhenCollected() throws InterruptedException {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 1, TimeUnit.MINUTES, 1024);
+        assertTrue(pool.getBuffer(1024).asNIO().isDirect());
+        assertEquals(1024, pool.getDirectSize());
+
+        boolean direct = false;
+        for (int i = 0; i < 100 && !direct; i++) {
+            System.gc();
+            Thread.sleep(10);
+            ByteBuf buf = pool.getBuffer(1024);
+            direct = buf.asNIO().isDirect();
+            buf.release();
+        }
+        assertTrue(direct);
+        assertEquals(1024, pool.getDirectSize());
+    }
+
     @Test
     public void testHugeBufferRequest() {
         ByteBuf buf = pool.getBuffer((int) Math.pow(2, 10) + 1);
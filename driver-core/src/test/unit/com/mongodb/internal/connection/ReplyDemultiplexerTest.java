@@ -0,0 +1,171 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInternalException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import static com.mongodb.internal.connection.MessageHelper.buildSuccessfulReply;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplyDemultiplexerTest {
+    private final AtomicBoolean connectionClosed = new AtomicBoolean();
+    private final ReplyDemultiplexer demultiplexer = new ReplyDemultiplexer(new ServerAddress(), () -> connectionClosed.set(true));
+
+    @Test
+    void shouldDeliverRepliesReadOutOfOrderToTheirRequests() throws Exception {
+        demultiplexer.register(1);
+        demultiplexer.register(2);
+
+        ResponseBuffers second = demultiplexer.receive(2, 0, replies(1, 2));
+        ResponseBuffers first = demultiplexer.receive(1, 0, ReplyDemultiplexerTest::noRead);
+
+        assertEquals(2, second.getReplyHeader().getResponseTo());
+        assertEquals(1, first.getReplyHeader().getResponseTo());
+        second.close();
+        first.close();
+    }
+
+    @Test
+    void shouldDiscardReplyToAbandonedRequest() throws Exception {
+        demultiplexer.register(1);
+        demultiplexer.register(2);
+        demultiplexer.abandon(1);
+
+        try (ResponseBuffers reply = demultiplexer.receive(2, 0, replies(1, 2))) {
+            assertEquals(2, reply.getReplyHeader().getResponseTo());
+        }
+    }
+
+    @Test
+    void shouldFailAllRequestsOnUnexpectedReply() {
+        demultiplexer.register(1);
+        demultiplexer.register(2);
+
+        assertThrows(MongoInternalException.class, () -> demultiplexer.receive(1, 0, replies(3)));
+        assertTrue(connectionClosed.get());
+        assertThrows(MongoSocketReadException.class, () -> demultiplexer.receive(2, 0, ReplyDemultiplexerTest::noRead));
+    }
+
+    @Test
+    void shouldTimeOutWhileAnotherRequestIsReading() throws Exception {
+        demultiplexer.register(1);
+        demultiplexer.register(2);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch replyArrived = new CountDownLatch(1);
+        ReplyDemultiplexer.ReplyReader replies = replies(2, 1);
+        CompletableFuture<ResponseBuffers> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return demultiplexer.receive(1, 0, (startTimeoutMS, remainingTimeoutMS) -> {
+                    readStarted.countDown();
+                    try {
+                        replyArrived.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return replies.read(startTimeoutMS, remainingTimeoutMS);
+                });
+            } catch (InterruptedException | TimeoutException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(readStarted.await(10, TimeUnit.SECONDS));
+
+        assertThrows(TimeoutException.class, () -> demultiplexer.receive(2, 10, ReplyDemultiplexerTest::noRead));
+
+        replyArrived.countDown();
+        try (ResponseBuffers reply = first.get(10, TimeUnit.SECONDS)) {
+            assertEquals(1, reply.getReplyHeader().getResponseTo());
+        }
+    }
+
+    @Test
+    void shouldGiveUpReadingWithoutFailingTheConnectionWhenReplyDoesNotStartArrivingInTime() throws Exception {
+        demultiplexer.register(1);
+        demultiplexer.register(2);
+
+        assertThrows(TimeoutException.class, () -> demultiplexer.receive(1, 10, (startTimeoutMS, remainingTimeoutMS) -> {
+            assertTrue(startTimeoutMS > 0 && startTimeoutMS <= 10);
+            throw new TimeoutException();
+        }));
+        assertFalse(connectionClosed.get());
+
+        try (ResponseBuffers reply = demultiplexer.receive(2, 0, replies(1, 2))) {
+            assertEquals(2, reply.getReplyHeader().getResponseTo());
+        }
+    }
+
+    @Test
+    void shouldReadTheRestOfReplyWithTheLatestDeadlineOfTheWaitingRequests() throws Exception {
+        demultiplexer.register(1);
+        demultiplexer.register(2);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        ReplyDemultiplexer.ReplyReader replies = replies(2, 1);
+        CompletableFuture<Long> remainingTimeoutOfFirstRead = new CompletableFuture<>();
+        CompletableFuture<ResponseBuffers> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return demultiplexer.receive(1, 60_000, (startTimeoutMS, remainingTimeoutMS) -> {
+                    if (readStarted.getCount() > 0) {
+                        readStarted.countDown();
+                        // the second request waits indefinitely once it is waiting for its reply
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                        while (remainingTimeoutMS.getAsLong() != 0 && System.nanoTime() < deadline) {
+                            Thread.yield();
+                        }
+                        remainingTimeoutOfFirstRead.complete(remainingTimeoutMS.getAsLong());
+                    }
+                    return replies.read(startTimeoutMS, remainingTimeoutMS);
+                });
+            } catch (InterruptedException | TimeoutException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(readStarted.await(10, TimeUnit.SECONDS));
+
+        try (ResponseBuffers reply = demultiplexer.receive(2, 0, ReplyDemultiplexerTest::noRead)) {
+            assertEquals(2, reply.getReplyHeader().getResponseTo());
+        }
+        try (ResponseBuffers reply = first.get(10, TimeUnit.SECONDS)) {
+            assertEquals(1, reply.getReplyHeader().getResponseTo());
+        }
+        assertEquals(0L, remainingTimeoutOfFirstRead.get());
+    }
+
+    private static ReplyDemultiplexer.ReplyReader replies(final Integer... responseTos) {
+        Queue<Integer> remaining = new ArrayDeque<>(Arrays.asList(responseTos));
+        return (startTimeoutMS, remainingTimeoutMS) -> buildSuccessfulReply(remaining.remove(), "{ok: 1}");
+    }
+
+    private static ResponseBuffers noRead(final long startTimeoutMS, final LongSupplier remainingTimeoutMS) {
+        throw new AssertionError("Unexpected read");
+    }
+}
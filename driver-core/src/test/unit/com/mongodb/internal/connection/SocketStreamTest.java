@@ -0,0 +1,167 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.connection.SslSettings;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.connection.tlschannel.util.Util;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.junit.jupiter.api.Test;
+
+import javax.net.SocketFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mongodb.internal.connection.OperationContext.simpleOperationContext;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SocketStreamTest {
+    private static final OperationContext OPERATION_CONTEXT = simpleOperationContext(TimeoutSettings.DEFAULT, null);
+
+    @Test
+    void shouldCoalesceSmallBuffersIntoASingleWrite() throws Exception {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        SocketStream stream = openStream(outputStream);
+        List<ByteBuf> buffers = Arrays.asList(buffer(16, (byte) 1), buffer(1024, (byte) 2), buffer(100, (byte) 3));
+
+        stream.write(buffers, OPERATION_CONTEXT);
+
+        assertEquals(Arrays.asList(16 + 1024 + 100), outputStream.writeSizes);
+        assertArrayEquals(concat(buffers), outputStream.toByteArray());
+    }
+
+    @Test
+    void shouldWriteLargeBuffersDirectlyAndCoalesceTheRest() throws Exception {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        SocketStream stream = openStream(outputStream);
+        List<ByteBuf> buffers = Arrays.asList(buffer(40000, (byte) 1), buffer(40000, (byte) 2), buffer(100000, (byte) 3),
+                buffer(10, (byte) 4));
+
+        stream.write(buffers, OPERATION_CONTEXT);
+
+        assertEquals(Arrays.asList(40000, 40000, 100000, 10), outputStream.writeSizes);
+        assertArrayEquals(concat(buffers), outputStream.toByteArray());
+    }
+
+    @Test
+    void shouldWriteSingleBufferWithoutCopying() throws Exception {
+        RecordingOutputStream outputStream = new RecordingOutputStream();
+        SocketStream stream = openStream(outputStream);
+        List<ByteBuf> buffers = Arrays.asList(buffer(200, (byte) 1));
+
+        stream.write(buffers, OPERATION_CONTEXT);
+
+        assertEquals(Arrays.asList(200), outputStream.writeSizes);
+        assertArrayEquals(concat(buffers), outputStream.toByteArray());
+    }
+
+    @Test
+    void shouldWriteWithGatheringWritesToSocketsOfTheDefaultFactory() throws Exception {
+        assumeTrue(Util.getJavaMajorVersion() >= 13);
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            List<Socket> sockets = new ArrayList<>();
+            SocketStream stream = new SocketStream(new ServerAddress(serverSocket.getInetAddress().getHostAddress(),
+                    serverSocket.getLocalPort()), new DefaultInetAddressResolver(), SocketSettings.builder().build(),
+                    SslSettings.builder().build(), SocketFactory.getDefault(), PowerOfTwoBufferPool.DEFAULT) {
+                @Override
+                protected Socket initializeSocket(final OperationContext operationContext) throws IOException {
+                    Socket socket = super.initializeSocket(operationContext);
+                    sockets.add(socket);
+                    return socket;
+                }
+            };
+            try {
+                stream.open(OPERATION_CONTEXT);
+                List<ByteBuf> buffers = Arrays.asList(buffer(16, (byte) 1), buffer(100000, (byte) 2), buffer(10, (byte) 3));
+                try (Socket accepted = serverSocket.accept()) {
+                    assertNotNull(sockets.get(0).getChannel());
+                    stream.write(buffers, OPERATION_CONTEXT);
+
+                    byte[] expected = concat(buffers);
+                    byte[] received = new byte[expected.length];
+                    new DataInputStream(accepted.getInputStream()).readFully(received);
+                    assertArrayEquals(expected, received);
+                }
+            } finally {
+                stream.close();
+            }
+        }
+    }
+
+    private static SocketStream openStream(final OutputStream outputStream) {
+        SocketStream stream = new SocketStream(new ServerAddress(), new DefaultInetAddressResolver(), SocketSettings.builder().build(),
+                SslSettings.builder().build(), SocketFactory.getDefault(), PowerOfTwoBufferPool.DEFAULT) {
+            @Override
+            protected Socket initializeSocket(final OperationContext operationContext) {
+                return new Socket() {
+                    @Override
+                    public OutputStream getOutputStream() {
+                        return outputStream;
+                    }
+
+                    @Override
+                    public InputStream getInputStream() {
+                        return new ByteArrayInputStream(new byte[0]);
+                    }
+                };
+            }
+        };
+        stream.open(OPERATION_CONTEXT);
+        return stream;
+    }
+
+    private static ByteBuf buffer(final int size, final byte value) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, value);
+        return new ByteBufNIO(ByteBuffer.wrap(bytes));
+    }
+
+    private static byte[] concat(final List<ByteBuf> buffers) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (ByteBuf buffer : buffers) {
+            outputStream.write(buffer.array(), 0, buffer.limit());
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static final class RecordingOutputStream extends ByteArrayOutputStream {
+        private final List<Integer> writeSizes = new ArrayList<>();
+
+        @Override
+        public synchronized void write(final byte[] b, final int off, final int len) {
+            writeSizes.add(len);
+            super.write(b, off, len);
+        }
+    }
+}
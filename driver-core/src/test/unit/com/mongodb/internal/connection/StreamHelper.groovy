@@ -84,6 +84,30 @@ class StreamHelper {
         new ByteBufNIO(headerByteBuffer)
     }
 
+    static opMsgHeader(requestId, responseTo, json) {
+        ByteBuffer headerByteBuffer = ByteBuffer.allocate(16).with {
+            order(ByteOrder.LITTLE_ENDIAN)
+            putInt(21 + body(json).remaining()) // messageLength
+            putInt(requestId)             // requestId
+            putInt(responseTo)            // responseTo
+            putInt(2013)                  // opCode
+        }
+        headerByteBuffer.flip()
+        new ByteBufNIO(headerByteBuffer)
+    }
+
+    static opMsgReply(json, boolean moreToCome) {
+        ByteBuf body = body(json)
+        ByteBuffer reply = ByteBuffer.allocate(5 + body.remaining()).with {
+            order(ByteOrder.LITTLE_ENDIAN)
+            putInt(moreToCome ? 1 << 1 : 0) // flagBits
+            put((byte) 0)                 // payload type
+        }
+        append(reply, body)
+        reply.flip()
+        new ByteBufNIO(reply)
+    }
+
     private static replyHeader() {
         ByteBuffer headerByteBuffer = ByteBuffer.allocate(20).with {
             order(ByteOrder.LITTLE_ENDIAN)
@@ -20,6 +20,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.connection.ServerDescription;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.connection.ServerType;
+import com.mongodb.internal.observability.micrometer.MetricsRecorder;
 import org.bson.types.ObjectId;
 
 import java.util.Collections;
@@ -48,6 +49,11 @@ public class TestClusterableServerFactory implements ClusterableServerFactory {
         return ServerSettings.builder().build();
     }
 
+    @Override
+    public MetricsRecorder getMetricsRecorder() {
+        return MetricsRecorder.NO_OP;
+    }
+
     public TestServer getServer(final ServerAddress serverAddress) {
         return addressToServerMap.get(serverAddress);
     }
@@ -82,6 +82,35 @@ class TestConnection implements Connection, AsyncConnection {
         executeEnqueuedCommandBasedProtocolAsync(operationContext, callback);
     }
 
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeEnqueuedCommandBasedProtocol(operationContext);
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeEnqueuedCommandBasedProtocol(operationContext);
+    }
+
+    @Override
+    public <T> void exhaustCommandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        executeEnqueuedCommandBasedProtocolAsync(operationContext, callback);
+    }
+
+    @Override
+    public <T> void receiveMoreToComeAsync(final Decoder<T> commandResultDecoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        executeEnqueuedCommandBasedProtocolAsync(operationContext, callback);
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return internalConnection.hasMoreToCome();
+    }
+
     @Override
     public void markAsPinned(final PinningMode pinningMode) {
         throw new UnsupportedOperationException();
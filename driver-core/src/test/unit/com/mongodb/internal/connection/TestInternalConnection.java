@@ -195,6 +195,12 @@ class TestInternalConnection implements InternalConnection {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public <T> void receiveAsync(final Decoder<T> decoder, final OperationContext operationContext,
+            final SingleResultCallback<T> callback) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean hasMoreToCome() {
         throw new UnsupportedOperationException();
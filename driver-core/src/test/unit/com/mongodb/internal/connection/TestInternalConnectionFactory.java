@@ -115,6 +115,12 @@ class TestInternalConnectionFactory implements InternalConnectionFactory {
             return null;
         }
 
+        @Override
+        public <T> void receiveAsync(final Decoder<T> decoder, final OperationContext operationContext,
+                final SingleResultCallback<T> callback) {
+            callback.onResult(null, null);
+        }
+
         @Override
         public boolean hasMoreToCome() {
             return false;
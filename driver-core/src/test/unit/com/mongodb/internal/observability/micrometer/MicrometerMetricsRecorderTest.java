@@ -0,0 +1,140 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.observability.micrometer;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.observability.micrometer.MicrometerObservabilitySettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class MicrometerMetricsRecorderTest {
+    private static final ClusterId CLUSTER_ID = new ClusterId("test");
+    private static final ServerId SERVER_ID = new ServerId(CLUSTER_ID, new ServerAddress("localhost", 27017));
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MetricsRecorder recorder = MetricsRecorder.create(CLUSTER_ID,
+            MicrometerObservabilitySettings.builder().meterRegistry(meterRegistry).build());
+
+    @Test
+    void shouldBeDisabledWithoutMeterRegistry() {
+        assertSame(MetricsRecorder.NO_OP, MetricsRecorder.create(CLUSTER_ID, null));
+        assertSame(MetricsRecorder.NO_OP, MetricsRecorder.create(CLUSTER_ID, MicrometerObservabilitySettings.builder().build()));
+        assertTrue(recorder.isEnabled());
+    }
+
+    @Test
+    void shouldRecordServerSelection() {
+        recorder.recordServerSelection(MILLISECONDS.toNanos(5), true);
+        recorder.recordServerSelection(MILLISECONDS.toNanos(5), false);
+
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.SERVER_SELECTION)
+                .tag("cluster.id", CLUSTER_ID.getValue()).tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.SERVER_SELECTION).tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void shouldTagCommandsOnlyWithTheFirstDistinctDatabaseNames() {
+        MicrometerMetricsRecorder commandRecorder = new MicrometerMetricsRecorder(CLUSTER_ID, meterRegistry, false, null);
+        for (int i = 0; i < MicrometerMetricsRecorder.MAX_TAGGED_DATABASE_NAMES + 10; i++) {
+            commandRecorder.recordCommand("db" + i, "find", MILLISECONDS.toNanos(5), true);
+        }
+        commandRecorder.recordCommand("db0", "find", MILLISECONDS.toNanos(5), true);
+
+        assertEquals(2, meterRegistry.get(MicrometerMetricsRecorder.COMMANDS).tag("db.namespace", "db0").tag("outcome", "success")
+                .timer().count());
+        assertNull(meterRegistry.find(MicrometerMetricsRecorder.COMMANDS)
+                .tag("db.namespace", "db" + MicrometerMetricsRecorder.MAX_TAGGED_DATABASE_NAMES).timer());
+        assertEquals(10, meterRegistry.get(MicrometerMetricsRecorder.COMMANDS)
+                .tag("db.namespace", MicrometerMetricsRecorder.OTHER_DATABASES).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void shouldTagCommandsOnlyWithTheGivenDatabaseNames() {
+        MicrometerMetricsRecorder commandRecorder = new MicrometerMetricsRecorder(CLUSTER_ID, meterRegistry, false,
+                Collections.singleton("app"));
+        commandRecorder.recordCommand("app", "find", MILLISECONDS.toNanos(5), true);
+        commandRecorder.recordCommand("tenant1", "find", MILLISECONDS.toNanos(5), false);
+        commandRecorder.recordCommand("tenant2", "find", MILLISECONDS.toNanos(5), false);
+
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.COMMANDS).tag("db.namespace", "app").tag("db.command.name", "find")
+                .tag("outcome", "success").timer().count());
+        assertEquals(2, meterRegistry.get(MicrometerMetricsRecorder.COMMANDS)
+                .tag("db.namespace", MicrometerMetricsRecorder.OTHER_DATABASES).tag("outcome", "failure").timer().count());
+        assertNull(meterRegistry.find(MicrometerMetricsRecorder.COMMANDS).tag("db.namespace", "tenant1").timer());
+    }
+
+    @Test
+    void shouldTrackConnectionPoolAndRemoveItsGaugesWhenClosed() {
+        ConnectionId connectionId = new ConnectionId(SERVER_ID, 1, null);
+        recorder.connectionPoolCreated(new ConnectionPoolCreatedEvent(SERVER_ID, ConnectionPoolSettings.builder().build()));
+        recorder.connectionCreated(new ConnectionCreatedEvent(connectionId));
+        recorder.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(SERVER_ID, 1));
+
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.POOL_SIZE).gauge().value());
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.POOL_WAIT_QUEUE_SIZE).gauge().value());
+
+        recorder.connectionCheckedOut(new ConnectionCheckedOutEvent(connectionId, 1, MILLISECONDS.toNanos(5)));
+
+        assertEquals(0, meterRegistry.get(MicrometerMetricsRecorder.POOL_WAIT_QUEUE_SIZE).gauge().value());
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.POOL_CHECKED_OUT).gauge().value());
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.POOL_CHECKOUT).tag("outcome", "success").timer().count());
+
+        recorder.connectionCheckedIn(new ConnectionCheckedInEvent(connectionId, 1));
+        assertEquals(0, meterRegistry.get(MicrometerMetricsRecorder.POOL_CHECKED_OUT).gauge().value());
+
+        recorder.connectionPoolClosed(new ConnectionPoolClosedEvent(SERVER_ID));
+        assertNull(meterRegistry.find(MicrometerMetricsRecorder.POOL_SIZE).gauge());
+    }
+
+    @Test
+    void shouldRecordConnectionTrafficAndCompression() {
+        ConnectionMetricsRecorder connectionRecorder = recorder.forServer(SERVER_ID.getAddress());
+        connectionRecorder.recordBytesSent(100);
+        connectionRecorder.recordBytesSent(50);
+        connectionRecorder.recordBytesReceived(200);
+        connectionRecorder.recordCompression(300, 100);
+        connectionRecorder.recordCompression(300, 0);
+
+        assertEquals(150, meterRegistry.get(MicrometerMetricsRecorder.CONNECTION_IO)
+                .tag("network.io.direction", "transmit").tag("server.address", "localhost").counter().count());
+        assertEquals(200, meterRegistry.get(MicrometerMetricsRecorder.CONNECTION_IO)
+                .tag("network.io.direction", "receive").counter().count());
+        assertEquals(1, meterRegistry.get(MicrometerMetricsRecorder.COMPRESSION_RATIO).summary().count());
+        assertEquals(3, meterRegistry.get(MicrometerMetricsRecorder.COMPRESSION_RATIO).summary().mean());
+        assertFalse(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -42,15 +42,19 @@ import org.bson.codecs.Decoder;
 import org.bson.codecs.DocumentCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.time.Duration;
 
 import static com.mongodb.internal.operation.OperationUnitSpecification.getMaxWireVersionForServerVersion;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -165,13 +169,75 @@ class CommandCursorTest {
                 argThat(bsonDocument -> bsonDocument.containsKey("killCursors")), any(), any(), any(), any());
     }
 
+    @Test
+    void shouldReceiveStreamedBatchesInExhaustMode() {
+        //given
+        when(serverDescription.getType()).thenReturn(ServerType.STANDALONE);
+        when(mockConnection.exhaustCommand(eq(NAMESPACE.getDatabaseName()), any(), any(), any(), any(), any()))
+                .thenReturn(getMoreReply(CURSOR_ID.getValue(), 1));
+        when(mockConnection.receiveMoreToCome(any(), any())).thenReturn(getMoreReply(0, 2));
+        when(mockConnection.hasMoreToCome()).thenReturn(false, true, true, false);
+
+        Cursor<Document> cursor = createCoreCursor(true);
+
+        //when
+        assertEquals(1, cursor.next(operationContext).get(0).get("_id"));
+        assertEquals(2, cursor.next(operationContext).get(0).get("_id"));
+
+        //then
+        verify(connectionSource, times(1)).getConnection(any());
+        verify(mockConnection, times(1)).exhaustCommand(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("getMore")), any(), any(), any(), any());
+        verify(mockConnection, times(1)).receiveMoreToCome(any(), any());
+        verify(mockConnection, never()).command(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldReleaseExhaustConnectionBeforeKillingCursor() {
+        //given
+        Connection killCursorsConnection = mock(Connection.class, "killCursorsConnection");
+        when(serverDescription.getType()).thenReturn(ServerType.STANDALONE);
+        when(connectionSource.getConnection(any())).thenReturn(mockConnection, killCursorsConnection);
+        when(mockConnection.exhaustCommand(eq(NAMESPACE.getDatabaseName()), any(), any(), any(), any(), any()))
+                .thenReturn(getMoreReply(CURSOR_ID.getValue(), 1));
+        when(mockConnection.hasMoreToCome()).thenReturn(false, true);
+
+        Cursor<Document> cursor = createCoreCursor(true);
+        cursor.next(operationContext);
+
+        //when
+        cursor.close(operationContext);
+
+        //then
+        InOrder inOrder = inOrder(mockConnection, connectionSource, killCursorsConnection);
+        inOrder.verify(mockConnection, times(2)).release();
+        inOrder.verify(connectionSource).getConnection(any());
+        inOrder.verify(killCursorsConnection).command(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("killCursors")), any(), any(), any(), any());
+        verify(mockConnection, never()).receiveMoreToCome(any(), any());
+    }
+
+    private static BsonDocument getMoreReply(final long cursorId, final int id) {
+        return new BsonDocument("ok", new BsonInt32(1))
+                .append("cursor",
+                        new BsonDocument("ns", new BsonString(NAMESPACE.getFullName()))
+                                .append("id", new BsonInt64(cursorId))
+                                .append("nextBatch", new BsonArrayWrapper<>(new BsonArray(
+                                        singletonList(new BsonDocument("_id", new BsonInt32(id)))))));
+    }
+
     private Cursor<Document> createCoreCursor() {
+        return createCoreCursor(false);
+    }
+
+    private Cursor<Document> createCoreCursor(final boolean exhaust) {
         return new CommandCursor<>(
                 COMMAND_CURSOR_DOCUMENT,
                 0,
                 DOCUMENT_CODEC,
                 null,
                 connectionSource,
-                mockConnection);
+                mockConnection,
+                exhaust);
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.Document;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldPathsDecoderTest {
+    private static final BsonDocument DOCUMENT = BsonDocument.parse("{_id: 1, a: 2, b: {c: 3, d: 4}, e: 5}");
+
+    @Test
+    void shouldDecodeTheIncludedFieldsAndTheId() {
+        Decoder<Document> decoder = FieldPathsDecoder.create(new DocumentCodec(), BsonDocument.parse("{a: 1, 'b.c': true}"));
+        assertEquals(Document.parse("{_id: 1, a: 2, b: {c: 3}}"), decode(decoder));
+    }
+
+    @Test
+    void shouldNotDecodeTheIdWhenExcluded() {
+        Decoder<Document> decoder = FieldPathsDecoder.create(new DocumentCodec(), BsonDocument.parse("{_id: 0, e: 1}"));
+        assertEquals(Document.parse("{e: 5}"), decode(decoder));
+    }
+
+    @Test
+    void shouldNotWrapWithoutProjection() {
+        DocumentCodec codec = new DocumentCodec();
+        assertSame(codec, FieldPathsDecoder.create(codec, null));
+    }
+
+    @Test
+    void shouldRejectProjectionsThatAreNotInclusions() {
+        assertThrows(IllegalArgumentException.class, () ->
+                FieldPathsDecoder.create(new DocumentCodec(), BsonDocument.parse("{a: 0}")));
+        assertThrows(IllegalArgumentException.class, () ->
+                FieldPathsDecoder.create(new DocumentCodec(), BsonDocument.parse("{a: {$slice: 1}}")));
+    }
+
+    private static Document decode(final Decoder<Document> decoder) {
+        return decoder.decode(new BsonDocumentReader(DOCUMENT), DecoderContext.builder().build());
+    }
+}
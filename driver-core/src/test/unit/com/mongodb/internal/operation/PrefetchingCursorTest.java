@@ -0,0 +1,233 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoCursorNotFoundException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.mongodb.internal.connection.OperationContext.simpleOperationContext;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefetchingCursorTest {
+    private static final OperationContext OPERATION_CONTEXT = simpleOperationContext(TimeoutSettings.DEFAULT, null);
+
+    @BeforeEach
+    void acquireExecutor() {
+        CursorPrefetchExecutor.acquire();
+    }
+
+    @AfterEach
+    void releaseExecutor() {
+        CursorPrefetchExecutor.release();
+    }
+
+    @Test
+    void shouldReturnBatchesInOrder() {
+        PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(new TestCursor(asList(1, 2), singletonList(3), singletonList(4)), 2);
+
+        assertEquals(asList(1, 2), cursor.next(OPERATION_CONTEXT));
+        assertEquals(singletonList(3), cursor.next(OPERATION_CONTEXT));
+        assertTrue(cursor.hasNext(OPERATION_CONTEXT));
+        assertEquals(singletonList(4), cursor.next(OPERATION_CONTEXT));
+        assertFalse(cursor.hasNext(OPERATION_CONTEXT));
+        assertThrows(NoSuchElementException.class, () -> cursor.next(OPERATION_CONTEXT));
+    }
+
+    @Test
+    void shouldGetUpToTheMaximumNumberOfBatchesAhead() throws InterruptedException {
+        TestCursor wrapped = new TestCursor(singletonList(1), singletonList(2), singletonList(3), singletonList(4), singletonList(5));
+        PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(wrapped, 2);
+
+        cursor.next(OPERATION_CONTEXT);
+        awaitBatchesGot(wrapped, 3);
+        Thread.sleep(100);
+
+        assertEquals(3, wrapped.batchesGot.get());
+        assertEquals(1, cursor.available());
+    }
+
+    @Test
+    void shouldRethrowFailureToGetBatch() {
+        MongoCursorNotFoundException failure = new MongoCursorNotFoundException(1, new BsonDocument(), new ServerAddress());
+        TestCursor wrapped = new TestCursor(singletonList(1));
+        wrapped.failure = failure;
+        PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(wrapped, 1);
+
+        assertEquals(singletonList(1), cursor.next(OPERATION_CONTEXT));
+        assertEquals(failure, assertThrows(MongoCursorNotFoundException.class, () -> cursor.hasNext(OPERATION_CONTEXT)));
+    }
+
+    @Test
+    void shouldCloseWrappedCursor() {
+        TestCursor wrapped = new TestCursor(singletonList(1), singletonList(2));
+        PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(wrapped, 1);
+
+        cursor.next(OPERATION_CONTEXT);
+        cursor.close(OPERATION_CONTEXT);
+
+        assertTrue(wrapped.closed);
+        assertEquals(0, cursor.available());
+        assertThrows(IllegalStateException.class, () -> cursor.hasNext(OPERATION_CONTEXT));
+    }
+
+    @Test
+    void shouldNotPrefetchWithTimeoutMSInIterationMode() {
+        OperationContext withTimeoutMS = simpleOperationContext(TimeoutSettings.DEFAULT.withTimeout(100L, MILLISECONDS), null);
+
+        assertTrue(PrefetchingCursor.isPrefetchAllowed(TimeoutMode.ITERATION, OPERATION_CONTEXT));
+        assertTrue(PrefetchingCursor.isPrefetchAllowed(TimeoutMode.CURSOR_LIFETIME, withTimeoutMS));
+        assertFalse(PrefetchingCursor.isPrefetchAllowed(TimeoutMode.ITERATION, withTimeoutMS));
+    }
+
+    @Test
+    void shouldGetBatchesInTheRequestingThreadOnceTheExecutorIsShutDown() {
+        TestCursor wrapped = new TestCursor(singletonList(1), singletonList(2), singletonList(3));
+        PrefetchingCursor<Integer> cursor = new PrefetchingCursor<>(wrapped, 1);
+        cursor.next(OPERATION_CONTEXT);
+
+        CursorPrefetchExecutor.release();
+        try {
+            assertEquals(singletonList(2), cursor.next(OPERATION_CONTEXT));
+            assertEquals(singletonList(3), cursor.next(OPERATION_CONTEXT));
+            assertFalse(cursor.hasNext(OPERATION_CONTEXT));
+        } finally {
+            CursorPrefetchExecutor.acquire();
+        }
+    }
+
+    private static void awaitBatchesGot(final TestCursor wrapped, final int batchesGot) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (wrapped.batchesGot.get() < batchesGot) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for " + batchesGot + " batches to be got");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class TestCursor implements Cursor<Integer> {
+        private final Deque<List<Integer>> batches;
+        private final AtomicInteger batchesGot = new AtomicInteger();
+        @Nullable
+        private volatile RuntimeException failure;
+        private volatile boolean closed;
+
+        @SafeVarargs
+        TestCursor(final List<Integer>... batches) {
+            this.batches = new ArrayDeque<>(Arrays.asList(batches));
+        }
+
+        @Override
+        public void close(final OperationContext operationContext) {
+            closed = true;
+        }
+
+        @Override
+        public boolean hasNext(final OperationContext operationContext) {
+            RuntimeException localFailure = failure;
+            if (batches.isEmpty() && localFailure != null) {
+                throw localFailure;
+            }
+            return !batches.isEmpty();
+        }
+
+        @Override
+        public List<Integer> next(final OperationContext operationContext) {
+            if (!hasNext(operationContext)) {
+                throw new NoSuchElementException();
+            }
+            batchesGot.incrementAndGet();
+            return batches.removeFirst();
+        }
+
+        @Nullable
+        @Override
+        public List<Integer> tryNext(final OperationContext operationContext) {
+            return hasNext(operationContext) ? next(operationContext) : null;
+        }
+
+        @Override
+        public int available() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setBatchSize(final int batchSize) {
+        }
+
+        @Override
+        public int getBatchSize() {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return new ServerAddress();
+        }
+
+        @Nullable
+        @Override
+        public BsonDocument getPostBatchResumeToken() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public BsonTimestamp getOperationTime() {
+            return null;
+        }
+
+        @Override
+        public boolean isFirstBatchEmpty() {
+            return false;
+        }
+
+        @Override
+        public int getMaxWireVersion() {
+            return 0;
+        }
+    }
+}
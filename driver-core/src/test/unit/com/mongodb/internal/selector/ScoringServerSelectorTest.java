@@ -0,0 +1,125 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.selector;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerConnectionState;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.internal.mockito.MongoMockito;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerOperationStatistics;
+import com.mongodb.selector.ServerScorer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+final class ScoringServerSelectorTest {
+    private final Map<ServerAddress, Server> servers = new LinkedHashMap<>();
+    private final Map<ServerAddress, Long> roundTripTimes = new HashMap<>();
+
+    @Test
+    void shouldSelectNothingFromNoServers() {
+        assertEquals(emptyList(), select(ServerScorer.latencyAndLoad()));
+    }
+
+    @Test
+    void shouldSelectServerWithLowestLatencyAndLoadScore() {
+        // 10 ms with nothing in flight scores higher than 2 ms with one operation in flight
+        addServer("a", 0, statistics(0, 10));
+        addServer("b", 0, statistics(1, 2));
+        addServer("c", 0, statistics(4, 1));
+
+        assertEquals(singletonList("b"), select(ServerScorer.latencyAndLoad()));
+    }
+
+    @Test
+    void shouldScoreServerWithoutLatenciesByRoundTripTime() {
+        addServer("a", 1, statistics(3, 0));
+        addServer("b", 3, statistics(0, 0));
+
+        assertEquals(singletonList("b"), select(ServerScorer.latencyAndLoad()));
+    }
+
+    @Test
+    void shouldUseOperationCountOfServerThatDoesNotTrackLatencies() {
+        addServer("a", 1, null);
+        addServer("b", 3, null);
+        when(servers.get(new ServerAddress("a")).operationCount()).thenReturn(3);
+
+        assertEquals(singletonList("b"), select(ServerScorer.latencyAndLoad()));
+    }
+
+    @Test
+    void shouldNotSelectServerWithNaNScoreIfAnotherServerHasScore() {
+        addServer("a", 0, null);
+        addServer("b", 0, null);
+
+        assertEquals(singletonList("b"), select((serverDescription, statistics) ->
+                serverDescription.getAddress().getHost().equals("a") ? Double.NaN : 42));
+    }
+
+    private List<String> select(final ServerScorer serverScorer) {
+        ClusterDescription clusterDescription = new ClusterDescription(ClusterConnectionMode.MULTIPLE, ClusterType.REPLICA_SET,
+                servers.keySet().stream().map(this::serverDescription).collect(toList()));
+        Cluster.ServersSnapshot serversSnapshot = servers::get;
+        return new ScoringServerSelector(serversSnapshot, serverScorer)
+                .select(clusterDescription)
+                .stream()
+                .map(serverDescription -> serverDescription.getAddress().getHost())
+                .collect(toList());
+    }
+
+    private void addServer(final String host, final long roundTripTimeMillis, @Nullable final ServerOperationStatistics statistics) {
+        ServerAddress address = new ServerAddress(host);
+        servers.put(address, MongoMockito.mock(Server.class, server -> when(server.operationStatistics()).thenReturn(statistics)));
+        roundTripTimes.put(address, roundTripTimeMillis);
+    }
+
+    private ServerDescription serverDescription(final ServerAddress address) {
+        return ServerDescription.builder()
+                .state(ServerConnectionState.CONNECTED)
+                .ok(true)
+                .address(address)
+                .roundTripTime(roundTripTimes.get(address), MILLISECONDS)
+                .build();
+    }
+
+    private static ServerOperationStatistics statistics(final int inFlightOperationCount, final long latencyMillis) {
+        return MongoMockito.mock(ServerOperationStatistics.class, statistics -> {
+            when(statistics.getInFlightOperationCount()).thenReturn(inFlightOperationCount);
+            when(statistics.getLatencySampleCount()).thenReturn(latencyMillis == 0 ? 0 : 10);
+            when(statistics.getLatencyPercentile(anyDouble(), eq(NANOSECONDS))).thenReturn(MILLISECONDS.toNanos(latencyMillis));
+        });
+    }
+}
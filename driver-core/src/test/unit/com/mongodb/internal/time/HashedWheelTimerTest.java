@@ -0,0 +1,151 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mongodb.internal.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class HashedWheelTimerTest {
+    // a small wheel, so that the delays below take several rounds
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, MILLISECONDS, 8);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void shouldRunTasksNoEarlierThanTheirDelay() throws InterruptedException {
+        List<AtomicLong> runNanos = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        long startNanos = System.nanoTime();
+        for (long delayMillis : new long[] {50, 0, 20}) {
+            AtomicLong ranAt = new AtomicLong();
+            runNanos.add(ranAt);
+            timer.schedule(() -> {
+                ranAt.set(System.nanoTime());
+                latch.countDown();
+            }, delayMillis, MILLISECONDS);
+        }
+
+        assertTrue(latch.await(10, SECONDS));
+        assertTrue(runNanos.get(0).get() - startNanos >= MILLISECONDS.toNanos(50));
+        assertTrue(runNanos.get(2).get() - startNanos >= MILLISECONDS.toNanos(20));
+        assertTrue(runNanos.get(1).get() < runNanos.get(2).get());
+        assertTrue(runNanos.get(2).get() < runNanos.get(0).get());
+    }
+
+    @Test
+    void shouldNotRunCancelledTasks() throws InterruptedException {
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        HashedWheelTimer.Task cancelledTask = timer.schedule(() -> cancelledRan.set(true), 10, MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Task task = timer.schedule(latch::countDown, 30, MILLISECONDS);
+
+        assertTrue(cancelledTask.cancel());
+        assertFalse(cancelledTask.cancel());
+        assertTrue(latch.await(10, SECONDS));
+        assertFalse(cancelledRan.get());
+        assertFalse(task.cancel());
+    }
+
+    @Test
+    void shouldRunTasksScheduledByTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(() -> timer.schedule(latch::countDown, 5, MILLISECONDS), 5, MILLISECONDS);
+
+        assertTrue(latch.await(10, SECONDS));
+    }
+
+    @Test
+    void shouldExecuteActionsWithoutWaitingForTheTick() throws InterruptedException {
+        HashedWheelTimer slowTimer = new HashedWheelTimer("slow-test-timer", 1, SECONDS, 8);
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            long startNanos = System.nanoTime();
+            slowTimer.execute(latch::countDown);
+            slowTimer.execute(latch::countDown);
+
+            assertTrue(latch.await(10, SECONDS));
+            assertTrue(System.nanoTime() - startNanos < MILLISECONDS.toNanos(500));
+        } finally {
+            slowTimer.close();
+        }
+    }
+
+    @Test
+    void shouldNotRunTasksAfterClose() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        HashedWheelTimer.Task task = timer.schedule(() -> ran.set(true), 20, MILLISECONDS);
+        timer.close();
+        HashedWheelTimer.Task taskScheduledAfterClose = timer.schedule(() -> ran.set(true), 0, NANOSECONDS);
+
+        Thread.sleep(50);
+        assertFalse(ran.get());
+        assertTrue(task.cancel());
+        assertFalse(taskScheduledAfterClose.cancel());
+    }
+
+    @Test
+    void shouldRunCallbacksOffTheTimerThreadWithoutHoldingUpTasks() throws InterruptedException {
+        CountDownLatch releaseCallback = new CountDownLatch(1);
+        CountDownLatch taskRan = new CountDownLatch(1);
+        AtomicReference<Thread> timerThread = new AtomicReference<>();
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        timer.schedule(() -> {
+            timerThread.set(Thread.currentThread());
+            timer.getCallbackExecutor().execute(() -> {
+                callbackThread.set(Thread.currentThread());
+                try {
+                    releaseCallback.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }, 0, NANOSECONDS);
+        timer.schedule(taskRan::countDown, 20, MILLISECONDS);
+
+        try {
+            assertTrue(taskRan.await(10, SECONDS));
+            assertNotSame(timerThread.get(), callbackThread.get());
+        } finally {
+            releaseCallback.countDown();
+        }
+    }
+
+    @Test
+    void shouldRunCallbacksAfterClose() {
+        timer.close();
+        AtomicBoolean ran = new AtomicBoolean();
+        timer.getCallbackExecutor().execute(() -> ran.set(true));
+
+        assertTrue(ran.get());
+    }
+}
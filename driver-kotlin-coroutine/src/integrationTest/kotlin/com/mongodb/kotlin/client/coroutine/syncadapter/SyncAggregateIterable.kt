@@ -35,6 +35,10 @@ data class SyncAggregateIterable<T : Any>(val wrapped: AggregateFlow<T>) :
         wrapped.allowDiskUse(allowDiskUse)
     }
 
+    override fun exhaust(exhaust: Boolean): SyncAggregateIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    override fun prefetch(prefetch: Int): SyncAggregateIterable<T> = throw UnsupportedOperationException()
+
     override fun maxTime(maxTime: Long, timeUnit: TimeUnit): SyncAggregateIterable<T> = apply {
         wrapped.maxTime(maxTime, timeUnit)
     }
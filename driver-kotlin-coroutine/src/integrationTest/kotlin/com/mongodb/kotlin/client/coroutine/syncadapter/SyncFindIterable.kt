@@ -39,6 +39,14 @@ data class SyncFindIterable<T : Any>(val wrapped: FindFlow<T>) : JFindIterable<T
         wrapped.allowDiskUse(allowDiskUse)
     }
 
+    override fun exhaust(exhaust: Boolean): SyncFindIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    override fun prefetch(prefetch: Int): SyncFindIterable<T> = throw UnsupportedOperationException()
+
+    override fun decodeProjection(decodeProjection: Bson?): SyncFindIterable<T> = apply {
+        wrapped.decodeProjection(decodeProjection)
+    }
+
     override fun maxTime(maxTime: Long, timeUnit: TimeUnit): SyncFindIterable<T> = apply {
         wrapped.maxTime(maxTime, timeUnit)
     }
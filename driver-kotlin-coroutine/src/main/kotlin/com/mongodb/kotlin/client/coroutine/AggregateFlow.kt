@@ -83,6 +83,18 @@ public class AggregateFlow<T : Any>(private val wrapped: AggregatePublisher<T>)
      */
     public fun allowDiskUse(allowDiskUse: Boolean?): AggregateFlow<T> = apply { wrapped.allowDiskUse(allowDiskUse) }
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply
+     * to a `getMore` command. This saves a round trip to the server per batch.
+     *
+     * While the batches are streamed, the connection is used exclusively by the cursor. A cursor closed before it is exhausted
+     * closes the connection. The option is ignored in transactions and when connected to a load balancer.
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     */
+    public fun exhaust(exhaust: Boolean): AggregateFlow<T> = apply { wrapped.exhaust(exhaust) }
+
     /**
      * Sets the maximum execution time on the server for this operation.
      *
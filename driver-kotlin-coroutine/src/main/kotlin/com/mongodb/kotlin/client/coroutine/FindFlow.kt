@@ -268,6 +268,30 @@ public class FindFlow<T : Any>(private val wrapped: FindPublisher<T>) : Flow<T>
      */
     public fun allowDiskUse(allowDiskUse: Boolean?): FindFlow<T> = apply { wrapped.allowDiskUse(allowDiskUse) }
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply
+     * to a `getMore` command. This saves a round trip to the server per batch.
+     *
+     * While the batches are streamed, the connection is used exclusively by the cursor. A cursor closed before it is exhausted
+     * closes the connection. The option is ignored for tailable cursors, in transactions and when connected to a load balancer.
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     */
+    public fun exhaust(exhaust: Boolean): FindFlow<T> = apply { wrapped.exhaust(exhaust) }
+
+    /**
+     * Sets the fields to decode from each returned document, as an inclusion projection like those of `Projections.include`.
+     *
+     * Unlike [projection], the server still returns whole documents. The driver passes the paths of the included fields to the
+     * decoder, so that decoders that support field paths skip all other fields instead of decoding them. As in a projection, the
+     * `_id` field is decoded unless the projection excludes it with `{_id: 0}`. The projection must otherwise only include fields.
+     *
+     * @param decodeProjection the projection of the fields to decode, or null to decode all fields, which is the default
+     * @return this
+     */
+    public fun decodeProjection(decodeProjection: Bson?): FindFlow<T> = apply { wrapped.decodeProjection(decodeProjection) }
+
     /**
      * Explain the execution plan for this operation with the given verbosity level
      *
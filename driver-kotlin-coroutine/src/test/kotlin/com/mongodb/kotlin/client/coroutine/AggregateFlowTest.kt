@@ -61,6 +61,7 @@ class AggregateFlowTest {
         val verbosity = ExplainVerbosity.QUERY_PLANNER
 
         flow.allowDiskUse(true)
+        flow.exhaust(true)
         flow.batchSize(batchSize)
         flow.bypassDocumentValidation(true)
         flow.collation(collation)
@@ -76,6 +77,7 @@ class AggregateFlowTest {
         flow.timeoutMode(TimeoutMode.ITERATION)
 
         verify(wrapped).allowDiskUse(true)
+        verify(wrapped).exhaust(true)
         verify(wrapped).batchSize(batchSize)
         verify(wrapped).bypassDocumentValidation(true)
         verify(wrapped).collation(collation)
@@ -56,6 +56,8 @@ class FindFlowTest {
         val verbosity = ExplainVerbosity.QUERY_PLANNER
 
         flow.allowDiskUse(true)
+        flow.exhaust(true)
+        flow.decodeProjection(bson)
         flow.batchSize(batchSize)
         flow.collation(collation)
         flow.comment(bsonComment)
@@ -82,6 +84,8 @@ class FindFlowTest {
         flow.timeoutMode(TimeoutMode.ITERATION)
 
         verify(wrapped).allowDiskUse(true)
+        verify(wrapped).exhaust(true)
+        verify(wrapped).decodeProjection(bson)
         verify(wrapped).batchSize(batchSize)
         verify(wrapped).collation(collation)
         verify(wrapped).comment(bsonComment)
@@ -38,6 +38,10 @@ internal class SyncAggregateIterable<T : Any>(val wrapped: AggregateIterable<T>)
         wrapped.allowDiskUse(allowDiskUse)
     }
 
+    override fun exhaust(exhaust: Boolean): SyncAggregateIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    override fun prefetch(prefetch: Int): SyncAggregateIterable<T> = apply { wrapped.prefetch(prefetch) }
+
     override fun maxTime(maxTime: Long, timeUnit: TimeUnit): SyncAggregateIterable<T> = apply {
         wrapped.maxTime(maxTime, timeUnit)
     }
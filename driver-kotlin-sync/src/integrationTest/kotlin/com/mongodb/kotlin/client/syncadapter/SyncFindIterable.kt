@@ -40,6 +40,14 @@ internal class SyncFindIterable<T : Any>(val wrapped: FindIterable<T>) :
         wrapped.allowDiskUse(allowDiskUse)
     }
 
+    override fun exhaust(exhaust: Boolean): SyncFindIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    override fun prefetch(prefetch: Int): SyncFindIterable<T> = apply { wrapped.prefetch(prefetch) }
+
+    override fun decodeProjection(decodeProjection: Bson?): SyncFindIterable<T> = apply {
+        wrapped.decodeProjection(decodeProjection)
+    }
+
     override fun maxTime(maxTime: Long, timeUnit: TimeUnit): SyncFindIterable<T> = apply {
         wrapped.maxTime(maxTime, timeUnit)
     }
@@ -88,6 +88,31 @@ public class AggregateIterable<T : Any>(private val wrapped: JAggregateIterable<
      */
     public fun allowDiskUse(allowDiskUse: Boolean?): AggregateIterable<T> = apply { wrapped.allowDiskUse(allowDiskUse) }
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply
+     * to a `getMore` command. This saves a round trip to the server per batch.
+     *
+     * While the batches are streamed, the connection is used exclusively by the cursor. A cursor closed before it is exhausted
+     * closes the connection. The option is ignored in transactions and when connected to a load balancer.
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     */
+    public fun exhaust(exhaust: Boolean): AggregateIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    /**
+     * Sets the maximum number of batches to get from the server ahead of the application. While the application processes a
+     * batch, the cursor gets up to this number of the next batches in the background, so that the `getMore` round trips overlap
+     * with the processing. Each batch got ahead of the application is held in memory until the application iterates over it.
+     *
+     * The option is ignored with a [ClientSession] explicitly passed to the operation, and when `timeoutMS` is set with
+     * [TimeoutMode.ITERATION].
+     *
+     * @param prefetch the maximum number of batches to get ahead of the application, 0 by default
+     * @return this
+     */
+    public fun prefetch(prefetch: Int): AggregateIterable<T> = apply { wrapped.prefetch(prefetch) }
+
     /**
      * Sets the maximum execution time on the server for this operation.
      *
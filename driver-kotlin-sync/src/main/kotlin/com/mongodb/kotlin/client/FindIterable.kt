@@ -263,6 +263,43 @@ public class FindIterable<T : Any>(private val wrapped: JFindIterable<T>) : Mong
      */
     public fun allowDiskUse(allowDiskUse: Boolean?): FindIterable<T> = apply { wrapped.allowDiskUse(allowDiskUse) }
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply
+     * to a `getMore` command. This saves a round trip to the server per batch.
+     *
+     * While the batches are streamed, the connection is used exclusively by the cursor. A cursor closed before it is exhausted
+     * closes the connection. The option is ignored for tailable cursors, in transactions and when connected to a load balancer.
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     */
+    public fun exhaust(exhaust: Boolean): FindIterable<T> = apply { wrapped.exhaust(exhaust) }
+
+    /**
+     * Sets the maximum number of batches to get from the server ahead of the application. While the application processes a
+     * batch, the cursor gets up to this number of the next batches in the background, so that the `getMore` round trips overlap
+     * with the processing. Each batch got ahead of the application is held in memory until the application iterates over it.
+     *
+     * The option is ignored for tailable cursors, with a [ClientSession] explicitly passed to the operation, and when `timeoutMS`
+     * is set with [TimeoutMode.ITERATION].
+     *
+     * @param prefetch the maximum number of batches to get ahead of the application, 0 by default
+     * @return this
+     */
+    public fun prefetch(prefetch: Int): FindIterable<T> = apply { wrapped.prefetch(prefetch) }
+
+    /**
+     * Sets the fields to decode from each returned document, as an inclusion projection like those of `Projections.include`.
+     *
+     * Unlike [projection], the server still returns whole documents. The driver passes the paths of the included fields to the
+     * decoder, so that decoders that support field paths skip all other fields instead of decoding them. As in a projection, the
+     * `_id` field is decoded unless the projection excludes it with `{_id: 0}`. The projection must otherwise only include fields.
+     *
+     * @param decodeProjection the projection of the fields to decode, or null to decode all fields, which is the default
+     * @return this
+     */
+    public fun decodeProjection(decodeProjection: Bson?): FindIterable<T> = apply { wrapped.decodeProjection(decodeProjection) }
+
     /**
      * Explain the execution plan for this operation with the given verbosity level
      *
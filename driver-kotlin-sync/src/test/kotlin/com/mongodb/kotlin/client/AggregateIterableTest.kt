@@ -63,6 +63,8 @@ class AggregateIterableTest {
         whenever(wrapped.explain(BsonDocument::class.java, verbosity)).doReturn(mock())
 
         iterable.allowDiskUse(true)
+        iterable.exhaust(true)
+        iterable.prefetch(2)
         iterable.batchSize(batchSize)
         iterable.bypassDocumentValidation(true)
         iterable.collation(collation)
@@ -84,6 +86,8 @@ class AggregateIterableTest {
         iterable.timeoutMode(TimeoutMode.ITERATION)
 
         verify(wrapped).allowDiskUse(true)
+        verify(wrapped).exhaust(true)
+        verify(wrapped).prefetch(2)
         verify(wrapped).batchSize(batchSize)
         verify(wrapped).bypassDocumentValidation(true)
         verify(wrapped).collation(collation)
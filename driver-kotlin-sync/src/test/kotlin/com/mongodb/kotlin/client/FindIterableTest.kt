@@ -58,6 +58,9 @@ class FindIterableTest {
         whenever(wrapped.explain(BsonDocument::class.java, verbosity)).doReturn(mock())
 
         iterable.allowDiskUse(true)
+        iterable.exhaust(true)
+        iterable.decodeProjection(bson)
+        iterable.prefetch(2)
         iterable.batchSize(batchSize)
         iterable.collation(collation)
         iterable.comment(bsonComment)
@@ -90,6 +93,9 @@ class FindIterableTest {
         iterable.timeoutMode(TimeoutMode.ITERATION)
 
         verify(wrapped).allowDiskUse(true)
+        verify(wrapped).exhaust(true)
+        verify(wrapped).decodeProjection(bson)
+        verify(wrapped).prefetch(2)
         verify(wrapped).batchSize(batchSize)
         verify(wrapped).collation(collation)
         verify(wrapped).comment(bsonComment)
@@ -50,6 +50,20 @@ public interface AggregatePublisher<TResult> extends Publisher<TResult> {
      */
     AggregatePublisher<TResult> allowDiskUse(@Nullable Boolean allowDiskUse);
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply to a
+     * {@code getMore} command.  This saves a round trip to the server per batch.
+     *
+     * <p>While the batches are streamed, the connection is used exclusively by the cursor.  A cursor closed before it is exhausted closes
+     * the connection.  The option is ignored in transactions and when connected to a load balancer.</p>
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     * @since 5.7
+     * @mongodb.server.release 4.2
+     */
+    AggregatePublisher<TResult> exhaust(boolean exhaust);
+
     /**
      * Sets the maximum execution time on the server for this operation.
      *
@@ -272,6 +272,35 @@ public interface FindPublisher<TResult> extends Publisher<TResult> {
      */
     FindPublisher<TResult> allowDiskUse(@Nullable Boolean allowDiskUse);
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply to a
+     * {@code getMore} command.  This saves a round trip to the server per batch.
+     *
+     * <p>While the batches are streamed, the connection is used exclusively by the cursor.  A cursor closed before it is exhausted closes
+     * the connection.  The option is ignored for tailable cursors, in transactions and when connected to a load balancer.</p>
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     * @since 5.7
+     * @mongodb.server.release 4.2
+     */
+    FindPublisher<TResult> exhaust(boolean exhaust);
+
+    /**
+     * Sets the fields to decode from each returned document, as an inclusion projection like those of {@code Projections.include}.
+     *
+     * <p>Unlike {@link #projection(Bson)}, the server still returns whole documents.  The driver passes the paths of the included fields
+     * to the decoder with {@link org.bson.codecs.DecoderContext.Builder#fieldPaths(java.util.Collection)}, so that decoders that
+     * support field paths, like the {@code Document}, {@code BsonDocument} and POJO codecs, skip all other fields instead of decoding
+     * them.  As in a projection, the {@code _id} field is decoded unless the projection excludes it with {@code {_id: 0}}.  The
+     * projection must otherwise only include fields.</p>
+     *
+     * @param decodeProjection the projection of the fields to decode, or null to decode all fields, which is the default
+     * @return this
+     * @since 5.7
+     */
+    FindPublisher<TResult> decodeProjection(@Nullable Bson decodeProjection);
+
     /**
      * Sets the timeoutMode for the cursor.
      *
@@ -47,6 +47,7 @@ final class AggregatePublisherImpl<T> extends BatchCursorPublisher<T> implements
     private final List<? extends Bson> pipeline;
     private final AggregationLevel aggregationLevel;
     private Boolean allowDiskUse;
+    private boolean exhaust;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
     private Boolean bypassDocumentValidation;
@@ -72,6 +73,12 @@ final class AggregatePublisherImpl<T> extends BatchCursorPublisher<T> implements
         return this;
     }
 
+    @Override
+    public AggregatePublisher<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
     @Override
     public AggregatePublisher<T> batchSize(final int batchSize) {
         super.batchSize(batchSize);
@@ -185,7 +192,8 @@ final class AggregatePublisherImpl<T> extends BatchCursorPublisher<T> implements
         if (outNamespace != null) {
             ReadOperationSimple<Void> aggregateToCollectionOperation = getAggregateToCollectionOperation();
 
-            FindOptions findOptions = new FindOptions().collation(collation).comment(comment).batchSize(initialBatchSize);
+            FindOptions findOptions = new FindOptions().collation(collation).comment(comment).batchSize(initialBatchSize)
+                    .exhaust(exhaust);
 
             ReadOperationCursor<T> findOperation =
                     getOperations().find(outNamespace, new BsonDocument(), getDocumentClass(), findOptions);
@@ -204,7 +212,8 @@ final class AggregatePublisherImpl<T> extends BatchCursorPublisher<T> implements
     private ReadOperationExplainable<T> asAggregateOperation(final int initialBatchSize) {
         return getOperations()
                 .aggregate(pipeline, getDocumentClass(), getTimeoutMode(),
-                           initialBatchSize, collation, hint, hintString, comment, variables, allowDiskUse, aggregationLevel);
+                           initialBatchSize, collation, hint, hintString, comment, variables, allowDiskUse, exhaust,
+                           0, aggregationLevel);
     }
 
     private ReadOperationSimple<Void> getAggregateToCollectionOperation() {
@@ -185,6 +185,18 @@ final class FindPublisherImpl<T> extends BatchCursorPublisher<T> implements Find
         return this;
     }
 
+    @Override
+    public FindPublisher<T> exhaust(final boolean exhaust) {
+        findOptions.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public FindPublisher<T> decodeProjection(@Nullable final Bson decodeProjection) {
+        findOptions.decodeProjection(decodeProjection);
+        return this;
+    }
+
     @Override
     public FindPublisher<T> timeoutMode(final TimeoutMode timeoutMode) {
         super.timeoutMode(timeoutMode);
@@ -164,6 +164,27 @@ class CryptConnection implements AsyncConnection {
                 .build();
     }
 
+    /**
+     * The replies must be decrypted one at a time, so the server is not allowed to stream them.
+     */
+    @Override
+    public <T> void exhaustCommandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                                        @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                                        final OperationContext operationContext, final SingleResultCallback<T> callback) {
+        commandAsync(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext, callback);
+    }
+
+    @Override
+    public <T> void receiveMoreToComeAsync(final Decoder<T> commandResultDecoder, final OperationContext operationContext,
+                                           final SingleResultCallback<T> callback) {
+        callback.onResult(null, new UnsupportedOperationException());
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
     @Override
     public void markAsPinned(final Connection.PinningMode pinningMode) {
         wrapped.markAsPinned(pinningMode);
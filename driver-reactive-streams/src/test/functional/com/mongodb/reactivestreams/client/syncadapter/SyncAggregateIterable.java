@@ -51,6 +51,17 @@ class SyncAggregateIterable<T> extends SyncMongoIterable<T> implements Aggregate
         return this;
     }
 
+    @Override
+    public AggregateIterable<T> exhaust(final boolean exhaust) {
+        wrapped.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<T> prefetch(final int prefetch) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public AggregateIterable<T> batchSize(final int batchSize) {
         wrapped.batchSize(batchSize);
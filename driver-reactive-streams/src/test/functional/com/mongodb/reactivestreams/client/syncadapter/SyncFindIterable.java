@@ -175,6 +175,23 @@ class SyncFindIterable<T> extends SyncMongoIterable<T> implements FindIterable<T
         return this;
     }
 
+    @Override
+    public FindIterable<T> exhaust(final boolean exhaust) {
+        wrapped.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public FindIterable<T> prefetch(final int prefetch) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FindIterable<T> decodeProjection(@Nullable final Bson decodeProjection) {
+        wrapped.decodeProjection(decodeProjection);
+        return this;
+    }
+
     @Override
     public FindIterable<T> timeoutMode(final TimeoutMode timeoutMode) {
         wrapped.timeoutMode(timeoutMode);
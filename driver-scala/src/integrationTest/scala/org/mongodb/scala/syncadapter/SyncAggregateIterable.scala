@@ -38,6 +38,13 @@ case class SyncAggregateIterable[T](wrapped: AggregateObservable[T])
     this
   }
 
+  override def exhaust(exhaust: Boolean): AggregateIterable[T] = {
+    wrapped.exhaust(exhaust)
+    this
+  }
+
+  override def prefetch(prefetch: Int): AggregateIterable[T] = throw new UnsupportedOperationException
+
   override def batchSize(batchSize: Int): AggregateIterable[T] = {
     wrapped.batchSize(batchSize)
     this
@@ -144,6 +144,13 @@ case class SyncFindIterable[T](wrapped: FindObservable[T]) extends SyncMongoIter
     this
   }
 
+  override def exhaust(exhaust: Boolean): FindIterable[T] = {
+    wrapped.exhaust(exhaust)
+    this
+  }
+
+  override def prefetch(prefetch: Int): FindIterable[T] = throw new UnsupportedOperationException
+
   override def explain(): Document = wrapped.explain().toFuture().get()
 
   override def explain(verbosity: ExplainVerbosity): Document = wrapped.explain(verbosity).toFuture().get()
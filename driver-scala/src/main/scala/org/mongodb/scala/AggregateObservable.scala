@@ -52,6 +52,23 @@ case class AggregateObservable[TResult](private val wrapped: AggregatePublisher[
     this
   }
 
+  /**
+   * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply
+   * to a `getMore` command. This saves a round trip to the server per batch.
+   *
+   * While the batches are streamed, the connection is used exclusively by the cursor. A cursor closed before it is exhausted
+   * closes the connection. The option is ignored in transactions and when connected to a load balancer.
+   *
+   * @param exhaust whether the server may stream the batches of the cursor
+   * @return this
+   * @since 5.7
+   * @note Requires MongoDB 4.2 or greater
+   */
+  def exhaust(exhaust: Boolean): AggregateObservable[TResult] = {
+    wrapped.exhaust(exhaust)
+    this
+  }
+
   /**
    * Sets the maximum execution time on the server for this operation.
    *
@@ -50,6 +50,7 @@ class AggregateObservableSpec extends BaseSpec with MockitoSugar {
     val verbosity = ExplainVerbosity.QUERY_PLANNER
 
     observable.allowDiskUse(true)
+    observable.exhaust(true)
     observable.maxTime(duration)
     observable.maxAwaitTime(duration)
     observable.bypassDocumentValidation(true)
@@ -62,6 +63,7 @@ class AggregateObservableSpec extends BaseSpec with MockitoSugar {
     observable.timeoutMode(TimeoutMode.ITERATION)
 
     verify(wrapper).allowDiskUse(true)
+    verify(wrapper).exhaust(true)
     verify(wrapper).maxTime(duration.toMillis, TimeUnit.MILLISECONDS)
     verify(wrapper).maxAwaitTime(duration.toMillis, TimeUnit.MILLISECONDS)
     verify(wrapper).bypassDocumentValidation(true)
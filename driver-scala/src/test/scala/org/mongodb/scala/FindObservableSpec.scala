@@ -74,6 +74,8 @@ class FindObservableSpec extends BaseSpec with MockitoSugar {
     observable.sort(sort)
     observable.batchSize(batchSize)
     observable.allowDiskUse(true)
+    observable.exhaust(true)
+    observable.decodeProjection(projection)
     observable.explain[Document]()
     observable.explain[Document](verbosity)
     observable.timeoutMode(TimeoutMode.ITERATION)
@@ -93,6 +95,8 @@ class FindObservableSpec extends BaseSpec with MockitoSugar {
     verify(wrapper).sort(sort)
     verify(wrapper).batchSize(batchSize)
     verify(wrapper).allowDiskUse(true)
+    verify(wrapper).exhaust(true)
+    verify(wrapper).decodeProjection(projection)
     verify(wrapper).explain(ct)
     verify(wrapper).explain(ct, verbosity)
     verify(wrapper).timeoutMode(TimeoutMode.ITERATION)
@@ -92,6 +92,35 @@ public interface AggregateIterable<TResult> extends MongoIterable<TResult> {
      */
     AggregateIterable<TResult> allowDiskUse(@Nullable Boolean allowDiskUse);
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply to a
+     * {@code getMore} command.  This saves a round trip to the server per batch.
+     *
+     * <p>While the batches are streamed, the connection is used exclusively by the cursor.  A cursor closed before it is exhausted closes
+     * the connection.  The option is ignored in transactions and when connected to a load balancer.</p>
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     * @since 5.7
+     * @mongodb.server.release 4.2
+     */
+    AggregateIterable<TResult> exhaust(boolean exhaust);
+
+    /**
+     * Sets the maximum number of batches to get from the server ahead of the application.  While the application processes a batch,
+     * the cursor gets up to this number of the next batches in the background, so that the {@code getMore} round trips overlap with the
+     * processing.  Each batch got ahead of the application is held in memory until the application iterates over it.
+     *
+     * <p>The option is ignored with a {@link com.mongodb.client.ClientSession} explicitly passed to the operation, and when
+     * {@code timeoutMS} is set with {@link TimeoutMode#ITERATION}.</p>
+     *
+     * @param prefetch the maximum number of batches to get ahead of the application, which must not be negative.  The default is 0,
+     *                 in which case each batch is only got once the application needs it.
+     * @return this
+     * @since 5.7
+     */
+    AggregateIterable<TResult> prefetch(int prefetch);
+
     /**
      * Sets the number of documents to return per batch.
      *
@@ -264,6 +264,50 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
      */
     FindIterable<TResult> allowDiskUse(@Nullable Boolean allowDiskUse);
 
+    /**
+     * Sets whether the server may stream the batches of the cursor after the first one, instead of returning each of them in reply to a
+     * {@code getMore} command.  This saves a round trip to the server per batch.
+     *
+     * <p>While the batches are streamed, the connection is used exclusively by the cursor.  A cursor closed before it is exhausted closes
+     * the connection.  The option is ignored for tailable cursors, in transactions and when connected to a load balancer.</p>
+     *
+     * @param exhaust whether the server may stream the batches of the cursor
+     * @return this
+     * @since 5.7
+     * @mongodb.server.release 4.2
+     */
+    FindIterable<TResult> exhaust(boolean exhaust);
+
+    /**
+     * Sets the maximum number of batches to get from the server ahead of the application.  While the application processes a batch,
+     * the cursor gets up to this number of the next batches in the background, so that the {@code getMore} round trips overlap with the
+     * processing.  Each batch got ahead of the application is held in memory until the application iterates over it.
+     *
+     * <p>The option is ignored for tailable cursors, with a {@link com.mongodb.client.ClientSession} explicitly passed to the operation,
+     * and when {@code timeoutMS} is set with {@link TimeoutMode#ITERATION}.</p>
+     *
+     * @param prefetch the maximum number of batches to get ahead of the application, which must not be negative.  The default is 0,
+     *                 in which case each batch is only got once the application needs it.
+     * @return this
+     * @since 5.7
+     */
+    FindIterable<TResult> prefetch(int prefetch);
+
+    /**
+     * Sets the fields to decode from each returned document, as an inclusion projection like those of {@code Projections.include}.
+     *
+     * <p>Unlike {@link #projection(Bson)}, the server still returns whole documents.  The driver passes the paths of the included fields
+     * to the decoder with {@link org.bson.codecs.DecoderContext.Builder#fieldPaths(java.util.Collection)}, so that decoders that
+     * support field paths, like the {@code Document}, {@code BsonDocument} and POJO codecs, skip all other fields instead of decoding
+     * them.  As in a projection, the {@code _id} field is decoded unless the projection excludes it with {@code {_id: 0}}.  The
+     * projection must otherwise only include fields.</p>
+     *
+     * @param decodeProjection the projection of the fields to decode, or null to decode all fields, which is the default
+     * @return this
+     * @since 5.7
+     */
+    FindIterable<TResult> decodeProjection(@Nullable Bson decodeProjection);
+
     /**
      * Sets the timeoutMode for the cursor.
      *
@@ -42,6 +42,7 @@ import org.bson.conversions.Bson;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> implements AggregateIterable<TResult> {
@@ -54,6 +55,8 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
     private final AggregationLevel aggregationLevel;
 
     private Boolean allowDiskUse;
+    private boolean exhaust;
+    private int prefetch;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
     private Boolean bypassDocumentValidation;
@@ -109,6 +112,19 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<TResult> prefetch(final int prefetch) {
+        isTrueArgument("prefetch >= 0", prefetch >= 0);
+        this.prefetch = prefetch;
+        return this;
+    }
+
     @Override
     public AggregateIterable<TResult> batchSize(final int batchSize) {
         super.batchSize(batchSize);
@@ -213,7 +229,7 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
                             bypassDocumentValidation, collation, hint, hintString, comment, variables, aggregationLevel),
                     getReadPreference(), getReadConcern(), getClientSession());
 
-            FindOptions findOptions = new FindOptions().collation(collation);
+            FindOptions findOptions = new FindOptions().collation(collation).exhaust(exhaust).prefetch(prefetch);
             Integer batchSize = getBatchSize();
             if (batchSize != null) {
                 findOptions.batchSize(batchSize);
@@ -230,7 +246,7 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
 
     private ReadOperationExplainable<TResult> asAggregateOperation() {
         return operations.aggregate(pipeline, resultClass, getTimeoutMode(), getBatchSize(), collation, hint, hintString, comment,
-                variables, allowDiskUse, aggregationLevel);
+                variables, allowDiskUse, exhaust, prefetch, aggregationLevel);
     }
 
     @Nullable
@@ -50,7 +50,7 @@ public final class Clusters {
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
                 settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getDnsClient(), settings.getObservabilitySettings());
     }
 
     private static StreamFactory getStreamFactory(
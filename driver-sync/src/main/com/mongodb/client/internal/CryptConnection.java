@@ -139,6 +139,26 @@ public final class CryptConnection implements Connection {
         return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext, true, EmptyMessageSequences.INSTANCE);
     }
 
+    /**
+     * The replies must be decrypted one at a time, so the server is not allowed to stream them.
+     */
+    @Nullable
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext);
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     private Codec<BsonDocument> getEncoder(final BsonDocument command) {
         return (Codec<BsonDocument>) REGISTRY.get(command.getClass());
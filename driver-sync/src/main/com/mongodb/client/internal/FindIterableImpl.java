@@ -204,6 +204,24 @@ class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> im
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> exhaust(final boolean exhaust) {
+        findOptions.exhaust(exhaust);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> prefetch(final int prefetch) {
+        findOptions.prefetch(prefetch);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> decodeProjection(@Nullable final Bson decodeProjection) {
+        findOptions.decodeProjection(decodeProjection);
+        return this;
+    }
+
     @Nullable
     @Override
     public TResult first() {
@@ -47,6 +47,7 @@ import com.mongodb.internal.connection.StreamFactory;
 import com.mongodb.internal.connection.StreamFactoryFactory;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.operation.CursorPrefetchExecutor;
 import com.mongodb.internal.session.ServerSessionPool;
 import com.mongodb.internal.observability.micrometer.TracingManager;
 import com.mongodb.lang.Nullable;
@@ -110,6 +111,7 @@ public final class MongoClientImpl implements MongoClient {
                                              TimeoutSettings.create(settings), settings.getUuidRepresentation(),
                                              settings.getWriteConcern(), new TracingManager(settings.getObservabilitySettings()));
         this.closed = new AtomicBoolean();
+        CursorPrefetchExecutor.acquire();
 
         BsonDocument clientMetadataDocument = delegate.getCluster().getClientMetadata().getBsonDocument();
         LOGGER.info(format("MongoClient with metadata %s created with settings %s", clientMetadataDocument.toJson(), settings));
@@ -124,6 +126,7 @@ public final class MongoClientImpl implements MongoClient {
             }
             delegate.getServerSessionPool().close();
             delegate.getCluster().close();
+            CursorPrefetchExecutor.release();
             if (externalResourceCloser != null) {
                 try {
                     externalResourceCloser.close();
@@ -320,7 +323,7 @@ public final class MongoClientImpl implements MongoClient {
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
                 settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getDnsClient(), settings.getObservabilitySettings());
     }
 
     private static StreamFactory getStreamFactory(